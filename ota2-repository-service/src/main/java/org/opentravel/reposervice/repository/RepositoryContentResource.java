@@ -23,6 +23,9 @@ import org.glassfish.jersey.media.multipart.FormDataParam;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.EntityInfoListType;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.EntityInfoType;
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryContentListType;
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryContentRQType;
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryContentType;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryHistoryType;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryInfoListType;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryInfoType;
@@ -33,6 +36,7 @@ import org.opentravel.ns.ota2.repositoryinfo_v01_00.ObjectFactory;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.RepositoryInfoType;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.RepositoryItemIdentityType;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.RepositoryPermissionType;
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.RequestedItemType;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.SearchResultsListType;
 import org.opentravel.ns.ota2.security_v01_00.RepositoryPermission;
 import org.opentravel.repocommon.index.AssemblySearchResult;
@@ -60,11 +64,14 @@ import org.opentravel.schemacompiler.repository.impl.RepositoryUtils;
 import org.opentravel.schemacompiler.version.VersionScheme;
 import org.opentravel.schemacompiler.version.VersionSchemeException;
 import org.opentravel.schemacompiler.version.VersionSchemeFactory;
+import org.opentravel.schemacompiler.xml.XMLGregorianCalendarConverter;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
 import java.util.Collections;
+import java.util.Date;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -81,7 +88,9 @@ import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.ResponseBuilder;
 import javax.xml.bind.JAXBElement;
@@ -95,6 +104,7 @@ import javax.xml.bind.JAXBElement;
 public class RepositoryContentResource {
 
     private static final String ADMIN_ACCESS_REQUIRED = " - administration access required.";
+    private static final long MAX_BATCH_CONTENT_SIZE = 4L * 1024L * 1024L;
     private static final String USER_NOT_AUTHORIZED =
         "The user does not have permission to access the requested resource.";
 
@@ -1359,6 +1369,176 @@ public class RepositoryContentResource {
         }
     }
 
+    /**
+     * Called by remote clients to download the meta-data and content of a repository item with a single request. If
+     * the client's copy of the item is identified as current by the 'If-None-Match' (entity tag) or
+     * 'If-Modified-Since' (last-updated) request headers, a 304 (Not Modified) response is returned without any
+     * content.
+     * 
+     * @param baseNamespace the base namespace of the repository item to download
+     * @param filename the filename of the repository item to download
+     * @param version the version of the repository item to download
+     * @param authorizationHeader the value of the HTTP "Authorization" header
+     * @param request the HTTP request whose preconditions are to be evaluated
+     * @return Response
+     * @throws RepositoryException thrown if the request cannot be processed
+     */
+    @GET
+    @Path("content-with-metadata")
+    @Produces(MediaType.TEXT_XML)
+    public Response downloadContentWithMetadata(@QueryParam("baseNamespace") String baseNamespace,
+        @QueryParam("filename") String filename, @QueryParam("version") String version,
+        @HeaderParam("Authorization") String authorizationHeader, @Context Request request)
+        throws RepositoryException {
+
+        LockableResource lockedResource =
+            RepositoryLockManager.getInstance().acquireReadLock( baseNamespace, filename );
+        try {
+            LibraryInfoType itemMetadata =
+                repositoryManager.getFileManager().loadLibraryMetadata( baseNamespace, filename, version );
+            RepositoryItemImpl item = RepositoryUtils.createRepositoryItem( repositoryManager, itemMetadata );
+            UserPrincipal user = securityManager.authenticateUser( authorizationHeader );
+
+            if (securityManager.isReadAuthorized( user, item )) {
+                File contentFile =
+                    repositoryManager.getFileManager().getLibraryContentLocation( baseNamespace, filename, version );
+                byte[] content = Files.readAllBytes( contentFile.toPath() );
+                EntityTag contentTag = new EntityTag( RepositoryUtils.calculateContentTag( itemMetadata, content ) );
+                Date lastUpdated = XMLGregorianCalendarConverter.toJavaDate( itemMetadata.getLastUpdated() );
+                ResponseBuilder response = (lastUpdated == null) ? request.evaluatePreconditions( contentTag )
+                    : request.evaluatePreconditions( lastUpdated, contentTag );
+
+                if (response == null) {
+                    LibraryContentType libraryContent = new LibraryContentType();
+
+                    libraryContent.setLibraryInfo( itemMetadata );
+                    libraryContent.setContent( content );
+                    response = Response.ok( objectFactory.createLibraryContent( libraryContent ) );
+                }
+                response.tag( contentTag );
+
+                if (lastUpdated != null) {
+                    response.lastModified( lastUpdated );
+                }
+                return response.build();
+
+            } else {
+                throw new RepositorySecurityException( USER_NOT_AUTHORIZED );
+            }
+
+        } catch (IOException e) {
+            throw new RepositoryException( "Unable to read the content of the requested repository item.", e );
+
+        } finally {
+            RepositoryLockManager.getInstance().releaseReadLock( lockedResource );
+        }
+    }
+
+    /**
+     * Called by remote clients to download the meta-data and content of multiple repository items with a single
+     * request. Items whose 'contentTag' matches the current entity tag of the item are reported as not-modified
+     * instead of being returned. Items that do not exist or that the user is not authorized to read are omitted from
+     * the response; clients are expected to request those items individually.
+     * 
+     * <p>
+     * Since the response is marshalled with the content of every returned item, the total size of that content is
+     * limited. Once the limit is reached, the content of the remaining items is omitted from the response and clients
+     * are expected to request those items again in a subsequent batch.
+     * 
+     * @param contentRQ the XML element that identifies the repository items to download
+     * @param authorizationHeader the value of the HTTP "Authorization" header
+     * @return JAXBElement&lt;LibraryContentListType&gt;
+     * @throws RepositoryException thrown if the request cannot be processed
+     */
+    @POST
+    @Path("content-batch")
+    @Consumes(MediaType.TEXT_XML)
+    @Produces(MediaType.TEXT_XML)
+    public JAXBElement<LibraryContentListType> downloadContentBatch(JAXBElement<LibraryContentRQType> contentRQ,
+        @HeaderParam("Authorization") String authorizationHeader) throws RepositoryException {
+        UserPrincipal user = securityManager.authenticateUser( authorizationHeader );
+        LibraryContentListType contentList = new LibraryContentListType();
+
+        for (RequestedItemType requestedItem : contentRQ.getValue().getRequestedItem()) {
+            LockableResource lockedResource = RepositoryLockManager.getInstance()
+                .acquireReadLock( requestedItem.getBaseNamespace(), requestedItem.getFilename() );
+            try {
+                addRequestedContent( requestedItem, user, contentList );
+
+            } catch (RepositoryException | IOException e) {
+                log.warn( "Unable to include repository item in batch download: " + requestedItem.getFilename() + " ["
+                    + e.getMessage() + "]" );
+
+            } finally {
+                RepositoryLockManager.getInstance().releaseReadLock( lockedResource );
+            }
+        }
+        return objectFactory.createLibraryContentList( contentList );
+    }
+
+    /**
+     * Adds the meta-data and content of the requested item to the given list. If the item's content tag matches the
+     * one provided by the client, the item's identity is added to the list of not-modified items instead. Nothing is
+     * added if the user is not authorized to read the item, or if adding its content would cause the list to exceed
+     * the maximum size of a batch response (unless the list does not yet contain any content).
+     * 
+     * @param requestedItem the identity and content tag of the requested item
+     * @param user the user who submitted the request
+     * @param contentList the list to which the requested item's content should be added
+     * @throws RepositoryException thrown if the item's meta-data cannot be loaded
+     * @throws IOException thrown if the item's content cannot be read
+     */
+    private void addRequestedContent(RequestedItemType requestedItem, UserPrincipal user,
+        LibraryContentListType contentList) throws RepositoryException, IOException {
+        String baseNamespace = requestedItem.getBaseNamespace();
+        String filename = requestedItem.getFilename();
+        String version = requestedItem.getVersion();
+        LibraryInfoType itemMetadata =
+            repositoryManager.getFileManager().loadLibraryMetadata( baseNamespace, filename, version );
+        RepositoryItemImpl item = RepositoryUtils.createRepositoryItem( repositoryManager, itemMetadata );
+        File contentFile =
+            repositoryManager.getFileManager().getLibraryContentLocation( baseNamespace, filename, version );
+        long contentListSize = getContentSize( contentList );
+        boolean withinSizeLimit =
+            (contentListSize == 0) || ((contentListSize + contentFile.length()) <= MAX_BATCH_CONTENT_SIZE);
+
+        if (withinSizeLimit && securityManager.isReadAuthorized( user, item )) {
+            byte[] content = Files.readAllBytes( contentFile.toPath() );
+            String contentTag = RepositoryUtils.calculateContentTag( itemMetadata, content );
+
+            if (contentTag.equals( requestedItem.getContentTag() )) {
+                RepositoryItemIdentityType itemIdentity = new RepositoryItemIdentityType();
+
+                itemIdentity.setBaseNamespace( baseNamespace );
+                itemIdentity.setFilename( filename );
+                itemIdentity.setVersion( version );
+                contentList.getNotModified().add( itemIdentity );
+
+            } else {
+                LibraryContentType libraryContent = new LibraryContentType();
+
+                libraryContent.setLibraryInfo( itemMetadata );
+                libraryContent.setContent( content );
+                contentList.getLibraryContent().add( libraryContent );
+            }
+        }
+    }
+
+    /**
+     * Returns the total size (in bytes) of the library content in the given list.
+     * 
+     * @param contentList the list of library content to analyze
+     * @return long
+     */
+    private long getContentSize(LibraryContentListType contentList) {
+        long contentSize = 0;
+
+        for (LibraryContentType libraryContent : contentList.getLibraryContent()) {
+            contentSize += libraryContent.getContent().length;
+        }
+        return contentSize;
+    }
+
     /**
      * Called by remote clients to download historical library/schema content from the OTA2.0 repository.
      * 
@@ -58,6 +58,8 @@ public class RepositoryMultiUserTestBase {
 
     private Object waitLock = new Object();
     private Object doneLock = new Object();
+    private int turnCount = 0;
+    private int finishedCount = 0;
     private Set<RepositoryUserTasks> completedTasks = new HashSet<>();
 
     protected static void startTestServer(String repositorySnapshotFolder, int port, Class<?> testClass)
@@ -86,7 +88,9 @@ public class RepositoryMultiUserTestBase {
 
         // Wait for whichever thread completes its work first
         synchronized (doneLock) {
-            doneLock.wait();
+            while (completedTasks.isEmpty()) {
+                doneLock.wait();
+            }
         }
 
         // Wait for the second task to complete. If not completed by the end of the
@@ -220,37 +224,31 @@ public class RepositoryMultiUserTestBase {
 
         public void run() {
             try {
+                int turnParity = waitToExecute ? 1 : 0;
                 int taskNumber = 0;
                 boolean done = false;
 
                 setupCurrentThread( userId, password );
 
                 while (!done && !forceKill) {
-                    // If required, wait for the other user to finish their first task
-                    if (waitToExecute) {
-                        synchronized (waitLock) {
+                    // Wait for our turn (unless the other user has finished all of its tasks). Turns are
+                    // counted so that a notification sent before we begin waiting is not lost.
+                    synchronized (waitLock) {
+                        while (((turnCount % 2) != turnParity) && (finishedCount == 0)) {
                             waiting = true;
                             waitLock.wait();
-                            waiting = false;
                         }
-                        waitToExecute = false;
+                        waiting = false;
                     }
 
                     // Execute the next tasks
                     done = executeTask( taskNumber );
                     taskNumber++;
 
-                    // Notify the other user to execute their next task and wait for them to finish
+                    // Notify the other user to execute their next task
                     synchronized (waitLock) {
-                        waitLock.notify();
-                    }
-
-                    if (!done && !forceKill) {
-                        synchronized (waitLock) {
-                            waiting = true;
-                            waitLock.wait();
-                            waiting = false;
-                        }
+                        turnCount++;
+                        waitLock.notifyAll();
                     }
                 }
 
@@ -258,6 +256,10 @@ public class RepositoryMultiUserTestBase {
                 taskException = t;
 
             } finally {
+                synchronized (waitLock) {
+                    finishedCount++;
+                    waitLock.notifyAll();
+                }
                 synchronized (doneLock) {
                     completedTasks.add( this );
                     doneLock.notify();
@@ -0,0 +1,170 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.reposervice.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryInfoType;
+import org.opentravel.schemacompiler.loader.impl.LibraryValidationSource;
+import org.opentravel.schemacompiler.model.TLLibrary;
+import org.opentravel.schemacompiler.repository.ProjectItem;
+import org.opentravel.schemacompiler.repository.RepositoryFileManager;
+import org.opentravel.schemacompiler.validate.FindingType;
+import org.opentravel.schemacompiler.validate.ValidationFindings;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test that verifies that a parallel refresh operation from a remote repository will properly synchronize a user's
+ * local repository and workspace.
+ */
+public class RepositoryParallelRefreshTest extends RepositoryRefreshTest {
+
+    private static final String BASE_COMMENTS = "Base library updated for parallel refresh test.";
+    private static final String MINOR_COMMENTS = "Minor version updated for parallel refresh test.";
+
+    @BeforeClass
+    public static void setupRemoteRepository() throws Exception {
+        startTestServer( "versions-repository", 9300, RepositoryParallelRefreshTest.class );
+    }
+
+    @Test
+    public void testRefreshDependentLibraries() throws Exception {
+        this.executeUserTasks( new User1DependencyTasks(), new User2DependencyTasks() );
+    }
+
+    /**
+     * @see org.opentravel.reposervice.repository.RepositoryRefreshTest#getParallelRefreshThreads()
+     */
+    @Override
+    protected int getParallelRefreshThreads() {
+        return 4;
+    }
+
+    private void user1_task1_loadDependentModel() throws Exception {
+        if (DEBUG)
+            System.out.println( "User 1: Loading model with dependent libraries" );
+        loadProject( "/projects/version_test_3.xml" );
+    }
+
+    private void user2_task1_updateDependentLibraries() throws Exception {
+        if (DEBUG)
+            System.out.println( "User 2: Updating dependent libraries and committing changes" );
+        loadProject( "/projects/version_test_2.xml" );
+
+        // Update both the base library and the minor version that imports it
+        ProjectItem baseItem = findProjectItem( "Version_Test_1_0_0.otm" );
+        ProjectItem minorItem = findProjectItem( "Version_Test_1_1_0.otm" );
+
+        projectManager.get().lock( baseItem );
+        projectManager.get().lock( minorItem );
+        ((TLLibrary) baseItem.getContent()).setComments( BASE_COMMENTS );
+        ((TLLibrary) minorItem.getContent()).setComments( MINOR_COMMENTS );
+        projectManager.get().saveProject( project.get() );
+        projectManager.get().unlock( baseItem, true, "User 2: Updating base library" );
+        projectManager.get().unlock( minorItem, true, "User 2: Updating minor version" );
+    }
+
+    private void user1_task2_refreshDependentModel() throws Exception {
+        if (DEBUG)
+            System.out.println( "User 1: Refreshing model with dependent libraries" );
+        ProjectItem baseItem = findProjectItem( "Version_Test_1_0_0.otm" );
+        ProjectItem minorItem = findProjectItem( "Version_Test_1_1_0.otm" );
+        ProjectItem patchItem = findProjectItem( "Version_Test_1_1_1.otm" );
+        TLLibrary originalBaseLibrary = (TLLibrary) baseItem.getContent();
+        TLLibrary originalMinorLibrary = (TLLibrary) minorItem.getContent();
+        TLLibrary patchLibrary = (TLLibrary) patchItem.getContent();
+        RepositoryFileManager fileManager = repositoryManager.get().getFileManager();
+        LibraryInfoType patchMetadata = fileManager.loadLibraryMetadata( patchItem.getBaseNamespace(),
+            patchItem.getFilename(), patchItem.getVersion() );
+        ValidationFindings findings = new ValidationFindings();
+
+        // Assign the local copy of the patch version to a different repository so that its refresh will fail
+        patchMetadata.setOwningRepository( "other-repository" );
+        fileManager.saveLibraryMetadata( patchMetadata );
+
+        projectManager.get().setParallelRefreshThreads( getParallelRefreshThreads() );
+        List<ProjectItem> refreshedItems = projectManager.get().refreshManagedProjectItems( findings );
+
+        // The base library must be reloaded before the minor version that imports it
+        assertEquals( Arrays.asList( baseItem, minorItem ), refreshedItems );
+        assertEquals( BASE_COMMENTS, ((TLLibrary) baseItem.getContent()).getComments() );
+        assertEquals( MINOR_COMMENTS, ((TLLibrary) minorItem.getContent()).getComments() );
+        assertEquals( model.get(), baseItem.getContent().getOwningModel() );
+        assertEquals( model.get(), minorItem.getContent().getOwningModel() );
+        assertFalse( findings.hasFinding( new LibraryValidationSource( originalBaseLibrary ), FindingType.ERROR ) );
+        assertFalse( findings.hasFinding( new LibraryValidationSource( originalMinorLibrary ), FindingType.ERROR ) );
+
+        // The failed item is reported without preventing the other items from being refreshed
+        assertTrue( findings.hasFinding( new LibraryValidationSource( patchLibrary ), FindingType.ERROR ) );
+        assertEquals( patchLibrary, patchItem.getContent() );
+        assertEquals( model.get(), patchLibrary.getOwningModel() );
+    }
+
+    private class User1DependencyTasks extends RepositoryUserTasks {
+
+        public User1DependencyTasks() {
+            super( "testuser", "password", false );
+        }
+
+        @Override
+        public boolean executeTask(int taskNumber) throws Exception {
+            boolean isDone = false;
+
+            switch (taskNumber) {
+                case 0:
+                    user1_task1_loadDependentModel();
+                    break;
+                case 1:
+                    user1_task2_refreshDependentModel();
+                    break;
+                default:
+                    isDone = true;
+            }
+            return isDone;
+        }
+
+    }
+
+    private class User2DependencyTasks extends RepositoryUserTasks {
+
+        public User2DependencyTasks() {
+            super( "testuser2", "password", true );
+        }
+
+        @Override
+        public boolean executeTask(int taskNumber) throws Exception {
+            boolean isDone = false;
+
+            switch (taskNumber) {
+                case 0:
+                    user2_task1_updateDependentLibraries();
+                    break;
+                default:
+                    isDone = true;
+            }
+            return isDone;
+        }
+
+    }
+
+}
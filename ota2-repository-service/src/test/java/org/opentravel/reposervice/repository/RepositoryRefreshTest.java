@@ -44,6 +44,15 @@ public class RepositoryRefreshTest extends RepositoryMultiUserTestBase {
         this.executeUserTasks( new User1Tasks(), new User2Tasks() );
     }
 
+    /**
+     * Returns the number of threads that will be used to refresh the managed project items.
+     * 
+     * @return int
+     */
+    protected int getParallelRefreshThreads() {
+        return 1;
+    }
+
     private void user1_task1_loadModel() throws Exception {
         if (DEBUG)
             System.out.println( "User 1: Loading model" );
@@ -74,6 +83,7 @@ public class RepositoryRefreshTest extends RepositoryMultiUserTestBase {
         TLLibrary originalLibrary = (TLLibrary) item.getContent();
 
         assertNotEquals( TEST_COMMENTS, originalLibrary.getComments() );
+        projectManager.get().setParallelRefreshThreads( getParallelRefreshThreads() );
 
         List<ProjectItem> refreshedItems = projectManager.get().refreshManagedProjectItems();
         TLLibrary updatedLibrary = (TLLibrary) item.getContent();
@@ -0,0 +1,273 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.reposervice.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryContentListType;
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryContentRQType;
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.ObjectFactory;
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.RepositoryItemIdentityType;
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.RequestedItemType;
+import org.opentravel.schemacompiler.repository.RepositoryFileManager;
+import org.opentravel.schemacompiler.repository.impl.DefaultRepositoryFileManager;
+import org.opentravel.schemacompiler.repository.impl.RemoteRepositoryClient;
+
+import com.unboundid.util.Base64;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.Marshaller;
+
+/**
+ * Verifies the download of repository item content from a remote repository into the local repository.
+ */
+public class TestRepositoryContentDownload extends RepositoryTestBase {
+
+    private static final String BASE_NAMESPACE = "http://www.OpenTravel.org/ns/OTA2/SchemaCompiler/version-test";
+    private static final String FILENAME = "Version_Test_1_0_0.otm";
+    private static final String VERSION = "1.0.0";
+    private static final String LARGE_FILENAME_1 = "Version_Test_1_1_0.otm";
+    private static final String LARGE_VERSION_1 = "1.1.0";
+    private static final String LARGE_FILENAME_2 = "Version_Test_1_1_1.otm";
+    private static final String LARGE_VERSION_2 = "1.1.1";
+    private static final int LARGE_CONTENT_PADDING = 3 * 1024 * 1024;
+
+    @BeforeClass
+    public static void setupTests() throws Exception {
+        startTestServer( "versions-repository", 9302, TestRepositoryContentDownload.class );
+    }
+
+    @AfterClass
+    public static void tearDownTests() throws Exception {
+        shutdownTestServer();
+    }
+
+    @Test
+    public void testConditionalDownload() throws Exception {
+        RemoteRepositoryClient repository = (RemoteRepositoryClient) testRepository.get();
+        RepositoryFileManager fileManager = repositoryManager.get().getFileManager();
+        File metadataFile = fileManager.getLibraryMetadataLocation( BASE_NAMESPACE, FILENAME, VERSION );
+        File contentFile = fileManager.getLibraryContentLocation( BASE_NAMESPACE, FILENAME, VERSION );
+        File contentTagFile = fileManager.getLibraryContentTagLocation( BASE_NAMESPACE, FILENAME, VERSION );
+        long lastModified;
+
+        repository.resetDownloadCache();
+        repository.downloadContent( BASE_NAMESPACE, FILENAME, VERSION, true );
+        assertTrue( contentFile.exists() );
+        assertTrue( contentTagFile.exists() );
+
+        // Backdate the local files so that any rewrite of the local copy can be detected
+        lastModified = backdateFiles( metadataFile, contentFile, contentTagFile );
+
+        // The remote repository responds with a 304 (Not Modified) status, so the local copy is not rewritten
+        repository.resetDownloadCache();
+        assertFalse( repository.downloadContent( BASE_NAMESPACE, FILENAME, VERSION, true ) );
+        assertEquals( lastModified, metadataFile.lastModified() );
+        assertEquals( lastModified, contentFile.lastModified() );
+        assertEquals( lastModified, contentTagFile.lastModified() );
+
+        // Without a stored content tag, the item's content must be downloaded again
+        assertTrue( contentTagFile.delete() );
+        repository.resetDownloadCache();
+        assertFalse( repository.downloadContent( BASE_NAMESPACE, FILENAME, VERSION, true ) );
+        assertTrue( contentTagFile.exists() );
+        assertNotEquals( lastModified, contentFile.lastModified() );
+    }
+
+    @Test
+    public void testBatchDownloadOfMissingContent() throws Exception {
+        RemoteRepositoryClient repository = (RemoteRepositoryClient) testRepository.get();
+        File contentFile = repositoryManager.get().getFileManager().getLibraryContentLocation( BASE_NAMESPACE, FILENAME,
+            VERSION );
+
+        repository.resetDownloadCache();
+        repository.downloadContent( BASE_NAMESPACE, FILENAME, VERSION, true );
+        assertTrue( contentFile.delete() );
+
+        repository.resetDownloadCache();
+        repository.downloadContent( Collections.singletonList( newItemIdentity( FILENAME, VERSION ) ) );
+        assertTrue( contentFile.exists() );
+    }
+
+    @Test
+    public void testBatchDownloadOfCurrentContent() throws Exception {
+        RemoteRepositoryClient repository = (RemoteRepositoryClient) testRepository.get();
+        RepositoryFileManager fileManager = repositoryManager.get().getFileManager();
+        File metadataFile = fileManager.getLibraryMetadataLocation( BASE_NAMESPACE, FILENAME, VERSION );
+        File contentFile = fileManager.getLibraryContentLocation( BASE_NAMESPACE, FILENAME, VERSION );
+        File contentTagFile = fileManager.getLibraryContentTagLocation( BASE_NAMESPACE, FILENAME, VERSION );
+        long lastModified;
+
+        repository.resetDownloadCache();
+        repository.downloadContent( BASE_NAMESPACE, FILENAME, VERSION, true );
+        lastModified = backdateFiles( metadataFile, contentFile, contentTagFile );
+
+        // The item is reported as not modified, so the local copy is not rewritten
+        repository.resetDownloadCache();
+        repository.downloadContent( Collections.singletonList( newItemIdentity( FILENAME, VERSION ) ) );
+        assertEquals( lastModified, metadataFile.lastModified() );
+        assertEquals( lastModified, contentFile.lastModified() );
+        assertEquals( lastModified, contentTagFile.lastModified() );
+
+        // Items that are not modified are recorded as current, so they are not downloaded again when accessed
+        assertTrue( contentFile.delete() );
+        assertFalse( repository.downloadContent( BASE_NAMESPACE, FILENAME, VERSION, false ) );
+        assertFalse( contentFile.exists() );
+
+        repository.resetDownloadCache();
+        repository.downloadContent( BASE_NAMESPACE, FILENAME, VERSION, true );
+        assertTrue( contentFile.exists() );
+    }
+
+    @Test
+    public void testBatchDownloadSizeLimit() throws Exception {
+        RemoteRepositoryClient repository = (RemoteRepositoryClient) testRepository.get();
+        RepositoryFileManager fileManager = repositoryManager.get().getFileManager();
+        byte[] largeContent1 = enlargeRemoteContent( LARGE_FILENAME_1, LARGE_VERSION_1 );
+        byte[] largeContent2 = enlargeRemoteContent( LARGE_FILENAME_2, LARGE_VERSION_2 );
+        LibraryContentListType contentList;
+
+        // Only the first item fits within the maximum size of a batch response
+        contentList = requestContentBatch( LARGE_FILENAME_1, LARGE_VERSION_1, LARGE_FILENAME_2, LARGE_VERSION_2 );
+        assertEquals( 1, contentList.getLibraryContent().size() );
+        assertEquals( LARGE_FILENAME_1, contentList.getLibraryContent().get( 0 ).getLibraryInfo().getFilename() );
+        assertEquals( 0, contentList.getNotModified().size() );
+
+        // The client requests the omitted item again in a subsequent batch
+        repository.resetDownloadCache();
+        repository.downloadContent( Arrays.asList( newItemIdentity( LARGE_FILENAME_1, LARGE_VERSION_1 ),
+            newItemIdentity( LARGE_FILENAME_2, LARGE_VERSION_2 ) ) );
+        assertTrue( Arrays.equals( largeContent1, Files.readAllBytes(
+            fileManager.getLibraryContentLocation( BASE_NAMESPACE, LARGE_FILENAME_1, LARGE_VERSION_1 ).toPath() ) ) );
+        assertTrue( Arrays.equals( largeContent2, Files.readAllBytes(
+            fileManager.getLibraryContentLocation( BASE_NAMESPACE, LARGE_FILENAME_2, LARGE_VERSION_2 ).toPath() ) ) );
+    }
+
+    /**
+     * Appends a large comment to the content of the given item in the remote repository and returns the new content.
+     * 
+     * @param filename the filename of the item to modify
+     * @param version the version of the item to modify
+     * @return byte[]
+     * @throws Exception thrown if the remote content cannot be modified
+     */
+    private byte[] enlargeRemoteContent(String filename, String version) throws Exception {
+        File remoteRepository = new File( System.getProperty( "user.dir" ),
+            "/target/test-workspace/" + TestRepositoryContentDownload.class.getSimpleName() + "/test-repository" );
+        File contentFile = new DefaultRepositoryFileManager( remoteRepository )
+            .getLibraryContentLocation( BASE_NAMESPACE, filename, version );
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        byte[] padding = new byte[LARGE_CONTENT_PADDING];
+
+        Arrays.fill( padding, (byte) '-' );
+        content.write( Files.readAllBytes( contentFile.toPath() ) );
+        content.write( "<!-- ".getBytes( StandardCharsets.US_ASCII ) );
+        content.write( padding );
+        content.write( " -->".getBytes( StandardCharsets.US_ASCII ) );
+        Files.write( contentFile.toPath(), content.toByteArray() );
+        return content.toByteArray();
+    }
+
+    /**
+     * Sends a batch content request for the given items (specified as filename/version pairs) directly to the remote
+     * repository and returns the response.
+     * 
+     * @param itemKeys the filename and version of each item to request
+     * @return LibraryContentListType
+     * @throws Exception thrown if the request fails or its response cannot be unmarshalled
+     */
+    @SuppressWarnings("unchecked")
+    private LibraryContentListType requestContentBatch(String... itemKeys) throws Exception {
+        HttpPost request = new HttpPost( jettyServer.get().getRepositoryUrl( "/service/content-batch" ) );
+        Marshaller marshaller = RepositoryFileManager.getSharedJaxbContext().createMarshaller();
+        LibraryContentRQType contentRQ = new LibraryContentRQType();
+        StringWriter xmlWriter = new StringWriter();
+
+        for (int i = 0; i < itemKeys.length; i += 2) {
+            RequestedItemType requestedItem = new RequestedItemType();
+
+            requestedItem.setBaseNamespace( BASE_NAMESPACE );
+            requestedItem.setFilename( itemKeys[i] );
+            requestedItem.setVersion( itemKeys[i + 1] );
+            contentRQ.getRequestedItem().add( requestedItem );
+        }
+        marshaller.marshal( new ObjectFactory().createLibraryContentRQ( contentRQ ), xmlWriter );
+        request.setEntity( new StringEntity( xmlWriter.toString(), ContentType.TEXT_XML ) );
+        request.addHeader( HttpHeaders.AUTHORIZATION,
+            "Basic " + Base64.encode( TESTUSER_ID + ":" + TESTUSER_CREDENTIAL ) );
+
+        try (CloseableHttpClient httpClient = HttpClients.createDefault();
+            CloseableHttpResponse response = httpClient.execute( request )) {
+            assertEquals( 200, response.getStatusLine().getStatusCode() );
+            return ((JAXBElement<LibraryContentListType>) RepositoryFileManager.getSharedJaxbContext()
+                .createUnmarshaller().unmarshal( response.getEntity().getContent() )).getValue();
+        }
+    }
+
+    /**
+     * Returns the identity of the item with the given filename and version.
+     * 
+     * @param filename the filename of the item
+     * @param version the version of the item
+     * @return RepositoryItemIdentityType
+     */
+    private RepositoryItemIdentityType newItemIdentity(String filename, String version) {
+        RepositoryItemIdentityType itemIdentity = new RepositoryItemIdentityType();
+
+        itemIdentity.setBaseNamespace( BASE_NAMESPACE );
+        itemIdentity.setFilename( filename );
+        itemIdentity.setVersion( version );
+        return itemIdentity;
+    }
+
+    /**
+     * Assigns a last-modified date in the past to each of the given files and returns the value that was assigned.
+     * 
+     * @param files the files to be modified
+     * @return long
+     */
+    private long backdateFiles(File... files) {
+        long lastModified = ((System.currentTimeMillis() / 1000L) - 3600L) * 1000L;
+
+        for (File file : files) {
+            assertTrue( file.setLastModified( lastModified ) );
+        }
+        return lastModified;
+    }
+
+}
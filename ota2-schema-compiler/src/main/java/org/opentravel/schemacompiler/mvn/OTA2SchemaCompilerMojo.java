@@ -25,6 +25,7 @@ import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.opentravel.schemacompiler.ioc.CompilerExtensionRegistry;
+import org.opentravel.schemacompiler.ioc.CompilerSession;
 import org.opentravel.schemacompiler.repository.RepositoryException;
 import org.opentravel.schemacompiler.repository.RepositoryItem;
 import org.opentravel.schemacompiler.repository.RepositoryItemType;
@@ -128,6 +129,19 @@ public class OTA2SchemaCompilerMojo extends AbstractMojo implements CompileAllTa
     @Parameter(defaultValue = "true")
     protected boolean compileHtml;
 
+    /**
+     * Boolean flag indicating that code generation should be performed concurrently wherever possible.
+     */
+    @Parameter(defaultValue = "false")
+    protected boolean parallelCompile;
+
+    /**
+     * Boolean flag indicating that code generation should be skipped when the libraries, options, and compiler version
+     * are unchanged since the last build (as recorded in the build manifest of the output folder).
+     */
+    @Parameter(defaultValue = "false")
+    protected boolean incrementalCompile;
+
     /**
      * Boolean flag indicating that example data files should be generated.
      */
@@ -196,80 +210,84 @@ public class OTA2SchemaCompilerMojo extends AbstractMojo implements CompileAllTa
      * @see org.apache.maven.plugin.Mojo#execute()
      */
     public void execute() throws MojoExecutionException, MojoFailureException {
-        synchronized (OTA2SchemaCompilerMojo.class) {
-            try {
-                if (debug) {
-                    displayOptions();
+        // Compiler state is scoped to the session, so concurrent executions (e.g. parallel Maven builds) can
+        // safely run in the same JVM
+        try (CompilerSession session = CompilerSession.open( getCompilerExtensionId() )) {
+            if (debug) {
+                displayOptions();
+            }
+            initRepositoryManager( null );
+
+            // Validate the source file or managed release and the output folder
+            AssemblyModelType assemblyModelType = null;
+            RepositoryItem repositoryItem = null;
+            String logMessage;
+
+            if (libraryFile != null) {
+                if (!libraryFile.exists()) {
+                    throw new FileNotFoundException( "Source file not found: " + libraryFile.getAbsolutePath() );
                 }
-                initRepositoryManager( null );
-
-                // Validate the source file or managed release and the output folder
-                AssemblyModelType assemblyModelType = null;
-                RepositoryItem repositoryItem = null;
-                String logMessage;
-
-                if (libraryFile != null) {
-                    if (!libraryFile.exists()) {
-                        throw new FileNotFoundException( "Source file not found: " + libraryFile.getAbsolutePath() );
-                    }
-                    logMessage = String.format( "Compiling OTA2 Library: %s", libraryFile.getName() );
-
-                } else if (release != null) {
-                    logMessage = String.format( "Compiling OTA2 Release: %s", release.getFilename() );
-                    repositoryItem = getReleaseItem();
-
-                } else if (assembly != null) {
-                    if (assembly.getModelType() != null) {
-                        assemblyModelType = AssemblyModelType.fromIdentifier( assembly.getModelType() );
-                    }
-                    logMessage = String.format( "Compiling OTA2 Service Assembly: %s", assembly.getFilename() );
-                    repositoryItem = getAssemblyItem();
-
-                } else {
-                    throw new MojoFailureException( "Either a libraryFile or a release must be specified." );
+                logMessage = String.format( "Compiling OTA2 Library: %s", libraryFile.getName() );
+
+            } else if (release != null) {
+                logMessage = String.format( "Compiling OTA2 Release: %s", release.getFilename() );
+                repositoryItem = getReleaseItem();
+
+            } else if (assembly != null) {
+                if (assembly.getModelType() != null) {
+                    assemblyModelType = AssemblyModelType.fromIdentifier( assembly.getModelType() );
                 }
+                logMessage = String.format( "Compiling OTA2 Service Assembly: %s", assembly.getFilename() );
+                repositoryItem = getAssemblyItem();
 
-                createOutputFolder();
-                initBindingStyle();
+            } else {
+                throw new MojoFailureException( "Either a libraryFile or a release must be specified." );
+            }
 
-                // Execute the compilation and return
-                CompileAllCompilerTask compilerTask = TaskFactory.getTask( CompileAllCompilerTask.class );
-                ValidationFindings findings = null;
-                Log log = getLog();
+            createOutputFolder();
 
-                log.info( logMessage );
-                compilerTask.applyTaskOptions( this );
-                compilerTask.setRepositoryManager( repositoryManager );
-                compilerTask.setModelType( assemblyModelType );
+            // Execute the compilation and return
+            CompileAllCompilerTask compilerTask = TaskFactory.getTask( CompileAllCompilerTask.class );
+            ValidationFindings findings = null;
+            Log log = getLog();
 
-                if (libraryFile != null) {
-                    findings = compilerTask.compileOutput( libraryFile );
+            log.info( logMessage );
+            compilerTask.applyTaskOptions( this );
+            compilerTask.setRepositoryManager( repositoryManager );
+            compilerTask.setModelType( assemblyModelType );
 
-                } else if (repositoryItem != null) {
-                    findings = compilerTask.compileOutput( repositoryItem );
-                }
-                displayValidationFindings( findings );
+            if (libraryFile != null) {
+                findings = compilerTask.compileOutput( libraryFile );
 
-            } catch (Exception e) {
-                throw new MojoExecutionException( "Error during OTA2 library compilation.", e );
+            } else if (repositoryItem != null) {
+                findings = compilerTask.compileOutput( repositoryItem );
             }
+            displayValidationFindings( findings );
+
+        } catch (Exception e) {
+            throw new MojoExecutionException( "Error during OTA2 library compilation.", e );
         }
     }
 
     /**
-     * Select the user-specified schema compiler extension.
+     * Returns the ID of the user-specified schema compiler extension, or the default extension if a binding style was
+     * not specified.
      * 
+     * @return String
      * @throws MojoFailureException thrown if an invalid binding style has been specified
      */
-    private void initBindingStyle() throws MojoFailureException {
+    private String getCompilerExtensionId() throws MojoFailureException {
+        String extensionId = CompilerExtensionRegistry.getActiveExtension();
+
         if (bindingStyle != null) {
             if (CompilerExtensionRegistry.getAvailableExtensionIds().contains( bindingStyle )) {
-                CompilerExtensionRegistry.setActiveExtension( bindingStyle );
+                extensionId = bindingStyle;
 
             } else {
                 throw new MojoFailureException( "Invalid binding style specified: " + bindingStyle );
             }
         }
+        return extensionId;
     }
 
     /**
@@ -389,6 +407,7 @@ public class OTA2SchemaCompilerMojo extends AbstractMojo implements CompileAllTa
         log.info( "compileJson                   = " + compileJson );
         log.info( "compileServices               = " + compileServices );
         log.info( "compileSwagger                = " + compileSwagger );
+        log.info( "incrementalCompile            = " + incrementalCompile );
         log.info( "generateExamples              = " + generateExamples );
         log.info( "serviceEndpointUrl            = " + serviceEndpointUrl );
         log.info( "resourceBaseUrl               = " + resourceBaseUrl );
@@ -448,6 +467,22 @@ public class OTA2SchemaCompilerMojo extends AbstractMojo implements CompileAllTa
         return compileHtml;
     }
 
+    /**
+     * @see org.opentravel.schemacompiler.task.CommonCompilerTaskOptions#isParallelCompile()
+     */
+    @Override
+    public boolean isParallelCompile() {
+        return parallelCompile;
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.task.CompileAllTaskOptions#isIncrementalCompile()
+     */
+    @Override
+    public boolean isIncrementalCompile() {
+        return incrementalCompile;
+    }
+
     /**
      * @see org.opentravel.schemacompiler.task.CompileAllTaskOptions#isCompileSwagger()
      */
@@ -160,6 +160,22 @@ public class CommandLineCompilerTaskOptions implements CompileAllTaskOptions {
         return commandLineArgs.hasOption( "H" );
     }
 
+    /**
+     * @see org.opentravel.schemacompiler.task.CommonCompilerTaskOptions#isParallelCompile()
+     */
+    @Override
+    public boolean isParallelCompile() {
+        return commandLineArgs.hasOption( "P" );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.task.CompileAllTaskOptions#isIncrementalCompile()
+     */
+    @Override
+    public boolean isIncrementalCompile() {
+        return commandLineArgs.hasOption( "I" );
+    }
+
     /**
      * @see org.opentravel.schemacompiler.task.ExampleCompilerTaskOptions#isGenerateExamples()
      */
@@ -185,6 +185,8 @@ public class Main {
         options.addOption( "S", "compileSwagger", false, messageBundle.getString( "compileSwagger" ) );
         options.addOption( "O", "compileOpenApi", false, messageBundle.getString( "compileOpenApi" ) );
         options.addOption( "H", "compileHTML", false, messageBundle.getString( "compileHTML" ) );
+        options.addOption( "P", "parallelCompile", false, messageBundle.getString( "parallelCompile" ) );
+        options.addOption( "I", "incrementalCompile", false, messageBundle.getString( "incrementalCompile" ) );
         options.addOption( "E", "generateExamples", false, messageBundle.getString( "generateExamples" ) );
         options.addOption( "C", "exampleContext", true, messageBundle.getString( "exampleContext" ) );
         options.addOption( "M", "exampleMaxDetails", false, messageBundle.getString( "exampleMaxDetails" ) );
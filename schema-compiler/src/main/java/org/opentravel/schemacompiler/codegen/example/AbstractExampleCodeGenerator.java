@@ -46,6 +46,8 @@ public abstract class AbstractExampleCodeGenerator extends AbstractCodeGenerator
      */
     protected final String fileExtension;
 
+    private ExampleFragmentCache fragmentCache;
+
     /**
      * Constructor which sets the file extension to be used.
      * 
@@ -84,9 +86,28 @@ public abstract class AbstractExampleCodeGenerator extends AbstractCodeGenerator
         if (suppressOptionalFields != null) {
             options.setSuppressOptionalFields( suppressOptionalFields );
         }
+        options.setFragmentCache( fragmentCache );
         return options;
     }
 
+    /**
+     * Returns the cache of example fragments to be shared by all of the examples produced by this generator.
+     * 
+     * @return ExampleFragmentCache
+     */
+    public ExampleFragmentCache getFragmentCache() {
+        return fragmentCache;
+    }
+
+    /**
+     * Assigns the cache of example fragments to be shared by all of the examples produced by this generator.
+     * 
+     * @param fragmentCache the fragment cache to assign (may be null)
+     */
+    public void setFragmentCache(ExampleFragmentCache fragmentCache) {
+        this.fragmentCache = fragmentCache;
+    }
+
     /**
      * @see org.opentravel.schemacompiler.codegen.impl.AbstractCodeGenerator#getOutputFile(org.opentravel.schemacompiler.model.ModelElement,
      *      org.opentravel.schemacompiler.codegen.CodeGenerationContext)
@@ -129,6 +129,29 @@ public class DOMExampleVisitor extends AbstractExampleVisitor<Element> {
         return domDocument;
     }
 
+    /**
+     * Appends the given node as the last child of the specified parent. All nodes of the example document are attached
+     * to their parents by this method, so sub-classes may override it to process content as the document is being
+     * constructed.
+     * 
+     * @param parent the parent node (either the DOM document or one of its elements)
+     * @param child the child node to append
+     */
+    protected void appendChildNode(Node parent, Node child) {
+        parent.appendChild( child );
+    }
+
+    /**
+     * Queues an IDREF(S) assignment to be processed once all of the ID values in the document are known.
+     * 
+     * @param refAssignment the reference assignment to queue
+     */
+    protected void addReferenceAssignment(DOMIdReferenceAssignment refAssignment) {
+        synchronized (referenceAssignments) {
+            referenceAssignments.add( refAssignment );
+        }
+    }
+
     /**
      * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#getBoundNamespaces()
      */
@@ -315,13 +338,13 @@ public class DOMExampleVisitor extends AbstractExampleVisitor<Element> {
 
         // Queue up IDREF(S) attributes for assignment during post-processing
         if (XsdCodegenUtils.isIdRefType( attribute.getType() )) {
-            referenceAssignments.add( new DOMIdReferenceAssignment( null, 1, getAttributeName( attribute ) ) );
+            addReferenceAssignment( new DOMIdReferenceAssignment( null, 1, getAttributeName( attribute ) ) );
         }
         if (XsdCodegenUtils.isIdRefsType( attribute.getType() )) {
-            referenceAssignments.add( new DOMIdReferenceAssignment( null, 3, getAttributeName( attribute ) ) );
+            addReferenceAssignment( new DOMIdReferenceAssignment( null, 3, getAttributeName( attribute ) ) );
         }
         if (attribute.isReference()) {
-            referenceAssignments.add( new DOMIdReferenceAssignment( attribute.getType(), getRepeatCount( attribute ),
+            addReferenceAssignment( new DOMIdReferenceAssignment( attribute.getType(), getRepeatCount( attribute ),
                 getAttributeName( attribute ) ) );
         }
 
@@ -371,15 +394,15 @@ public class DOMExampleVisitor extends AbstractExampleVisitor<Element> {
 
         // Queue up IDREF(S) attributes for assignment during post-processing
         if (XsdCodegenUtils.isIdRefType( element.getType() )) {
-            referenceAssignments.add( new DOMIdReferenceAssignment( null, 1 ) );
+            addReferenceAssignment( new DOMIdReferenceAssignment( null, 1 ) );
         }
         if (XsdCodegenUtils.isIdRefsType( element.getType() )) {
-            referenceAssignments.add( new DOMIdReferenceAssignment( null, 3 ) );
+            addReferenceAssignment( new DOMIdReferenceAssignment( null, 3 ) );
         }
         if (element.isReference()) {
             int referenceCount = (element.getRepeat() <= 1) ? 1 : element.getRepeat();
 
-            referenceAssignments.add( new DOMIdReferenceAssignment( element.getType(), referenceCount ) );
+            addReferenceAssignment( new DOMIdReferenceAssignment( element.getType(), referenceCount ) );
         }
         context = contextStack.pop();
     }
@@ -416,7 +439,7 @@ public class DOMExampleVisitor extends AbstractExampleVisitor<Element> {
         Element element = createXmlElement( indicator.getOwner().getNamespace(), elementName, indicator.getOwner() );
 
         element.setTextContent( "true" );
-        context.getNode().appendChild( element );
+        appendChildNode( context.getNode(), element );
     }
 
     /**
@@ -457,10 +480,10 @@ public class DOMExampleVisitor extends AbstractExampleVisitor<Element> {
 
         // Queue up IDREF(S) attributes for assignment during post-processing
         if (XsdCodegenUtils.isIdRefType( valueWithAttributes.getParentType() )) {
-            referenceAssignments.add( new DOMIdReferenceAssignment( null, 1 ) );
+            addReferenceAssignment( new DOMIdReferenceAssignment( null, 1 ) );
         }
         if (XsdCodegenUtils.isIdRefsType( valueWithAttributes.getParentType() )) {
-            referenceAssignments.add( new DOMIdReferenceAssignment( null, 3 ) );
+            addReferenceAssignment( new DOMIdReferenceAssignment( null, 3 ) );
         }
 
         if ((parentType instanceof TLOpenEnumeration) || (parentType instanceof TLRoleEnumeration)) {
@@ -486,7 +509,7 @@ public class DOMExampleVisitor extends AbstractExampleVisitor<Element> {
             context = new ExampleContext( null );
             context.setNode( createXmlElement( extensionElementName.getNamespaceURI(),
                 extensionElementName.getLocalPart(), preferredPrefix ) );
-            owningDomElement.appendChild( context.getNode() );
+            appendChildNode( owningDomElement, context.getNode() );
         }
     }
 
@@ -584,9 +607,9 @@ public class DOMExampleVisitor extends AbstractExampleVisitor<Element> {
 
         // Assign the new DOM element as a child of the previous context
         if (contextStack.isEmpty() || (contextStack.peek().getNode() == null)) {
-            domDocument.appendChild( newElement );
+            appendChildNode( domDocument, newElement );
         } else {
-            contextStack.peek().getNode().appendChild( newElement );
+            appendChildNode( contextStack.peek().getNode(), newElement );
         }
     }
 
@@ -609,7 +632,7 @@ public class DOMExampleVisitor extends AbstractExampleVisitor<Element> {
 
                 rootElement.setTextContent( generateExampleValue( elementType ) );
                 context.setNode( rootElement );
-                domDocument.appendChild( rootElement );
+                appendChildNode( domDocument, rootElement );
 
             } else {
                 // If the element has not already been created, do it now...
@@ -1007,7 +1030,7 @@ public class DOMExampleVisitor extends AbstractExampleVisitor<Element> {
      * @param xsdLocalName the local name of the legacy schema entity
      */
     private void addLegacyElementContent(String xsdNamespace, String xsdLocalName) {
-        context.getNode().appendChild(
+        appendChildNode( context.getNode(),
             domDocument.createComment( "  Legacy Content: {" + xsdNamespace + "}:" + xsdLocalName + "  " ) );
     }
 
@@ -1015,7 +1038,7 @@ public class DOMExampleVisitor extends AbstractExampleVisitor<Element> {
      * Handles the deferred assignment of 'IDREF' and 'IDREFS' values as a post-processing step of the EXAMPLE
      * generation process.
      */
-    private class DOMIdReferenceAssignment extends IdReferenceAssignment {
+    protected class DOMIdReferenceAssignment extends IdReferenceAssignment {
 
         private Element domElement;
 
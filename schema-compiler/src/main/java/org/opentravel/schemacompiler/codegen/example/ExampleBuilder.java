@@ -24,6 +24,7 @@ import org.opentravel.schemacompiler.validate.ValidationException;
 import org.opentravel.schemacompiler.validate.ValidationFindings;
 import org.opentravel.schemacompiler.validate.compile.TLModelCompileValidator;
 
+import java.io.OutputStream;
 import java.io.StringWriter;
 import java.io.Writer;
 
@@ -119,6 +120,18 @@ public abstract class ExampleBuilder<T> {
      */
     public abstract void buildToStream(Writer buffer) throws ValidationException, CodeGenerationException;
 
+    /**
+     * Generates the example output and directs the resulting content (UTF-8 encoded) to the specified output stream.
+     * The content is written as the model is navigated, so the complete tree is never retained in memory. The stream is
+     * flushed but not closed.
+     * 
+     * @param out the output stream to which the example content should be directed
+     * @throws ValidationException thrown if one or more of the entities for which content is to be generated contains
+     *         errors (warnings are acceptable and will not produce an exception)
+     * @throws CodeGenerationException thrown if an error occurs during example content generation
+     */
+    public abstract void buildToStream(OutputStream out) throws ValidationException, CodeGenerationException;
+
     /**
      * Generates the example output as a structure and returns the raw tree content.
      * 
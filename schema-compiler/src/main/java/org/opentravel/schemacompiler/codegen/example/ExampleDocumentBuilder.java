@@ -20,16 +20,21 @@ import org.opentravel.schemacompiler.codegen.CodeGenerationException;
 import org.opentravel.schemacompiler.codegen.util.PropertyCodegenUtils;
 import org.opentravel.schemacompiler.model.AbstractLibrary;
 import org.opentravel.schemacompiler.model.TLExtensionPointFacet;
+import org.opentravel.schemacompiler.util.SchemaCompilerRuntimeException;
 import org.opentravel.schemacompiler.validate.ValidationException;
+import org.opentravel.schemacompiler.xml.XMLPrettyPrinter;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Writer;
 import java.util.HashMap;
 import java.util.Map;
 
 import javax.xml.XMLConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
@@ -114,6 +119,47 @@ public class ExampleDocumentBuilder extends ExampleBuilder<Document> {
         }
     }
 
+    /**
+     * Generates the example output and directs the resulting content to the specified output stream. The content is
+     * formatted in the same way as the example files that are produced by the XML example code generator.
+     * 
+     * @param out the output stream to which the example content should be directed
+     * @throws ValidationException thrown if one or more of the entities for which content is to be generated contains
+     *         errors (warnings are acceptable and will not produce an exception)
+     * @throws CodeGenerationException thrown if an error occurs during example content generation
+     */
+    @Override
+    public void buildToStream(OutputStream out) throws ValidationException, CodeGenerationException {
+        StreamingXMLExampleVisitor planningVisitor = new StreamingXMLExampleVisitor( options.getExampleContext() );
+
+        validateModelElement();
+        ExampleNavigator.navigate( modelElement, planningVisitor, options, false );
+
+        try {
+            XMLStreamWriter writer = new XMLPrettyPrinter().newStreamWriter( out );
+            StreamingXMLExampleVisitor visitor = new StreamingXMLExampleVisitor( planningVisitor, writer );
+
+            if (schemaLocationRequired()) {
+                String schemaLocation = getSchemaLocation( planningVisitor );
+
+                if (schemaLocation.length() > 0) {
+                    visitor.addRootAttribute( XMLConstants.XMLNS_ATTRIBUTE_NS_URI, "xmlns:xsi",
+                        XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI );
+                    visitor.addRootAttribute( XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI, "xsi:schemaLocation",
+                        schemaLocation );
+                }
+            }
+            writer.writeStartDocument();
+            ExampleNavigator.navigate( modelElement, visitor, options, false );
+            visitor.endDocument();
+            writer.writeEndDocument();
+            writer.close();
+
+        } catch (XMLStreamException | SchemaCompilerRuntimeException e) {
+            throw new CodeGenerationException( e );
+        }
+    }
+
     /**
      * Generates the example output as a DOM structure and returns the raw tree content.
      * 
@@ -0,0 +1,245 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.codegen.example;
+
+import org.opentravel.schemacompiler.codegen.util.ExtensionPointRegistry;
+import org.opentravel.schemacompiler.model.TLFacet;
+import org.opentravel.schemacompiler.model.TLModel;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Cache of example fragments that can be shared by all of the <code>ExampleNavigator</code> instances used during a
+ * single compilation. A fragment is the sequence of visitor notifications produced by the navigation of a single
+ * facet. Since the example values (and message IDs) that are produced by a visitor are assigned in the order that
+ * elements are visited, the fragments do not store rendered content; instead, they are replayed to each visitor so
+ * that the output is identical to that of a full navigation.
+ *
+ * <p>
+ * The navigation of a facet depends on the navigation options and on the recursion counts of the entities that were
+ * already on the navigator's stack when the facet was encountered. Each fragment records the stack counts of the
+ * entities whose visitation it checked, and a fragment is only reused when those counts are the same.
+ *
+ * <p>
+ * Instances of this class are safe for concurrent use, but they should not outlive the compilation for which they
+ * were created since they retain references to the model.
+ */
+public class ExampleFragmentCache {
+
+    private static final int MAX_FRAGMENT_VARIANTS = 8;
+
+    private final Map<TLModel,ExtensionPointRegistry> registryCache = new ConcurrentHashMap<>();
+    private final Map<FragmentKey,List<ExampleFragment>> fragmentCache = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * Returns the extension point registry for the given model, creating it if necessary.
+     *
+     * @param model the model for which to return the extension point registry
+     * @return ExtensionPointRegistry
+     */
+    public ExtensionPointRegistry getExtensionPointRegistry(TLModel model) {
+        return registryCache.computeIfAbsent( model, ExtensionPointRegistry::new );
+    }
+
+    /**
+     * Returns the number of times that a cached fragment was reused since this cache was created.
+     *
+     * @return long
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Returns the number of times that a facet had to be navigated because no matching fragment was available.
+     *
+     * @return long
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Removes all fragments and extension point registries from this cache.
+     */
+    public void clear() {
+        registryCache.clear();
+        fragmentCache.clear();
+    }
+
+    /**
+     * Returns the cached fragment for the given key whose recorded stack counts match those provided, or null if no
+     * such fragment exists.
+     *
+     * @param key the key of the fragment to return
+     * @param stackCounts the current recursion counts of the entities on the navigator's stack
+     * @return ExampleFragment
+     */
+    ExampleFragment getFragment(FragmentKey key, Map<Object,Integer> stackCounts) {
+        List<ExampleFragment> variants = fragmentCache.get( key );
+        ExampleFragment fragment = null;
+
+        if (variants != null) {
+            for (ExampleFragment variant : variants) {
+                if (variant.matches( stackCounts )) {
+                    fragment = variant;
+                    break;
+                }
+            }
+        }
+        if (fragment == null) {
+            missCount.incrementAndGet();
+        } else {
+            hitCount.incrementAndGet();
+        }
+        return fragment;
+    }
+
+    /**
+     * Adds the given fragment to the cache. If the maximum number of variants has already been cached for the key,
+     * the fragment is discarded.
+     *
+     * @param key the key of the fragment to add
+     * @param fragment the fragment to add
+     */
+    void addFragment(FragmentKey key, ExampleFragment fragment) {
+        List<ExampleFragment> variants = fragmentCache.computeIfAbsent( key, k -> new CopyOnWriteArrayList<>() );
+
+        if (variants.size() < MAX_FRAGMENT_VARIANTS) {
+            variants.add( fragment );
+        }
+    }
+
+    /**
+     * Key that identifies the facet and navigation settings for which a fragment was recorded.
+     */
+    static class FragmentKey {
+
+        private final TLFacet facet;
+        private final List<Object> settings;
+
+        /**
+         * Constructor that specifies the facet and the navigation settings for the fragment.
+         *
+         * @param facet the facet that was navigated to produce the fragment
+         * @param options the options that were used during navigation
+         * @param navigateLatestMinorVersions flag indicating whether navigation followed the latest minor versions
+         */
+        FragmentKey(TLFacet facet, ExampleGeneratorOptions options, boolean navigateLatestMinorVersions) {
+            this.facet = facet;
+            this.settings = Arrays.asList( options.getDetailLevel(), options.getExampleContext(),
+                options.getMaxRepeat(), options.getMaxRecursionDepth(), options.isSuppressOptionalFields(),
+                new HashMap<>( options.getPreferredFacetMap() ), navigateLatestMinorVersions );
+        }
+
+        /**
+         * @see java.lang.Object#hashCode()
+         */
+        @Override
+        public int hashCode() {
+            return (31 * System.identityHashCode( facet )) + settings.hashCode();
+        }
+
+        /**
+         * @see java.lang.Object#equals(java.lang.Object)
+         */
+        @Override
+        public boolean equals(Object obj) {
+            boolean result = false;
+
+            if (obj instanceof FragmentKey) {
+                FragmentKey other = (FragmentKey) obj;
+
+                result = (facet == other.facet) && settings.equals( other.settings );
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * Recorded sequence of visitor notifications along with the stack counts under which it was recorded.
+     */
+    static class ExampleFragment {
+
+        private final List<Consumer<ExampleVisitor>> events;
+        private final Map<Object,Integer> stackConditions;
+
+        /**
+         * Constructor that specifies the recorded visitor notifications and the stack counts upon which they depend.
+         *
+         * @param events the visitor notifications that were recorded
+         * @param stackConditions the recursion counts of the entities whose visitation was checked
+         */
+        ExampleFragment(List<Consumer<ExampleVisitor>> events, Map<Object,Integer> stackConditions) {
+            this.events = Collections.unmodifiableList( events );
+            this.stackConditions = Collections.unmodifiableMap( new IdentityHashMap<>( stackConditions ) );
+        }
+
+        /**
+         * Returns the recursion counts of the entities upon which this fragment depends.
+         *
+         * @return Map&lt;Object,Integer&gt;
+         */
+        Map<Object,Integer> getStackConditions() {
+            return stackConditions;
+        }
+
+        /**
+         * Returns true if the given stack counts satisfy the conditions under which this fragment was recorded.
+         *
+         * @param stackCounts the current recursion counts of the entities on the navigator's stack
+         * @return boolean
+         */
+        boolean matches(Map<Object,Integer> stackCounts) {
+            boolean result = true;
+
+            for (Entry<Object,Integer> condition : stackConditions.entrySet()) {
+                if (!condition.getValue().equals( stackCounts.getOrDefault( condition.getKey(), 0 ) )) {
+                    result = false;
+                    break;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Sends the recorded notifications to the given visitor.
+         *
+         * @param visitor the visitor to receive the notifications
+         */
+        void replay(ExampleVisitor visitor) {
+            for (Consumer<ExampleVisitor> event : events) {
+                event.accept( visitor );
+            }
+        }
+
+    }
+
+}
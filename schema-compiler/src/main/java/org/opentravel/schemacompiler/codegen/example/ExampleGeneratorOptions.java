@@ -20,6 +20,7 @@ import org.opentravel.schemacompiler.model.TLFacet;
 import org.opentravel.schemacompiler.model.TLFacetOwner;
 import org.opentravel.schemacompiler.model.TLOperation;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -42,6 +43,7 @@ public class ExampleGeneratorOptions {
     private int maxRepeat = 3;
     private int maxRecursionDepth = 2;
     private boolean suppressOptionalFields = false;
+    private ExampleFragmentCache fragmentCache;
 
     /**
      * Returns the amount of detail to include in the generated EXAMPLE.
@@ -87,6 +89,15 @@ public class ExampleGeneratorOptions {
         preferredFacetMap.put( entityName, preferredFacet );
     }
 
+    /**
+     * Returns the map of preferred facets, keyed by the qualified name of each facet owner.
+     * 
+     * @return Map&lt;QName,TLFacet&gt;
+     */
+    Map<QName,TLFacet> getPreferredFacetMap() {
+        return Collections.unmodifiableMap( preferredFacetMap );
+    }
+
     /**
      * Returns the exampleContext to use identify examples for simple data types.
      * 
@@ -161,4 +172,23 @@ public class ExampleGeneratorOptions {
         this.suppressOptionalFields = suppressOptionalFields;
     }
 
+    /**
+     * Returns the cache of example fragments to share with other navigations (may be null).
+     *
+     * @return ExampleFragmentCache
+     */
+    public ExampleFragmentCache getFragmentCache() {
+        return fragmentCache;
+    }
+
+    /**
+     * Assigns the cache of example fragments to share with other navigations. If null, each navigation will visit all
+     * of its entities without the use of a cache.
+     *
+     * @param fragmentCache the fragment cache to assign
+     */
+    public void setFragmentCache(ExampleFragmentCache fragmentCache) {
+        this.fragmentCache = fragmentCache;
+    }
+
 }
@@ -17,13 +17,17 @@
 package org.opentravel.schemacompiler.codegen.example;
 
 import org.opentravel.schemacompiler.codegen.CodeGenerationException;
+import org.opentravel.schemacompiler.util.SchemaCompilerRuntimeException;
 import org.opentravel.schemacompiler.validate.ValidationException;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Writer;
 
 /**
@@ -43,17 +47,59 @@ public class ExampleJsonBuilder extends ExampleBuilder<JsonNode> {
      */
     @Override
     public void buildToStream(Writer buffer) throws ValidationException, CodeGenerationException {
-        ObjectMapper mapper = new ObjectMapper();
-
-        JsonNode node = buildTree();
         try {
-            mapper.writer( SerializationFeature.INDENT_OUTPUT ).writeValue( buffer, node );
+            buildToGenerator( newObjectMapper().getFactory().createGenerator( buffer ) );
             buffer.flush();
+
         } catch (IOException e) {
             throw new CodeGenerationException( e );
         }
     }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.opentravel.schemacompiler.codegen.example.ExampleBuilder#buildToStream (java.io.OutputStream)
+     */
+    @Override
+    public void buildToStream(OutputStream out) throws ValidationException, CodeGenerationException {
+        try {
+            buildToGenerator( newObjectMapper().getFactory().createGenerator( out, JsonEncoding.UTF8 ) );
+            out.flush();
+
+        } catch (IOException e) {
+            throw new CodeGenerationException( e );
+        }
+    }
+
+    /**
+     * Navigates the model element using a pair of streaming visitors, writing the example content to the given JSON
+     * generator. The first navigation pass collects the ID values that are needed to assign IDREF values in the
+     * second. The generator is closed when the content is complete.
+     * 
+     * @param generator the JSON generator to which the example content should be directed
+     * @throws ValidationException thrown if the model element contains errors
+     * @throws CodeGenerationException thrown if an error occurs during example content generation
+     */
+    private void buildToGenerator(JsonGenerator generator) throws ValidationException, CodeGenerationException {
+        StreamingJSONExampleVisitor planningVisitor = new StreamingJSONExampleVisitor( options.getExampleContext() );
+
+        validateModelElement();
+        ExampleNavigator.navigate( modelElement, planningVisitor, options, true );
+
+        try (JsonGenerator jsonGenerator = generator) {
+            StreamingJSONExampleVisitor visitor = new StreamingJSONExampleVisitor( planningVisitor, jsonGenerator );
+
+            jsonGenerator.disable( JsonGenerator.Feature.AUTO_CLOSE_TARGET );
+            jsonGenerator.useDefaultPrettyPrinter();
+            ExampleNavigator.navigate( modelElement, visitor, options, true );
+            visitor.endDocument();
+
+        } catch (IOException | SchemaCompilerRuntimeException e) {
+            throw new CodeGenerationException( e );
+        }
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -66,4 +112,13 @@ public class ExampleJsonBuilder extends ExampleBuilder<JsonNode> {
         ExampleNavigator.navigate( modelElement, visitor, options, true );
         return visitor.getNode();
     }
+
+    /**
+     * Returns a new object mapper that is configured to produce formatted JSON output.
+     * 
+     * @return ObjectMapper
+     */
+    private static ObjectMapper newObjectMapper() {
+        return new ObjectMapper().enable( SerializationFeature.INDENT_OUTPUT );
+    }
 }
@@ -16,6 +16,7 @@
 
 package org.opentravel.schemacompiler.codegen.example;
 
+import org.opentravel.schemacompiler.codegen.example.ExampleFragmentCache.ExampleFragment;
 import org.opentravel.schemacompiler.codegen.example.ExampleGeneratorOptions.DetailLevel;
 import org.opentravel.schemacompiler.codegen.json.JsonSchemaCodegenUtils;
 import org.opentravel.schemacompiler.codegen.util.AliasCodegenUtils;
@@ -47,6 +48,7 @@ import org.opentravel.schemacompiler.model.TLListFacet;
 import org.opentravel.schemacompiler.model.TLModel;
 import org.opentravel.schemacompiler.model.TLModelElement;
 import org.opentravel.schemacompiler.model.TLOpenEnumeration;
+import org.opentravel.schemacompiler.model.TLPatchableFacet;
 import org.opentravel.schemacompiler.model.TLProperty;
 import org.opentravel.schemacompiler.model.TLPropertyType;
 import org.opentravel.schemacompiler.model.TLRole;
@@ -59,14 +61,19 @@ import org.opentravel.schemacompiler.model.XSDElement;
 import org.opentravel.schemacompiler.model.XSDSimpleType;
 import org.opentravel.schemacompiler.version.Versioned;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import javax.xml.XMLConstants;
 
@@ -86,6 +93,8 @@ public class ExampleNavigator {
     private ExampleGeneratorOptions options;
     private ExampleVisitor visitor;
     private boolean navigateLatestMinorVersions = false;
+    private ExampleFragmentCache fragmentCache;
+    private Deque<FragmentRecorder> activeRecorders = new ArrayDeque<>();
 
     /**
      * Constructor that initializes the visitor to be notified when model elements are encountered during navigation.
@@ -99,9 +108,17 @@ public class ExampleNavigator {
     public ExampleNavigator(ExampleVisitor visitor, ExampleGeneratorOptions options, TLModel model,
         boolean navigateLatestMinorVersions) {
         this.options = (options != null) ? options : new ExampleGeneratorOptions();
-        this.visitor = visitor;
         this.navigateLatestMinorVersions = navigateLatestMinorVersions;
-        this.extensionPointRegistry = new ExtensionPointRegistry( model );
+        this.fragmentCache = this.options.getFragmentCache();
+
+        if (fragmentCache == null) {
+            this.visitor = visitor;
+            this.extensionPointRegistry = new ExtensionPointRegistry( model );
+
+        } else {
+            this.visitor = new RecordingVisitor( visitor );
+            this.extensionPointRegistry = fragmentCache.getExtensionPointRegistry( model );
+        }
     }
 
     /**
@@ -369,15 +386,28 @@ public class ExampleNavigator {
     public void navigateFacet(TLFacet facet) {
         TLFacet navFacet = getReference( facet );
 
-        try {
-            if (facet instanceof TLContextualFacet) {
-                TLFacet preferredFacet = options.getPreferredFacet( (TLContextualFacet) facet );
+        if (facet instanceof TLContextualFacet) {
+            TLFacet preferredFacet = options.getPreferredFacet( (TLContextualFacet) facet );
 
-                if (preferredFacet != null) {
-                    navFacet = preferredFacet;
-                }
+            if (preferredFacet != null) {
+                navFacet = preferredFacet;
             }
+        }
+
+        if (fragmentCache == null) {
+            navigateFacetContent( navFacet );
+        } else {
+            navigateFacetFragment( navFacet );
+        }
+    }
 
+    /**
+     * Visits and navigates the content of the given facet.
+     * 
+     * @param navFacet the facet whose content is to be navigated
+     */
+    private void navigateFacetContent(TLFacet navFacet) {
+        try {
             incrementRecursionCount( navFacet );
 
             if (canVisit( navFacet )) {
@@ -390,6 +420,61 @@ public class ExampleNavigator {
         }
     }
 
+    /**
+     * Visits the content of the given facet using a fragment from the shared cache. If no matching fragment is
+     * available, the facet is navigated and the resulting fragment is added to the cache.
+     * 
+     * @param navFacet the facet whose content is to be navigated
+     */
+    private void navigateFacetFragment(TLFacet navFacet) {
+        ExampleFragmentCache.FragmentKey key =
+            new ExampleFragmentCache.FragmentKey( navFacet, options, navigateLatestMinorVersions );
+        Map<Object,Integer> stackCounts = getStackCounts();
+        ExampleFragment fragment = fragmentCache.getFragment( key, stackCounts );
+        RecordingVisitor recordingVisitor = (RecordingVisitor) visitor;
+
+        if (fragment == null) {
+            FragmentRecorder recorder = new FragmentRecorder();
+
+            activeRecorders.push( recorder );
+
+            try {
+                navigateFacetContent( navFacet );
+
+            } finally {
+                activeRecorders.pop();
+            }
+            fragment = recorder.newFragment( stackCounts );
+            fragmentCache.addFragment( key, fragment );
+
+        } else {
+            fragment.replay( recordingVisitor.targetVisitor );
+        }
+
+        // Nested fragments are recorded as a single event of the enclosing fragment, which inherits
+        // the nested fragment's dependencies on the navigation stack
+        if (!activeRecorders.isEmpty()) {
+            FragmentRecorder parentRecorder = activeRecorders.peek();
+
+            parentRecorder.events.add( fragment::replay );
+            parentRecorder.checkedEntities.addAll( fragment.getStackConditions().keySet() );
+        }
+    }
+
+    /**
+     * Returns the number of times that each entity appears on the navigation stack.
+     * 
+     * @return Map&lt;Object,Integer&gt;
+     */
+    private Map<Object,Integer> getStackCounts() {
+        Map<Object,Integer> stackCounts = new IdentityHashMap<>();
+
+        for (Object entity : entityStack) {
+            stackCounts.merge( entity, 1, Integer::sum );
+        }
+        return stackCounts;
+    }
+
     /**
      * Called when a <code>TLListFacet</code> instance is encountered during model navigation.
      * 
@@ -602,6 +687,10 @@ public class ExampleNavigator {
             int maxRecursion = Math.max( 1, options.getMaxRecursionDepth() );
             int recursionCount = 0;
 
+            if (!activeRecorders.isEmpty()) {
+                activeRecorders.peek().checkedEntities.add( obj );
+            }
+
             for (Object visitedEntity : entityStack) {
                 if (visitedEntity == obj) {
                     recursionCount++;
@@ -1258,4 +1347,322 @@ public class ExampleNavigator {
         return xsdEntity;
     }
 
+    /**
+     * Collects the visitor notifications and entity visitation checks for a fragment that is being navigated.
+     */
+    private static class FragmentRecorder {
+
+        private final List<Consumer<ExampleVisitor>> events = new ArrayList<>();
+        private final Set<Object> checkedEntities = Collections.newSetFromMap( new IdentityHashMap<>() );
+
+        /**
+         * Returns a new fragment that contains the recorded notifications. The fragment depends upon the stack counts
+         * of each entity whose visitation was checked during navigation.
+         * 
+         * @param stackCounts the recursion counts of the entities on the stack when the fragment was started
+         * @return ExampleFragment
+         */
+        public ExampleFragment newFragment(Map<Object,Integer> stackCounts) {
+            Map<Object,Integer> stackConditions = new IdentityHashMap<>();
+
+            for (Object entity : checkedEntities) {
+                stackConditions.put( entity, stackCounts.getOrDefault( entity, 0 ) );
+            }
+            return new ExampleFragment( events, stackConditions );
+        }
+
+    }
+
+    /**
+     * Visitor that forwards all notifications to the target visitor and records them for the fragment (if any) that is
+     * currently being navigated.
+     */
+    private class RecordingVisitor implements ExampleVisitor {
+
+        private final ExampleVisitor targetVisitor;
+
+        /**
+         * Constructor that specifies the visitor to which all notifications should be forwarded.
+         * 
+         * @param targetVisitor the visitor to receive all notifications
+         */
+        public RecordingVisitor(ExampleVisitor targetVisitor) {
+            this.targetVisitor = targetVisitor;
+        }
+
+        /**
+         * Forwards the given notification to the target visitor and records it for the active fragment.
+         * 
+         * @param event the visitor notification to forward
+         */
+        private void record(Consumer<ExampleVisitor> event) {
+            event.accept( targetVisitor );
+
+            if (!activeRecorders.isEmpty()) {
+                activeRecorders.peek().events.add( event );
+            }
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#getBoundNamespaces()
+         */
+        @Override
+        public Collection<String> getBoundNamespaces() {
+            return targetVisitor.getBoundNamespaces();
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#visitSimpleType(org.opentravel.schemacompiler.model.TLAttributeType)
+         */
+        @Override
+        public void visitSimpleType(TLAttributeType simpleType) {
+            record( v -> v.visitSimpleType( simpleType ) );
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#startFacet(org.opentravel.schemacompiler.model.TLFacet)
+         */
+        @Override
+        public void startFacet(TLFacet facet) {
+            record( v -> v.startFacet( facet ) );
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#endFacet(org.opentravel.schemacompiler.model.TLFacet)
+         */
+        @Override
+        public void endFacet(TLFacet facet) {
+            record( v -> v.endFacet( facet ) );
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#startListFacet(org.opentravel.schemacompiler.model.TLListFacet,
+         *      org.opentravel.schemacompiler.model.TLRole)
+         */
+        @Override
+        public void startListFacet(TLListFacet listFacet, TLRole role) {
+            record( v -> v.startListFacet( listFacet, role ) );
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#endListFacet(org.opentravel.schemacompiler.model.TLListFacet,
+         *      org.opentravel.schemacompiler.model.TLRole)
+         */
+        @Override
+        public void endListFacet(TLListFacet listFacet, TLRole role) {
+            record( v -> v.endListFacet( listFacet, role ) );
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#startAlias(org.opentravel.schemacompiler.model.TLAlias)
+         */
+        @Override
+        public void startAlias(TLAlias alias) {
+            record( v -> v.startAlias( alias ) );
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#endAlias(org.opentravel.schemacompiler.model.TLAlias)
+         */
+        @Override
+        public void endAlias(TLAlias alias) {
+            record( v -> v.endAlias( alias ) );
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#startActionFacet(org.opentravel.schemacompiler.model.TLActionFacet,
+         *      org.opentravel.schemacompiler.model.TLFacet)
+         */
+        @Override
+        public void startActionFacet(TLActionFacet actionFacet, TLFacet payloadFacet) {
+            record( v -> v.startActionFacet( actionFacet, payloadFacet ) );
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#endActionFacet(org.opentravel.schemacompiler.model.TLActionFacet,
+         *      org.opentravel.schemacompiler.model.TLFacet)
+         */
+        @Override
+        public void endActionFacet(TLActionFacet actionFacet, TLFacet payloadFacet) {
+            record( v -> v.endActionFacet( actionFacet, payloadFacet ) );
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#startAttribute(org.opentravel.schemacompiler.model.TLAttribute)
+         */
+        @Override
+        public void startAttribute(TLAttribute attribute) {
+            record( v -> v.startAttribute( attribute ) );
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#endAttribute(org.opentravel.schemacompiler.model.TLAttribute)
+         */
+        @Override
+        public void endAttribute(TLAttribute attribute) {
+            record( v -> v.endAttribute( attribute ) );
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#startElement(org.opentravel.schemacompiler.model.TLProperty)
+         */
+        @Override
+        public void startElement(TLProperty element) {
+            record( v -> v.startElement( element ) );
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#endElement(org.opentravel.schemacompiler.model.TLProperty)
+         */
+        @Override
+        public void endElement(TLProperty element) {
+            record( v -> v.endElement( element ) );
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#startIndicatorAttribute(org.opentravel.schemacompiler.model.TLIndicator)
+         */
+        @Override
+        public void startIndicatorAttribute(TLIndicator indicator) {
+            record( v -> v.startIndicatorAttribute( indicator ) );
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#endIndicatorAttribute(org.opentravel.schemacompiler.model.TLIndicator)
+         */
+        @Override
+        public void endIndicatorAttribute(TLIndicator indicator) {
+            record( v -> v.endIndicatorAttribute( indicator ) );
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#startIndicatorElement(org.opentravel.schemacompiler.model.TLIndicator)
+         */
+        @Override
+        public void startIndicatorElement(TLIndicator indicator) {
+            record( v -> v.startIndicatorElement( indicator ) );
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#endIndicatorElement(org.opentravel.schemacompiler.model.TLIndicator)
+         */
+        @Override
+        public void endIndicatorElement(TLIndicator indicator) {
+            record( v -> v.endIndicatorElement( indicator ) );
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#startOpenEnumeration(org.opentravel.schemacompiler.model.TLOpenEnumeration)
+         */
+        @Override
+        public void startOpenEnumeration(TLOpenEnumeration openEnum) {
+            record( v -> v.startOpenEnumeration( openEnum ) );
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#endOpenEnumeration(org.opentravel.schemacompiler.model.TLOpenEnumeration)
+         */
+        @Override
+        public void endOpenEnumeration(TLOpenEnumeration openEnum) {
+            record( v -> v.endOpenEnumeration( openEnum ) );
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#startRoleEnumeration(org.opentravel.schemacompiler.model.TLRoleEnumeration)
+         */
+        @Override
+        public void startRoleEnumeration(TLRoleEnumeration roleEnum) {
+            record( v -> v.startRoleEnumeration( roleEnum ) );
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#endRoleEnumeration(org.opentravel.schemacompiler.model.TLRoleEnumeration)
+         */
+        @Override
+        public void endRoleEnumeration(TLRoleEnumeration roleEnum) {
+            record( v -> v.endRoleEnumeration( roleEnum ) );
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#startValueWithAttributes(org.opentravel.schemacompiler.model.TLValueWithAttributes)
+         */
+        @Override
+        public void startValueWithAttributes(TLValueWithAttributes valueWithAttributes) {
+            record( v -> v.startValueWithAttributes( valueWithAttributes ) );
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#endValueWithAttributes(org.opentravel.schemacompiler.model.TLValueWithAttributes)
+         */
+        @Override
+        public void endValueWithAttributes(TLValueWithAttributes valueWithAttributes) {
+            record( v -> v.endValueWithAttributes( valueWithAttributes ) );
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#startExtensionPoint(org.opentravel.schemacompiler.model.TLPatchableFacet)
+         */
+        @Override
+        public void startExtensionPoint(TLPatchableFacet facet) {
+            record( v -> v.startExtensionPoint( facet ) );
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#endExtensionPoint(org.opentravel.schemacompiler.model.TLPatchableFacet)
+         */
+        @Override
+        public void endExtensionPoint(TLPatchableFacet facet) {
+            record( v -> v.endExtensionPoint( facet ) );
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#startExtensionPointFacet(org.opentravel.schemacompiler.model.TLExtensionPointFacet)
+         */
+        @Override
+        public void startExtensionPointFacet(TLExtensionPointFacet facet) {
+            record( v -> v.startExtensionPointFacet( facet ) );
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#endExtensionPointFacet(org.opentravel.schemacompiler.model.TLExtensionPointFacet)
+         */
+        @Override
+        public void endExtensionPointFacet(TLExtensionPointFacet facet) {
+            record( v -> v.endExtensionPointFacet( facet ) );
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#startXsdComplexType(org.opentravel.schemacompiler.model.XSDComplexType)
+         */
+        @Override
+        public void startXsdComplexType(XSDComplexType xsdComplexType) {
+            record( v -> v.startXsdComplexType( xsdComplexType ) );
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#endXsdComplexType(org.opentravel.schemacompiler.model.XSDComplexType)
+         */
+        @Override
+        public void endXsdComplexType(XSDComplexType xsdComplexType) {
+            record( v -> v.endXsdComplexType( xsdComplexType ) );
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#startXsdElement(org.opentravel.schemacompiler.model.XSDElement)
+         */
+        @Override
+        public void startXsdElement(XSDElement xsdElement) {
+            record( v -> v.startXsdElement( xsdElement ) );
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#endXsdElement(org.opentravel.schemacompiler.model.XSDElement)
+         */
+        @Override
+        public void endXsdElement(XSDElement xsdElement) {
+            record( v -> v.endXsdElement( xsdElement ) );
+        }
+
+    }
+
 }
@@ -23,10 +23,6 @@ import org.opentravel.schemacompiler.model.NamedEntity;
 import org.opentravel.schemacompiler.model.TLModelElement;
 import org.opentravel.schemacompiler.version.Versioned;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.OutputStream;
@@ -51,11 +47,6 @@ public class JSONExampleCodeGenerator extends AbstractExampleCodeGenerator {
         super( JSON_FILE_EXTENSION );
     }
 
-    /**
-     * Responsible for creating the json output.
-     */
-    private ObjectMapper mapper;
-
     /**
      * @see org.opentravel.schemacompiler.codegen.impl.AbstractCodeGenerator#doGenerateOutput(org.opentravel.schemacompiler.model.ModelElement,
      *      org.opentravel.schemacompiler.codegen.CodeGenerationContext)
@@ -71,8 +62,7 @@ public class JSONExampleCodeGenerator extends AbstractExampleCodeGenerator {
             try (OutputStream out = new FileOutputStream( outputFile );) {
                 ExampleJsonBuilder exampleBuilder = new ExampleJsonBuilder( getOptions( context ) );
                 exampleBuilder.setModelElement( (NamedEntity) source );
-                JsonNode node = exampleBuilder.buildTree();
-                getObjectMapper().writeValue( out, node );
+                exampleBuilder.buildToStream( out );
                 addGeneratedFile( outputFile );
             } catch (Exception e) {
                 throw new CodeGenerationException( e );
@@ -80,16 +70,4 @@ public class JSONExampleCodeGenerator extends AbstractExampleCodeGenerator {
         }
     }
 
-    /**
-     * Lazy initialization of the ObjectMapper.
-     * 
-     * @return the configured ObjectMapper
-     */
-    private ObjectMapper getObjectMapper() {
-        if (mapper == null) {
-            mapper = new ObjectMapper().enable( SerializationFeature.INDENT_OUTPUT );
-        }
-        return mapper;
-    }
-
 }
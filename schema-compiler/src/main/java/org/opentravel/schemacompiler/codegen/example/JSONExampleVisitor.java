@@ -118,6 +118,49 @@ public class JSONExampleVisitor extends AbstractExampleVisitor<JsonNode> {
         return node;
     }
 
+    /**
+     * Returns the root node of the JSON tree without processing any pending IDREF(S) assignments.
+     * 
+     * @return ObjectNode
+     */
+    protected ObjectNode getRootNode() {
+        return node;
+    }
+
+    /**
+     * Assigns the given node as the value of the specified field of a JSON object. All non-scalar nodes of the example
+     * tree are attached to their parent objects by this method (or by <code>addChildNode()</code> for arrays), so
+     * sub-classes may override it to process content as the tree is being constructed.
+     * 
+     * @param parent the parent object node
+     * @param fieldName the name of the field to assign
+     * @param child the child node to assign
+     */
+    protected void setChildNode(ObjectNode parent, String fieldName, JsonNode child) {
+        parent.set( fieldName, child );
+    }
+
+    /**
+     * Appends the given node to the specified JSON array.
+     * 
+     * @param parent the parent array node
+     * @param child the child node to append
+     */
+    protected void addChildNode(ArrayNode parent, JsonNode child) {
+        parent.add( child );
+    }
+
+    /**
+     * Queues an IDREF(S) assignment to be processed once all of the ID values in the document are known.
+     * 
+     * @param refAssignment the reference assignment to queue
+     */
+    protected void addReferenceAssignment(JsonIdReferenceAssignment refAssignment) {
+        synchronized (referenceAssignments) {
+            referenceAssignments.add( refAssignment );
+        }
+    }
+
     /**
      * @see org.opentravel.schemacompiler.codegen.example.ExampleVisitor#visitSimpleType(org.opentravel.schemacompiler.model.TLAttributeType)
      */
@@ -232,7 +275,7 @@ public class JSONExampleVisitor extends AbstractExampleVisitor<JsonNode> {
      */
     private ArrayNode toArrayNode(JsonNode parent, String nodeName) {
         ArrayNode arrayNode;
-        JsonNode currentNode = parent.findValue( nodeName );
+        JsonNode currentNode = parent.get( nodeName );
 
         if (!currentNode.isArray()) {
             arrayNode = nodeFactory.arrayNode();
@@ -352,13 +395,13 @@ public class JSONExampleVisitor extends AbstractExampleVisitor<JsonNode> {
 
         // Queue up IDREF(S) attributes for assignment during post-processing
         if (XsdCodegenUtils.isIdRefType( attribute.getType() )) {
-            referenceAssignments.add( new JsonIdReferenceAssignment( null, 1, attribute.getName(), false ) );
+            addReferenceAssignment( new JsonIdReferenceAssignment( null, 1, attribute.getName(), false ) );
         }
         if (XsdCodegenUtils.isIdRefsType( attribute.getType() )) {
-            referenceAssignments.add( new JsonIdReferenceAssignment( null, 3, attribute.getName(), false ) );
+            addReferenceAssignment( new JsonIdReferenceAssignment( null, 3, attribute.getName(), false ) );
         }
         if (attribute.isReference()) {
-            referenceAssignments.add( new JsonIdReferenceAssignment( attribute.getType(), getRepeatCount( attribute ),
+            addReferenceAssignment( new JsonIdReferenceAssignment( attribute.getType(), getRepeatCount( attribute ),
                 getAttributeName( attribute ), false ) );
         }
 
@@ -388,14 +431,14 @@ public class JSONExampleVisitor extends AbstractExampleVisitor<JsonNode> {
         if ((repeat > 1 || repeat < 0) && !(type instanceof TLListFacet) && !element.isReference()) {
             String nodeName = getPropertyElementName( element, type );
             JsonNode n = context.getNode();
-            JsonNode jn = n.findValue( nodeName );
+            JsonNode jn = n.get( nodeName );
             ArrayNode arrayNode;
             if (jn instanceof ArrayNode) {
                 // must be an array
                 arrayNode = (ArrayNode) jn;
             } else {
                 arrayNode = nodeFactory.arrayNode();
-                ((ObjectNode) n).set( nodeName, arrayNode );
+                setChildNode( (ObjectNode) n, nodeName, arrayNode );
             }
 
             contextStack.push( context );
@@ -428,16 +471,16 @@ public class JSONExampleVisitor extends AbstractExampleVisitor<JsonNode> {
 
         // Queue up IDREF(S) attributes for assignment during post-processing
         if (XsdCodegenUtils.isIdRefType( element.getType() )) {
-            referenceAssignments.add( new JsonIdReferenceAssignment( null, 1, element.getName(), true ) );
+            addReferenceAssignment( new JsonIdReferenceAssignment( null, 1, element.getName(), true ) );
         }
         if (XsdCodegenUtils.isIdRefsType( element.getType() )) {
-            referenceAssignments.add( new JsonIdReferenceAssignment( null, 3, element.getName(), true ) );
+            addReferenceAssignment( new JsonIdReferenceAssignment( null, 3, element.getName(), true ) );
         }
         if (element.isReference()) {
             int referenceCount = (element.getRepeat() <= 1) ? 1 : element.getRepeat();
 
-            referenceAssignments
-                .add( new JsonIdReferenceAssignment( element.getType(), referenceCount, element.getName(), true ) );
+            addReferenceAssignment(
+                new JsonIdReferenceAssignment( element.getType(), referenceCount, element.getName(), true ) );
         }
         context = contextStack.pop();
         int repeat = element.getRepeat();
@@ -518,10 +561,10 @@ public class JSONExampleVisitor extends AbstractExampleVisitor<JsonNode> {
 
         // Queue up IDREF(S) attributes for assignment during post-processing
         if (XsdCodegenUtils.isIdRefType( valueWithAttributes.getParentType() )) {
-            referenceAssignments.add( new JsonIdReferenceAssignment( null, 1, VALUE, false ) );
+            addReferenceAssignment( new JsonIdReferenceAssignment( null, 1, VALUE, false ) );
         }
         if (XsdCodegenUtils.isIdRefsType( valueWithAttributes.getParentType() )) {
-            referenceAssignments.add( new JsonIdReferenceAssignment( null, 3, VALUE, false ) );
+            addReferenceAssignment( new JsonIdReferenceAssignment( null, 3, VALUE, false ) );
         }
 
         if ((parentType instanceof TLOpenEnumeration) || (parentType instanceof TLRoleEnumeration)) {
@@ -548,7 +591,7 @@ public class JSONExampleVisitor extends AbstractExampleVisitor<JsonNode> {
             context = new ExampleContext( null );
             ObjectNode objectNode = nodeFactory.objectNode();
             context.setNode( objectNode );
-            owningNode.set( extensionElementName.getLocalPart().intern(), objectNode );
+            setChildNode( owningNode, extensionElementName.getLocalPart().intern(), objectNode );
         }
     }
 
@@ -637,13 +680,13 @@ public class JSONExampleVisitor extends AbstractExampleVisitor<JsonNode> {
 
         // Assign the new DOM element as a child of the previous context
         if (contextStack.isEmpty() || (contextStack.peek().getNode() == null)) {
-            node.set( nodeName, newElement );
+            setChildNode( node, nodeName, newElement );
         } else {
             JsonNode n = contextStack.peek().getNode();
             if (n.isArray()) {
-                ((ArrayNode) n).add( newElement );
+                addChildNode( (ArrayNode) n, newElement );
             } else {
-                ((ObjectNode) n).set( nodeName, newElement );
+                setChildNode( (ObjectNode) n, nodeName, newElement );
             }
 
         }
@@ -744,7 +787,7 @@ public class JSONExampleVisitor extends AbstractExampleVisitor<JsonNode> {
                 JsonNode jn = getSimpleTypeNode( elementType );
 
                 context.setNode( node );
-                node.set( nodeName, jn );
+                setChildNode( node, nodeName, jn );
 
             } else {
                 // If the element has not already been created, do it now
@@ -813,13 +856,13 @@ public class JSONExampleVisitor extends AbstractExampleVisitor<JsonNode> {
             JsonNode currentNode = contextStack.peek().getNode();
 
             if (contextStack.isEmpty() || (currentNode == null)) {
-                node.set( nodeName, newNode );
+                setChildNode( node, nodeName, newNode );
 
             } else if (currentNode.isArray()) {
-                ((ArrayNode) currentNode).add( newNode );
+                addChildNode( (ArrayNode) currentNode, newNode );
 
             } else {
-                ((ObjectNode) currentNode).set( nodeName, newNode );
+                setChildNode( (ObjectNode) currentNode, nodeName, newNode );
             }
         }
     }
@@ -1230,7 +1273,7 @@ public class JSONExampleVisitor extends AbstractExampleVisitor<JsonNode> {
      * Handles the deferred assignment of 'IDREF' and 'IDREFS' values as a post-processing step of the EXAMPLE
      * generation process.
      */
-    private class JsonIdReferenceAssignment extends IdReferenceAssignment {
+    protected class JsonIdReferenceAssignment extends IdReferenceAssignment {
 
         private JsonNode parentNode;
 
@@ -0,0 +1,352 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.codegen.example;
+
+import org.opentravel.schemacompiler.model.NamedEntity;
+import org.opentravel.schemacompiler.model.TLCoreObject;
+import org.opentravel.schemacompiler.model.TLFacet;
+import org.opentravel.schemacompiler.model.TLListFacet;
+import org.opentravel.schemacompiler.model.TLRole;
+import org.opentravel.schemacompiler.util.SchemaCompilerRuntimeException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
+
+/**
+ * <code>ExampleVisitor</code> component that writes JSON example content to a <code>JsonGenerator</code> while the
+ * model is being navigated. Only the portion of the JSON tree that is still under construction is retained in memory;
+ * each time a new child is assigned to an object or array, the parent's earlier members are known to be complete, so
+ * they are written to the generator and removed from the tree.
+ *
+ * <p>
+ * As with the <code>StreamingXMLExampleVisitor</code>, two navigation passes are required because IDREF values may
+ * refer to IDs that appear later in the document. The first (planning) pass discards its output and collects the ID
+ * values; the second pass is constructed with the planning visitor and writes the content.
+ */
+public class StreamingJSONExampleVisitor extends JSONExampleVisitor {
+
+    private final String preferredContext;
+    private final JsonGenerator generator;
+    private final List<JsonIdReferenceAssignment> pendingAssignments = new ArrayList<>();
+    private final Set<JsonNode> openNodes = Collections.newSetFromMap( new IdentityHashMap<>() );
+    private boolean listFacetArrayRequired = false;
+
+    /**
+     * Constructor for a planning visitor that discards all of its output.
+     *
+     * @param preferredContext the context ID of the preferred context from which to generate examples
+     */
+    public StreamingJSONExampleVisitor(String preferredContext) {
+        super( preferredContext );
+        this.preferredContext = preferredContext;
+        this.generator = null;
+    }
+
+    /**
+     * Constructor for a visitor that writes its output to the given generator. The planning visitor must have already
+     * completed its navigation of the same model entity using the same navigation options.
+     *
+     * @param planningVisitor the visitor that was used for the planning pass
+     * @param generator the JSON generator that will receive the example content
+     */
+    public StreamingJSONExampleVisitor(StreamingJSONExampleVisitor planningVisitor, JsonGenerator generator) {
+        super( planningVisitor.preferredContext );
+        this.preferredContext = planningVisitor.preferredContext;
+        this.generator = generator;
+        this.idRegistry = planningVisitor.idRegistry;
+    }
+
+    /**
+     * Writes the remaining content of the document to the generator. This method must be called once navigation is
+     * complete; it does not close the generator.
+     *
+     * @throws IOException thrown if the content cannot be written
+     */
+    public void endDocument() throws IOException {
+        resolvePendingAssignments();
+        writeNode( getRootNode() );
+        generator.flush();
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.JSONExampleVisitor#startListFacet(org.opentravel.schemacompiler.model.TLListFacet,
+     *      org.opentravel.schemacompiler.model.TLRole)
+     */
+    @Override
+    public void startListFacet(TLListFacet listFacet, TLRole role) {
+        // When a list facet is visited for more than one role, the JSON visitor converts the
+        // node for the first role into an array when the second one is visited.  By then, the
+        // start of the first node may have already been written, so the array must be created
+        // in advance.
+        if ((context.getNode() == null) && (listFacet.getItemFacet() instanceof TLFacet)) {
+            TLCoreObject facetOwner = (TLCoreObject) listFacet.getOwningEntity();
+
+            listFacetArrayRequired = (facetOwner.getRoleEnumeration().getRoles().size() > 1);
+        }
+        super.startListFacet( listFacet, role );
+        listFacetArrayRequired = false;
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.JSONExampleVisitor#setChildNode(com.fasterxml.jackson.databind.node.ObjectNode,
+     *      java.lang.String, com.fasterxml.jackson.databind.JsonNode)
+     */
+    @Override
+    protected void setChildNode(ObjectNode parent, String fieldName, JsonNode child) {
+        JsonNode childNode = child;
+
+        if (listFacetArrayRequired) {
+            childNode = parent.arrayNode().add( child );
+            listFacetArrayRequired = false;
+        }
+        try {
+            List<String> completedFields = new ArrayList<>();
+            Iterator<String> fieldNames = parent.fieldNames();
+
+            while (fieldNames.hasNext()) {
+                String existingField = fieldNames.next();
+
+                if (existingField.equals( fieldName )) {
+                    break;
+                }
+                completedFields.add( existingField );
+            }
+            if (!completedFields.isEmpty()) {
+                resolvePendingAssignments();
+                openNode( parent );
+
+                for (String completedField : completedFields) {
+                    writeField( parent, completedField );
+                    parent.remove( completedField );
+                }
+            }
+
+        } catch (IOException e) {
+            throw new SchemaCompilerRuntimeException( e );
+        }
+        super.setChildNode( parent, fieldName, childNode );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.JSONExampleVisitor#addChildNode(com.fasterxml.jackson.databind.node.ArrayNode,
+     *      com.fasterxml.jackson.databind.JsonNode)
+     */
+    @Override
+    protected void addChildNode(ArrayNode parent, JsonNode child) {
+        listFacetArrayRequired = false;
+
+        if (parent.size() > 0) {
+            try {
+                resolvePendingAssignments();
+                openNode( parent );
+
+                while (parent.size() > 0) {
+                    writeNode( parent.get( 0 ) );
+                    parent.remove( 0 );
+                }
+
+            } catch (IOException e) {
+                throw new SchemaCompilerRuntimeException( e );
+            }
+        }
+        super.addChildNode( parent, child );
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.JSONExampleVisitor#addReferenceAssignment(org.opentravel.schemacompiler.codegen.example.JSONExampleVisitor.JsonIdReferenceAssignment)
+     */
+    @Override
+    protected void addReferenceAssignment(JsonIdReferenceAssignment refAssignment) {
+        // References can only be resolved once all of the ID values are known, so the planning
+        // pass ignores them and the output pass resolves them using the planning pass's registry
+        if (generator != null) {
+            pendingAssignments.add( refAssignment );
+        }
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.AbstractExampleVisitor#registerIdValue(org.opentravel.schemacompiler.model.NamedEntity,
+     *      java.lang.String)
+     */
+    @Override
+    protected void registerIdValue(NamedEntity identifiedEntity, String id) {
+        if (generator == null) {
+            super.registerIdValue( identifiedEntity, id );
+        }
+    }
+
+    /**
+     * Assigns the values of all pending IDREF(S) references. Since the referencing nodes have not yet been written,
+     * this must be done before any content is flushed to the generator.
+     */
+    private void resolvePendingAssignments() {
+        for (JsonIdReferenceAssignment refAssignment : pendingAssignments) {
+            refAssignment.assignReferenceValue();
+        }
+        pendingAssignments.clear();
+    }
+
+    /**
+     * Writes the start of the given object or array (and its ancestors, if necessary) so that its remaining members can
+     * be written as they are completed. Any members of the parent that precede the node are complete, so they are
+     * written and removed from the tree.
+     *
+     * @param node the JSON node to open
+     * @throws IOException thrown if the content cannot be written
+     */
+    private void openNode(JsonNode node) throws IOException {
+        if (openNodes.contains( node )) {
+            return;
+        }
+        JsonNode parent = findParent( getRootNode(), node );
+
+        if (parent instanceof ObjectNode) {
+            openNode( parent );
+            Iterator<Entry<String,JsonNode>> fields = parent.fields();
+            String fieldName = null;
+
+            while (fields.hasNext()) {
+                Entry<String,JsonNode> field = fields.next();
+
+                if (field.getValue() == node) {
+                    fieldName = field.getKey();
+                    break;
+                }
+                writeField( (ObjectNode) parent, field.getKey() );
+                fields.remove();
+            }
+            if (generator != null) {
+                generator.writeFieldName( fieldName );
+            }
+
+        } else if (parent instanceof ArrayNode) {
+            openNode( parent );
+
+            while (parent.get( 0 ) != node) {
+                writeNode( parent.get( 0 ) );
+                ((ArrayNode) parent).remove( 0 );
+            }
+        }
+        writeStart( node );
+        openNodes.add( node );
+    }
+
+    /**
+     * Writes the specified field of the given object, including its name unless the field's value has already been
+     * opened.
+     *
+     * @param parent the object node that owns the field
+     * @param fieldName the name of the field to write
+     * @throws IOException thrown if the content cannot be written
+     */
+    private void writeField(ObjectNode parent, String fieldName) throws IOException {
+        JsonNode value = parent.get( fieldName );
+
+        if ((generator != null) && !openNodes.contains( value )) {
+            generator.writeFieldName( fieldName );
+        }
+        writeNode( value );
+    }
+
+    /**
+     * Writes the given node and its members to the generator. If the start of the node has already been written, only
+     * its remaining members and its end are written.
+     *
+     * @param node the JSON node to write
+     * @throws IOException thrown if the content cannot be written
+     */
+    private void writeNode(JsonNode node) throws IOException {
+        if (openNodes.remove( node )) {
+            if (node.isObject()) {
+                Iterator<String> fieldNames = node.fieldNames();
+
+                while (fieldNames.hasNext()) {
+                    writeField( (ObjectNode) node, fieldNames.next() );
+                }
+                if (generator != null) {
+                    generator.writeEndObject();
+                }
+
+            } else {
+                for (JsonNode item : node) {
+                    writeNode( item );
+                }
+                if (generator != null) {
+                    generator.writeEndArray();
+                }
+            }
+
+        } else if (generator != null) {
+            generator.writeTree( node );
+        }
+    }
+
+    /**
+     * Writes the start of the given object or array node.
+     *
+     * @param node the JSON node whose start is to be written
+     * @throws IOException thrown if the content cannot be written
+     */
+    private void writeStart(JsonNode node) throws IOException {
+        if (generator != null) {
+            if (node.isObject()) {
+                generator.writeStartObject();
+            } else {
+                generator.writeStartArray();
+            }
+        }
+    }
+
+    /**
+     * Returns the object or array node that directly contains the given node, or null if the node is the root of the
+     * tree (or is not a member of the tree).
+     *
+     * @param ancestor the node from which to begin the search
+     * @param node the node whose parent is to be returned
+     * @return JsonNode
+     */
+    private JsonNode findParent(JsonNode ancestor, JsonNode node) {
+        JsonNode parent = null;
+
+        if (ancestor.isContainerNode()) {
+            for (JsonNode child : ancestor) {
+                if (child == node) {
+                    parent = ancestor;
+
+                } else {
+                    parent = findParent( child, node );
+                }
+                if (parent != null) {
+                    break;
+                }
+            }
+        }
+        return parent;
+    }
+
+}
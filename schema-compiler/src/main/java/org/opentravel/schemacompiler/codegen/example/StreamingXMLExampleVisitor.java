@@ -0,0 +1,406 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.codegen.example;
+
+import org.opentravel.schemacompiler.model.NamedEntity;
+import org.opentravel.schemacompiler.util.SchemaCompilerRuntimeException;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Comment;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.Text;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * <code>ExampleVisitor</code> component that writes XML example content to an <code>XMLStreamWriter</code> while the
+ * model is being navigated. Only the portion of the DOM tree that is still under construction is retained in memory;
+ * each time a new child is appended to an element, the element's earlier children are known to be complete, so they
+ * are written to the stream and removed from the tree.
+ *
+ * <p>
+ * Two navigation passes are required because the root element must declare every namespace used in the document and
+ * because IDREF values may refer to IDs that appear later in the document. The first (planning) pass discards its
+ * output and collects the namespace declarations and ID values; the second pass is constructed with the planning
+ * visitor and writes the content.
+ *
+ * <pre>
+ * StreamingXMLExampleVisitor planningVisitor = new StreamingXMLExampleVisitor( context );
+ * ExampleNavigator.navigate( entity, planningVisitor, options, false );
+ *
+ * StreamingXMLExampleVisitor visitor = new StreamingXMLExampleVisitor( planningVisitor, writer );
+ * ExampleNavigator.navigate( entity, visitor, options, false );
+ * visitor.endDocument();
+ * </pre>
+ */
+public class StreamingXMLExampleVisitor extends DOMExampleVisitor {
+
+    private final String preferredContext;
+    private final XMLStreamWriter writer;
+    private final Map<String,ElementAttribute> rootAttributes = new LinkedHashMap<>();
+    private final List<DOMIdReferenceAssignment> pendingAssignments = new ArrayList<>();
+    private final Set<Node> openNodes = Collections.newSetFromMap( new IdentityHashMap<>() );
+    private final Map<Node,Integer> elementOrdinals = new IdentityHashMap<>();
+    private final Map<Node,Set<String>> openedAttributeNames = new IdentityHashMap<>();
+    private final Map<Integer,List<ElementAttribute>> lateAttributes;
+    private Document document;
+    private int elementCount = 0;
+
+    /**
+     * Constructor for a planning visitor that discards all of its output.
+     *
+     * @param preferredContext the context ID of the preferred context from which to generate examples
+     */
+    public StreamingXMLExampleVisitor(String preferredContext) {
+        super( preferredContext );
+        this.preferredContext = preferredContext;
+        this.writer = null;
+        this.lateAttributes = new HashMap<>();
+    }
+
+    /**
+     * Constructor for a visitor that writes its output to the given stream. The planning visitor must have already
+     * completed its navigation of the same model entity using the same navigation options.
+     *
+     * @param planningVisitor the visitor that was used for the planning pass
+     * @param writer the stream writer that will receive the example content
+     */
+    public StreamingXMLExampleVisitor(StreamingXMLExampleVisitor planningVisitor, XMLStreamWriter writer) {
+        super( planningVisitor.preferredContext );
+        this.preferredContext = planningVisitor.preferredContext;
+        this.writer = writer;
+        this.idRegistry = planningVisitor.idRegistry;
+        this.lateAttributes = planningVisitor.lateAttributes;
+
+        if (planningVisitor.document != null) {
+            NamedNodeMap attributes = planningVisitor.document.getDocumentElement().getAttributes();
+
+            for (int i = 0; i < attributes.getLength(); i++) {
+                Attr attr = (Attr) attributes.item( i );
+
+                addRootAttribute( attr.getNamespaceURI(), attr.getName(), attr.getValue() );
+            }
+        }
+    }
+
+    /**
+     * Adds an attribute (or namespace declaration) that should be written to the root element of the document along
+     * with the ones that are created during navigation.
+     *
+     * @param namespaceURI the namespace of the attribute (may be null)
+     * @param qualifiedName the qualified name of the attribute
+     * @param value the value of the attribute
+     */
+    public void addRootAttribute(String namespaceURI, String qualifiedName, String value) {
+        rootAttributes.put( qualifiedName, new ElementAttribute( namespaceURI, qualifiedName, value ) );
+    }
+
+    /**
+     * Writes the remaining content of the document to the stream. This method must be called once navigation is
+     * complete; it does not write the end of the document itself or close the underlying stream.
+     *
+     * @throws XMLStreamException thrown if the content cannot be written
+     */
+    public void endDocument() throws XMLStreamException {
+        resolvePendingAssignments();
+
+        if ((document != null) && (document.getDocumentElement() != null)) {
+            writeNode( document.getDocumentElement() );
+        }
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.DOMExampleVisitor#appendChildNode(org.w3c.dom.Node,
+     *      org.w3c.dom.Node)
+     */
+    @Override
+    protected void appendChildNode(Node parent, Node child) {
+        if (parent instanceof Document) {
+            document = (Document) parent;
+
+        } else if (parent.hasChildNodes()) {
+            try {
+                resolvePendingAssignments();
+                openNode( parent );
+
+                while (parent.getFirstChild() != null) {
+                    Node previousChild = parent.getFirstChild();
+
+                    writeNode( previousChild );
+                    parent.removeChild( previousChild );
+                }
+
+            } catch (XMLStreamException e) {
+                throw new SchemaCompilerRuntimeException( e );
+            }
+        }
+        super.appendChildNode( parent, child );
+
+        if (child instanceof Element) {
+            elementOrdinals.put( child, elementCount++ );
+        }
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.DOMExampleVisitor#addReferenceAssignment(org.opentravel.schemacompiler.codegen.example.DOMExampleVisitor.DOMIdReferenceAssignment)
+     */
+    @Override
+    protected void addReferenceAssignment(DOMIdReferenceAssignment refAssignment) {
+        // References can only be resolved once all of the ID values are known, so the planning
+        // pass ignores them and the output pass resolves them using the planning pass's registry
+        if (writer != null) {
+            pendingAssignments.add( refAssignment );
+        }
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.codegen.example.AbstractExampleVisitor#registerIdValue(org.opentravel.schemacompiler.model.NamedEntity,
+     *      java.lang.String)
+     */
+    @Override
+    protected void registerIdValue(NamedEntity identifiedEntity, String id) {
+        if (writer == null) {
+            super.registerIdValue( identifiedEntity, id );
+        }
+    }
+
+    /**
+     * Assigns the values of all pending IDREF(S) references. Since the referencing elements have not yet been written,
+     * this must be done before any content is flushed to the stream.
+     */
+    private void resolvePendingAssignments() {
+        for (DOMIdReferenceAssignment refAssignment : pendingAssignments) {
+            refAssignment.assignReferenceValue();
+        }
+        pendingAssignments.clear();
+    }
+
+    /**
+     * Writes the start tag of the given element (and its ancestors, if necessary) so that its remaining children can be
+     * written as they are completed. Any siblings that precede the element are complete, so they are written and
+     * removed from the tree.
+     *
+     * @param node the DOM node to open
+     * @throws XMLStreamException thrown if the content cannot be written
+     */
+    private void openNode(Node node) throws XMLStreamException {
+        Node parent = node.getParentNode();
+
+        if ((node instanceof Document) || openNodes.contains( node )) {
+            return;
+        }
+        openNode( parent );
+
+        while ((parent != null) && (parent.getFirstChild() != node)) {
+            Node previousSibling = parent.getFirstChild();
+
+            writeNode( previousSibling );
+            parent.removeChild( previousSibling );
+        }
+        writeStartElement( (Element) node );
+        openNodes.add( node );
+
+        if (writer == null) {
+            openedAttributeNames.put( node, getAttributeNames( (Element) node ) );
+        }
+    }
+
+    /**
+     * Writes the given node and its children to the stream. If the start tag of the node has already been written,
+     * only its remaining content and its end tag are written.
+     *
+     * @param node the DOM node to write
+     * @throws XMLStreamException thrown if the content cannot be written
+     */
+    private void writeNode(Node node) throws XMLStreamException {
+        if (node instanceof Element) {
+            if (openNodes.remove( node )) {
+                recordLateAttributes( (Element) node );
+            } else {
+                writeStartElement( (Element) node );
+            }
+            for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+                writeNode( child );
+            }
+            if (writer != null) {
+                writer.writeEndElement();
+            }
+            elementOrdinals.remove( node );
+
+        } else if (writer == null) {
+            return;
+
+        } else if (node instanceof Text) {
+            writer.writeCharacters( ((Text) node).getData() );
+
+        } else if (node instanceof Comment) {
+            writer.writeComment( ((Comment) node).getData() );
+        }
+    }
+
+    /**
+     * During the planning pass, records any attributes that were added to the given element after its start tag was
+     * opened. The output pass includes these attributes when it writes the start tag of the same element.
+     *
+     * @param element the open DOM element that is being closed
+     */
+    private void recordLateAttributes(Element element) {
+        Set<String> openedNames = openedAttributeNames.remove( element );
+        Integer ordinal = elementOrdinals.get( element );
+
+        if ((writer == null) && (openedNames != null) && (ordinal != null)) {
+            NamedNodeMap attributes = element.getAttributes();
+
+            for (int i = 0; i < attributes.getLength(); i++) {
+                Attr attr = (Attr) attributes.item( i );
+
+                if (!openedNames.contains( attr.getName() )) {
+                    lateAttributes.computeIfAbsent( ordinal, o -> new ArrayList<>() )
+                        .add( new ElementAttribute( attr.getNamespaceURI(), attr.getName(), attr.getValue() ) );
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the names of all attributes that are currently assigned to the given element.
+     *
+     * @param element the DOM element whose attribute names are to be returned
+     * @return Set&lt;String&gt;
+     */
+    private static Set<String> getAttributeNames(Element element) {
+        NamedNodeMap attributes = element.getAttributes();
+        Set<String> attributeNames = new HashSet<>();
+
+        for (int i = 0; i < attributes.getLength(); i++) {
+            attributeNames.add( attributes.item( i ).getNodeName() );
+        }
+        return attributeNames;
+    }
+
+    /**
+     * Writes the start tag and attributes of the given element. Attributes that the planning pass found to be added
+     * after the start tag was written are included, along with the attributes collected for the root element.
+     *
+     * @param element the DOM element whose start tag is to be written
+     * @throws XMLStreamException thrown if the content cannot be written
+     */
+    private void writeStartElement(Element element) throws XMLStreamException {
+        if (writer != null) {
+            Map<String,ElementAttribute> attributes = new LinkedHashMap<>();
+            NamedNodeMap elementAttributes = element.getAttributes();
+
+            Integer ordinal = elementOrdinals.get( element );
+
+            if (element.getParentNode() instanceof Document) {
+                attributes.putAll( rootAttributes );
+            }
+            if ((ordinal != null) && lateAttributes.containsKey( ordinal )) {
+                for (ElementAttribute attr : lateAttributes.get( ordinal )) {
+                    attributes.put( attr.qualifiedName, attr );
+                }
+            }
+            for (int i = 0; i < elementAttributes.getLength(); i++) {
+                Attr attr = (Attr) elementAttributes.item( i );
+
+                attributes.put( attr.getName(),
+                    new ElementAttribute( attr.getNamespaceURI(), attr.getName(), attr.getValue() ) );
+            }
+            writer.writeStartElement( nonNull( element.getPrefix() ), element.getLocalName(),
+                nonNull( element.getNamespaceURI() ) );
+
+            for (ElementAttribute attr : attributes.values()) {
+                attr.write( writer );
+            }
+        }
+    }
+
+    /**
+     * Returns the given string or an empty string if it is null.
+     *
+     * @param str the string to check
+     * @return String
+     */
+    private static String nonNull(String str) {
+        return (str == null) ? "" : str;
+    }
+
+    /**
+     * Attribute or namespace declaration to be written to the start tag of an element.
+     */
+    private static class ElementAttribute {
+
+        private String namespaceURI;
+        private String qualifiedName;
+        private String value;
+
+        /**
+         * Full constructor.
+         *
+         * @param namespaceURI the namespace of the attribute (may be null)
+         * @param qualifiedName the qualified name of the attribute
+         * @param value the value of the attribute
+         */
+        public ElementAttribute(String namespaceURI, String qualifiedName, String value) {
+            this.namespaceURI = namespaceURI;
+            this.qualifiedName = qualifiedName;
+            this.value = value;
+        }
+
+        /**
+         * Writes this attribute to the given stream writer.
+         *
+         * @param writer the stream writer that will receive the attribute
+         * @throws XMLStreamException thrown if the attribute cannot be written
+         */
+        public void write(XMLStreamWriter writer) throws XMLStreamException {
+            int colonIdx = qualifiedName.indexOf( ':' );
+            String prefix = (colonIdx < 0) ? "" : qualifiedName.substring( 0, colonIdx );
+            String localName = qualifiedName.substring( colonIdx + 1 );
+
+            if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals( namespaceURI )) {
+                if (colonIdx < 0) {
+                    writer.writeDefaultNamespace( value );
+                } else {
+                    writer.writeNamespace( localName, value );
+                }
+
+            } else if (namespaceURI != null) {
+                writer.writeAttribute( prefix, namespaceURI, localName, value );
+
+            } else {
+                writer.writeAttribute( qualifiedName, value );
+            }
+        }
+
+    }
+
+}
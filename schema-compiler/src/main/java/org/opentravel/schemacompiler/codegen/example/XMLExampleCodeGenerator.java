@@ -24,8 +24,6 @@ import org.opentravel.schemacompiler.model.TLLibrary;
 import org.opentravel.schemacompiler.model.TLModel;
 import org.opentravel.schemacompiler.model.TLModelElement;
 import org.opentravel.schemacompiler.model.XSDLibrary;
-import org.opentravel.schemacompiler.xml.XMLPrettyPrinter;
-import org.w3c.dom.Document;
 
 import java.io.File;
 import java.io.FileOutputStream;
@@ -66,10 +64,8 @@ public class XMLExampleCodeGenerator extends AbstractExampleCodeGenerator {
             // Register the schema location for each library in the model
             registerSchemaLocations( exampleBuilder, source.getOwningModel(), context );
 
-            // Generate the XML document and send formatted content to the
-            // output file
-            Document domDocument = exampleBuilder.buildTree();
-            new XMLPrettyPrinter().formatDocument( domDocument, out );
+            // Stream the formatted XML content to the output file
+            exampleBuilder.buildToStream( out );
 
             addGeneratedFile( outputFile );
 
@@ -19,6 +19,7 @@ package org.opentravel.schemacompiler.codegen.html;
 import org.opentravel.schemacompiler.codegen.example.ExampleGeneratorOptions;
 import org.opentravel.schemacompiler.codegen.html.builders.DocumentationBuilder;
 import org.opentravel.schemacompiler.codegen.html.builders.DocumentationBuilderFactory;
+import org.opentravel.schemacompiler.ioc.CompilerSession;
 import org.opentravel.schemacompiler.model.AbstractLibrary;
 import org.opentravel.schemacompiler.model.BuiltInLibrary;
 import org.opentravel.schemacompiler.model.LibraryMember;
@@ -190,11 +191,25 @@ public class Configuration {
      * better not to be using static fields at all, but .... (sigh).
      */
     public static void reset() {
-        instance = new Configuration();
+        CompilerSession session = CompilerSession.getCurrent();
+
+        if (session != null) {
+            session.setSessionObject( Configuration.class, new Configuration() );
+        } else {
+            instance = new Configuration();
+        }
     }
 
+    /**
+     * Returns the configuration instance for the current <code>CompilerSession</code>, or the global instance if no
+     * session is bound to the current thread.
+     * 
+     * @return Configuration
+     */
     public static Configuration getInstance() {
-        return instance;
+        CompilerSession session = CompilerSession.getCurrent();
+
+        return (session != null) ? session.getSessionObject( Configuration.class, Configuration::new ) : instance;
     }
 
     /**
@@ -16,6 +16,7 @@
 
 package org.opentravel.schemacompiler.codegen.html.builders;
 
+import org.opentravel.schemacompiler.ioc.CompilerSession;
 import org.opentravel.schemacompiler.model.NamedEntity;
 import org.opentravel.schemacompiler.model.TLAbstractEnumeration;
 import org.opentravel.schemacompiler.model.TLBusinessObject;
@@ -34,17 +35,22 @@ import org.opentravel.schemacompiler.transform.SymbolTable;
  */
 public class DocumentationBuilderFactory {
 
-    private static SymbolTable table = new SymbolTable();
+    private final SymbolTable table = new SymbolTable();
 
     private DocumentationBuilderFactory() {}
 
     /**
-     * Returns the default singleton instance.
+     * Returns the factory instance for the current <code>CompilerSession</code>, or the default singleton instance if
+     * no session is bound to the current thread.
      * 
      * @return DocumentationBuilderFactory
      */
     public static DocumentationBuilderFactory getInstance() {
-        return DocumentationManagerSingleton.INSTANCE;
+        CompilerSession session = CompilerSession.getCurrent();
+
+        return (session != null)
+            ? session.getSessionObject( DocumentationBuilderFactory.class, DocumentationBuilderFactory::new )
+            : DocumentationManagerSingleton.INSTANCE;
     }
 
     private static class DocumentationManagerSingleton {
@@ -151,14 +157,14 @@ public class DocumentationBuilderFactory {
     }
 
     /**
-     * Adds a documentation builder to the default factory instance.
+     * Adds a documentation builder to the current factory instance.
      * 
      * @param builder the builder instance to add
      * @param namespace the namespace of the builder's entity
      * @param localName the local name of the builder's entity
      */
     public static void addDocumentationBuilder(DocumentationBuilder builder, String namespace, String localName) {
-        table.addEntity( namespace, localName, builder );
+        getInstance().table.addEntity( namespace, localName, builder );
     }
 
 }
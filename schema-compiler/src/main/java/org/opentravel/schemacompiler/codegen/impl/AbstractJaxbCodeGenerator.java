@@ -28,7 +28,6 @@ import org.opentravel.schemacompiler.xml.PrettyPrintLineBreakProcessor;
 import org.opentravel.schemacompiler.xml.XMLPrettyPrinter;
 import org.springframework.context.ApplicationContext;
 import org.w3._2001.xmlschema.Schema;
-import org.w3c.dom.Document;
 import org.xmlsoap.schemas.wsdl.TDefinitions;
 import org.xmlsoap.schemas.wsdl.TDocumented;
 import org.xmlsoap.schemas.wsdl.TTypes;
@@ -48,6 +47,7 @@ import java.util.List;
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
+import javax.xml.stream.XMLStreamWriter;
 
 /**
  * <code>CodeGenerator</code> base class that handles schema output generation using JAXB bindings as a mechanism for
@@ -59,6 +59,7 @@ import javax.xml.bind.Marshaller;
 public abstract class AbstractJaxbCodeGenerator<S extends ModelElement> extends AbstractCodeGenerator<S> {
 
     private static final String LINE_SEPARATOR = System.getProperty( "line.separator" );
+    private static final Object COPY_DEPENDENCY_LOCK = new Object();
 
     private List<SchemaDeclaration> compileTimeDependencies = new ArrayList<>();
 
@@ -73,10 +74,10 @@ public abstract class AbstractJaxbCodeGenerator<S extends ModelElement> extends
         try (OutputStream out = new FileOutputStream( outputFile )) {
             Object jaxbObject = transformSourceObjectToJaxb( source, context );
             Marshaller marshaller = getMarshaller( source, getJaxbSchema( jaxbObject ) );
-            Document domDocument = XMLPrettyPrinter.newDocument();
+            XMLStreamWriter writer = new XMLPrettyPrinter( getLineBreakProcessor() ).newStreamWriter( out );
 
-            marshaller.marshal( jaxbObject, domDocument );
-            new XMLPrettyPrinter( getLineBreakProcessor() ).formatDocument( domDocument, out );
+            marshaller.marshal( jaxbObject, writer );
+            writer.close();
 
             // Finish up by copying any dependencies that were identified during code generation
             if (context.getBooleanValue( CodeGenerationContext.CK_COPY_COMPILE_TIME_DEPENDENCIES )) {
@@ -118,19 +119,23 @@ public abstract class AbstractJaxbCodeGenerator<S extends ModelElement> extends
                 File outputFile =
                     new File( outputFolder, schemaDeclaration.getFilename( CodeGeneratorFactory.XSD_TARGET_FORMAT ) );
 
-                if (!outputFile.exists()) {
-                    BufferedReader reader = new BufferedReader( new InputStreamReader(
-                        schemaDeclaration.getContent( CodeGeneratorFactory.XSD_TARGET_FORMAT ) ) );
+                // Libraries may be generated concurrently, so the copy is guarded to prevent multiple
+                // threads from writing the same built-in schema at the same time
+                synchronized (COPY_DEPENDENCY_LOCK) {
+                    if (!outputFile.exists()) {
+                        BufferedReader reader = new BufferedReader( new InputStreamReader(
+                            schemaDeclaration.getContent( CodeGeneratorFactory.XSD_TARGET_FORMAT ) ) );
 
-                    try (BufferedWriter writer = new BufferedWriter( new FileWriter( outputFile ) )) {
-                        String line = null;
+                        try (BufferedWriter writer = new BufferedWriter( new FileWriter( outputFile ) )) {
+                            String line = null;
 
-                        while ((line = reader.readLine()) != null) {
-                            writer.write( line );
-                            writer.write( LINE_SEPARATOR );
+                            while ((line = reader.readLine()) != null) {
+                                writer.write( line );
+                                writer.write( LINE_SEPARATOR );
+                            }
                         }
+                        reader.close();
                     }
-                    reader.close();
                 }
                 addGeneratedFile( outputFile ); // count dependency as generated - even if it already existed
             }
@@ -51,7 +51,7 @@ public class JsonTypeNameBuilder {
         initLibraryPrefixes( model );
 
         // Search for local name collisions in the generated schemas
-        SymbolTable symbolTable = SymbolTableFactory.newSymbolTableFromModel( model );
+        SymbolTable symbolTable = SymbolTableFactory.getSymbolTableForModel( model );
         Set<String> allLocalNames = new HashSet<>();
 
         for (String ns : symbolTable.getNamespaces()) {
@@ -0,0 +1,276 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.codegen.util;
+
+import org.opentravel.schemacompiler.event.ModelChangeTracker;
+import org.opentravel.schemacompiler.event.ModelEvent;
+import org.opentravel.schemacompiler.event.ModelEventType;
+import org.opentravel.schemacompiler.model.ModelElement;
+import org.opentravel.schemacompiler.model.TLModel;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Cache for the inheritance and facet resolution results that are computed repeatedly by the code generation
+ * utilities. Results are only cached while a compilation scope is open for the model (see {@link #openScope}); outside
+ * of a scope, every result is computed on demand. This ensures that the ghost facets created by one compilation are
+ * never shared with later ones. Results are keyed by the identity of the model element for which they were computed,
+ * and the entire cache is discarded whenever the model publishes an event that could affect the structure of its
+ * inheritance hierarchies.
+ *
+ * <p>
+ * Only documentation, equivalent, example, comment, and folder events are considered to be irrelevant; all other
+ * events (including those published while the model's listeners were disabled) cause the cache to be cleared. Events
+ * published by "ghost facets" that are created on the fly by {@link FacetCodegenUtils#findGhostFacets} are also
+ * ignored since those facets are not members of the model. Ghost facets are registered with the cache as they are
+ * created, so these events can be recognized without searching the members of their owners.
+ */
+public final class CodegenResultCache implements ModelChangeTracker<ModelEvent<Object>,Object> {
+
+    private static final Set<ModelEventType> IRRELEVANT_EVENT_TYPES = EnumSet.of( ModelEventType.FOLDER_ADDED,
+        ModelEventType.FOLDER_REMOVED, ModelEventType.FOLDER_ITEM_ADDED, ModelEventType.FOLDER_ITEM_REMOVED,
+        ModelEventType.COMMENTS_MODIFIED, ModelEventType.EQUIVALENT_ADDED, ModelEventType.EQUIVALENT_REMOVED,
+        ModelEventType.EQUIVALENT_DESCRIPTION_MODIFIED, ModelEventType.EXAMPLE_ADDED, ModelEventType.EXAMPLE_REMOVED,
+        ModelEventType.EXAMPLE_VALUE_MODIFIED, ModelEventType.DOCUMENTATION_MODIFIED,
+        ModelEventType.VALUE_DOCUMENTATION_MODIFIED, ModelEventType.DESCRIPTION_MODIFIED,
+        ModelEventType.DOC_DEPRECATION_ADDED, ModelEventType.DOC_DEPRECATION_REMOVED,
+        ModelEventType.DOC_REFERENCE_ADDED, ModelEventType.DOC_REFERENCE_REMOVED,
+        ModelEventType.DOC_IMPLEMENTER_ADDED, ModelEventType.DOC_IMPLEMENTER_REMOVED,
+        ModelEventType.DOC_MORE_INFO_ADDED, ModelEventType.DOC_MORE_INFO_REMOVED, ModelEventType.DOC_OTHER_DOCS_ADDED,
+        ModelEventType.DOC_OTHER_DOCS_REMOVED, ModelEventType.DOC_TEXT_MODIFIED );
+
+    private static final Object scopeLock = new Object();
+
+    private final WeakReference<TLModel> modelRef;
+    private final Map<String,Map<Object,List<?>>> resultMaps = new HashMap<>();
+    private final Set<Object> ghostFacets = Collections.newSetFromMap( new IdentityHashMap<>() );
+    private long generation;
+    private int openScopeCount;
+
+    /**
+     * Constructor that specifies the model whose results are to be cached. The model is referenced weakly so that this
+     * cache does not prevent it from being garbage collected.
+     *
+     * @param model the model whose results are to be cached
+     */
+    private CodegenResultCache(TLModel model) {
+        this.modelRef = new WeakReference<>( model );
+    }
+
+    /**
+     * Opens a compilation scope for the given model. Code generation results for the model are cached until the scope
+     * is closed. Scopes may be nested (or opened concurrently for the same model), in which case the cache is shared
+     * and discarded when the last scope is closed.
+     *
+     * @param model the model for which to open a compilation scope
+     * @return Scope
+     */
+    public static Scope openScope(TLModel model) {
+        synchronized (scopeLock) {
+            CodegenResultCache cache =
+                model.getOrAddListener( CodegenResultCache.class, () -> new CodegenResultCache( model ) );
+
+            cache.openScopeCount++;
+            return new Scope( cache );
+        }
+    }
+
+    /**
+     * Returns the cached result list for the given target, computing it with the factory provided if no valid result
+     * is currently cached. If the target is not assigned to a model, or no compilation scope is open for its model, the
+     * result is computed but not cached. The list returned is always a new instance that may be modified by the
+     * caller.
+     *
+     * @param cacheName the name of the cache that identifies the function being memoized
+     * @param target the model element for which the result is being requested
+     * @param resultFactory the factory used to compute the result on a cache miss
+     * @param <T> the element type of the result list
+     * @return List&lt;T&gt;
+     */
+    static <T> List<T> getResult(String cacheName, ModelElement target, Supplier<List<T>> resultFactory) {
+        TLModel model = (target == null) ? null : target.getOwningModel();
+        CodegenResultCache cache = (model == null) ? null : model.getListener( CodegenResultCache.class );
+        List<T> result;
+
+        if (cache == null) {
+            result = resultFactory.get();
+
+        } else {
+            result = cache.getCachedResult( cacheName, target, resultFactory );
+        }
+        return result;
+    }
+
+    /**
+     * Registers a ghost facet that was created for the given owner. Events published by the facet will not invalidate
+     * the cache of the owner's model. This method must be called before any of the facet's fields are assigned. If
+     * no compilation scope is open for the owner's model, this method has no effect.
+     *
+     * @param owner the model element that owns the ghost facet
+     * @param ghostFacet the ghost facet that was created
+     */
+    public static void registerGhostFacet(ModelElement owner, ModelElement ghostFacet) {
+        TLModel model = (owner == null) ? null : owner.getOwningModel();
+        CodegenResultCache cache = (model == null) ? null : model.getListener( CodegenResultCache.class );
+
+        if (cache != null) {
+            synchronized (cache) {
+                cache.ghostFacets.add( ghostFacet );
+            }
+        }
+    }
+
+    /**
+     * Returns the cached result for the given target, computing it if necessary. The result is computed outside of
+     * this cache's lock since the computation may recursively request other cached results and may publish events
+     * for ghost facets. A computed result is only stored if the cache was not invalidated while it was being computed.
+     *
+     * @param cacheName the name of the cache that identifies the function being memoized
+     * @param target the model element for which the result is being requested
+     * @param resultFactory the factory used to compute the result on a cache miss
+     * @param <T> the element type of the result list
+     * @return List&lt;T&gt;
+     */
+    @SuppressWarnings("unchecked")
+    private <T> List<T> getCachedResult(String cacheName, ModelElement target, Supplier<List<T>> resultFactory) {
+        long startGeneration;
+
+        synchronized (this) {
+            List<?> cachedResult = getResultMap( cacheName ).get( target );
+
+            if (cachedResult != null) {
+                return new ArrayList<>( (List<T>) cachedResult );
+            }
+            startGeneration = generation;
+        }
+        List<T> result = resultFactory.get();
+
+        synchronized (this) {
+            if (generation == startGeneration) {
+                getResultMap( cacheName ).put( target, Collections.unmodifiableList( new ArrayList<>( result ) ) );
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Closes one of the compilation scopes that share this cache. When the last scope is closed, the cache is
+     * discarded and detached from its model.
+     */
+    private void closeScope() {
+        synchronized (scopeLock) {
+            if (--openScopeCount == 0) {
+                TLModel model = modelRef.get();
+
+                if (model != null) {
+                    model.removeListener( this );
+                }
+                synchronized (this) {
+                    clear();
+                    ghostFacets.clear();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the identity-based map of cached results for the specified cache name.
+     *
+     * @param cacheName the name of the cache to return
+     * @return Map&lt;Object,List&lt;?&gt;&gt;
+     */
+    private Map<Object,List<?>> getResultMap(String cacheName) {
+        return resultMaps.computeIfAbsent( cacheName, n -> new IdentityHashMap<>() );
+    }
+
+    /**
+     * Discards all cached results and advances the generation of the cache so that results being computed concurrently
+     * will not be stored.
+     */
+    private void clear() {
+        resultMaps.clear();
+        generation++;
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.event.ModelEventListener#processModelEvent(org.opentravel.schemacompiler.event.ModelEvent)
+     */
+    @Override
+    public synchronized void processModelEvent(ModelEvent<Object> event) {
+        if (!IRRELEVANT_EVENT_TYPES.contains( event.getType() ) && !ghostFacets.contains( event.getSource() )
+            && (modelRef.get() != null)) {
+            clear();
+        }
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.event.ModelEventListener#getEventClass()
+     */
+    @Override
+    public Class<?> getEventClass() {
+        return ModelEvent.class;
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.event.ModelEventListener#getSourceObjectClass()
+     */
+    @Override
+    public Class<Object> getSourceObjectClass() {
+        return Object.class;
+    }
+
+    /**
+     * Handle for a compilation scope that was opened for a model. Closing the scope more than once has no effect.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private CodegenResultCache cache;
+
+        /**
+         * Constructor that specifies the cache that is shared by this scope.
+         *
+         * @param cache the result cache of the model
+         */
+        private Scope(CodegenResultCache cache) {
+            this.cache = cache;
+        }
+
+        /**
+         * @see java.lang.AutoCloseable#close()
+         */
+        @Override
+        public void close() {
+            synchronized (scopeLock) {
+                if (cache != null) {
+                    cache.closeScope();
+                    cache = null;
+                }
+            }
+        }
+
+    }
+
+}
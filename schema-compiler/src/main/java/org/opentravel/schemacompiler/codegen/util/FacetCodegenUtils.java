@@ -469,10 +469,12 @@ public class FacetCodegenUtils {
      * @return List&lt;TLFacet&gt;
      */
     public static List<TLFacet> getLocalFacetHierarchy(TLFacet facet) {
-        List<TLFacet> localHierarchy = new ArrayList<>();
+        return CodegenResultCache.getResult( "localFacetHierarchy", facet, () -> {
+            List<TLFacet> localHierarchy = new ArrayList<>();
 
-        getLocalFacetHierarchy( facet, localHierarchy, new HashSet<TLFacet>() );
-        return localHierarchy;
+            getLocalFacetHierarchy( facet, localHierarchy, new HashSet<TLFacet>() );
+            return localHierarchy;
+        } );
     }
 
     /**
@@ -532,6 +534,16 @@ public class FacetCodegenUtils {
      * @return List&lt;TLFacet&gt;
      */
     public static List<TLFacet> getAvailableFacets(TLComplexTypeBase entity) {
+        return CodegenResultCache.getResult( "availableEntityFacets", entity, () -> findAvailableFacets( entity ) );
+    }
+
+    /**
+     * Computes the list of available facets for the substitution group.
+     * 
+     * @param entity the complex-type entity for which to return available facets
+     * @return List&lt;TLFacet&gt;
+     */
+    private static List<TLFacet> findAvailableFacets(TLComplexTypeBase entity) {
         List<TLFacet> facetList = new ArrayList<>();
 
         if (entity instanceof TLBusinessObject) {
@@ -568,12 +580,14 @@ public class FacetCodegenUtils {
      * @return List&lt;TLFacet&gt;
      */
     public static List<TLFacet> getAvailableFacets(TLOperation operation) {
-        List<TLFacet> facetList = new ArrayList<>();
-
-        addIfContentExists( operation.getRequest(), facetList );
-        addIfContentExists( operation.getResponse(), facetList );
-        addIfContentExists( operation.getNotification(), facetList );
-        return facetList;
+        return CodegenResultCache.getResult( "availableOperationFacets", operation, () -> {
+            List<TLFacet> facetList = new ArrayList<>();
+
+            addIfContentExists( operation.getRequest(), facetList );
+            addIfContentExists( operation.getResponse(), facetList );
+            addIfContentExists( operation.getNotification(), facetList );
+            return facetList;
+        } );
     }
 
     /**
@@ -583,10 +597,12 @@ public class FacetCodegenUtils {
      * @return List&lt;TLFacet&gt;
      */
     public static List<TLFacet> getAvailableFacets(TLContextualFacet facet) {
-        List<TLFacet> facetList = new ArrayList<>();
+        return CodegenResultCache.getResult( "availableChildFacets", facet, () -> {
+            List<TLFacet> facetList = new ArrayList<>();
 
-        addContextualFacets( Arrays.asList( facet ), facetList, new HashSet<TLContextualFacet>() );
-        return facetList;
+            addContextualFacets( Arrays.asList( facet ), facetList, new HashSet<TLContextualFacet>() );
+            return facetList;
+        } );
     }
 
     /**
@@ -666,6 +682,18 @@ public class FacetCodegenUtils {
      * @return List&lt;TLContextualFacet&gt;
      */
     public static List<TLContextualFacet> findGhostFacets(TLFacetOwner facetOwner, TLFacetType facetType) {
+        return CodegenResultCache.getResult( "ghostFacets:" + facetType, facetOwner,
+            () -> createGhostFacets( facetOwner, facetType ) );
+    }
+
+    /**
+     * Creates new instances of the "ghost facets" for the given owner.
+     * 
+     * @param facetOwner the facet owner for which to create "ghost facets"
+     * @param facetType the type of ghost facets to create
+     * @return List&lt;TLContextualFacet&gt;
+     */
+    private static List<TLContextualFacet> createGhostFacets(TLFacetOwner facetOwner, TLFacetType facetType) {
         Set<String> inheritedFacetNames = new HashSet<>();
         List<TLContextualFacet> inheritedFacets = new ArrayList<>();
 
@@ -684,6 +712,8 @@ public class FacetCodegenUtils {
             if (declaredFacet == null) {
                 TLContextualFacet ghostFacet = new TLContextualFacet();
 
+                CodegenResultCache.registerGhostFacet( facetOwner, ghostFacet );
+
                 if (inheritedFacet.isLocalFacet()) {
                     ghostFacet.setOwningLibrary( facetOwner.getOwningLibrary() );
 
@@ -709,6 +739,16 @@ public class FacetCodegenUtils {
      * @return List&lt;TLActionFacet&gt;
      */
     public static List<TLActionFacet> findGhostFacets(TLResource resource) {
+        return CodegenResultCache.getResult( "ghostActionFacets", resource, () -> createGhostFacets( resource ) );
+    }
+
+    /**
+     * Creates new instances of the "ghost facets" for the given resource.
+     * 
+     * @param resource the resource for which to create "ghost facets"
+     * @return List&lt;TLActionFacet&gt;
+     */
+    private static List<TLActionFacet> createGhostFacets(TLResource resource) {
         Set<String> inheritedFacetNames = new HashSet<>();
         List<TLActionFacet> inheritedFacets = new ArrayList<>();
         TLResource extendedResource = ResourceCodegenUtils.getExtendedResource( resource );
@@ -749,6 +789,7 @@ public class FacetCodegenUtils {
             if (declaredFacet == null) {
                 TLActionFacet ghostFacet = new TLActionFacet();
 
+                CodegenResultCache.registerGhostFacet( resource, ghostFacet );
                 ghostFacet.setOwningResource( resource );
                 ghostFacet.setName( inheritedFacet.getName() );
                 ghostFacet.setReferenceType( inheritedFacet.getReferenceType() );
@@ -293,10 +293,12 @@ public class PropertyCodegenUtils {
      * @return List&lt;TLAttribute&gt;
      */
     public static List<TLAttribute> getInheritedAttributes(TLValueWithAttributes vwa, boolean includeDuplicateNames) {
-        List<TLAttribute> attributeList = new ArrayList<>();
+        return CodegenResultCache.getResult( "vwaAttributes:" + includeDuplicateNames, vwa, () -> {
+            List<TLAttribute> attributeList = new ArrayList<>();
 
-        findInheritedAttributes( vwa, includeDuplicateNames, attributeList, new HashSet<TLValueWithAttributes>() );
-        return attributeList;
+            findInheritedAttributes( vwa, includeDuplicateNames, attributeList, new HashSet<TLValueWithAttributes>() );
+            return attributeList;
+        } );
     }
 
     /**
@@ -308,13 +310,15 @@ public class PropertyCodegenUtils {
      * @return List&lt;TLAttribute&gt;
      */
     public static List<TLAttribute> getInheritedAttributes(TLFacet facet) {
-        List<TLFacet> localFacetHierarchy = FacetCodegenUtils.getLocalFacetHierarchy( facet );
-        List<TLAttribute> attributeList = new ArrayList<>();
+        return CodegenResultCache.getResult( "facetAttributes", facet, () -> {
+            List<TLFacet> localFacetHierarchy = FacetCodegenUtils.getLocalFacetHierarchy( facet );
+            List<TLAttribute> attributeList = new ArrayList<>();
 
-        for (TLFacet aFacet : localFacetHierarchy) {
-            attributeList.addAll( getInheritedFacetAttributes( aFacet ) );
-        }
-        return attributeList;
+            for (TLFacet aFacet : localFacetHierarchy) {
+                attributeList.addAll( getInheritedFacetAttributes( aFacet ) );
+            }
+            return attributeList;
+        } );
     }
 
     /**
@@ -425,10 +429,12 @@ public class PropertyCodegenUtils {
      * @return List&lt;TLIndicator&gt;
      */
     public static List<TLIndicator> getInheritedIndicators(TLValueWithAttributes vwa) {
-        List<TLIndicator> indicatorList = new ArrayList<>();
+        return CodegenResultCache.getResult( "vwaIndicators", vwa, () -> {
+            List<TLIndicator> indicatorList = new ArrayList<>();
 
-        findInheritedIndicators( vwa, indicatorList, new HashSet<TLValueWithAttributes>() );
-        return indicatorList;
+            findInheritedIndicators( vwa, indicatorList, new HashSet<TLValueWithAttributes>() );
+            return indicatorList;
+        } );
     }
 
     /**
@@ -440,13 +446,15 @@ public class PropertyCodegenUtils {
      * @return List&lt;TLIndicator&gt;
      */
     public static List<TLIndicator> getInheritedIndicators(TLFacet facet) {
-        List<TLFacet> localFacetHierarchy = FacetCodegenUtils.getLocalFacetHierarchy( facet );
-        List<TLIndicator> indicatorList = new ArrayList<>();
+        return CodegenResultCache.getResult( "facetIndicators", facet, () -> {
+            List<TLFacet> localFacetHierarchy = FacetCodegenUtils.getLocalFacetHierarchy( facet );
+            List<TLIndicator> indicatorList = new ArrayList<>();
 
-        for (TLFacet aFacet : localFacetHierarchy) {
-            indicatorList.addAll( getInheritedFacetIndicators( aFacet ) );
-        }
-        return indicatorList;
+            for (TLFacet aFacet : localFacetHierarchy) {
+                indicatorList.addAll( getInheritedFacetIndicators( aFacet ) );
+            }
+            return indicatorList;
+        } );
     }
 
     /**
@@ -555,13 +563,15 @@ public class PropertyCodegenUtils {
      * @return List&lt;TLProperty&gt;
      */
     public static List<TLProperty> getInheritedProperties(TLFacet facet) {
-        List<TLFacet> localFacetHierarchy = FacetCodegenUtils.getLocalFacetHierarchy( facet );
-        List<TLProperty> propertyList = new ArrayList<>();
+        return CodegenResultCache.getResult( "facetProperties", facet, () -> {
+            List<TLFacet> localFacetHierarchy = FacetCodegenUtils.getLocalFacetHierarchy( facet );
+            List<TLProperty> propertyList = new ArrayList<>();
 
-        for (TLFacet aFacet : localFacetHierarchy) {
-            propertyList.addAll( getInheritedFacetProperties( aFacet ) );
-        }
-        return propertyList;
+            for (TLFacet aFacet : localFacetHierarchy) {
+                propertyList.addAll( getInheritedFacetProperties( aFacet ) );
+            }
+            return propertyList;
+        } );
     }
 
     /**
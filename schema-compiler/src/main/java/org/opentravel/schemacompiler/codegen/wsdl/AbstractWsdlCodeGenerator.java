@@ -40,9 +40,9 @@ import java.io.File;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.XMLConstants;
 import javax.xml.bind.JAXBContext;
@@ -64,7 +64,7 @@ public abstract class AbstractWsdlCodeGenerator<S extends LibraryMember> extends
     private static final String DEFAULT_JAXB_PACKAGES =
         ":org.xmlsoap.schemas.wsdl" + ":org.w3._2001.xmlschema" + ":org.opentravel.ns.ota2.appinfo_v01_00";
 
-    private static Map<String,JAXBContext> contextCache = new HashMap<>();
+    private static Map<String,JAXBContext> contextCache = new ConcurrentHashMap<>();
     protected static Schema validationSchema;
 
     private List<AbstractLibrary> wsdlDependencies = new ArrayList<>();
@@ -30,10 +30,10 @@ import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.XMLConstants;
 import javax.xml.bind.JAXBContext;
@@ -58,7 +58,7 @@ public class ImportSchemaLocations {
     private Map<String,File> namespaceSchemaLocations = new HashMap<>();
     private Map<String,String> namespacePrefixes = new HashMap<>();
     private Map<String,List<File>> originalSchemaLocations = new HashMap<>();
-    private Set<String> importedNamespaces = new HashSet<>();
+    private Set<String> importedNamespaces = ConcurrentHashMap.newKeySet();
     private File baseOutputFolder;
 
     /**
@@ -102,7 +102,8 @@ public class ImportSchemaLocations {
     }
 
     /**
-     * Notifies this component that an import declaration was added for the specified namespace.
+     * Notifies this component that an import declaration was added for the specified namespace. This method may be
+     * called concurrently by code generators that are producing output for different libraries.
      * 
      * @param namespace the namespace for which an import declaration was added
      */
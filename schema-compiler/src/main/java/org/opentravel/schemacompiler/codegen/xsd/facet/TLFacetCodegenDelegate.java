@@ -22,6 +22,7 @@ import org.opentravel.schemacompiler.codegen.impl.CodeGenerationTransformerConte
 import org.opentravel.schemacompiler.codegen.impl.CodegenArtifacts;
 import org.opentravel.schemacompiler.codegen.impl.DocumentationFinder;
 import org.opentravel.schemacompiler.codegen.util.AliasCodegenUtils;
+import org.opentravel.schemacompiler.codegen.util.CodegenResultCache;
 import org.opentravel.schemacompiler.codegen.util.FacetCodegenUtils;
 import org.opentravel.schemacompiler.codegen.util.PropertyCodegenUtils;
 import org.opentravel.schemacompiler.codegen.util.XsdCodegenUtils;
@@ -701,6 +702,7 @@ public abstract class TLFacetCodegenDelegate extends FacetCodegenDelegate<TLFace
             if (sourceFacet instanceof TLContextualFacet) {
                 TLContextualFacet cFacet = new TLContextualFacet();
 
+                CodegenResultCache.registerGhostFacet( extendedOwner, cFacet );
                 cFacet.setName( ((TLContextualFacet) sourceFacet).getName() );
                 cFacet.setOwningLibrary( sourceFacet.getOwningLibrary() );
                 firstCandidate = cFacet;
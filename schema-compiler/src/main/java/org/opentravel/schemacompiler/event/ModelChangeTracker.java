@@ -0,0 +1,28 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.event;
+
+/**
+ * Marker interface for listeners that must be notified of every event published by a <code>TLModel</code>, including
+ * those that are published while the model's listeners are disabled. Implementations are intended to record which
+ * parts of the model have changed, and must not modify the model or rely on its state while processing an event.
+ * 
+ * @param <E> the event type that this listener is designed to process
+ * @param <S> the source object type for the events to be processed by this listener
+ */
+public interface ModelChangeTracker<E extends ModelEvent<S>, S> extends ModelEventListener<E,S> {
+}
@@ -0,0 +1,458 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.ic;
+
+import org.opentravel.schemacompiler.event.ModelEvent;
+import org.opentravel.schemacompiler.event.ModelEventListener;
+import org.opentravel.schemacompiler.event.ModelEventType;
+import org.opentravel.schemacompiler.event.OwnershipEvent;
+import org.opentravel.schemacompiler.model.AbstractLibrary;
+import org.opentravel.schemacompiler.model.LibraryElement;
+import org.opentravel.schemacompiler.model.ModelElement;
+import org.opentravel.schemacompiler.model.TLAction;
+import org.opentravel.schemacompiler.model.TLActionRequest;
+import org.opentravel.schemacompiler.model.TLActionResponse;
+import org.opentravel.schemacompiler.model.TLAlias;
+import org.opentravel.schemacompiler.model.TLAttribute;
+import org.opentravel.schemacompiler.model.TLContextualFacet;
+import org.opentravel.schemacompiler.model.TLExtension;
+import org.opentravel.schemacompiler.model.TLModel;
+import org.opentravel.schemacompiler.model.TLModelElement;
+import org.opentravel.schemacompiler.model.TLParamGroup;
+import org.opentravel.schemacompiler.model.TLParameter;
+import org.opentravel.schemacompiler.model.TLProperty;
+import org.opentravel.schemacompiler.model.TLResource;
+import org.opentravel.schemacompiler.model.TLResourceParentRef;
+import org.opentravel.schemacompiler.model.TLSimple;
+import org.opentravel.schemacompiler.model.TLSimpleFacet;
+import org.opentravel.schemacompiler.model.TLValueWithAttributes;
+import org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter;
+import org.opentravel.schemacompiler.visitor.ModelNavigator;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reverse-reference (where-used) index that identifies the model elements that refer to a given entity by name. The
+ * index is fully populated on first use; after that, it is maintained incrementally from the events published by the
+ * model so that the cost of a lookup is proportional to the number of referrers instead of the size of the model.
+ *
+ * <p>
+ * Entries that become stale (because a referrer was removed from the model or re-assigned to a different entity) are
+ * discarded when they are encountered during a lookup. If the model reports that events were published while
+ * listeners were disabled (see {@link TLModel#getSuppressedEventCount()}), the index is rebuilt from scratch.
+ */
+public class EntityReferenceIndex implements ModelEventListener<ModelEvent<Object>,Object> {
+
+    private static final Set<ModelEventType> REFERENCE_EVENT_TYPES = EnumSet.of(
+        ModelEventType.TYPE_ASSIGNMENT_MODIFIED, ModelEventType.EXTENDS_ENTITY_MODIFIED,
+        ModelEventType.FACET_OWNER_MODIFIED, ModelEventType.BO_REFERENCE_MODIFIED,
+        ModelEventType.PARENT_RESOURCE_MODIFIED, ModelEventType.PARENT_PARAM_GROUP_MODIFIED,
+        ModelEventType.PARAM_GROUP_MODIFIED, ModelEventType.FACET_REF_MODIFIED, ModelEventType.FIELD_REF_MODIFIED,
+        ModelEventType.PAYLOAD_TYPE_MODIFIED );
+
+    private final WeakReference<TLModel> modelRef;
+    private final Map<Object,Set<TLModelElement>> referrersByEntity = new IdentityHashMap<>();
+    private final Map<Object,Set<TLModelElement>> aliasReferrersByOwner = new IdentityHashMap<>();
+    private boolean rebuildRequired = true;
+    private long suppressedEventCount;
+
+    /**
+     * Constructor that specifies the model to be indexed. The index is registered with (and owned by) the model itself,
+     * and the model is referenced weakly so that the index never extends its lifetime.
+     *
+     * @param model the model whose references are to be indexed
+     */
+    private EntityReferenceIndex(TLModel model) {
+        this.modelRef = new WeakReference<>( model );
+    }
+
+    /**
+     * Returns the reference index for the given model. If an index does not yet exist, one is created and registered
+     * as a listener of the model.
+     *
+     * @param model the model for which to return the reference index
+     * @return EntityReferenceIndex
+     */
+    public static EntityReferenceIndex getInstance(TLModel model) {
+        return model.getOrAddListener( EntityReferenceIndex.class, () -> new EntityReferenceIndex( model ) );
+    }
+
+    /**
+     * Returns the list of model elements that currently refer to the given entity.
+     *
+     * @param entity the entity for which to return the referring elements
+     * @return List&lt;TLModelElement&gt;
+     */
+    public synchronized List<TLModelElement> getReferrers(ModelElement entity) {
+        TLModel model = modelRef.get();
+        List<TLModelElement> referrers = new ArrayList<>();
+
+        if ((model != null) && (entity != null)) {
+            long modelSuppressedEventCount = model.getSuppressedEventCount();
+
+            if (rebuildRequired || (modelSuppressedEventCount != suppressedEventCount)) {
+                referrersByEntity.clear();
+                aliasReferrersByOwner.clear();
+                ModelNavigator.navigate( model, new ReferenceCollector() );
+                rebuildRequired = false;
+                suppressedEventCount = modelSuppressedEventCount;
+            }
+            Set<TLModelElement> candidates = (entity instanceof TLAlias)
+                ? aliasReferrersByOwner.get( ((TLAlias) entity).getOwningEntity() )
+                : referrersByEntity.get( entity );
+
+            if (candidates != null) {
+                Iterator<TLModelElement> iterator = candidates.iterator();
+
+                while (iterator.hasNext()) {
+                    TLModelElement candidate = iterator.next();
+
+                    if (candidate.getOwningModel() != model) {
+                        iterator.remove();
+
+                    } else if (isReference( candidate, entity )) {
+                        referrers.add( candidate );
+
+                    } else if (!(entity instanceof TLAlias)) {
+                        // The candidate has been re-assigned to a different entity
+                        iterator.remove();
+                    }
+                }
+            }
+        }
+        return referrers;
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.event.ModelEventListener#processModelEvent(org.opentravel.schemacompiler.event.ModelEvent)
+     */
+    @Override
+    public synchronized void processModelEvent(ModelEvent<Object> event) {
+        if (!rebuildRequired) {
+            if (event instanceof OwnershipEvent) {
+                Object affectedItem = ((OwnershipEvent<?,?>) event).getAffectedItem();
+
+                if ((affectedItem instanceof ModelElement)
+                    && (((ModelElement) affectedItem).getOwningModel() == modelRef.get())) {
+                    indexSubtree( affectedItem );
+                }
+
+            } else if (REFERENCE_EVENT_TYPES.contains( event.getType() )
+                && (event.getSource() instanceof TLModelElement)) {
+                indexReferences( (TLModelElement) event.getSource() );
+            }
+        }
+    }
+
+    /**
+     * Adds index entries for the given element and all of its children.
+     *
+     * @param element the model element to be indexed
+     */
+    private void indexSubtree(Object element) {
+        ModelNavigator navigator = new ModelNavigator( new ReferenceCollector() );
+
+        // The generic navigation method does not handle resource components, extensions, or
+        // local contextual facets, so those elements are dispatched explicitly
+        if (element instanceof AbstractLibrary) {
+            navigator.navigateLibrary( (AbstractLibrary) element );
+
+        } else if (element instanceof TLContextualFacet) {
+            navigator.navigateContextualFacet( (TLContextualFacet) element );
+
+        } else if (element instanceof TLExtension) {
+            navigator.navigateExtension( (TLExtension) element );
+
+        } else if (element instanceof TLResourceParentRef) {
+            navigator.navigateResourceParentRef( (TLResourceParentRef) element );
+
+        } else if (element instanceof TLParamGroup) {
+            navigator.navigateParamGroup( (TLParamGroup) element );
+
+        } else if (element instanceof TLParameter) {
+            navigator.navigateParameter( (TLParameter) element );
+
+        } else if (element instanceof TLAction) {
+            navigator.navigateAction( (TLAction) element );
+
+        } else if (element instanceof TLActionRequest) {
+            navigator.navigateActionRequest( (TLActionRequest) element );
+
+        } else if (element instanceof TLActionResponse) {
+            navigator.navigateActionResponse( (TLActionResponse) element );
+
+        } else if (element instanceof LibraryElement) {
+            navigator.navigate( (LibraryElement) element );
+        }
+    }
+
+    /**
+     * Adds index entries for each of the entities referenced by the given element.
+     *
+     * @param referrer the referring element to be indexed
+     */
+    private void indexReferences(TLModelElement referrer) {
+        for (Object reference : getReferences( referrer )) {
+            Map<Object,Set<TLModelElement>> referrerMap = referrersByEntity;
+            Object entityKey = reference;
+
+            // Aliases are compared by owner and name, and the instances of derived aliases may be
+            // replaced, so their referrers are indexed by the owner of the alias
+            if (reference instanceof TLAlias) {
+                referrerMap = aliasReferrersByOwner;
+                entityKey = ((TLAlias) reference).getOwningEntity();
+            }
+            if (entityKey != null) {
+                referrerMap.computeIfAbsent( entityKey, k -> Collections.newSetFromMap( new IdentityHashMap<>() ) )
+                    .add( referrer );
+            }
+        }
+    }
+
+    /**
+     * Returns true if the given referrer currently refers to the entity provided.
+     *
+     * @param referrer the referring element to check
+     * @param entity the referenced entity
+     * @return boolean
+     */
+    private static boolean isReference(TLModelElement referrer, ModelElement entity) {
+        boolean result = false;
+
+        for (Object reference : getReferences( referrer )) {
+            if ((reference == entity) || ((entity instanceof TLAlias) && entity.equals( reference ))) {
+                result = true;
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the list of entities that are currently referenced by the given element.
+     *
+     * @param referrer the referring element
+     * @return List&lt;Object&gt;
+     */
+    private static List<Object> getReferences(TLModelElement referrer) {
+        List<Object> references = new ArrayList<>( 2 );
+
+        if (referrer instanceof TLSimple) {
+            addReference( references, ((TLSimple) referrer).getParentType() );
+
+        } else if (referrer instanceof TLValueWithAttributes) {
+            addReference( references, ((TLValueWithAttributes) referrer).getParentType() );
+
+        } else if (referrer instanceof TLExtension) {
+            addReference( references, ((TLExtension) referrer).getExtendsEntity() );
+
+        } else if (referrer instanceof TLSimpleFacet) {
+            addReference( references, ((TLSimpleFacet) referrer).getSimpleType() );
+
+        } else if (referrer instanceof TLContextualFacet) {
+            addReference( references, ((TLContextualFacet) referrer).getOwningEntity() );
+
+        } else if (referrer instanceof TLAttribute) {
+            addReference( references, ((TLAttribute) referrer).getType() );
+
+        } else if (referrer instanceof TLProperty) {
+            addReference( references, ((TLProperty) referrer).getType() );
+
+        } else if (referrer instanceof TLResource) {
+            addReference( references, ((TLResource) referrer).getBusinessObjectRef() );
+
+        } else if (referrer instanceof TLResourceParentRef) {
+            addReference( references, ((TLResourceParentRef) referrer).getParentResource() );
+            addReference( references, ((TLResourceParentRef) referrer).getParentParamGroup() );
+
+        } else if (referrer instanceof TLParamGroup) {
+            addReference( references, ((TLParamGroup) referrer).getFacetRef() );
+
+        } else if (referrer instanceof TLParameter) {
+            addReference( references, ((TLParameter) referrer).getFieldRef() );
+
+        } else if (referrer instanceof TLActionRequest) {
+            addReference( references, ((TLActionRequest) referrer).getParamGroup() );
+            addReference( references, ((TLActionRequest) referrer).getPayloadType() );
+
+        } else if (referrer instanceof TLActionResponse) {
+            addReference( references, ((TLActionResponse) referrer).getPayloadType() );
+        }
+        return references;
+    }
+
+    /**
+     * Adds the given reference to the list if it is not null.
+     *
+     * @param references the list of references being constructed
+     * @param reference the reference to add
+     */
+    private static void addReference(List<Object> references, Object reference) {
+        if (reference != null) {
+            references.add( reference );
+        }
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.event.ModelEventListener#getEventClass()
+     */
+    @Override
+    public Class<?> getEventClass() {
+        return ModelEvent.class;
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.event.ModelEventListener#getSourceObjectClass()
+     */
+    @Override
+    public Class<Object> getSourceObjectClass() {
+        return Object.class;
+    }
+
+    /**
+     * Visitor that adds index entries for each referring element that is encountered during navigation.
+     */
+    private class ReferenceCollector extends ModelElementVisitorAdapter {
+
+        /**
+         * @see org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter#visitSimple(org.opentravel.schemacompiler.model.TLSimple)
+         */
+        @Override
+        public boolean visitSimple(TLSimple simple) {
+            indexReferences( simple );
+            return true;
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter#visitValueWithAttributes(org.opentravel.schemacompiler.model.TLValueWithAttributes)
+         */
+        @Override
+        public boolean visitValueWithAttributes(TLValueWithAttributes valueWithAttributes) {
+            indexReferences( valueWithAttributes );
+            return true;
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter#visitExtension(org.opentravel.schemacompiler.model.TLExtension)
+         */
+        @Override
+        public boolean visitExtension(TLExtension extension) {
+            indexReferences( extension );
+            return true;
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter#visitSimpleFacet(org.opentravel.schemacompiler.model.TLSimpleFacet)
+         */
+        @Override
+        public boolean visitSimpleFacet(TLSimpleFacet simpleFacet) {
+            indexReferences( simpleFacet );
+            return true;
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter#visitContextualFacet(org.opentravel.schemacompiler.model.TLContextualFacet)
+         */
+        @Override
+        public boolean visitContextualFacet(TLContextualFacet facet) {
+            indexReferences( facet );
+            return true;
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter#visitAttribute(org.opentravel.schemacompiler.model.TLAttribute)
+         */
+        @Override
+        public boolean visitAttribute(TLAttribute attribute) {
+            indexReferences( attribute );
+            return true;
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter#visitElement(org.opentravel.schemacompiler.model.TLProperty)
+         */
+        @Override
+        public boolean visitElement(TLProperty element) {
+            indexReferences( element );
+            return true;
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter#visitResource(org.opentravel.schemacompiler.model.TLResource)
+         */
+        @Override
+        public boolean visitResource(TLResource resource) {
+            indexReferences( resource );
+            return true;
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter#visitResourceParentRef(org.opentravel.schemacompiler.model.TLResourceParentRef)
+         */
+        @Override
+        public boolean visitResourceParentRef(TLResourceParentRef parentRef) {
+            indexReferences( parentRef );
+            return true;
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter#visitParamGroup(org.opentravel.schemacompiler.model.TLParamGroup)
+         */
+        @Override
+        public boolean visitParamGroup(TLParamGroup paramGroup) {
+            indexReferences( paramGroup );
+            return true;
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter#visitParameter(org.opentravel.schemacompiler.model.TLParameter)
+         */
+        @Override
+        public boolean visitParameter(TLParameter parameter) {
+            indexReferences( parameter );
+            return true;
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter#visitActionRequest(org.opentravel.schemacompiler.model.TLActionRequest)
+         */
+        @Override
+        public boolean visitActionRequest(TLActionRequest actionRequest) {
+            indexReferences( actionRequest );
+            return true;
+        }
+
+        /**
+         * @see org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter#visitActionResponse(org.opentravel.schemacompiler.model.TLActionResponse)
+         */
+        @Override
+        public boolean visitActionResponse(TLActionResponse actionResponse) {
+            indexReferences( actionResponse );
+            return true;
+        }
+
+    }
+
+}
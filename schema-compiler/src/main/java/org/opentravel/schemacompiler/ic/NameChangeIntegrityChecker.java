@@ -31,6 +31,7 @@ import org.opentravel.schemacompiler.model.TLContextualFacet;
 import org.opentravel.schemacompiler.model.TLExtension;
 import org.opentravel.schemacompiler.model.TLFacet;
 import org.opentravel.schemacompiler.model.TLMemberField;
+import org.opentravel.schemacompiler.model.TLModel;
 import org.opentravel.schemacompiler.model.TLModelElement;
 import org.opentravel.schemacompiler.model.TLParamGroup;
 import org.opentravel.schemacompiler.model.TLParameter;
@@ -41,6 +42,7 @@ import org.opentravel.schemacompiler.model.TLSimple;
 import org.opentravel.schemacompiler.model.TLSimpleFacet;
 import org.opentravel.schemacompiler.model.TLValueWithAttributes;
 import org.opentravel.schemacompiler.transform.SymbolResolver;
+import org.opentravel.schemacompiler.transform.SymbolTable;
 import org.opentravel.schemacompiler.transform.util.ChameleonFilter;
 import org.opentravel.schemacompiler.transform.util.LibraryPrefixResolver;
 import org.opentravel.schemacompiler.validate.impl.TLModelSymbolResolver;
@@ -48,11 +50,14 @@ import org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter;
 import org.opentravel.schemacompiler.visitor.ModelNavigator;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Model integrity check listener, that updates all 'typeName' fields in referencing entities when the referred entity's
- * local name is modified.
+ * local name is modified. Referencing entities are located using the {@link EntityReferenceIndex} of the model.
  * 
  * @author S. Livezey
  */
@@ -81,7 +86,7 @@ public class NameChangeIntegrityChecker
     }
 
     /**
-     * Scans the entire model for references to the given entity and refreshes the type-name assignment (typically a
+     * Locates all references to the given entity and refreshes the type-name assignment (typically a
      * 'prefix:local-name' value) for each occurrance.
      * 
      * @param modifiedEntity the modified entity whose references should be updated
@@ -89,48 +94,65 @@ public class NameChangeIntegrityChecker
     public static void resolveAssignedTypeNames(NamedEntity modifiedEntity) {
         List<TLModelElement> affectedEntities = getAffectedEntities( modifiedEntity );
         AbstractLibrary localLibrary = modifiedEntity.getOwningLibrary();
-        SymbolResolver symbolResolver = new TLModelSymbolResolver( localLibrary.getOwningModel() );
 
-        symbolResolver.setPrefixResolver( new LibraryPrefixResolver( localLibrary ) );
-        symbolResolver.setAnonymousEntityFilter( new ChameleonFilter( localLibrary ) );
-        ModelNavigator.navigate( modifiedEntity.getOwningModel(),
-            new EntityNameChangeVisitor( affectedEntities, symbolResolver ) );
+        resolveReferrerNames( localLibrary, affectedEntities );
     }
 
     /**
-     * Scans the entire model for references to the given member field and refreshes the name assignment for each
-     * occurrance.
+     * Locates all references to the given member field and refreshes the name assignment for each occurrance.
      * 
      * @param modifiedField the modified field whose references should be updated
      */
     public static void resolveAssignedFieldNames(TLMemberField<?> modifiedField) {
         AbstractLibrary localLibrary = ((LibraryElement) modifiedField.getOwner()).getOwningLibrary();
-        SymbolResolver symbolResolver = new TLModelSymbolResolver( localLibrary.getOwningModel() );
         List<TLModelElement> affectedEntities = new ArrayList<>();
 
         affectedEntities.add( (TLModelElement) modifiedField );
-        symbolResolver.setPrefixResolver( new LibraryPrefixResolver( localLibrary ) );
-        symbolResolver.setAnonymousEntityFilter( new ChameleonFilter( localLibrary ) );
-        ModelNavigator.navigate( localLibrary.getOwningModel(),
-            new EntityNameChangeVisitor( affectedEntities, symbolResolver ) );
+        resolveReferrerNames( localLibrary, affectedEntities );
     }
 
     /**
-     * Scans the entire model for references to the given parameter group and refreshes the name assignment for each
-     * occurrance.
+     * Locates all references to the given parameter group and refreshes the name assignment for each occurrance.
      * 
      * @param modifiedParamGroup the modified parameter group whose references should be updated
      */
     public static void resolveAssignedParamGroupNames(TLParamGroup modifiedParamGroup) {
         AbstractLibrary localLibrary = modifiedParamGroup.getOwningLibrary();
-        SymbolResolver symbolResolver = new TLModelSymbolResolver( localLibrary.getOwningModel() );
         List<TLModelElement> affectedEntities = new ArrayList<>();
 
         affectedEntities.add( modifiedParamGroup );
-        symbolResolver.setPrefixResolver( new LibraryPrefixResolver( localLibrary ) );
-        symbolResolver.setAnonymousEntityFilter( new ChameleonFilter( localLibrary ) );
-        ModelNavigator.navigate( localLibrary.getOwningModel(),
-            new EntityNameChangeVisitor( affectedEntities, symbolResolver ) );
+        resolveReferrerNames( localLibrary, affectedEntities );
+    }
+
+    /**
+     * Uses the model's reference index to locate the elements that refer to any of the affected entities, and
+     * refreshes the name assignments of each one. Since only the namespace prefixes of the local library are required
+     * to construct the new names, the symbol resolver is not populated with the symbols of the model.
+     * 
+     * @param localLibrary the library that owns the modified entity
+     * @param affectedEntities the entities whose names were affected by the modification
+     */
+    private static void resolveReferrerNames(AbstractLibrary localLibrary, List<TLModelElement> affectedEntities) {
+        TLModel model = (localLibrary == null) ? null : localLibrary.getOwningModel();
+
+        if (model != null) {
+            EntityReferenceIndex referenceIndex = EntityReferenceIndex.getInstance( model );
+            Set<TLModelElement> referrers = Collections.newSetFromMap( new IdentityHashMap<>() );
+            SymbolResolver symbolResolver = new TLModelSymbolResolver( new SymbolTable() );
+            EntityNameChangeVisitor visitor;
+
+            symbolResolver.setPrefixResolver( new LibraryPrefixResolver( localLibrary ) );
+            symbolResolver.setAnonymousEntityFilter( new ChameleonFilter( localLibrary ) );
+            visitor = new EntityNameChangeVisitor( affectedEntities, symbolResolver );
+
+            for (TLModelElement affectedEntity : affectedEntities) {
+                for (TLModelElement referrer : referenceIndex.getReferrers( affectedEntity )) {
+                    if (referrers.add( referrer )) {
+                        visitor.visitReferrer( referrer );
+                    }
+                }
+            }
+        }
     }
 
     /**
@@ -187,6 +209,53 @@ public class NameChangeIntegrityChecker
             this.symbolResolver = symbolResolver;
         }
 
+        /**
+         * Dispatches the given referring element to the visit method that is appropriate for its type.
+         * 
+         * @param referrer the model element that refers to one of the modified entities
+         */
+        public void visitReferrer(TLModelElement referrer) {
+            if (referrer instanceof TLSimple) {
+                visitSimple( (TLSimple) referrer );
+
+            } else if (referrer instanceof TLValueWithAttributes) {
+                visitValueWithAttributes( (TLValueWithAttributes) referrer );
+
+            } else if (referrer instanceof TLExtension) {
+                visitExtension( (TLExtension) referrer );
+
+            } else if (referrer instanceof TLSimpleFacet) {
+                visitSimpleFacet( (TLSimpleFacet) referrer );
+
+            } else if (referrer instanceof TLContextualFacet) {
+                visitContextualFacet( (TLContextualFacet) referrer );
+
+            } else if (referrer instanceof TLAttribute) {
+                visitAttribute( (TLAttribute) referrer );
+
+            } else if (referrer instanceof TLProperty) {
+                visitElement( (TLProperty) referrer );
+
+            } else if (referrer instanceof TLResource) {
+                visitResource( (TLResource) referrer );
+
+            } else if (referrer instanceof TLResourceParentRef) {
+                visitResourceParentRef( (TLResourceParentRef) referrer );
+
+            } else if (referrer instanceof TLParamGroup) {
+                visitParamGroup( (TLParamGroup) referrer );
+
+            } else if (referrer instanceof TLParameter) {
+                visitParameter( (TLParameter) referrer );
+
+            } else if (referrer instanceof TLActionRequest) {
+                visitActionRequest( (TLActionRequest) referrer );
+
+            } else if (referrer instanceof TLActionResponse) {
+                visitActionResponse( (TLActionResponse) referrer );
+            }
+        }
+
         /**
          * @see org.opentravel.schemacompiler.visitor.ModelElementVisitorAdapter#visitSimple(org.opentravel.schemacompiler.model.TLSimple)
          */
@@ -35,6 +35,7 @@ import org.opentravel.schemacompiler.model.TLSimple;
 import org.opentravel.schemacompiler.model.TLSimpleFacet;
 import org.opentravel.schemacompiler.model.TLValueWithAttributes;
 import org.opentravel.schemacompiler.transform.SymbolResolver;
+import org.opentravel.schemacompiler.transform.SymbolTable;
 import org.opentravel.schemacompiler.transform.util.ChameleonFilter;
 import org.opentravel.schemacompiler.transform.util.LibraryPrefixResolver;
 import org.opentravel.schemacompiler.util.ClassSpecificAssignment;
@@ -102,7 +103,8 @@ public class TypeNameIntegrityChecker
 
     /**
      * Returns the name of the given entity as either 'prefix:localName' or simple 'localName' (if the entity is
-     * assigned to the local namespace provided).
+     * assigned to the local namespace provided). Only the namespace prefixes of the owning library are needed to
+     * construct the name, so the symbol resolver is not populated with the symbols of the model.
      * 
      * @param assignedEntity the entity whose name is to be returned
      * @param sourceObject the object to which the named entity was assigned
@@ -113,7 +115,7 @@ public class TypeNameIntegrityChecker
 
         if (assignedEntity != null) {
             AbstractLibrary owningLibrary = getOwningLibrary( sourceObject );
-            SymbolResolver symbolResolver = new TLModelSymbolResolver( sourceObject.getOwningModel() );
+            SymbolResolver symbolResolver = new TLModelSymbolResolver( new SymbolTable() );
 
             symbolResolver.setPrefixResolver( new LibraryPrefixResolver( owningLibrary ) );
             symbolResolver.setAnonymousEntityFilter( new ChameleonFilter( owningLibrary ) );
@@ -41,8 +41,8 @@ public class CompilerExtensionRegistry {
 
     public static final String APPLICATION_CONTEXT_LOCATION = "/ota2-context/applicationContext.xml";
 
-    private static String activeExtensionId;
-    private static CompilerExtensionProvider activeProvider;
+    private static volatile String activeExtensionId;
+    private static volatile CompilerExtensionProvider activeProvider;
 
     /**
      * Private constructor to prevent instantiation.
@@ -64,36 +64,71 @@ public class CompilerExtensionRegistry {
     }
 
     /**
-     * Returns the ID of the OTA2 compiler extension that is currently active.
+     * Returns the ID of the OTA2 compiler extension that is currently active. If a <code>CompilerSession</code> is
+     * bound to the current thread, the session's extension is returned.
      * 
      * @return String
      */
-    public static synchronized String getActiveExtension() {
-        return activeExtensionId;
+    public static String getActiveExtension() {
+        CompilerSession session = CompilerSession.getCurrent();
+
+        return (session != null) ? session.getExtensionId() : activeExtensionId;
     }
 
     /**
-     * Returns the ID of the OTA2 compiler extension that should be active.
+     * Returns the ID of the OTA2 compiler extension that should be active. If a <code>CompilerSession</code> is bound
+     * to the current thread, the extension is only activated for that session.
      * 
      * @param extensionId the extension ID to activate
      */
-    public static synchronized void setActiveExtension(String extensionId) {
+    public static void setActiveExtension(String extensionId) {
+        CompilerSession session = CompilerSession.getCurrent();
+
+        if (session == null) {
+            setGlobalExtension( extensionId );
+
+        } else if ((extensionId != null) && !extensionId.equals( session.getExtensionId() )) {
+            session.activateExtension( extensionId, findProvider( extensionId ) );
+        }
+    }
+
+    /**
+     * Assigns the OTA2 compiler extension that is active for all threads that are not bound to a
+     * <code>CompilerSession</code>.
+     * 
+     * @param extensionId the extension ID to activate
+     */
+    private static synchronized void setGlobalExtension(String extensionId) {
         if ((extensionId != null) && !extensionId.equals( activeExtensionId )) {
-            CompilerExtensionProvider provider = null;
+            CompilerExtensionProvider provider = findProvider( extensionId );
 
-            for (CompilerExtensionProvider p : ServiceLoader.load( CompilerExtensionProvider.class )) {
-                if (p.isSupportedExtension( extensionId )) {
-                    provider = p;
-                }
-            }
-            if (provider == null) {
-                throw new IllegalArgumentException( "Unrecognized OTA2.0 compiler extension: " + extensionId );
-            }
-            loadApplicationContext( extensionId, provider );
+            SchemaCompilerApplicationContext.setActiveContext( newApplicationContext( extensionId, provider ) );
+            activeExtensionId = extensionId;
             activeProvider = provider;
         }
     }
 
+    /**
+     * Returns the provider for the specified compiler extension.
+     * 
+     * @param extensionId the extension ID for which to return a provider
+     * @return CompilerExtensionProvider
+     * @throws IllegalArgumentException thrown if the extension ID is not recognized
+     */
+    static CompilerExtensionProvider findProvider(String extensionId) {
+        CompilerExtensionProvider provider = null;
+
+        for (CompilerExtensionProvider p : ServiceLoader.load( CompilerExtensionProvider.class )) {
+            if (p.isSupportedExtension( extensionId )) {
+                provider = p;
+            }
+        }
+        if (provider == null) {
+            throw new IllegalArgumentException( "Unrecognized OTA2.0 compiler extension: " + extensionId );
+        }
+        return provider;
+    }
+
     /**
      * Returns an input stream to the specified classpath resource. This method is similar to
      * 'class.getResourceAsStream(...)' except that the resource lookup is delegated to the extension provider's
@@ -107,10 +142,24 @@ public class CompilerExtensionRegistry {
      * @return InputStream
      */
     public static InputStream loadResource(String resourcePath) {
+        CompilerSession session = CompilerSession.getCurrent();
+
+        return loadResource( resourcePath, (session != null) ? session.getProvider() : activeProvider );
+    }
+
+    /**
+     * Returns an input stream to the specified classpath resource, searching the given provider's codebase before the
+     * local classpath and the codebases of all other providers.
+     * 
+     * @param resourcePath the classpath location of the resource to load
+     * @param provider the provider to search first (may be null)
+     * @return InputStream
+     */
+    private static InputStream loadResource(String resourcePath, CompilerExtensionProvider provider) {
         InputStream is = null;
 
-        if (activeProvider != null) {
-            is = activeProvider.getExtensionResource( resourcePath );
+        if (provider != null) {
+            is = provider.getExtensionResource( resourcePath );
         }
         if (is == null) {
             is = CompilerExtensionRegistry.class.getResourceAsStream( resourcePath );
@@ -120,7 +169,7 @@ public class CompilerExtensionRegistry {
             // resource. This may be necessary if it was contributed as part of a general
             // extension that is not associated with the active extension ID.
             for (CompilerExtensionProvider p : ServiceLoader.load( CompilerExtensionProvider.class )) {
-                if ((p != activeProvider) && ((is = p.getExtensionResource( resourcePath )) != null)) {
+                if ((p != provider) && ((is = p.getExtensionResource( resourcePath )) != null)) {
                     break;
                 }
             }
@@ -129,28 +178,27 @@ public class CompilerExtensionRegistry {
     }
 
     /**
-     * Uses the given provider to load the Spring application context for the specified extension ID.
+     * Uses the given provider to load a new Spring application context for the specified extension ID.
      * 
      * @param extensionId the extension ID whose application context will be loaded
      * @param provider the provider from which to load the application context
+     * @return GenericApplicationContext
      */
-    private static void loadApplicationContext(String extensionId, CompilerExtensionProvider provider) {
+    static GenericApplicationContext newApplicationContext(String extensionId, CompilerExtensionProvider provider) {
         try {
             GenericApplicationContext context = new GenericApplicationContext();
             XmlBeanDefinitionReader beanReader = new XmlBeanDefinitionReader( context );
 
             beanReader.setBeanClassLoader( CompilerExtensionRegistry.class.getClassLoader() );
             beanReader.setValidating( false );
-            loadConfigurationFile( beanReader, APPLICATION_CONTEXT_LOCATION );
+            loadConfigurationFile( beanReader, APPLICATION_CONTEXT_LOCATION, provider );
 
             for (CompilerExtensionProvider p : ServiceLoader.load( CompilerExtensionProvider.class )) {
                 p.loadGeneralCompilerExtensions( context );
             }
             provider.loadCompilerExtension( context, extensionId );
             context.refresh();
-
-            SchemaCompilerApplicationContext.setActiveContext( context );
-            activeExtensionId = extensionId;
+            return context;
 
         } catch (BeansException e) {
             throw new SchemaCompilerRuntimeException( "Unable to load compiler extension: " + extensionId, e );
@@ -162,10 +210,12 @@ public class CompilerExtensionRegistry {
      * 
      * @param beanReader the XML bean definition reader used to load and parse Spring configuration files
      * @param configLocation the classpath location of the configuration file to load
+     * @param provider the provider of the extension whose application context is being loaded
      */
-    private static void loadConfigurationFile(XmlBeanDefinitionReader beanReader, String configLocation) {
+    private static void loadConfigurationFile(XmlBeanDefinitionReader beanReader, String configLocation,
+        CompilerExtensionProvider provider) {
         String configPath = configLocation.startsWith( "classpath:" ) ? configLocation.substring( 10 ) : configLocation;
-        InputStream configStream = CompilerExtensionRegistry.loadResource( configPath );
+        InputStream configStream = loadResource( configPath, provider );
 
         if (configStream == null) {
             throw new BeanDefinitionStoreException( "Unable to load configuration file: " + configLocation );
@@ -0,0 +1,255 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.ioc;
+
+import org.opentravel.schemacompiler.extension.CompilerExtensionProvider;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * Isolated compiler state for a single compilation. By default, the active compiler extension and its Spring
+ * application context are global to the JVM; once a session is opened, they are replaced (for the current thread only)
+ * by an extension and application context that belong to the session. Other components whose state would otherwise be
+ * static may also store their instances in the session so that several compilations can run at the same time without
+ * interfering with one another.
+ *
+ * <p>
+ * Sessions are bound to the thread that opens them, and they must be closed by that same thread. Tasks that are
+ * submitted to other threads as part of the compilation should be wrapped using the <code>propagate()</code> method so
+ * that they run within the session of the thread that created them.
+ *
+ * <pre>
+ * try (CompilerSession session = CompilerSession.open( "OTA2" )) {
+ *     // compile...
+ * }
+ * </pre>
+ */
+public final class CompilerSession implements AutoCloseable {
+
+    private static final ThreadLocal<CompilerSession> currentSession = new ThreadLocal<>();
+
+    private final Map<Class<?>,Object> sessionObjects = new HashMap<>();
+    private final CompilerSession previousSession;
+    private final Thread ownerThread;
+    private volatile String extensionId;
+    private volatile CompilerExtensionProvider provider;
+    private volatile ApplicationContext applicationContext;
+    private boolean closed = false;
+
+    /**
+     * Constructor that specifies the session that was bound to the current thread before this one was opened.
+     *
+     * @param previousSession the previously-bound session (may be null)
+     */
+    private CompilerSession(CompilerSession previousSession) {
+        this.previousSession = previousSession;
+        this.ownerThread = Thread.currentThread();
+    }
+
+    /**
+     * Opens a new session for the specified compiler extension and binds it to the current thread. The session remains
+     * bound until it is closed.
+     *
+     * @param extensionId the ID of the compiler extension to activate for the session
+     * @return CompilerSession
+     * @throws IllegalArgumentException thrown if the extension ID is not recognized
+     */
+    public static CompilerSession open(String extensionId) {
+        CompilerExtensionProvider extensionProvider = CompilerExtensionRegistry.findProvider( extensionId );
+        CompilerSession session = new CompilerSession( currentSession.get() );
+
+        currentSession.set( session );
+
+        try {
+            session.activateExtension( extensionId, extensionProvider );
+
+        } catch (RuntimeException e) {
+            currentSession.set( session.previousSession );
+            throw e;
+        }
+        return session;
+    }
+
+    /**
+     * Returns the session that is bound to the current thread, or null if no session is currently open.
+     *
+     * @return CompilerSession
+     */
+    public static CompilerSession getCurrent() {
+        return currentSession.get();
+    }
+
+    /**
+     * Returns a task that runs the given one within the session that is bound to the current thread (i.e. the thread
+     * that calls this method, not the one that eventually executes the task). If no session is currently bound, the
+     * original task is returned.
+     *
+     * @param task the task to be wrapped
+     * @param <T> the result type of the task
+     * @return Callable&lt;T&gt;
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        CompilerSession session = currentSession.get();
+        Callable<T> result = task;
+
+        if (session != null) {
+            result = () -> {
+                CompilerSession priorSession = currentSession.get();
+
+                currentSession.set( session );
+                try {
+                    return task.call();
+
+                } finally {
+                    restore( priorSession );
+                }
+            };
+        }
+        return result;
+    }
+
+    /**
+     * Returns the ID of the compiler extension that is active for this session.
+     *
+     * @return String
+     */
+    public String getExtensionId() {
+        return extensionId;
+    }
+
+    /**
+     * Returns the provider of the compiler extension that is active for this session.
+     *
+     * @return CompilerExtensionProvider
+     */
+    CompilerExtensionProvider getProvider() {
+        return provider;
+    }
+
+    /**
+     * Returns the Spring application context for this session's compiler extension.
+     *
+     * @return ApplicationContext
+     */
+    public ApplicationContext getApplicationContext() {
+        return applicationContext;
+    }
+
+    /**
+     * Returns the session-scoped instance of the specified type. If an instance has not yet been assigned, one is
+     * created using the factory provided.
+     *
+     * @param type the type of the session object to return
+     * @param factory the factory used to create the object if one does not yet exist
+     * @param <T> the type of the session object
+     * @return T
+     */
+    public <T> T getSessionObject(Class<T> type, Supplier<T> factory) {
+        synchronized (sessionObjects) {
+            Object sessionObject = sessionObjects.get( type );
+
+            if (sessionObject == null) {
+                sessionObject = factory.get();
+                sessionObjects.put( type, sessionObject );
+            }
+            return type.cast( sessionObject );
+        }
+    }
+
+    /**
+     * Assigns the session-scoped instance of the specified type.
+     *
+     * @param type the type of the session object to assign
+     * @param sessionObject the session object to assign (null to remove the existing instance)
+     * @param <T> the type of the session object
+     */
+    public <T> void setSessionObject(Class<T> type, T sessionObject) {
+        synchronized (sessionObjects) {
+            if (sessionObject == null) {
+                sessionObjects.remove( type );
+            } else {
+                sessionObjects.put( type, sessionObject );
+            }
+        }
+    }
+
+    /**
+     * Activates the specified compiler extension for this session, replacing its current application context.
+     *
+     * @param extensionId the ID of the compiler extension to activate
+     * @param extensionProvider the provider of the compiler extension
+     */
+    void activateExtension(String extensionId, CompilerExtensionProvider extensionProvider) {
+        ApplicationContext newContext =
+            CompilerExtensionRegistry.newApplicationContext( extensionId, extensionProvider );
+
+        closeApplicationContext();
+        this.provider = extensionProvider;
+        this.applicationContext = newContext;
+        this.extensionId = extensionId;
+    }
+
+    /**
+     * Closes this session and restores the session (if any) that was bound to the current thread before this one was
+     * opened.
+     *
+     * @throws IllegalStateException thrown if the session is closed by a thread other than the one that opened it
+     */
+    @Override
+    public void close() {
+        if (Thread.currentThread() != ownerThread) {
+            throw new IllegalStateException( "Compiler sessions must be closed by the thread that opened them." );
+        }
+        if (!closed) {
+            closed = true;
+            restore( previousSession );
+            closeApplicationContext();
+
+            synchronized (sessionObjects) {
+                sessionObjects.clear();
+            }
+        }
+    }
+
+    /**
+     * Releases the resources of this session's application context.
+     */
+    private void closeApplicationContext() {
+        if (applicationContext instanceof ConfigurableApplicationContext) {
+            ((ConfigurableApplicationContext) applicationContext).close();
+        }
+    }
+
+    /**
+     * Binds the given session to the current thread, or removes the current binding if the session is null.
+     *
+     * @param session the session to bind
+     */
+    private static void restore(CompilerSession session) {
+        if (session == null) {
+            currentSession.remove();
+        } else {
+            currentSession.set( session );
+        }
+    }
+
+}
@@ -47,11 +47,17 @@ public final class SchemaCompilerApplicationContext implements ApplicationContex
     private static ApplicationContext context;
 
     /**
-     * Returns the spring application context for the schema compiler.
+     * Returns the spring application context for the schema compiler. If a <code>CompilerSession</code> is bound to
+     * the current thread, the session's application context is returned.
      * 
      * @return ApplicationContext
      */
     public static ApplicationContext getContext() {
+        CompilerSession session = CompilerSession.getCurrent();
+
+        if ((session != null) && (session.getApplicationContext() != null)) {
+            return session.getApplicationContext();
+        }
         if (context == null) {
             CompilerExtensionRegistry.setActiveExtension( OTA2CompilerExtensionProvider.OTA2_COMPILER_EXTENSION_ID );
         }
@@ -73,7 +79,10 @@ public final class SchemaCompilerApplicationContext implements ApplicationContex
     @Override
     @SuppressWarnings("squid:S2696")
     public void setApplicationContext(ApplicationContext ctx) {
-        context = ctx;
+        // Contexts that are loaded for a compiler session must not replace the global context
+        if (CompilerSession.getCurrent() == null) {
+            context = ctx;
+        }
     }
 
 }
@@ -20,6 +20,7 @@ import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opentravel.schemacompiler.ioc.CompilerSession;
 import org.opentravel.schemacompiler.ioc.SchemaCompilerApplicationContext;
 import org.opentravel.schemacompiler.loader.impl.DefaultLibraryNamespaceResolver;
 import org.opentravel.schemacompiler.loader.impl.LibraryValidationSource;
@@ -60,6 +61,7 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -67,6 +69,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import javax.xml.XMLConstants;
 
@@ -80,6 +87,15 @@ import javax.xml.XMLConstants;
  * XML input streams to obtain library content. The default <code>LibraryNamespaceResolver</code> is a
  * <code>CatalogLibraryNamespaceResolver</code> whose catalog file is expected at the default location.
  * 
+ * <p>
+ * If more than one parallel load thread is assigned, the loader will first discover the import/include graph of the
+ * requested modules and parse them concurrently on a bounded pool of worker threads. The parsed modules are then
+ * merged into the model by the same depth-first traversal that is used for sequential loads, so the resulting model,
+ * the loader findings, and the <code>LoaderProgressMonitor</code> callbacks are identical in both modes. Parallel
+ * loading is only performed when the assigned <code>LibraryModuleLoader</code> reports that it is thread-safe. The
+ * default thread count is taken from the <code>ota2.loader.parallelThreads</code> system property; if that property is
+ * not set, up to four threads (bounded by the number of available processors) are used.
+ * 
  * @param <C> the content type must be returned by the input source used by the module loader
  * @author S. Livezey
  */
@@ -87,6 +103,8 @@ public final class LibraryModelLoader<C> {
 
     private static final String INVALID_NAMESPACE_URI = "Invalid namespace URI on import: ";
     private static final boolean ENFORCE_CRC_VALIDATION = false;
+    private static final int DEFAULT_PARALLEL_LOAD_THREADS = Math.max( 1, Integer.getInteger(
+        "ota2.loader.parallelThreads", Math.min( Runtime.getRuntime().availableProcessors(), 4 ) ) );
 
     private static final Logger log = LogManager.getLogger( LibraryModelLoader.class );
 
@@ -99,7 +117,9 @@ public final class LibraryModelLoader<C> {
     private LibraryModuleLoader<C> moduleLoader;
     private LoaderProgressMonitor progressMonitor;
     private boolean resolveModelReferences = true;
+    private int parallelLoadThreads = DEFAULT_PARALLEL_LOAD_THREADS;
     private TLModel libraryModel;
+    private Map<String,ParsedModule> prefetchedModules = new HashMap<>();
 
     private ValidationFindings loaderFindings = new ValidationFindings();
     private Map<String,ValidationFinding> importLoaderFindings = new HashMap<>();
@@ -237,6 +257,27 @@ public final class LibraryModelLoader<C> {
         this.resolveModelReferences = resolveModelReferences;
     }
 
+    /**
+     * Returns the maximum number of threads that will be used to parse library and schema modules concurrently. A
+     * value of one indicates that all modules will be parsed sequentially.
+     * 
+     * @return int
+     */
+    public int getParallelLoadThreads() {
+        return parallelLoadThreads;
+    }
+
+    /**
+     * Assigns the maximum number of threads that will be used to parse library and schema modules concurrently. A
+     * value of one indicates that all modules will be parsed sequentially. Modules are always parsed sequentially if
+     * the assigned module loader is not thread-safe.
+     * 
+     * @param parallelLoadThreads the number of parser threads to assign (values less than one are ignored)
+     */
+    public void setParallelLoadThreads(int parallelLoadThreads) {
+        this.parallelLoadThreads = Math.max( parallelLoadThreads, 1 );
+    }
+
     /**
      * Loads the library with the specified namespace and all dependent library modules.
      * 
@@ -252,6 +293,7 @@ public final class LibraryModelLoader<C> {
             JaxbModelArtifacts jaxbArtifacts = new JaxbModelArtifacts();
 
             libraryModel.setListenersEnabled( false );
+            prefetchModules( namespaceInputSources );
 
             for (LibraryInputSource<C> nsInputSource : namespaceInputSources) {
                 loadModuleAndDependencies( nsInputSource, libraryNamespace.toString(), OperationType.CLIENT_REQUESTED,
@@ -272,6 +314,7 @@ public final class LibraryModelLoader<C> {
 
         } finally {
             libraryModel.setListenersEnabled( listenerFlag );
+            prefetchedModules.clear();
         }
     }
 
@@ -288,6 +331,7 @@ public final class LibraryModelLoader<C> {
             JaxbModelArtifacts jaxbArtifacts = new JaxbModelArtifacts();
 
             libraryModel.setListenersEnabled( false );
+            prefetchModules( Arrays.asList( inputSource ) );
             loadModuleAndDependencies( inputSource, null, OperationType.CLIENT_REQUESTED, jaxbArtifacts );
 
             // Build a list of namespaces for the modules we just loaded
@@ -337,6 +381,7 @@ public final class LibraryModelLoader<C> {
 
         } finally {
             libraryModel.setListenersEnabled( listenerFlag );
+            prefetchedModules.clear();
         }
     }
 
@@ -411,10 +456,10 @@ public final class LibraryModelLoader<C> {
     private void loadLibraryAndDependencies(LibraryInputSource<C> inputSource, String expectedNamespace,
         OperationType operationType, JaxbModelArtifacts jaxbArtifacts) throws LibraryLoaderException {
         notifyLoadStarting( inputSource );
-        ValidationFindings moduleFindings = new ValidationFindings();
-        LibraryModuleInfo<Object> libraryInfo = moduleLoader.loadLibrary( inputSource, moduleFindings );
+        ParsedModule parsedModule = parseModule( inputSource );
+        LibraryModuleInfo<Object> libraryInfo = parsedModule.getLibraryInfo();
 
-        addLoaderFindings( moduleFindings );
+        addLoaderFindings( parsedModule.getModuleFindings() );
         if (progressMonitor != null) {
             progressMonitor.libraryLoaded();
         }
@@ -582,10 +627,10 @@ public final class LibraryModelLoader<C> {
     private void loadSchemaAndDependencies(LibraryInputSource<C> inputSource, String expectedNamespace,
         OperationType operationType, JaxbModelArtifacts jaxbArtifacts) throws LibraryLoaderException {
         notifyLoadStarting( inputSource );
-        ValidationFindings moduleFindings = new ValidationFindings();
-        LibraryModuleInfo<Schema> schemaInfo = moduleLoader.loadSchema( inputSource, moduleFindings );
+        ParsedModule parsedModule = parseModule( inputSource );
+        LibraryModuleInfo<Schema> schemaInfo = parsedModule.getSchemaInfo();
 
-        addLoaderFindings( moduleFindings );
+        addLoaderFindings( parsedModule.getModuleFindings() );
         if (progressMonitor != null) {
             progressMonitor.libraryLoaded();
         }
@@ -816,6 +861,181 @@ public final class LibraryModelLoader<C> {
         }
     }
 
+    /**
+     * Returns the parsed content of the given library or schema module. If the module was parsed in advance by the
+     * parallel prefetch process, those results are returned; otherwise, the module is parsed on the current thread.
+     * 
+     * @param inputSource the input source for the library or schema to be parsed
+     * @return ParsedModule
+     * @throws LibraryLoaderException thrown if a system-level exception occurs
+     */
+    private ParsedModule parseModule(LibraryInputSource<C> inputSource) throws LibraryLoaderException {
+        ParsedModule parsedModule = prefetchedModules.remove( inputSource.getLibraryURL().toExternalForm() );
+
+        if (parsedModule == null) {
+            parsedModule = new ParsedModule( inputSource );
+            parsedModule.parse();
+        }
+        return parsedModule;
+    }
+
+    /**
+     * Discovers the import/include graph that is reachable from the given input sources and parses each of its modules
+     * on a bounded pool of worker threads. The parsed results are held for consumption by the (sequential) dependency
+     * walk that follows. If the parallel load thread count is one or the module loader is not thread-safe, this
+     * method has no effect.
+     * 
+     * <p>
+     * The prefetch process is a best-effort optimization; any module that cannot be resolved or parsed here will
+     * simply be parsed (and its errors reported) during the sequential walk.
+     * 
+     * @param inputSources the input sources for the root modules of the load operation
+     */
+    private void prefetchModules(Collection<LibraryInputSource<C>> inputSources) {
+        if ((parallelLoadThreads <= 1) || !moduleLoader.isThreadSafe()) {
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool( parallelLoadThreads );
+        try {
+            CompletionService<ParsedModule> parseService = new ExecutorCompletionService<>( executor );
+            Set<String> submittedUrls = new HashSet<>();
+            int pendingCount = 0;
+
+            for (LibraryInputSource<C> inputSource : inputSources) {
+                pendingCount += submitPrefetch( inputSource, submittedUrls, parseService );
+            }
+
+            while (pendingCount > 0) {
+                ParsedModule parsedModule = parseService.take().get();
+
+                pendingCount--;
+
+                if (!parsedModule.isParseFailed()) {
+                    prefetchedModules.put( parsedModule.getLibraryUrl(), parsedModule );
+
+                    for (LibraryInputSource<C> dependency : findDependencies( parsedModule )) {
+                        pendingCount += submitPrefetch( dependency, submittedUrls, parseService );
+                    }
+                }
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+        } catch (ExecutionException e) {
+            // Ignore - remaining modules will be parsed by the sequential walk
+            log.debug( "Error during parallel module prefetch.", e );
+
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Submits the given input source for parsing unless it has already been submitted or is already a member of the
+     * current model. Returns the number of parse tasks that were submitted (zero or one).
+     * 
+     * @param inputSource the input source for the module to be parsed
+     * @param submittedUrls the URLs of all modules that have been submitted so far
+     * @param parseService the service that will perform the parse
+     * @return int
+     */
+    private int submitPrefetch(LibraryInputSource<C> inputSource, Set<String> submittedUrls,
+        CompletionService<ParsedModule> parseService) {
+        int submitCount = 0;
+
+        if ((inputSource != null) && !libraryModel.hasLibrary( inputSource.getLibraryURL() )
+            && submittedUrls.add( inputSource.getLibraryURL().toExternalForm() )) {
+            ParsedModule parsedModule = new ParsedModule( inputSource );
+
+            parseService.submit( CompilerSession.propagate( () -> {
+                try {
+                    parsedModule.parse();
+
+                } catch (LibraryLoaderException | RuntimeException e) {
+                    parsedModule.setParseFailed( true );
+                }
+                return parsedModule;
+            } ) );
+            submitCount++;
+        }
+        return submitCount;
+    }
+
+    /**
+     * Returns the input sources for all of the include and import dependencies of the given module. Resolution
+     * errors are ignored since they will be reported during the sequential dependency walk.
+     * 
+     * @param parsedModule the parsed library or schema module whose dependencies are to be resolved
+     * @return List&lt;LibraryInputSource&lt;C&gt;&gt;
+     */
+    private List<LibraryInputSource<C>> findDependencies(ParsedModule parsedModule) {
+        List<LibraryInputSource<C>> dependencies = new ArrayList<>();
+        URL moduleUrl = URLUtils.toURL( parsedModule.getLibraryUrl() );
+        LibraryModuleInfo<Object> libraryInfo = parsedModule.getLibraryInfo();
+        LibraryModuleInfo<Schema> schemaInfo = parsedModule.getSchemaInfo();
+
+        if (libraryInfo != null) {
+            for (String include : libraryInfo.getIncludes()) {
+                try {
+                    namespaceResolver.setContextLibrary( libraryInfo, moduleUrl );
+                    URL includeUrl =
+                        namespaceResolver.resovleLibraryInclude( new URI( libraryInfo.getNamespace() ), include );
+
+                    if (includeUrl != null) {
+                        dependencies.add( moduleLoader.newInputSource( includeUrl ) );
+                    }
+                } catch (Exception e) {
+                    // Ignore and continue
+                }
+            }
+            for (LibraryModuleImport nsImport : libraryInfo.getImports()) {
+                if (!StringUtils.isBlank( nsImport.getNamespace() ) && (!isBuiltInNamespace( nsImport.getNamespace() )
+                    || !CollectionUtils.isEmpty( nsImport.getFileHints() ))) {
+                    namespaceResolver.setContextLibrary( libraryInfo, moduleUrl );
+                    addImportDependencies( nsImport, libraryInfo.getVersionScheme(), dependencies );
+                }
+            }
+
+        } else if (schemaInfo != null) {
+            URL folderUrl = URLUtils.getParentURL( moduleUrl );
+
+            for (String include : schemaInfo.getIncludes()) {
+                try {
+                    dependencies.add( moduleLoader.newInputSource( URLUtils.getResolvedURL( include, folderUrl ) ) );
+
+                } catch (MalformedURLException e) {
+                    // Ignore and continue
+                }
+            }
+            for (LibraryModuleImport nsImport : schemaInfo.getImports()) {
+                if (!StringUtils.isEmpty( nsImport.getNamespace() ) && !isBuiltInNamespace( nsImport.getNamespace() )) {
+                    namespaceResolver.setContextSchema( schemaInfo, moduleUrl );
+                    addImportDependencies( nsImport, null, dependencies );
+                }
+            }
+        }
+        return dependencies;
+    }
+
+    /**
+     * Resolves the input sources for the given namespace import and adds them to the list of dependencies provided.
+     * 
+     * @param nsImport the namespace import to be resolved
+     * @param versionScheme the version scheme of the importing module (may be null)
+     * @param dependencies the list of dependency input sources being assembled
+     */
+    private void addImportDependencies(LibraryModuleImport nsImport, String versionScheme,
+        List<LibraryInputSource<C>> dependencies) {
+        try {
+            dependencies
+                .addAll( getInputSources( new URI( nsImport.getNamespace() ), versionScheme, nsImport.getFileHints() ) );
+
+        } catch (Exception e) {
+            // Ignore and continue
+        }
+    }
+
     /**
      * Transforms each of the JAXB schema artifacts provided and incorporates them into the current model. The contents
      * of the model are not validated by this method.
@@ -1231,6 +1451,97 @@ public final class LibraryModelLoader<C> {
         return ENFORCE_CRC_VALIDATION;
     }
 
+    /**
+     * Container for the parsed content of a single library or schema module, along with the findings that were
+     * reported by the module loader while parsing it.
+     */
+    private class ParsedModule {
+
+        private LibraryInputSource<C> inputSource;
+        private LibraryModuleInfo<Object> libraryInfo;
+        private LibraryModuleInfo<Schema> schemaInfo;
+        private ValidationFindings moduleFindings = new ValidationFindings();
+        private boolean parseFailed;
+
+        /**
+         * Constructor that specifies the input source for the module to be parsed.
+         * 
+         * @param inputSource the input source for the library or schema module
+         */
+        public ParsedModule(LibraryInputSource<C> inputSource) {
+            this.inputSource = inputSource;
+        }
+
+        /**
+         * Parses the content of the module using the loader's module loader.
+         * 
+         * @throws LibraryLoaderException thrown if a system-level exception occurs
+         */
+        public void parse() throws LibraryLoaderException {
+            if (moduleLoader.isLibraryInputSource( inputSource )) {
+                libraryInfo = moduleLoader.loadLibrary( inputSource, moduleFindings );
+
+            } else {
+                schemaInfo = moduleLoader.loadSchema( inputSource, moduleFindings );
+            }
+        }
+
+        /**
+         * Returns the external form of the module's URL.
+         *
+         * @return String
+         */
+        public String getLibraryUrl() {
+            return inputSource.getLibraryURL().toExternalForm();
+        }
+
+        /**
+         * Returns the JAXB meta-data for the module if it is a library (null for XML schemas).
+         *
+         * @return LibraryModuleInfo&lt;Object&gt;
+         */
+        public LibraryModuleInfo<Object> getLibraryInfo() {
+            return libraryInfo;
+        }
+
+        /**
+         * Returns the JAXB meta-data for the module if it is an XML schema (null for libraries).
+         *
+         * @return LibraryModuleInfo&lt;Schema&gt;
+         */
+        public LibraryModuleInfo<Schema> getSchemaInfo() {
+            return schemaInfo;
+        }
+
+        /**
+         * Returns the findings that were reported by the module loader while parsing the module.
+         *
+         * @return ValidationFindings
+         */
+        public ValidationFindings getModuleFindings() {
+            return moduleFindings;
+        }
+
+        /**
+         * Returns true if a system-level exception prevented the module from being parsed.
+         *
+         * @return boolean
+         */
+        public boolean isParseFailed() {
+            return parseFailed;
+        }
+
+        /**
+         * Assigns the flag indicating whether a system-level exception prevented the module from being parsed.
+         *
+         * @param parseFailed the flag value to assign
+         */
+        public void setParseFailed(boolean parseFailed) {
+            this.parseFailed = parseFailed;
+        }
+
+    }
+
     /**
      * Container for all loader artifacts that have not yet been loaded into the main library model.
      */
@@ -71,4 +71,15 @@ public interface LibraryModuleLoader<C> {
     public LibraryModuleInfo<Schema> loadSchema(LibraryInputSource<C> inputSource,
         ValidationFindings validationFindings) throws LibraryLoaderException;
 
+    /**
+     * Returns true if this loader may be called concurrently from multiple threads. Model loaders will only parse
+     * modules in parallel when their module loader is thread-safe. By default, module loaders are assumed to be
+     * single-threaded.
+     * 
+     * @return boolean
+     */
+    public default boolean isThreadSafe() {
+        return false;
+    }
+
 }
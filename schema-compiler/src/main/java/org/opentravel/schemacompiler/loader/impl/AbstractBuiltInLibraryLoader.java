@@ -21,6 +21,9 @@ import org.opentravel.schemacompiler.ioc.SchemaDeclaration;
 import org.opentravel.schemacompiler.loader.BuiltInLibraryLoader;
 import org.opentravel.schemacompiler.loader.LibraryInputSource;
 import org.opentravel.schemacompiler.loader.LibraryLoaderException;
+import org.opentravel.schemacompiler.loader.LibraryModuleInfo;
+import org.opentravel.schemacompiler.loader.LibraryModuleLoader;
+import org.opentravel.schemacompiler.validate.ValidationFindings;
 
 import java.io.InputStream;
 import java.net.MalformedURLException;
@@ -30,11 +33,51 @@ import java.net.URL;
  * Base class for <code>BuiltInLibraryLoader</code> components that obtain content from a file on the file system or
  * from the local classpath.
  * 
+ * <p>
+ * The content of the built-in library is parsed only once for the life of the loader (a singleton within the compiler's
+ * application context). The resulting JAXB artifact is treated as a read-only snapshot from which each new model's
+ * built-in library instance is transformed, so no model can observe changes made to the built-ins of another.
+ * 
  * @author S. Livezey
  */
 public abstract class AbstractBuiltInLibraryLoader implements BuiltInLibraryLoader {
 
     private SchemaDeclaration libraryDeclaration;
+    private LibraryModuleInfo<?> moduleSnapshot;
+    private boolean snapshotLoaded;
+
+    /**
+     * Parses the content of the built-in library from the input source provided.
+     * 
+     * @param moduleLoader the module loader to use when parsing the library content
+     * @param inputSource the input source for the built-in library
+     * @param findings the validation findings where parsing errors and warnings should be reported
+     * @return LibraryModuleInfo&lt;?&gt;
+     * @throws LibraryLoaderException thrown if a system-level exception occurs
+     */
+    protected abstract LibraryModuleInfo<?> parseModule(LibraryModuleLoader<InputStream> moduleLoader,
+        LibraryInputSource<InputStream> inputSource, ValidationFindings findings) throws LibraryLoaderException;
+
+    /**
+     * Returns the shared snapshot of the parsed built-in library content. The content is parsed on the first call to
+     * this method and re-used for all subsequent calls. If the content could not be parsed without errors or warnings,
+     * this method will return null.
+     * 
+     * @param inputSource the input source for the built-in library
+     * @return LibraryModuleInfo&lt;?&gt;
+     * @throws LibraryLoaderException thrown if a system-level exception occurs
+     */
+    protected synchronized LibraryModuleInfo<?> getModuleSnapshot(LibraryInputSource<InputStream> inputSource)
+        throws LibraryLoaderException {
+        if (!snapshotLoaded) {
+            ValidationFindings findings = new ValidationFindings();
+            LibraryModuleInfo<?> moduleInfo = parseModule( new MultiVersionLibraryModuleLoader(), inputSource, findings );
+
+            moduleSnapshot = findings.hasFinding() ? null : moduleInfo;
+            snapshotLoaded = true;
+        }
+        return moduleSnapshot;
+    }
 
     /**
      * Returns an input source for the schema location that has been specified for the built-in library file.
@@ -111,8 +154,10 @@ public abstract class AbstractBuiltInLibraryLoader implements BuiltInLibraryLoad
      * 
      * @param libraryDeclaration the declaration to assign
      */
-    public void setLibraryDeclaration(SchemaDeclaration libraryDeclaration) {
+    public synchronized void setLibraryDeclaration(SchemaDeclaration libraryDeclaration) {
         this.libraryDeclaration = libraryDeclaration;
+        this.moduleSnapshot = null;
+        this.snapshotLoaded = false;
     }
 
 }
@@ -47,8 +47,6 @@ import javax.xml.XMLConstants;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
-import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
 import javax.xml.stream.util.StreamReaderDelegate;
@@ -87,6 +85,17 @@ public abstract class AbstractLibraryModuleLoader implements LibraryModuleLoader
         return !urlPath.toLowerCase().endsWith( ".xsd" );
     }
 
+    /**
+     * Stream-based module loaders share only immutable JAXB contexts and pooled unmarshallers, so they may be called
+     * from multiple parser threads.
+     * 
+     * @see org.opentravel.schemacompiler.loader.LibraryModuleLoader#isThreadSafe()
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     /**
      * Loads the content of the JAXB content from the specified input source. If a validation schema is provided, it
      * will be used to validate the XML content of the file.
@@ -113,13 +122,9 @@ public abstract class AbstractLibraryModuleLoader implements LibraryModuleLoader
 
         try (Reader reader = (inputStream == null) ? null : new InputStreamReader( inputStream )) {
             if (reader != null) {
-                Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-
-                if (validationSchema != null) {
-                    unmarshaller.setSchema( validationSchema );
-                }
+                JAXBElement<?> documentElement = UnmarshallerPool.getInstance().unmarshal( jaxbContext,
+                    validationSchema, u -> (JAXBElement<?>) u.unmarshal( reader ) );
 
-                JAXBElement<?> documentElement = (JAXBElement<?>) unmarshaller.unmarshal( reader );
                 jaxbLibrary = documentElement.getValue();
 
             } else {
@@ -146,14 +151,12 @@ public abstract class AbstractLibraryModuleLoader implements LibraryModuleLoader
             Schema schema = null;
 
             if (is != null) {
-                XMLStreamReader xmlsReader =
-                    XMLInputFactory.newInstance().createXMLStreamReader( inputSource.getLibraryContent() );
+                UnmarshallerPool pool = UnmarshallerPool.getInstance();
+                XMLStreamReader xmlsReader = pool.getXMLInputFactory().createXMLStreamReader( is );
                 Map<String,String> namespacePrefixMappings = new HashMap<>();
-                Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
 
-                unmarshaller.setSchema( schemaValidationSchema );
-                schema = (Schema) unmarshaller
-                    .unmarshal( new PrefixMappingXMLStreamReader( xmlsReader, namespacePrefixMappings ) );
+                schema = pool.unmarshal( jaxbContext, schemaValidationSchema, u -> (Schema) u
+                    .unmarshal( new PrefixMappingXMLStreamReader( xmlsReader, namespacePrefixMappings ) ) );
 
                 // Use the schema's ID field to store the prefix value
                 schema.setId( namespacePrefixMappings.get( schema.getTargetNamespace() ) );
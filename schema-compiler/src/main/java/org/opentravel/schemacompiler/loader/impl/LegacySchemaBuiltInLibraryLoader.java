@@ -41,6 +41,17 @@ import javax.xml.namespace.QName;
  */
 public class LegacySchemaBuiltInLibraryLoader extends AbstractBuiltInLibraryLoader {
 
+    /**
+     * @see org.opentravel.schemacompiler.loader.impl.AbstractBuiltInLibraryLoader#parseModule(org.opentravel.schemacompiler.loader.LibraryModuleLoader,
+     *      org.opentravel.schemacompiler.loader.LibraryInputSource,
+     *      org.opentravel.schemacompiler.validate.ValidationFindings)
+     */
+    @Override
+    protected LibraryModuleInfo<?> parseModule(LibraryModuleLoader<InputStream> moduleLoader,
+        LibraryInputSource<InputStream> inputSource, ValidationFindings findings) throws LibraryLoaderException {
+        return moduleLoader.loadSchema( inputSource, findings );
+    }
+
     /**
      * @see org.opentravel.schemacompiler.loader.BuiltInLibraryLoader#loadBuiltInLibrary()
      */
@@ -50,13 +61,12 @@ public class LegacySchemaBuiltInLibraryLoader extends AbstractBuiltInLibraryLoad
         BuiltInLibrary library = null;
 
         try {
-            // First, load the schema from the specified classpath location
-            LibraryModuleLoader<InputStream> moduleLoader = new MultiVersionLibraryModuleLoader();
-            ValidationFindings findings = new ValidationFindings();
-            LibraryModuleInfo<Schema> schemaInfo = moduleLoader.loadSchema( inputSource, findings );
+            // First, obtain the parsed schema content from the shared snapshot
+            @SuppressWarnings("unchecked")
+            LibraryModuleInfo<Schema> schemaInfo = (LibraryModuleInfo<Schema>) getModuleSnapshot( inputSource );
 
             // Next, transform the schema into an XSDLibrary
-            if (!findings.hasFinding()) {
+            if (schemaInfo != null) {
                 DefaultTransformerContext transformContext = new DefaultTransformerContext();
                 TransformerFactory<DefaultTransformerContext> transformerFactory = TransformerFactory
                     .getInstance( SchemaCompilerApplicationContext.LOADER_TRANSFORMER_FACTORY, transformContext );
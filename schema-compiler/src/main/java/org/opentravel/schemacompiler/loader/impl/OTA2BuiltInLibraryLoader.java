@@ -39,6 +39,17 @@ import javax.xml.namespace.QName;
  */
 public class OTA2BuiltInLibraryLoader extends AbstractBuiltInLibraryLoader {
 
+    /**
+     * @see org.opentravel.schemacompiler.loader.impl.AbstractBuiltInLibraryLoader#parseModule(org.opentravel.schemacompiler.loader.LibraryModuleLoader,
+     *      org.opentravel.schemacompiler.loader.LibraryInputSource,
+     *      org.opentravel.schemacompiler.validate.ValidationFindings)
+     */
+    @Override
+    protected LibraryModuleInfo<?> parseModule(LibraryModuleLoader<InputStream> moduleLoader,
+        LibraryInputSource<InputStream> inputSource, ValidationFindings findings) throws LibraryLoaderException {
+        return moduleLoader.loadLibrary( inputSource, findings );
+    }
+
     /**
      * @see org.opentravel.schemacompiler.loader.BuiltInLibraryLoader#loadBuiltInLibrary()
      */
@@ -48,13 +59,12 @@ public class OTA2BuiltInLibraryLoader extends AbstractBuiltInLibraryLoader {
         BuiltInLibrary library = null;
 
         try {
-            // First, load the schema from the specified classpath location
-            LibraryModuleLoader<InputStream> moduleLoader = new MultiVersionLibraryModuleLoader();
-            ValidationFindings findings = new ValidationFindings();
-            LibraryModuleInfo<Object> libraryInfo = moduleLoader.loadLibrary( inputSource, findings );
+            // First, obtain the parsed library content from the shared snapshot
+            @SuppressWarnings("unchecked")
+            LibraryModuleInfo<Object> libraryInfo = (LibraryModuleInfo<Object>) getModuleSnapshot( inputSource );
 
-            // Next, transform the schema into an XSDLibrary
-            if (!findings.hasFinding()) {
+            // Next, transform the library into a new TLLibrary instance
+            if (libraryInfo != null) {
                 DefaultTransformerContext transformContext = new DefaultTransformerContext();
                 TransformerFactory<DefaultTransformerContext> transformFactory = TransformerFactory
                     .getInstance( SchemaCompilerApplicationContext.LOADER_TRANSFORMER_FACTORY, transformContext );
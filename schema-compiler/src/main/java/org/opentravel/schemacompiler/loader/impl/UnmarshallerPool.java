@@ -0,0 +1,189 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.loader.impl;
+
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.validation.Schema;
+
+/**
+ * Thread-safe pool of re-usable JAXB <code>Unmarshaller</code> instances and StAX <code>XMLInputFactory</code>
+ * instances for use by the library module loaders. Unmarshallers are pooled separately for each combination of JAXB
+ * context (i.e. library schema version) and validation schema (or the lack of one), so that a borrowed unmarshaller is
+ * always fully configured for the caller's purpose.
+ *
+ * <p>
+ * Unmarshallers are not thread-safe, so each one is used by a single thread at a time and returned to the pool only
+ * after a successful unmarshal. Instances that fail during an unmarshal are discarded. <code>XMLInputFactory</code>
+ * instances are not guaranteed to be thread-safe either, so one factory is maintained for each thread.
+ *
+ * @author S. Livezey
+ */
+public final class UnmarshallerPool {
+
+    private static final int MAX_IDLE_UNMARSHALLERS = Math.max( Runtime.getRuntime().availableProcessors() * 2, 4 );
+
+    private static UnmarshallerPool defaultInstance = new UnmarshallerPool();
+
+    private final Map<PoolKey,BlockingQueue<Unmarshaller>> idleUnmarshallers = new ConcurrentHashMap<>();
+    private final ThreadLocal<XMLInputFactory> xmlInputFactory = ThreadLocal.withInitial( XMLInputFactory::newInstance );
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private UnmarshallerPool() {}
+
+    /**
+     * Returns the shared pool instance for the current JVM.
+     *
+     * @return UnmarshallerPool
+     */
+    public static UnmarshallerPool getInstance() {
+        return defaultInstance;
+    }
+
+    /**
+     * Performs an unmarshal operation using a pooled <code>Unmarshaller</code> that was created from the given JAXB
+     * context and configured with the specified validation schema.
+     *
+     * @param jaxbContext the JAXB context from which the unmarshaller should be created
+     * @param validationSchema the validation schema to assign to the unmarshaller (null to disable validation)
+     * @param action the unmarshal operation to perform
+     * @param <T> the type of object returned by the unmarshal operation
+     * @return T
+     * @throws JAXBException thrown if the unmarshaller cannot be created or the unmarshal operation fails
+     */
+    public <T> T unmarshal(JAXBContext jaxbContext, Schema validationSchema, UnmarshalAction<T> action)
+        throws JAXBException {
+        PoolKey poolKey = new PoolKey( jaxbContext, validationSchema );
+        BlockingQueue<Unmarshaller> idleQueue =
+            idleUnmarshallers.computeIfAbsent( poolKey, k -> new LinkedBlockingQueue<>( MAX_IDLE_UNMARSHALLERS ) );
+        Unmarshaller unmarshaller = idleQueue.poll();
+        boolean success = false;
+
+        if (unmarshaller == null) {
+            unmarshaller = jaxbContext.createUnmarshaller();
+            unmarshaller.setSchema( validationSchema );
+        }
+
+        try {
+            T result = action.unmarshal( unmarshaller );
+
+            success = true;
+            return result;
+
+        } finally {
+            if (success) {
+                idleQueue.offer( unmarshaller );
+            }
+        }
+    }
+
+    /**
+     * Returns the <code>XMLInputFactory</code> instance for the current thread.
+     *
+     * @return XMLInputFactory
+     */
+    public XMLInputFactory getXMLInputFactory() {
+        return xmlInputFactory.get();
+    }
+
+    /**
+     * Returns the number of idle unmarshallers currently held by the pool.
+     *
+     * @return int
+     */
+    public int getIdleCount() {
+        int count = 0;
+
+        for (BlockingQueue<Unmarshaller> idleQueue : idleUnmarshallers.values()) {
+            count += idleQueue.size();
+        }
+        return count;
+    }
+
+    /**
+     * Callback interface used to perform an unmarshal operation with a pooled <code>Unmarshaller</code>.
+     *
+     * @param <T> the type of object returned by the unmarshal operation
+     */
+    @FunctionalInterface
+    public interface UnmarshalAction<T> {
+
+        /**
+         * Performs the unmarshal operation using the unmarshaller provided.
+         *
+         * @param unmarshaller the pooled unmarshaller to use
+         * @return T
+         * @throws JAXBException thrown if the unmarshal operation fails
+         */
+        public T unmarshal(Unmarshaller unmarshaller) throws JAXBException;
+
+    }
+
+    /**
+     * Identity-based key for pooled unmarshallers that share the same JAXB context and validation schema.
+     */
+    private static class PoolKey {
+
+        private final JAXBContext jaxbContext;
+        private final Schema validationSchema;
+
+        /**
+         * Constructor that specifies the JAXB context and validation schema for the key.
+         *
+         * @param jaxbContext the JAXB context of the pooled unmarshallers
+         * @param validationSchema the validation schema of the pooled unmarshallers (may be null)
+         */
+        public PoolKey(JAXBContext jaxbContext, Schema validationSchema) {
+            this.jaxbContext = jaxbContext;
+            this.validationSchema = validationSchema;
+        }
+
+        /**
+         * @see java.lang.Object#hashCode()
+         */
+        @Override
+        public int hashCode() {
+            return (31 * System.identityHashCode( jaxbContext )) + System.identityHashCode( validationSchema );
+        }
+
+        /**
+         * @see java.lang.Object#equals(java.lang.Object)
+         */
+        @Override
+        public boolean equals(Object obj) {
+            boolean result = false;
+
+            if (obj instanceof PoolKey) {
+                PoolKey other = (PoolKey) obj;
+
+                result = (jaxbContext == other.jaxbContext) && (validationSchema == other.validationSchema);
+            }
+            return result;
+        }
+
+    }
+
+}
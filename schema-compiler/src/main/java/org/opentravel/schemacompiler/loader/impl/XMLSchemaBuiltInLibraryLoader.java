@@ -25,6 +25,7 @@ import org.opentravel.schemacompiler.model.XSDSimpleType;
 
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import javax.xml.XMLConstants;
@@ -39,7 +40,7 @@ public class XMLSchemaBuiltInLibraryLoader implements BuiltInLibraryLoader {
 
     private static final URL XML_SCHEMA_LIBRARY_URL;
     private static final String XML_SCHEMA_LIBRARY_NAME = "XMLSchema";
-    private static final List<LibraryMember> XML_SCHEMA_LIBRARY_MEMBERS;
+    private static final List<String> XML_SCHEMA_TYPE_NAMES;
 
     private String defaultPrefix = "xsd";
 
@@ -66,9 +67,15 @@ public class XMLSchemaBuiltInLibraryLoader implements BuiltInLibraryLoader {
      */
     @Override
     public BuiltInLibrary loadBuiltInLibrary() throws LibraryLoaderException {
+        List<LibraryMember> members = new ArrayList<>();
+
+        // Member instances are owned by a single library, so each model receives its own copies
+        for (String typeName : XML_SCHEMA_TYPE_NAMES) {
+            members.add( new XSDSimpleType( typeName, null ) );
+        }
         return new BuiltInLibrary(
             new QName( XMLConstants.W3C_XML_SCHEMA_NS_URI, XML_SCHEMA_LIBRARY_NAME, defaultPrefix ),
-            XML_SCHEMA_LIBRARY_URL, XML_SCHEMA_LIBRARY_MEMBERS );
+            XML_SCHEMA_LIBRARY_URL, members );
     }
 
     /**
@@ -76,12 +83,12 @@ public class XMLSchemaBuiltInLibraryLoader implements BuiltInLibraryLoader {
      */
     static {
         try {
-            List<LibraryMember> members = new ArrayList<>();
+            List<String> typeNames = new ArrayList<>();
 
             for (EnumXsdSimpleType xsdSimpleType : EnumXsdSimpleType.values()) {
-                members.add( new XSDSimpleType( xsdSimpleType.value(), null ) );
+                typeNames.add( xsdSimpleType.value() );
             }
-            XML_SCHEMA_LIBRARY_MEMBERS = members;
+            XML_SCHEMA_TYPE_NAMES = Collections.unmodifiableList( typeNames );
             XML_SCHEMA_LIBRARY_URL = new URL( XMLConstants.W3C_XML_SCHEMA_NS_URI );
 
         } catch (Exception e) {
@@ -32,7 +32,10 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Base class for the various types of libraries that can be managed within a <code>TLModel</code> instance.
@@ -49,6 +52,7 @@ public abstract class AbstractLibrary extends TLModelElement {
     private IncludeListManager includeManager = new IncludeListManager( this );
     private NamespaceImportListManager namespaceImportManager = new NamespaceImportListManager( this );
     private List<LibraryMember> namedMembers = new ArrayList<>();
+    private volatile MemberIndex memberIndex;
     protected String versionScheme;
     protected VersionScheme vScheme;
 
@@ -455,16 +459,53 @@ public abstract class AbstractLibrary extends TLModelElement {
         LibraryMember member = null;
 
         if (memberName != null) {
-            for (LibraryMember e : namedMembers) {
-                if (memberName.equals( e.getLocalName() )) {
-                    member = e;
-                    break;
-                }
+            MemberIndex index = getMemberIndex();
+
+            member = index.findMember( memberName, namedMembers );
+
+            if ((member != null) && !memberName.equals( member.getLocalName() )) {
+                // Stale entry for a member renamed without notification; rebuild and try again
+                memberIndex = null;
+                index = getMemberIndex();
+                member = index.findMember( memberName, namedMembers );
             }
         }
         return member;
     }
 
+    /**
+     * Returns the name index for the members of this library, building it if it has not yet been created.
+     * 
+     * @return MemberIndex
+     */
+    private MemberIndex getMemberIndex() {
+        MemberIndex index = memberIndex;
+
+        if (index == null) {
+            index = new MemberIndex();
+
+            for (LibraryMember member : namedMembers) {
+                index.add( member );
+            }
+            memberIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Moves the given member to the index entry for its current name. This method is called whenever the name of one
+     * of this library's members is modified.
+     * 
+     * @param member the library member that was renamed
+     */
+    void memberRenamed(LibraryMember member) {
+        MemberIndex index = memberIndex;
+
+        if (index != null) {
+            index.rename( member );
+        }
+    }
+
     /**
      * Adds a <code>LibraryMember</code> member to the list of type and service definitions for this library.
      * 
@@ -478,8 +519,14 @@ public abstract class AbstractLibrary extends TLModelElement {
                 throw new IllegalArgumentException( "Items of type '" + memberType + "' are not allowed as members of "
                     + this.getClass().getSimpleName() + " libraries." );
             }
+            MemberIndex index = memberIndex;
+
             namedMember.setOwningLibrary( this );
             this.namedMembers.add( namedMember );
+
+            if (index != null) {
+                index.add( namedMember );
+            }
             publishEvent( new ModelEventBuilder( ModelEventType.MEMBER_ADDED, this ).setAffectedItem( namedMember )
                 .buildEvent() );
         }
@@ -493,7 +540,13 @@ public abstract class AbstractLibrary extends TLModelElement {
     public void removeNamedMember(LibraryMember namedMember) {
         if (namedMembers.contains( namedMember )) {
             namedMember.setOwningLibrary( null );
+            MemberIndex index = memberIndex;
+
             this.namedMembers.remove( namedMember );
+
+            if (index != null) {
+                index.remove( namedMember );
+            }
             publishEvent( new ModelEventBuilder( ModelEventType.MEMBER_REMOVED, this ).setAffectedItem( namedMember )
                 .buildEvent() );
         }
@@ -581,4 +634,143 @@ public abstract class AbstractLibrary extends TLModelElement {
         publishEvent( event );
     }
 
+    /**
+     * Hash index of library members by local name. Members whose names are assigned directly are indexed by name and
+     * are moved between entries as they are renamed; members whose local names are derived from other model elements
+     * (e.g. contextual facets) can change names without notice, so they are kept in a separate list that is searched
+     * sequentially. All operations are synchronized since ghost facets may be renamed while codegen threads perform
+     * lookups.
+     */
+    private static class MemberIndex {
+
+        private Map<String,List<LibraryMember>> membersByName = new HashMap<>();
+        private Map<LibraryMember,String> indexedNames = new IdentityHashMap<>();
+        private List<LibraryMember> derivedNameMembers = new ArrayList<>();
+
+        /**
+         * Returns the member with the given name. If more than one member shares the name, the one that appears first
+         * in the library's member list is returned.
+         * 
+         * @param memberName the name of the member to return
+         * @param libraryMembers the members of the owning library (in library order)
+         * @return LibraryMember
+         */
+        public synchronized LibraryMember findMember(String memberName, List<LibraryMember> libraryMembers) {
+            List<LibraryMember> candidates = new ArrayList<>();
+            List<LibraryMember> namedCandidates = membersByName.get( memberName );
+            LibraryMember member = null;
+
+            if (namedCandidates != null) {
+                candidates.addAll( namedCandidates );
+            }
+            for (LibraryMember e : derivedNameMembers) {
+                if (memberName.equals( e.getLocalName() )) {
+                    candidates.add( e );
+                    break;
+                }
+            }
+            if (candidates.size() == 1) {
+                member = candidates.get( 0 );
+
+            } else if (!candidates.isEmpty()) {
+                int memberIdx = Integer.MAX_VALUE;
+
+                for (LibraryMember candidate : candidates) {
+                    int candidateIdx = libraryMembers.indexOf( candidate );
+
+                    if (candidateIdx < memberIdx) {
+                        member = candidate;
+                        memberIdx = candidateIdx;
+                    }
+                }
+            }
+            return member;
+        }
+
+        /**
+         * Adds the given member to the index.
+         * 
+         * @param member the library member to add
+         */
+        public synchronized void add(LibraryMember member) {
+            if (hasAssignedName( member )) {
+                String localName = member.getLocalName();
+
+                if (localName != null) {
+                    membersByName.computeIfAbsent( localName, n -> new ArrayList<>( 1 ) ).add( member );
+                }
+                indexedNames.put( member, localName );
+
+            } else {
+                derivedNameMembers.add( member );
+            }
+        }
+
+        /**
+         * Removes the given member from the index.
+         * 
+         * @param member the library member to remove
+         */
+        public synchronized void remove(LibraryMember member) {
+            if (indexedNames.containsKey( member )) {
+                removeNameEntry( member, indexedNames.remove( member ) );
+
+            } else {
+                derivedNameMembers.remove( member );
+            }
+        }
+
+        /**
+         * Moves the given member from the entry for its previous name to the entry for its current name. Members that
+         * are not indexed by name are not affected.
+         * 
+         * @param member the library member that was renamed
+         */
+        public synchronized void rename(LibraryMember member) {
+            if (indexedNames.containsKey( member )) {
+                String localName = member.getLocalName();
+
+                removeNameEntry( member, indexedNames.get( member ) );
+
+                if (localName != null) {
+                    membersByName.computeIfAbsent( localName, n -> new ArrayList<>( 1 ) ).add( member );
+                }
+                indexedNames.put( member, localName );
+            }
+        }
+
+        /**
+         * Removes the given member from the index entry for the specified name.
+         * 
+         * @param member the library member to remove
+         * @param indexedName the name under which the member is indexed (may be null)
+         */
+        private void removeNameEntry(LibraryMember member, String indexedName) {
+            List<LibraryMember> entryMembers = (indexedName == null) ? null : membersByName.get( indexedName );
+
+            if (entryMembers != null) {
+                entryMembers.removeIf( m -> m == member );
+
+                if (entryMembers.isEmpty()) {
+                    membersByName.remove( indexedName );
+                }
+            }
+        }
+
+        /**
+         * Returns true if the local name of the given member is assigned directly (as opposed to being derived from
+         * the names of other model elements).
+         * 
+         * @param member the library member to check
+         * @return boolean
+         */
+        private static boolean hasAssignedName(LibraryMember member) {
+            return (member instanceof TLSimple) || (member instanceof TLAbstractEnumeration)
+                || (member instanceof TLValueWithAttributes) || (member instanceof TLComplexTypeBase)
+                || (member instanceof TLResource) || (member instanceof TLService) || (member instanceof XSDSimpleType)
+                || (member instanceof XSDComplexType) || (member instanceof XSDElement);
+        }
+
+    }
+
 }
@@ -16,6 +16,7 @@
 
 package org.opentravel.schemacompiler.model;
 
+import org.opentravel.schemacompiler.event.ModelChangeTracker;
 import org.opentravel.schemacompiler.event.ModelEvent;
 import org.opentravel.schemacompiler.event.ModelEventBuilder;
 import org.opentravel.schemacompiler.event.ModelEventListener;
@@ -39,6 +40,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Container that encapsulates all namespaces and libraries within a single semantic model. Every new model instance is
@@ -49,8 +54,11 @@ import java.util.Set;
 public class TLModel implements Validatable {
 
     private List<AbstractLibrary> libraryList = new ArrayList<>();
-    private List<ModelEventListener<?,?>> listeners = new ArrayList<>();
+    private volatile LibraryIndex libraryIndex;
+    private CopyOnWriteArrayList<ModelEventListener<?,?>> listeners = new CopyOnWriteArrayList<>();
     private boolean listenersEnabled = true;
+    private AtomicLong eventSequence = new AtomicLong();
+    private AtomicLong suppressedEventCount = new AtomicLong();
     private int chameleonCounter;
 
     /**
@@ -93,17 +101,7 @@ public class TLModel implements Validatable {
      * @return boolean
      */
     public boolean hasNamespace(String libraryNamespace) {
-        boolean result = false;
-
-        if (libraryNamespace != null) {
-            for (AbstractLibrary library : libraryList) {
-                if (libraryNamespace.equals( library.getNamespace() )) {
-                    result = true;
-                    break;
-                }
-            }
-        }
-        return result;
+        return (libraryNamespace != null) && getLibraryIndex().librariesByNamespace.containsKey( libraryNamespace );
     }
 
     /**
@@ -124,17 +122,7 @@ public class TLModel implements Validatable {
      * @return boolean
      */
     public boolean hasLibrary(String libraryNamespace, String libraryName) {
-        boolean result = false;
-
-        if ((libraryNamespace != null) && (libraryName != null)) {
-            for (AbstractLibrary library : libraryList) {
-                if (libraryNamespace.equals( library.getNamespace() ) && libraryName.equals( library.getName() )) {
-                    result = true;
-                    break;
-                }
-            }
-        }
-        return result;
+        return (getLibrary( libraryNamespace, libraryName ) != null);
     }
 
     /**
@@ -158,8 +146,14 @@ public class TLModel implements Validatable {
             if (library instanceof TLLibrary) {
                 addBuiltInImports( (TLLibrary) library );
             }
+            LibraryIndex index = libraryIndex;
+
             library.setOwningModel( this );
             libraryList.add( library );
+
+            if (index != null) {
+                index.add( library );
+            }
             publishEvent(
                 new ModelEventBuilder( ModelEventType.LIBRARY_ADDED, this ).setAffectedItem( library ).buildEvent() );
         }
@@ -174,6 +168,7 @@ public class TLModel implements Validatable {
         if (libraryList.contains( library )) {
             library.setOwningModel( null );
             libraryList.remove( library );
+            libraryIndex = null;
             publishEvent(
                 new ModelEventBuilder( ModelEventType.LIBRARY_REMOVED, this ).setAffectedItem( library ).buildEvent() );
         }
@@ -258,6 +253,8 @@ public class TLModel implements Validatable {
 
         setListenersEnabled( false );
         libraryList = new ArrayList<>();
+        libraryIndex = null;
+        suppressedEventCount.incrementAndGet();
         initModel();
         setListenersEnabled( listenerFlag );
     }
@@ -273,8 +270,8 @@ public class TLModel implements Validatable {
         AbstractLibrary library = null;
 
         if ((namespace != null) && (libraryName != null)) {
-            for (AbstractLibrary lib : libraryList) {
-                if (namespace.equals( lib.getNamespace() ) && libraryName.equals( lib.getName() )) {
+            for (AbstractLibrary lib : getLibraryIndex().getLibraries( namespace )) {
+                if (libraryName.equals( lib.getName() )) {
                     library = lib;
                     break;
                 }
@@ -293,14 +290,7 @@ public class TLModel implements Validatable {
         AbstractLibrary library = null;
 
         if (libraryUrl != null) {
-            String urlString = libraryUrl.toExternalForm();
-
-            for (AbstractLibrary lib : libraryList) {
-                if (urlString.equals( lib.getLibraryUrl().toExternalForm() )) {
-                    library = lib;
-                    break;
-                }
-            }
+            library = getLibraryIndex().librariesByUrl.get( libraryUrl.toExternalForm() );
         }
         return library;
     }
@@ -372,11 +362,7 @@ public class TLModel implements Validatable {
         List<AbstractLibrary> libraries = new ArrayList<>();
 
         if (namespace != null) {
-            for (AbstractLibrary library : libraryList) {
-                if (namespace.equals( library.getNamespace() )) {
-                    libraries.add( library );
-                }
-            }
+            libraries.addAll( getLibraryIndex().getLibraries( namespace ) );
         }
         return libraries;
     }
@@ -387,20 +373,84 @@ public class TLModel implements Validatable {
      * @param listener the listener to register
      */
     public void addListener(ModelEventListener<?,?> listener) {
-        if ((listener != null) && !listeners.contains( listener )) {
-            listeners.add( listener );
+        if (listener != null) {
+            listeners.addIfAbsent( listener );
+        }
+    }
+
+    /**
+     * Returns the first registered listener that is an instance of the given type. If no such listener has been
+     * registered, the one provided by the given supplier is registered and returned. Components that maintain
+     * information derived from a model should use this method to attach that information to the model instance
+     * itself, so that it is discarded along with the model.
+     * 
+     * @param listenerType the type of listener to return
+     * @param listenerSupplier supplier of the new listener to register if one does not already exist
+     * @param <L> the type of listener to return
+     * @return L
+     */
+    public <L extends ModelEventListener<?,?>> L getOrAddListener(Class<L> listenerType,
+        Supplier<L> listenerSupplier) {
+        return getOrAddListener( listenerType, l -> true, listenerSupplier );
+    }
+
+    /**
+     * Returns the first registered listener that is an instance of the given type and satisfies the given condition.
+     * If no such listener has been registered, the one provided by the given supplier is registered and returned.
+     * 
+     * @param listenerType the type of listener to return
+     * @param listenerCondition the condition that must be satisfied by the listener returned
+     * @param listenerSupplier supplier of the new listener to register if one does not already exist
+     * @param <L> the type of listener to return
+     * @return L
+     */
+    public <L extends ModelEventListener<?,?>> L getOrAddListener(Class<L> listenerType,
+        Predicate<? super L> listenerCondition, Supplier<L> listenerSupplier) {
+        synchronized (listeners) {
+            L listener = null;
+
+            for (ModelEventListener<?,?> registeredListener : listeners) {
+                if (listenerType.isInstance( registeredListener )
+                    && listenerCondition.test( listenerType.cast( registeredListener ) )) {
+                    listener = listenerType.cast( registeredListener );
+                    break;
+                }
+            }
+            if (listener == null) {
+                listener = listenerSupplier.get();
+                listeners.add( listener );
+            }
+            return listener;
         }
     }
 
+    /**
+     * Returns the first registered listener that is an instance of the given type, or null if no such listener has
+     * been registered with this model.
+     * 
+     * @param listenerType the type of listener to return
+     * @param <L> the type of listener to return
+     * @return L
+     */
+    public <L extends ModelEventListener<?,?>> L getListener(Class<L> listenerType) {
+        L result = null;
+
+        for (ModelEventListener<?,?> listener : listeners) {
+            if (listenerType.isInstance( listener )) {
+                result = listenerType.cast( listener );
+                break;
+            }
+        }
+        return result;
+    }
+
     /**
      * Un-registers the given listener for published events from this model.
      * 
      * @param listener the listener to remove
      */
     public void removeListener(ModelEventListener<?,?> listener) {
-        if (listeners.contains( listener )) {
-            listeners.remove( listener );
-        }
+        listeners.remove( listener );
     }
 
     /**
@@ -421,6 +471,30 @@ public class TLModel implements Validatable {
         this.listenersEnabled = listenersEnabled;
     }
 
+    /**
+     * Returns a counter that is incremented each time an event is published by this model or one of its elements,
+     * regardless of whether listeners are currently enabled. Components that maintain information derived from the
+     * model can compare this value with the number of events they have processed to detect modifications that were
+     * made while listeners were disabled.
+     * 
+     * @return long
+     */
+    public long getEventSequence() {
+        return eventSequence.get();
+    }
+
+    /**
+     * Returns a counter that is incremented each time the model is modified without notifying its registered
+     * listeners (for example, when an event is published while listeners are disabled). Listeners that maintain
+     * information derived from the model can compare this value with the one observed during their last refresh to
+     * determine whether a complete rebuild is required.
+     * 
+     * @return long
+     */
+    public long getSuppressedEventCount() {
+        return suppressedEventCount.get();
+    }
+
     /**
      * Initializes the model by adding all of the available built-in libraries.
      */
@@ -442,17 +516,53 @@ public class TLModel implements Validatable {
      */
     @SuppressWarnings("unchecked")
     protected <E extends ModelEvent<?>> void publishEvent(E event) {
-        if ((event != null) && listenersEnabled) {
-            List<ModelEventListener<?,?>> tempListeners = new ArrayList<>( listeners );
+        if (event != null) {
+            eventSequence.incrementAndGet();
 
-            for (ModelEventListener<?,?> listener : tempListeners) {
-                if (event.canBeProcessedBy( listener )) {
+            if (!listenersEnabled) {
+                suppressedEventCount.incrementAndGet();
+            }
+        }
+        if ((event != null) && (event.getSource() instanceof AbstractLibrary)) {
+            ModelEventType eventType = event.getType();
+
+            if ((eventType == ModelEventType.NAME_MODIFIED) || (eventType == ModelEventType.NAMESPACE_MODIFIED)
+                || (eventType == ModelEventType.URL_MODIFIED)) {
+                libraryIndex = null;
+            }
+        }
+        if (event != null) {
+            // The listener list is copy-on-write, so iteration is unaffected by concurrent registrations. Change
+            // trackers are notified even when listeners are disabled.
+            for (ModelEventListener<?,?> listener : listeners) {
+                if ((listenersEnabled || (listener instanceof ModelChangeTracker))
+                    && event.canBeProcessedBy( listener )) {
                     ((ModelEventListener<E,?>) listener).processModelEvent( event );
                 }
             }
         }
     }
 
+    /**
+     * Returns the namespace and URL index for the libraries of this model, rebuilding it if the current index has been
+     * invalidated.
+     * 
+     * @return LibraryIndex
+     */
+    private LibraryIndex getLibraryIndex() {
+        LibraryIndex index = libraryIndex;
+
+        if (index == null) {
+            index = new LibraryIndex();
+
+            for (AbstractLibrary library : libraryList) {
+                index.add( library );
+            }
+            libraryIndex = index;
+        }
+        return index;
+    }
+
     /**
      * Checks the namespace+name and resource URL of the given library against the current members of this model. If a
      * conflict is discovered, this method will throw an <code>IllegalArgumentException</code>. If the library is
@@ -555,4 +665,43 @@ public class TLModel implements Validatable {
         }
     }
 
+    /**
+     * Hash index of the libraries in a model by namespace and resource URL. The index is maintained incrementally as
+     * libraries are added, and discarded whenever a library is removed or its name, namespace, or URL is modified.
+     */
+    private static class LibraryIndex {
+
+        private Map<String,List<AbstractLibrary>> librariesByNamespace = new HashMap<>();
+        private Map<String,AbstractLibrary> librariesByUrl = new HashMap<>();
+
+        /**
+         * Adds the given library to the index.
+         * 
+         * @param library the library to add
+         */
+        public void add(AbstractLibrary library) {
+            String namespace = library.getNamespace();
+            URL libraryUrl = library.getLibraryUrl();
+
+            if (namespace != null) {
+                librariesByNamespace.computeIfAbsent( namespace, ns -> new ArrayList<>() ).add( library );
+            }
+            if (libraryUrl != null) {
+                librariesByUrl.putIfAbsent( libraryUrl.toExternalForm(), library );
+            }
+        }
+
+        /**
+         * Returns the list of libraries assigned to the given namespace.
+         * 
+         * @param namespace the namespace for which to return libraries
+         * @return List&lt;AbstractLibrary&gt;
+         */
+        public List<AbstractLibrary> getLibraries(String namespace) {
+            List<AbstractLibrary> libraries = librariesByNamespace.get( namespace );
+            return (libraries == null) ? Collections.emptyList() : libraries;
+        }
+
+    }
+
 }
@@ -18,6 +18,7 @@ package org.opentravel.schemacompiler.model;
 
 import org.opentravel.schemacompiler.event.ModelElementListener;
 import org.opentravel.schemacompiler.event.ModelEvent;
+import org.opentravel.schemacompiler.event.ModelEventType;
 import org.opentravel.schemacompiler.event.OwnershipEvent;
 import org.opentravel.schemacompiler.event.ValueChangeEvent;
 import org.opentravel.schemacompiler.util.ModelElementCloner;
@@ -69,6 +70,14 @@ public abstract class TLModelElement implements ModelElement {
     protected void publishEvent(ModelEvent<?> event) {
         TLModel owningModel = getOwningModel();
 
+        if ((event != null) && (event.getType() == ModelEventType.NAME_MODIFIED) && (this instanceof LibraryMember)) {
+            AbstractLibrary owningLibrary = ((LibraryMember) this).getOwningLibrary();
+
+            if (owningLibrary != null) {
+                owningLibrary.memberRenamed( (LibraryMember) this );
+            }
+        }
+
         if (owningModel != null) {
             owningModel.publishEvent( event );
         }
@@ -102,8 +111,7 @@ public abstract class TLModelElement implements ModelElement {
      * @see org.opentravel.schemacompiler.model.ModelElement#cloneElement(org.opentravel.schemacompiler.model.AbstractLibrary)
      */
     public LibraryElement cloneElement(AbstractLibrary namingContext) {
-        return (LibraryElement) new ModelElementCloner(
-            (namingContext == null) ? null : namingContext.getOwningModel() ).clone( this, namingContext );
+        return (LibraryElement) new ModelElementCloner().clone( this, namingContext );
     }
 
 }
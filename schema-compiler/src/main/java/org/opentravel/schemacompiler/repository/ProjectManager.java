@@ -34,6 +34,7 @@ import org.opentravel.schemacompiler.event.ModelEventType;
 import org.opentravel.schemacompiler.event.OwnershipEvent;
 import org.opentravel.schemacompiler.ic.ImportManagementIntegrityChecker;
 import org.opentravel.schemacompiler.ic.LibraryRemovedIntegrityChecker;
+import org.opentravel.schemacompiler.ioc.CompilerSession;
 import org.opentravel.schemacompiler.loader.LibraryLoaderException;
 import org.opentravel.schemacompiler.loader.LibraryModelLoader;
 import org.opentravel.schemacompiler.loader.LibraryNamespaceResolver;
@@ -54,6 +55,7 @@ import org.opentravel.schemacompiler.repository.impl.BuiltInProject;
 import org.opentravel.schemacompiler.repository.impl.ProjectFileUtils;
 import org.opentravel.schemacompiler.repository.impl.ProjectItemDependencyNavigator;
 import org.opentravel.schemacompiler.repository.impl.ProjectItemImpl;
+import org.opentravel.schemacompiler.repository.impl.RepositoryItemImpl;
 import org.opentravel.schemacompiler.repository.impl.RepositoryUtils;
 import org.opentravel.schemacompiler.saver.LibraryModelSaver;
 import org.opentravel.schemacompiler.saver.LibrarySaveException;
@@ -64,7 +66,7 @@ import org.opentravel.schemacompiler.util.URLUtils;
 import org.opentravel.schemacompiler.validate.FindingType;
 import org.opentravel.schemacompiler.validate.ValidationFindings;
 import org.opentravel.schemacompiler.validate.ValidatorFactory;
-import org.opentravel.schemacompiler.validate.impl.TLModelValidator;
+import org.opentravel.schemacompiler.validate.impl.IncrementalModelValidator;
 import org.opentravel.schemacompiler.version.MajorVersionHelper;
 import org.opentravel.schemacompiler.version.VersionScheme;
 import org.opentravel.schemacompiler.version.VersionSchemeException;
@@ -83,9 +85,14 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.xml.bind.JAXBElement;
 
@@ -105,6 +112,7 @@ public final class ProjectManager {
     private List<Project> projects = new ArrayList<>();
     private List<ProjectItem> projectItems = new ArrayList<>();
     private boolean autoSaveProjects;
+    private int parallelRefreshThreads = 1;
     private Project builtInProject;
     private TLModel model;
 
@@ -230,6 +238,28 @@ public final class ProjectManager {
         this.autoSaveProjects = autoSaveProjects;
     }
 
+    /**
+     * Returns the maximum number of threads that will be used to check and download managed project items
+     * concurrently when they are refreshed. A value of one (the default) indicates that all items will be refreshed
+     * sequentially.
+     * 
+     * @return int
+     */
+    public int getParallelRefreshThreads() {
+        return parallelRefreshThreads;
+    }
+
+    /**
+     * Assigns the maximum number of threads that will be used to check and download managed project items
+     * concurrently when they are refreshed. A value of one (the default) indicates that all items will be refreshed
+     * sequentially.
+     * 
+     * @param parallelRefreshThreads the number of refresh threads to assign (values less than one are ignored)
+     */
+    public void setParallelRefreshThreads(int parallelRefreshThreads) {
+        this.parallelRefreshThreads = Math.max( parallelRefreshThreads, 1 );
+    }
+
     /**
      * Constructs a new <code>Project</code> instance using the information provided and adds it to the list of projects
      * maintained by this project manager instance.
@@ -334,6 +364,8 @@ public final class ProjectManager {
         RepositoryItem defaultItem = null;
         URL defaultItemUrl = null;
 
+        downloadManagedProjectItems( jaxbProject );
+
         for (JAXBElement<? extends ProjectItemType> jaxbItem : jaxbProject.getProjectItemBase()) {
             URL projectFolderUrl = URLUtils.toURL( projectFile.getParentFile() );
 
@@ -367,7 +399,7 @@ public final class ProjectManager {
 
         // Validate for errors/warnings if requested by the caller
         if (findings != null) {
-            findings.addAll( TLModelValidator.validateModel( model, ValidatorFactory.COMPILE_RULE_SET_ID ) );
+            findings.addAll( validateModel() );
             findings.addAll( loaderFindings );
         }
 
@@ -388,6 +420,35 @@ public final class ProjectManager {
         return project;
     }
 
+    /**
+     * Downloads the content of all managed items from the given project whose remote repository is known. This allows
+     * the remote repositories to supply the content with a single batch request instead of one request per item.
+     * 
+     * @param jaxbProject the JAXB project whose managed items are to be downloaded
+     */
+    private void downloadManagedProjectItems(ProjectType jaxbProject) {
+        List<RepositoryItem> managedItems = new ArrayList<>();
+
+        for (JAXBElement<? extends ProjectItemType> jaxbItem : jaxbProject.getProjectItemBase()) {
+            if (jaxbItem.getValue() instanceof ManagedProjectItemType) {
+                ManagedProjectItemType managedItem = (ManagedProjectItemType) jaxbItem.getValue();
+                String repositoryId = managedItem.getRepository();
+                Repository repository = (repositoryId == null) ? null : repositoryManager.getRepository( repositoryId );
+
+                if (repository instanceof RemoteRepository) {
+                    RepositoryItemImpl item = new RepositoryItemImpl();
+
+                    item.setRepository( repository );
+                    item.setBaseNamespace( managedItem.getBaseNamespace() );
+                    item.setFilename( managedItem.getFilename() );
+                    item.setVersion( managedItem.getVersion() );
+                    managedItems.add( item );
+                }
+            }
+        }
+        repositoryManager.downloadContent( managedItems );
+    }
+
     /**
      * Transforms the JAXB project item provided. If the project item is flagged as the default item, the corresponding
      * library URL will be returned (null otherwise).
@@ -699,6 +760,10 @@ public final class ProjectManager {
      * Refreshes the contents of all managed project items that are not locked for editing by the current user. The list
      * returned by this method contains all project items that were updated during the refresh.
      * 
+     * <p>
+     * If more than one parallel refresh thread is assigned, the remote repositories are checked (and updated content
+     * downloaded) concurrently. In all cases, the refreshed libraries are reloaded sequentially in dependency order.
+     * 
      * @param findings validation findings where errors/warnings from the refresh operation will be reported
      * @return List&lt;ProjectItem&gt;
      * @throws LibraryLoaderException thrown if the contents of a library cannot be loaded
@@ -708,41 +773,56 @@ public final class ProjectManager {
         throws LibraryLoaderException, RepositoryException {
         LibraryRemovedIntegrityChecker removeProcessor = new LibraryRemovedIntegrityChecker();
         ValidationFindings loaderFindings = new ValidationFindings();
-        Map<String,ProjectItem> refreshedItemMap = new HashMap<>();
-        List<URL> refreshedLibraryUrls = new ArrayList<>();
+        Map<String,ProjectItem> refreshedItemMap = new LinkedHashMap<>();
         List<ProjectItem> refreshedItems = new ArrayList<>();
+        List<ProjectItem> managedItems = new ArrayList<>();
+        List<URL> refreshedLibraryUrls;
 
-        // Scan for libraries (project items) that need to be refreshed
+        // Scan for libraries (project items) that need to be refreshed; skip items that are locked
+        // for local edits (this includes unmanaged items and managed items that are WIP)
         for (ProjectItem item : projectItems) {
-            try {
-                RepositoryItemState itemState = item.getState();
+            RepositoryItemState itemState = item.getState();
 
-                // Skip items that are locked for local edits; this includes
-                // unmanaged items
-                // and managed items that are WIP
-                if ((itemState == RepositoryItemState.UNMANAGED) || (itemState == RepositoryItemState.MANAGED_WIP)) {
-                    continue;
-                }
+            if ((itemState != RepositoryItemState.UNMANAGED) && (itemState != RepositoryItemState.MANAGED_WIP)) {
+                managedItems.add( item );
+            }
+        }
+        ExecutorService executor = ((parallelRefreshThreads > 1) && (managedItems.size() > 1))
+            ? Executors.newFixedThreadPool( Math.min( parallelRefreshThreads, managedItems.size() ) )
+            : null;
+        try {
+            List<Future<Boolean>> refreshResults =
+                (executor == null) ? null : submitRefreshTasks( managedItems, executor );
+
+            for (int i = 0; i < managedItems.size(); i++) {
+                ProjectItem item = managedItems.get( i );
 
-                // Check the last-updated date on the remote repository item
-                // against the local copy
-                if (repositoryManager.refreshLocalCopy( item )) {
-                    // NOTE: This has only refreshed the library content on the
-                    // local file system; we
-                    // still need to update the in-memory model
-                    URL libraryUrl = item.getContent().getLibraryUrl();
+                try {
+                    // Check the last-updated date on the remote repository item against the local copy
+                    boolean isRefreshed = (refreshResults == null) ? repositoryManager.refreshLocalCopy( item )
+                        : getRefreshResult( refreshResults.get( i ) );
+
+                    if (isRefreshed) {
+                        // NOTE: This has only refreshed the library content on the local file system; we
+                        // still need to update the in-memory model
+                        refreshedItemMap.put( item.getContent().getLibraryUrl().toExternalForm(), item );
+                    }
 
-                    refreshedLibraryUrls.add( libraryUrl );
-                    refreshedItemMap.put( libraryUrl.toExternalForm(), item );
+                } catch (Exception e) {
+                    loaderFindings.addFinding( FindingType.ERROR, new LibraryValidationSource( item.getContent() ),
+                        LoaderConstants.ERROR_UNKNOWN_EXCEPTION_DURING_MODULE_LOAD,
+                        URLUtils.getShortRepresentation( item.getContent().getLibraryUrl() ),
+                        ExceptionUtils.getExceptionClass( e ).getSimpleName(),
+                        ExceptionUtils.getExceptionMessage( e ) );
                 }
+            }
 
-            } catch (Exception e) {
-                loaderFindings.addFinding( FindingType.ERROR, new LibraryValidationSource( item.getContent() ),
-                    LoaderConstants.ERROR_UNKNOWN_EXCEPTION_DURING_MODULE_LOAD,
-                    URLUtils.getShortRepresentation( item.getContent().getLibraryUrl() ),
-                    ExceptionUtils.getExceptionClass( e ).getSimpleName(), ExceptionUtils.getExceptionMessage( e ) );
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
             }
         }
+        refreshedLibraryUrls = sortByDependencies( refreshedItemMap.values() );
 
         // Remove each refreshed library from the model
         for (ProjectItem item : refreshedItemMap.values()) {
@@ -760,12 +840,108 @@ public final class ProjectManager {
 
         // Run a final validation check (if necessary)
         if (findings != null) {
-            findings.addAll( TLModelValidator.validateModel( model, ValidatorFactory.COMPILE_RULE_SET_ID ) );
+            findings.addAll( validateModel() );
             findings.addAll( loaderFindings );
         }
         return refreshedItems;
     }
 
+    /**
+     * Submits a task to the given executor that refreshes the local copy of each managed project item. The results are
+     * returned in the same order as the items provided.
+     * 
+     * @param managedItems the managed project items to be refreshed
+     * @param executor the executor that will perform the refresh tasks
+     * @return List&lt;Future&lt;Boolean&gt;&gt;
+     */
+    private List<Future<Boolean>> submitRefreshTasks(List<ProjectItem> managedItems, ExecutorService executor) {
+        List<Future<Boolean>> refreshResults = new ArrayList<>();
+
+        // Reset the download cache once for all items instead of once per item since the refresh
+        // tasks will run concurrently
+        repositoryManager.resetDownloadCache();
+
+        for (ProjectItem item : managedItems) {
+            refreshResults.add( executor
+                .submit( CompilerSession.propagate( () -> repositoryManager.refreshLocalCopy( item, false ) ) ) );
+        }
+        return refreshResults;
+    }
+
+    /**
+     * Waits for the given refresh task to complete and returns its result. If the task failed, the exception that it
+     * threw is re-thrown to the caller.
+     * 
+     * @param refreshResult the result of the refresh task
+     * @return boolean
+     * @throws Exception thrown if the refresh task failed
+     */
+    private boolean getRefreshResult(Future<Boolean> refreshResult) throws Exception {
+        try {
+            return refreshResult.get();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RepositoryException( "Interrupted while refreshing managed project items.", e );
+
+        } catch (ExecutionException e) {
+            throw (e.getCause() instanceof Exception) ? (Exception) e.getCause() : e;
+        }
+    }
+
+    /**
+     * Returns the library URLs of the given project items, sorted so that each library appears after the other
+     * libraries in the list whose namespaces it imports.
+     * 
+     * @param refreshedItems the project items whose library URLs are to be sorted
+     * @return List&lt;URL&gt;
+     */
+    private List<URL> sortByDependencies(Collection<ProjectItem> refreshedItems) {
+        List<URL> libraryUrls = new ArrayList<>();
+        Set<ProjectItem> visitedItems = new HashSet<>();
+
+        for (ProjectItem item : refreshedItems) {
+            addInDependencyOrder( item, refreshedItems, visitedItems, libraryUrls );
+        }
+        return libraryUrls;
+    }
+
+    /**
+     * Adds the library URL of the given item to the list after those of its (not yet visited) dependencies.
+     * 
+     * @param item the project item whose library URL is to be added
+     * @param refreshedItems the project items whose library URLs are being sorted
+     * @param visitedItems the project items that have already been visited
+     * @param libraryUrls the list of sorted library URLs being constructed
+     */
+    private void addInDependencyOrder(ProjectItem item, Collection<ProjectItem> refreshedItems,
+        Set<ProjectItem> visitedItems, List<URL> libraryUrls) {
+        if (visitedItems.add( item )) {
+            Set<String> importedNamespaces = new HashSet<>();
+
+            for (TLNamespaceImport nsImport : item.getContent().getNamespaceImports()) {
+                importedNamespaces.add( nsImport.getNamespace() );
+            }
+            for (ProjectItem dependency : refreshedItems) {
+                if (importedNamespaces.contains( dependency.getContent().getNamespace() )) {
+                    addInDependencyOrder( dependency, refreshedItems, visitedItems, libraryUrls );
+                }
+            }
+            libraryUrls.add( item.getContent().getLibraryUrl() );
+        }
+    }
+
+    /**
+     * Validates the model after project items have been loaded. Only the libraries that were modified by the load and
+     * the libraries whose findings can depend on them are re-validated; the findings of all other libraries are re-used
+     * from the previous validation of the model.
+     * 
+     * @return ValidationFindings
+     */
+    private ValidationFindings validateModel() {
+        return IncrementalModelValidator.getInstance( model, ValidatorFactory.COMPILE_RULE_SET_ID ).validateModel();
+    }
+
     /**
      * Reloads the given library and replaces its content in the current model.
      * 
@@ -1002,7 +1178,7 @@ public final class ProjectManager {
         // Validate for errors/warnings if requested by the caller
         if (findings != null) {
             findings.addAll( loaderFindings );
-            findings.addAll( TLModelValidator.validateModel( model, ValidatorFactory.COMPILE_RULE_SET_ID ) );
+            findings.addAll( validateModel() );
         }
         return pItems;
     }
@@ -1133,7 +1309,7 @@ public final class ProjectManager {
         // Validate for errors/warnings if requested by the caller
         if (findings != null) {
             findings.addAll( loaderFindings );
-            findings.addAll( TLModelValidator.validateModel( model, ValidatorFactory.COMPILE_RULE_SET_ID ) );
+            findings.addAll( validateModel() );
         }
         return pItems;
     }
@@ -482,6 +482,13 @@ public class ReleaseManager {
         }
         LibraryModelLoader<InputStream> modelLoader = new LibraryModelLoader<>( model );
         ReleaseLibraryModuleLoader moduleLoader = new ReleaseLibraryModuleLoader( this, modelLoader.getModuleLoader() );
+        List<RepositoryItem> memberItems = new ArrayList<>();
+
+        // Populate the local repository with all of the release members before loading
+        for (ReleaseMember member : release.getAllMembers()) {
+            memberItems.add( member.getRepositoryItem() );
+        }
+        repositoryManager.downloadContent( memberItems );
 
         model.clearModel();
         modelLoader.getNamespaceResolver().setModel( model );
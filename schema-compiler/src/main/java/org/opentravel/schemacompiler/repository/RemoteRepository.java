@@ -17,6 +17,7 @@
 package org.opentravel.schemacompiler.repository;
 
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.RefreshPolicy;
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.RepositoryItemIdentityType;
 import org.opentravel.schemacompiler.model.NamedEntity;
 
 import java.util.List;
@@ -102,6 +103,17 @@ public interface RemoteRepository extends Repository {
      */
     public boolean downloadContent(RepositoryItem item, boolean forceUpdate) throws RepositoryException;
 
+    /**
+     * Downloads the content (and associated meta-data) of multiple items from the remote repository into the local
+     * instance using as few requests as possible. Local copies that are already current are not downloaded again.
+     * Items that cannot be obtained with the batch request are skipped; they will be downloaded (or their errors
+     * reported) individually when they are accessed.
+     * 
+     * @param itemIdentities the identities of the reposited items whose content is to be downloaded
+     * @throws RepositoryException thrown if the remote repository cannot be accessed
+     */
+    public void downloadContent(List<RepositoryItemIdentityType> itemIdentities) throws RepositoryException;
+
     /**
      * Returns true if the current user has administrator permissions for the remote repository.
      * 
@@ -0,0 +1,63 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.repository;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Results of a request that was sent to each of the remote repositories concurrently. Only the repositories that
+ * responded before the deadline expired contribute to the results; the ID's of the repositories that did not respond
+ * in time are reported along with them.
+ * 
+ * @param <T> the type of the results returned by the remote repositories
+ */
+public class RemoteRepositoryResults<T> {
+
+    private List<T> results;
+    private List<String> timedOutRepositoryIds;
+
+    /**
+     * Constructor that specifies the results of the request and the ID's of the repositories that timed out.
+     * 
+     * @param results the results returned by the remote repositories
+     * @param timedOutRepositoryIds the ID's of the remote repositories that did not respond in time
+     */
+    public RemoteRepositoryResults(List<T> results, List<String> timedOutRepositoryIds) {
+        this.results = Collections.unmodifiableList( results );
+        this.timedOutRepositoryIds = Collections.unmodifiableList( timedOutRepositoryIds );
+    }
+
+    /**
+     * Returns the results returned by the remote repositories that responded in time.
+     * 
+     * @return List&lt;T&gt;
+     */
+    public List<T> getResults() {
+        return results;
+    }
+
+    /**
+     * Returns the ID's of the remote repositories that did not respond before the deadline expired.
+     * 
+     * @return List&lt;String&gt;
+     */
+    public List<String> getTimedOutRepositoryIds() {
+        return timedOutRepositoryIds;
+    }
+
+}
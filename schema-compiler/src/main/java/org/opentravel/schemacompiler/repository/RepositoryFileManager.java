@@ -84,6 +84,7 @@ import javax.xml.validation.SchemaFactory;
 public abstract class RepositoryFileManager {
 
     private static final String METADATA_FILE_SUFFIX = "-info.xml";
+    private static final String CONTENT_TAG_FILE_SUFFIX = "-info.tag";
 
     public static final String REPOSITORY_METADATA_FILENAME = "repository-metadata.xml";
     public static final String REPOSITORY_HOME_FOLDER = ".ota2/";
@@ -421,6 +422,75 @@ public abstract class RepositoryFileManager {
         return metadataFile;
     }
 
+    /**
+     * Returns a file location for the entity tag of the specified item's meta-data and content.
+     * 
+     * @param baseNamespace the base namespace to which the item is assigned
+     * @param filename the filename of the item's content (no path information)
+     * @param versionIdentifier the item's version identifier
+     * @return File
+     * @throws RepositoryException thrown if the namespace URI provided is not valid
+     */
+    public File getLibraryContentTagLocation(String baseNamespace, String filename, String versionIdentifier)
+        throws RepositoryException {
+        return new File( getNamespaceFolder( baseNamespace, versionIdentifier ),
+            getLibraryContentTagFilename( filename ) );
+    }
+
+    /**
+     * Returns the entity tag that was saved for the specified item's meta-data and content. Null will be returned if
+     * no tag has been saved, or if the item's meta-data or content has been modified since the tag was saved.
+     * 
+     * @param baseNamespace the base namespace of the library whose entity tag is to be loaded
+     * @param filename the filename of the library whose entity tag is to be loaded
+     * @param versionIdentifier the item's version identifier
+     * @return String
+     * @throws RepositoryException thrown if the namespace URI provided is not valid
+     */
+    public String loadLibraryContentTag(String baseNamespace, String filename, String versionIdentifier)
+        throws RepositoryException {
+        File tagFile = getLibraryContentTagLocation( baseNamespace, filename, versionIdentifier );
+        File metadataFile = getLibraryMetadataLocation( baseNamespace, filename, versionIdentifier );
+        File contentFile = getLibraryContentLocation( baseNamespace, filename, versionIdentifier );
+        String contentTag = null;
+
+        if (tagFile.exists() && metadataFile.exists() && contentFile.exists()
+            && (tagFile.lastModified() >= metadataFile.lastModified())
+            && (tagFile.lastModified() >= contentFile.lastModified())) {
+            try (BufferedReader reader = new BufferedReader( new FileReader( tagFile ) )) {
+                contentTag = reader.readLine();
+
+            } catch (IOException e) {
+                log.warn( "Unreadable library content tag file: " + tagFile.getAbsolutePath() );
+            }
+        }
+        return contentTag;
+    }
+
+    /**
+     * Saves the entity tag of the specified item's meta-data and content to the repository. The tag must be saved
+     * after the item's meta-data and content since it is only considered to be current as long as neither of those
+     * files has been modified after the tag was saved.
+     * 
+     * @param baseNamespace the base namespace of the library whose entity tag is to be saved
+     * @param filename the filename of the library whose entity tag is to be saved
+     * @param versionIdentifier the item's version identifier
+     * @param contentTag the entity tag to be saved
+     * @throws RepositoryException thrown if the entity tag cannot be saved
+     */
+    public void saveLibraryContentTag(String baseNamespace, String filename, String versionIdentifier,
+        String contentTag) throws RepositoryException {
+        File tagFile = getLibraryContentTagLocation( baseNamespace, filename, versionIdentifier );
+
+        try (Writer writer = new BufferedWriter( new FileWriter( tagFile ) )) {
+            addToChangeSet( tagFile );
+            writer.write( contentTag );
+
+        } catch (IOException e) {
+            throw new RepositoryException( "Unable to save library content tag file: " + tagFile.getName(), e );
+        }
+    }
+
     /**
      * Returns the absolute file location that will be used to store library files assigned to the given base namespace
      * URI.
@@ -719,7 +789,7 @@ public abstract class RepositoryFileManager {
      * @param baseNamespace the base namespace for which to create namespace ID files
      * @throws RepositoryException thrown if one or more 'nsid.txt' files cannot be created
      */
-    public void createNamespaceIdFiles(String baseNamespace) throws RepositoryException {
+    public synchronized void createNamespaceIdFiles(String baseNamespace) throws RepositoryException {
         List<String> rootNamespaces = loadRepositoryMetadata().getRootNamespace();
         String ns = baseNamespace;
 
@@ -1106,6 +1176,19 @@ public abstract class RepositoryFileManager {
         return baseFilename + METADATA_FILE_SUFFIX;
     }
 
+    /**
+     * Returns the filename (without path information) of the entity tag file for the specified library.
+     * 
+     * @param libraryFilename the filename of the OTM library
+     * @return String
+     */
+    protected String getLibraryContentTagFilename(String libraryFilename) {
+        int dotIdx = libraryFilename.lastIndexOf( '.' );
+        String baseFilename = (dotIdx < 0) ? libraryFilename : libraryFilename.subSequence( 0, dotIdx ).toString();
+
+        return baseFilename + CONTENT_TAG_FILE_SUFFIX;
+    }
+
     /**
      * Loads the JAXB representation of the XML content from the specified file location.
      * 
@@ -25,8 +25,10 @@ import org.opentravel.ns.ota2.repositoryinfo_v01_00.RefreshPolicy;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.RemoteRepositoriesType;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.RemoteRepositoryType;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.RepositoryInfoType;
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.RepositoryItemIdentityType;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.RepositoryPermission;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.RepositoryState;
+import org.opentravel.schemacompiler.ioc.CompilerSession;
 import org.opentravel.schemacompiler.ioc.SchemaCompilerApplicationContext;
 import org.opentravel.schemacompiler.loader.LibraryInputSource;
 import org.opentravel.schemacompiler.loader.impl.LibraryStreamInputSource;
@@ -59,13 +61,24 @@ import java.net.URL;
 import java.net.UnknownHostException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 /**
@@ -76,6 +89,10 @@ import java.util.regex.Pattern;
  */
 public class RepositoryManager implements Repository {
 
+    public static final long DEFAULT_REMOTE_REQUEST_TIMEOUT = 30000L;
+
+    private static final int MAX_REMOTE_REQUEST_THREADS = 8;
+
     private static final String LISTENER_INVOCATION_ERROR = "Unexpected error during listener invocation.";
     private static final String ROOT_NS_CONFLICT =
         "The root namespace cannot be created because it conflicts with an existing one.";
@@ -93,6 +110,7 @@ public class RepositoryManager implements Repository {
     private static final String REMARK_CRC = "Recalculated library CRC.";
 
     private static RepositoryManager defaultInstance;
+    private static ExecutorService remoteRequestExecutor;
     private static Log log = LogFactory.getLog( RepositoryManager.class );
 
     private RepositoryFileManager fileManager;
@@ -104,6 +122,7 @@ public class RepositoryManager implements Repository {
     private List<RemoteRepositoryClient> remoteRepositories = new ArrayList<>();
     private List<String> rootNamespaces;
     private List<RepositoryListener> listeners = new ArrayList<>();
+    private long remoteRequestTimeout = DEFAULT_REMOTE_REQUEST_TIMEOUT;
 
     /**
      * Constructor that specifies the root location of the repository to manage.
@@ -214,6 +233,27 @@ public class RepositoryManager implements Repository {
         this.remoteUtils = remoteUtils;
     }
 
+    /**
+     * Returns the maximum number of milliseconds to wait for each remote repository to respond when a request (such as
+     * a search) is distributed across all of the remote repositories concurrently.
+     * 
+     * @return long
+     */
+    public long getRemoteRequestTimeout() {
+        return remoteRequestTimeout;
+    }
+
+    /**
+     * Assigns the maximum number of milliseconds to wait for each remote repository to respond when a request (such as
+     * a search) is distributed across all of the remote repositories concurrently. A value of zero or less indicates
+     * that no deadline should be applied, in which case the remote repositories are accessed one at a time.
+     * 
+     * @param remoteRequestTimeout the timeout value to assign
+     */
+    public void setRemoteRequestTimeout(long remoteRequestTimeout) {
+        this.remoteRequestTimeout = remoteRequestTimeout;
+    }
+
     /**
      * Clears the cache memory of recently downloaded files.
      */
@@ -475,6 +515,7 @@ public class RepositoryManager implements Repository {
 
         if (remoteRepositories.contains( repository )) {
             remoteRepositories.remove( repository );
+            ((RemoteRepositoryClient) repository).closeConnections();
         }
 
         // Save this change to the local repository's metadata
@@ -779,19 +820,11 @@ public class RepositoryManager implements Repository {
         throws RepositoryException {
         List<RepositoryItem> searchResults = new ArrayList<>();
 
-        for (RemoteRepository repository : remoteRepositories) {
-            try {
-                List<RepositoryItem> itemList =
-                    repository.search( freeTextQuery, latestVersionsOnly, includeDraftVersions );
-
-                for (RepositoryItem item : itemList) {
-                    RepositoryUtils.checkItemState( (RepositoryItemImpl) item, this );
-                    searchResults.add( item );
-                }
-
-            } catch (RepositoryException e) {
-                log.warn( "Error contacting remote repository: " + repository.getId() + ", reason: "
-                    + ExceptionUtils.getExceptionMessage( e ) );
+        for (List<RepositoryItem> itemList : invokeRemoteRepositories(
+            repository -> repository.search( freeTextQuery, latestVersionsOnly, includeDraftVersions ) ).getResults()) {
+            for (RepositoryItem item : itemList) {
+                RepositoryUtils.checkItemState( (RepositoryItemImpl) item, this );
+                searchResults.add( item );
             }
         }
         return searchResults;
@@ -815,21 +848,123 @@ public class RepositoryManager implements Repository {
     @Override
     public List<RepositorySearchResult> search(String freeTextQuery, TLLibraryStatus includeStatus,
         boolean latestVersionsOnly, RepositoryItemType itemType) throws RepositoryException {
+        return searchRemoteRepositories( freeTextQuery, includeStatus, latestVersionsOnly, itemType ).getResults();
+    }
+
+    /**
+     * Performs a search of all remote repositories concurrently. The results include only those repositories that
+     * responded before the remote request deadline expired, and the ID's of the repositories that did not respond in
+     * time are reported along with them.
+     * 
+     * @param freeTextQuery the string containing space-separated keywords for the search
+     * @param includeStatus indicates the latest status level of library versions to include in the search results
+     * @param latestVersionsOnly flag indicating whether the results should include all matching versions or just the
+     *        latest version of each library
+     * @param itemType the type of repository item to include in the search results
+     * @return RemoteRepositoryResults&lt;RepositorySearchResult&gt;
+     */
+    public RemoteRepositoryResults<RepositorySearchResult> searchRemoteRepositories(String freeTextQuery,
+        TLLibraryStatus includeStatus, boolean latestVersionsOnly, RepositoryItemType itemType) {
+        RemoteRepositoryResults<List<RepositorySearchResult>> repositoryResults =
+            invokeRemoteRepositories(
+                repository -> repository.search( freeTextQuery, includeStatus, latestVersionsOnly, itemType ) );
         List<RepositorySearchResult> searchResults = new ArrayList<>();
 
-        for (RemoteRepository repository : remoteRepositories) {
-            try {
-                List<RepositorySearchResult> resultList =
-                    repository.search( freeTextQuery, includeStatus, latestVersionsOnly, itemType );
+        for (List<RepositorySearchResult> resultList : repositoryResults.getResults()) {
+            searchResults.addAll( resultList );
+        }
+        return new RemoteRepositoryResults<>( searchResults, repositoryResults.getTimedOutRepositoryIds() );
+    }
 
-                searchResults.addAll( resultList );
+    /**
+     * Invokes the given request on each of the remote repositories concurrently and returns the results of those that
+     * responded successfully before the remote request deadline expired. Results are returned in the same order as the
+     * remote repositories, and failures are logged and skipped. The ID's of any repositories that did not respond in
+     * time are included with the results.
+     * 
+     * <p>
+     * Requests are executed by a bounded pool of threads that is shared by all repository managers, so the pool is
+     * only used when a deadline applies. Requests that time out are cancelled; a request that is blocked on an
+     * unresponsive connection will continue to occupy its thread until the socket timeout of its connection expires.
+     * If no deadline has been assigned, the request is invoked on each remote repository in turn by the calling thread.
+     * 
+     * @param <T> the type of result returned by each remote repository
+     * @param request the request to invoke on each remote repository
+     * @return RemoteRepositoryResults&lt;T&gt;
+     */
+    private <T> RemoteRepositoryResults<T> invokeRemoteRepositories(RemoteRequest<T> request) {
+        List<RemoteRepositoryClient> repositories = new ArrayList<>( remoteRepositories );
+        List<String> timedOutIds = new ArrayList<>();
+        List<T> results = new ArrayList<>();
 
-            } catch (RepositoryException e) {
-                log.warn( "Error contacting remote repository: " + repository.getId() + ", reason: "
-                    + ExceptionUtils.getExceptionMessage( e ) );
+        if (remoteRequestTimeout <= 0) {
+            for (RemoteRepositoryClient repository : repositories) {
+                try {
+                    results.add( request.invoke( repository ) );
+
+                } catch (RepositoryException e) {
+                    log.warn( "Error contacting remote repository: " + repository.getId() + ", reason: "
+                        + ExceptionUtils.getExceptionMessage( e ) );
+                }
+            }
+
+        } else {
+            List<Future<T>> futures = new ArrayList<>();
+            long deadline = System.currentTimeMillis() + remoteRequestTimeout;
+
+            for (RemoteRepositoryClient repository : repositories) {
+                futures.add( getRemoteRequestExecutor()
+                    .submit( CompilerSession.propagate( () -> request.invoke( repository ) ) ) );
+            }
+            for (int i = 0; i < repositories.size(); i++) {
+                String repositoryId = repositories.get( i ).getId();
+                Future<T> future = futures.get( i );
+
+                try {
+                    long remainingTime = Math.max( deadline - System.currentTimeMillis(), 0L );
+
+                    results.add( future.get( remainingTime, TimeUnit.MILLISECONDS ) );
+
+                } catch (TimeoutException e) {
+                    future.cancel( true );
+                    timedOutIds.add( repositoryId );
+                    log.warn( "Timed out waiting for remote repository: " + repositoryId );
+
+                } catch (ExecutionException e) {
+                    log.warn( "Error contacting remote repository: " + repositoryId + ", reason: "
+                        + ExceptionUtils.getExceptionMessage( e.getCause() ) );
+
+                } catch (InterruptedException e) {
+                    futures.forEach( f -> f.cancel( true ) );
+                    Thread.currentThread().interrupt();
+                    break;
+                }
             }
         }
-        return searchResults;
+        return new RemoteRepositoryResults<>( results, timedOutIds );
+    }
+
+    /**
+     * Returns the shared executor that is used to send requests to remote repositories concurrently. The executor is
+     * created when it is first requested, and its threads are released after they have been idle for a minute.
+     * 
+     * @return ExecutorService
+     */
+    private static synchronized ExecutorService getRemoteRequestExecutor() {
+        if (remoteRequestExecutor == null) {
+            AtomicInteger threadCount = new AtomicInteger();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor( MAX_REMOTE_REQUEST_THREADS,
+                MAX_REMOTE_REQUEST_THREADS, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+                    Thread t = new Thread( r, "RemoteRepositoryRequest-" + threadCount.incrementAndGet() );
+
+                    t.setDaemon( true );
+                    return t;
+                } );
+
+            executor.allowCoreThreadTimeOut( true );
+            remoteRequestExecutor = executor;
+        }
+        return remoteRequestExecutor;
     }
 
     /**
@@ -1989,16 +2124,69 @@ public class RepositoryManager implements Repository {
      * @throws RepositoryException thrown if the file content cannot be locked by the current user
      */
     public boolean refreshLocalCopy(RepositoryItem item) throws RepositoryException {
+        return refreshLocalCopy( item, true );
+    }
+
+    /**
+     * If the given <code>RepositoryItem</code> is owned by a remote repository, the local repository's copy is updated
+     * with the latest available content. If the item is owned by the local repository, this method has no effect.
+     * 
+     * <p>
+     * If the download cache is not reset, the refresh is skipped for items that have already been downloaded since the
+     * cache was last reset. This allows callers that refresh many items concurrently to reset the cache once for all
+     * of them.
+     * 
+     * @param item the repository item to refresh
+     * @param resetDownloadCache flag indicating whether the download cache should be reset before the refresh
+     * @return boolean
+     * @throws RepositoryException thrown if the file content cannot be locked by the current user
+     */
+    public boolean refreshLocalCopy(RepositoryItem item, boolean resetDownloadCache) throws RepositoryException {
         Repository repository = item.getRepository();
         boolean isRefreshed = false;
 
         if (repository instanceof RemoteRepository) {
-            resetDownloadCache();
+            if (resetDownloadCache) {
+                resetDownloadCache();
+            }
             isRefreshed = ((RemoteRepository) repository).downloadContent( item, true );
         }
         return isRefreshed;
     }
 
+    /**
+     * Downloads the content of the given repository items from their owning remote repositories into the local
+     * instance, using batch requests where they are supported by the remote repository. Items owned by the local
+     * repository are ignored. This method does not report errors; any item that cannot be downloaded here will be
+     * downloaded individually when it is accessed.
+     * 
+     * @param items the repository items whose content is to be downloaded
+     */
+    public void downloadContent(Collection<RepositoryItem> items) {
+        Map<RemoteRepository,List<RepositoryItemIdentityType>> identityMap = new LinkedHashMap<>();
+
+        for (RepositoryItem item : items) {
+            if (item.getRepository() instanceof RemoteRepository) {
+                RepositoryItemIdentityType itemIdentity = new RepositoryItemIdentityType();
+
+                itemIdentity.setBaseNamespace( item.getBaseNamespace() );
+                itemIdentity.setFilename( item.getFilename() );
+                itemIdentity.setVersion( item.getVersion() );
+                identityMap.computeIfAbsent( (RemoteRepository) item.getRepository(), r -> new ArrayList<>() )
+                    .add( itemIdentity );
+            }
+        }
+        for (Entry<RemoteRepository,List<RepositoryItemIdentityType>> entry : identityMap.entrySet()) {
+            try {
+                entry.getKey().downloadContent( entry.getValue() );
+
+            } catch (RepositoryException e) {
+                log.warn( "Batch download failed for repository '" + entry.getKey().getId() + "' - "
+                    + e.getMessage() );
+            }
+        }
+    }
+
     /**
      * Saves the configuration settings for the local repository.
      * 
@@ -2163,6 +2351,7 @@ public class RepositoryManager implements Repository {
 
             if (!newRepositories.containsKey( oldRepository.getId() )) {
                 iterator.remove();
+                oldRepository.closeConnections();
             }
         }
         for (RemoteRepositoryType newRepository : newRepositories.values()) {
@@ -2287,4 +2476,23 @@ public class RepositoryManager implements Repository {
 
     }
 
+    /**
+     * Request that can be invoked on each of the remote repositories when they are accessed concurrently.
+     * 
+     * @param <T> the type of result returned by the request
+     */
+    @FunctionalInterface
+    private interface RemoteRequest<T> {
+
+        /**
+         * Invokes the request on the given remote repository.
+         * 
+         * @param repository the remote repository on which to invoke the request
+         * @return T
+         * @throws RepositoryException thrown if the remote repository cannot be accessed
+         */
+        public T invoke(RemoteRepositoryClient repository) throws RepositoryException;
+
+    }
+
 }
@@ -34,6 +34,7 @@ import org.w3._2001.xmlschema.Schema;
 import java.io.File;
 import java.io.InputStream;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -119,11 +120,14 @@ public class MultiReleaseModuleLoader implements LibraryModuleLoader<InputStream
     }
 
     /**
-     * Initializes the mappings of library URLs to their corresponding release members.
+     * Initializes the mappings of library URLs to their corresponding release members, and downloads the content of
+     * all release members into the local repository.
      * 
      * @param releaseList the list of OTM releases to be loaded
      */
     private void initialize(List<Release> releaseList) {
+        List<RepositoryItem> memberItems = new ArrayList<>();
+
         for (Release release : releaseList) {
             for (ReleaseMember member : release.getAllMembers()) {
                 try {
@@ -133,6 +137,7 @@ public class MultiReleaseModuleLoader implements LibraryModuleLoader<InputStream
                     String libraryUrl = URLUtils.toURL( libraryFile ).toExternalForm();
 
                     libraryUrltoReleaseMemberMap.put( libraryUrl, member );
+                    memberItems.add( memberItem );
 
                 } catch (RepositoryException e) {
                     log.warn(
@@ -141,6 +146,7 @@ public class MultiReleaseModuleLoader implements LibraryModuleLoader<InputStream
                 }
             }
         }
+        repositoryManager.downloadContent( memberItems );
     }
 
 }
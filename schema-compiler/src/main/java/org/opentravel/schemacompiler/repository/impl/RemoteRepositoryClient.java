@@ -19,14 +19,23 @@ package org.opentravel.schemacompiler.repository.impl;
 import org.apache.commons.lang3.time.DateUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpHeaders;
 import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.entity.mime.MultipartEntityBuilder;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.util.EntityUtils;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.EntityInfoListType;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.EntityInfoType;
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryContentListType;
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryContentRQType;
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryContentType;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryHistoryType;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryInfoListType;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryInfoType;
@@ -39,6 +48,7 @@ import org.opentravel.ns.ota2.repositoryinfo_v01_00.RepositoryInfoType;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.RepositoryItemIdentityType;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.RepositoryPermission;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.RepositoryPermissionType;
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.RequestedItemType;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.SearchResultsListType;
 import org.opentravel.schemacompiler.loader.LibraryInputSource;
 import org.opentravel.schemacompiler.loader.impl.LibraryStreamInputSource;
@@ -65,6 +75,7 @@ import org.opentravel.schemacompiler.version.VersionSchemeException;
 import org.opentravel.schemacompiler.version.VersionSchemeFactory;
 import org.opentravel.schemacompiler.xml.XMLGregorianCalendarConverter;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
@@ -82,9 +93,9 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
@@ -102,6 +113,7 @@ public class RemoteRepositoryClient implements RemoteRepository {
     private static final String NAMESPACE = "namespace";
     private static final String LIBRARY_NAME = "libraryName";
     private static final String VERSION = "version";
+    private static final String FILENAME = "filename";
     private static final String STATUS = "status";
     private static final String FILE_CONTENT = "fileContent";
     private static final String REPOSITORY_UNAVAILABLE = "The remote repository is unavailable.";
@@ -136,6 +148,10 @@ public class RemoteRepositoryClient implements RemoteRepository {
     private static final String REPOSITORY_ITEM_METADATA_ENDPOINT = RemoteRepositoryUtils.SERVICE_CONTEXT + "/metadata";
     private static final String REPOSITORY_ITEM_HISTORY_ENDPOINT = RemoteRepositoryUtils.SERVICE_CONTEXT + "/history";
     private static final String REPOSITORY_ITEM_CONTENT_ENDPOINT = RemoteRepositoryUtils.SERVICE_CONTEXT + "/content";
+    private static final String REPOSITORY_ITEM_CONTENT_WITH_METADATA_ENDPOINT =
+        RemoteRepositoryUtils.SERVICE_CONTEXT + "/content-with-metadata";
+    private static final String REPOSITORY_ITEM_CONTENT_BATCH_ENDPOINT =
+        RemoteRepositoryUtils.SERVICE_CONTEXT + "/content-batch";
     private static final String USER_AUTHORIZATION_ENDPOINT =
         RemoteRepositoryUtils.SERVICE_CONTEXT + "/user-authorization";
     private static final String LOCKED_ITEMS_ENDPOINT = RemoteRepositoryUtils.SERVICE_CONTEXT + "/locked-items";
@@ -148,6 +164,8 @@ public class RemoteRepositoryClient implements RemoteRepository {
         RemoteRepositoryUtils.SERVICE_CONTEXT + "/historical-content";
     private static final String CHECK_ADMINISTRATOR_ENDPOINT = RemoteRepositoryUtils.SERVICE_CONTEXT + "/check-admin";
 
+    private static final int MAX_BATCH_DOWNLOAD_SIZE = 50;
+
     private static Log log = LogFactory.getLog( RemoteRepositoryClient.class );
     protected static ObjectFactory objectFactory = new ObjectFactory();
 
@@ -158,7 +176,9 @@ public class RemoteRepositoryClient implements RemoteRepository {
     private String endpointUrl;
     private List<String> rootNamespaces = new ArrayList<>();
     private RefreshPolicy refreshPolicy;
-    private Set<String> downloadCache = new HashSet<>();
+    private Set<String> downloadCache = ConcurrentHashMap.newKeySet();
+    private volatile boolean conditionalDownloadSupported = true;
+    private volatile boolean batchDownloadSupported = true;
 
     /**
      * Initializes this instance with a handle to the <code>RepositoryManager</code> that controls access to this
@@ -178,6 +198,22 @@ public class RemoteRepositoryClient implements RemoteRepository {
         return manager;
     }
 
+    /**
+     * Returns the current statistics of the HTTP connection pool used to access this remote repository.
+     * 
+     * @return PoolStats
+     */
+    public PoolStats getConnectionPoolStats() {
+        return remoteUtils.getConnectionPoolStats();
+    }
+
+    /**
+     * Closes all of the pooled HTTP connections that are currently open to this remote repository.
+     */
+    public void closeConnections() {
+        remoteUtils.shutdown();
+    }
+
     /**
      * Clears the cache memory of recently downloaded files.
      */
@@ -332,10 +368,8 @@ public class RemoteRepositoryClient implements RemoteRepository {
         try {
             String baseNS = RepositoryNamespaceUtils.normalizeUri( baseNamespace );
             HttpGet request = newGetRequest( NAMESPACE_CHILDREN_ENDPOINT, new HttpGetParam( BASE_NAMESPACE, baseNS ) );
-            HttpResponse response = remoteUtils.executeWithAuthentication( request );
-            Unmarshaller unmarshaller = RepositoryFileManager.getSharedJaxbContext().createUnmarshaller();
             JAXBElement<NamespaceListType> jaxbElement =
-                (JAXBElement<NamespaceListType>) unmarshaller.unmarshal( response.getEntity().getContent() );
+                (JAXBElement<NamespaceListType>) executeAndUnmarshal( request );
             List<String> nsList = new ArrayList<>();
 
             nsList.addAll( jaxbElement.getValue().getNamespace() );
@@ -357,10 +391,8 @@ public class RemoteRepositoryClient implements RemoteRepository {
     public List<String> listBaseNamespaces() throws RepositoryException {
         try {
             HttpGet request = newGetRequest( BASE_NAMSPACES_ENDPOINT );
-            HttpResponse response = remoteUtils.executeWithAuthentication( request );
-            Unmarshaller unmarshaller = RepositoryFileManager.getSharedJaxbContext().createUnmarshaller();
             JAXBElement<NamespaceListType> jaxbElement =
-                (JAXBElement<NamespaceListType>) unmarshaller.unmarshal( response.getEntity().getContent() );
+                (JAXBElement<NamespaceListType>) executeAndUnmarshal( request );
             List<String> nsList = new ArrayList<>();
 
             nsList.addAll( jaxbElement.getValue().getNamespace() );
@@ -382,10 +414,8 @@ public class RemoteRepositoryClient implements RemoteRepository {
     public List<String> listAllNamespaces() throws RepositoryException {
         try {
             HttpGet request = newGetRequest( ALL_NAMSPACES_ENDPOINT );
-            HttpResponse response = remoteUtils.executeWithAuthentication( request );
-            Unmarshaller unmarshaller = RepositoryFileManager.getSharedJaxbContext().createUnmarshaller();
             JAXBElement<NamespaceListType> jaxbElement =
-                (JAXBElement<NamespaceListType>) unmarshaller.unmarshal( response.getEntity().getContent() );
+                (JAXBElement<NamespaceListType>) executeAndUnmarshal( request );
             List<String> nsList = new ArrayList<>();
 
             nsList.addAll( jaxbElement.getValue().getNamespace() );
@@ -419,10 +449,8 @@ public class RemoteRepositoryClient implements RemoteRepository {
             marshaller.marshal( objectFactory.createListItemsRQ( listItemsRQ ), xmlWriter );
             request.setEntity( new StringEntity( xmlWriter.toString(), ContentType.TEXT_XML ) );
 
-            HttpResponse response = remoteUtils.executeWithAuthentication( request );
-            Unmarshaller unmarshaller = RepositoryFileManager.getSharedJaxbContext().createUnmarshaller();
             JAXBElement<LibraryInfoListType> jaxbElement =
-                (JAXBElement<LibraryInfoListType>) unmarshaller.unmarshal( response.getEntity().getContent() );
+                (JAXBElement<LibraryInfoListType>) executeAndUnmarshal( request );
             List<RepositoryItem> itemList = new ArrayList<>();
 
             for (LibraryInfoType itemMetadata : jaxbElement.getValue().getLibraryInfo()) {
@@ -484,10 +512,8 @@ public class RemoteRepositoryClient implements RemoteRepository {
             marshaller.marshal( objectFactory.createListItems2RQ( listItemsRQ ), xmlWriter );
             request.setEntity( new StringEntity( xmlWriter.toString(), ContentType.TEXT_XML ) );
 
-            HttpResponse response = remoteUtils.executeWithAuthentication( request );
-            Unmarshaller unmarshaller = RepositoryFileManager.getSharedJaxbContext().createUnmarshaller();
             JAXBElement<LibraryInfoListType> jaxbElement =
-                (JAXBElement<LibraryInfoListType>) unmarshaller.unmarshal( response.getEntity().getContent() );
+                (JAXBElement<LibraryInfoListType>) executeAndUnmarshal( request );
             List<RepositoryItem> itemList = new ArrayList<>();
 
             for (LibraryInfoType itemMetadata : jaxbElement.getValue().getLibraryInfo()) {
@@ -517,10 +543,8 @@ public class RemoteRepositoryClient implements RemoteRepository {
             HttpGet request = newGetRequest( SEARCH_ENDPOINT, new HttpGetParam( "query", freeTextQuery ),
                 new HttpGetParam( "latestVersion", latestVersionsOnly + "" ),
                 new HttpGetParam( "includeDraft", includeDraftVersions + "" ) );
-            HttpResponse response = remoteUtils.executeWithAuthentication( request );
-            Unmarshaller unmarshaller = RepositoryFileManager.getSharedJaxbContext().createUnmarshaller();
             JAXBElement<LibraryInfoListType> jaxbElement =
-                (JAXBElement<LibraryInfoListType>) unmarshaller.unmarshal( response.getEntity().getContent() );
+                (JAXBElement<LibraryInfoListType>) executeAndUnmarshal( request );
             List<RepositoryItem> itemList = new ArrayList<>();
 
             for (LibraryInfoType itemMetadata : jaxbElement.getValue().getLibraryInfo()) {
@@ -573,10 +597,8 @@ public class RemoteRepositoryClient implements RemoteRepository {
 
             HttpGet request =
                 newGetRequest( SEARCH2_ENDPOINT, paramList.toArray( new HttpGetParam[paramList.size()] ) );
-            HttpResponse response = remoteUtils.executeWithAuthentication( request );
-            Unmarshaller unmarshaller = RepositoryFileManager.getSharedJaxbContext().createUnmarshaller();
             JAXBElement<SearchResultsListType> jaxbElement =
-                (JAXBElement<SearchResultsListType>) unmarshaller.unmarshal( response.getEntity().getContent() );
+                (JAXBElement<SearchResultsListType>) executeAndUnmarshal( request );
             List<RepositorySearchResult> itemList = new ArrayList<>();
 
             for (JAXBElement<? extends LibraryInfoType> resultElement : jaxbElement.getValue().getSearchResult()) {
@@ -620,13 +642,11 @@ public class RemoteRepositoryClient implements RemoteRepository {
 
             // Send the web service request and unmarshall the updated meta-data from the response
             log.info( "Sending version history request to HTTP endpoint: " + endpointUrl );
-            HttpResponse response = remoteUtils.executeWithAuthentication( request );
+            JAXBElement<LibraryInfoListType> jaxbElement =
+                (JAXBElement<LibraryInfoListType>) executeAndUnmarshal( request );
 
             log.info( "Version history response received - Status OK" );
 
-            Unmarshaller unmarshaller = RepositoryFileManager.getSharedJaxbContext().createUnmarshaller();
-            JAXBElement<LibraryInfoListType> jaxbElement =
-                (JAXBElement<LibraryInfoListType>) unmarshaller.unmarshal( response.getEntity().getContent() );
             List<RepositoryItem> itemList = new ArrayList<>();
 
             for (LibraryInfoType itemMetadata : jaxbElement.getValue().getLibraryInfo()) {
@@ -728,10 +748,8 @@ public class RemoteRepositoryClient implements RemoteRepository {
             marshaller.marshal( objectFactory.createLibraryInfo( itemMetadata ), xmlWriter );
             request.setEntity( new StringEntity( xmlWriter.toString(), ContentType.TEXT_XML ) );
 
-            HttpResponse response = remoteUtils.executeWithAuthentication( request );
-            Unmarshaller unmarshaller = RepositoryFileManager.getSharedJaxbContext().createUnmarshaller();
             JAXBElement<LibraryHistoryType> jaxbElement =
-                (JAXBElement<LibraryHistoryType>) unmarshaller.unmarshal( response.getEntity().getContent() );
+                (JAXBElement<LibraryHistoryType>) executeAndUnmarshal( request );
 
             return RepositoryUtils.createItemHistory( jaxbElement.getValue(), manager );
 
@@ -760,10 +778,8 @@ public class RemoteRepositoryClient implements RemoteRepository {
             marshaller.marshal( objectFactory.createLibraryInfo( itemMetadata ), xmlWriter );
             request.setEntity( new StringEntity( xmlWriter.toString(), ContentType.TEXT_XML ) );
 
-            HttpResponse response = remoteUtils.executeWithAuthentication( request );
-            Unmarshaller unmarshaller = RepositoryFileManager.getSharedJaxbContext().createUnmarshaller();
             JAXBElement<LibraryInfoListType> jaxbElement =
-                (JAXBElement<LibraryInfoListType>) unmarshaller.unmarshal( response.getEntity().getContent() );
+                (JAXBElement<LibraryInfoListType>) executeAndUnmarshal( request );
             List<RepositoryItem> itemList = new ArrayList<>();
 
             for (LibraryInfoType rsItemMetadata : jaxbElement.getValue().getLibraryInfo()) {
@@ -799,10 +815,8 @@ public class RemoteRepositoryClient implements RemoteRepository {
             marshaller.marshal( objectFactory.createEntityInfo( entityMetadata ), xmlWriter );
             request.setEntity( new StringEntity( xmlWriter.toString(), ContentType.TEXT_XML ) );
 
-            HttpResponse response = remoteUtils.executeWithAuthentication( request );
-            Unmarshaller unmarshaller = RepositoryFileManager.getSharedJaxbContext().createUnmarshaller();
             JAXBElement<EntityInfoListType> jaxbElement =
-                (JAXBElement<EntityInfoListType>) unmarshaller.unmarshal( response.getEntity().getContent() );
+                (JAXBElement<EntityInfoListType>) executeAndUnmarshal( request );
             List<EntitySearchResult> searchResults = new ArrayList<>();
 
             for (EntityInfoType rsEntityMetadata : jaxbElement.getValue().getEntityInfo()) {
@@ -832,10 +846,8 @@ public class RemoteRepositoryClient implements RemoteRepository {
             marshaller.marshal( objectFactory.createEntityInfo( entityMetadata ), xmlWriter );
             request.setEntity( new StringEntity( xmlWriter.toString(), ContentType.TEXT_XML ) );
 
-            HttpResponse response = remoteUtils.executeWithAuthentication( request );
-            Unmarshaller unmarshaller = RepositoryFileManager.getSharedJaxbContext().createUnmarshaller();
             JAXBElement<EntityInfoListType> jaxbElement =
-                (JAXBElement<EntityInfoListType>) unmarshaller.unmarshal( response.getEntity().getContent() );
+                (JAXBElement<EntityInfoListType>) executeAndUnmarshal( request );
             List<EntitySearchResult> searchResults = new ArrayList<>();
 
             for (EntityInfoType rsEntityMetadata : jaxbElement.getValue().getEntityInfo()) {
@@ -863,10 +875,8 @@ public class RemoteRepositoryClient implements RemoteRepository {
 
             // Send the web service request and check the response
             log.info( "Sending user-authorization request to HTTP endpoint: " + endpointUrl );
-            HttpResponse response = remoteUtils.executeWithAuthentication( request );
-            Unmarshaller unmarshaller = RepositoryFileManager.getSharedJaxbContext().createUnmarshaller();
             JAXBElement<RepositoryPermissionType> jaxbElement =
-                (JAXBElement<RepositoryPermissionType>) unmarshaller.unmarshal( response.getEntity().getContent() );
+                (JAXBElement<RepositoryPermissionType>) executeAndUnmarshal( request );
 
             log.info( "User-authorization response received - Status OK" );
             return jaxbElement.getValue().getRepositoryPermission();
@@ -887,10 +897,8 @@ public class RemoteRepositoryClient implements RemoteRepository {
     public List<RepositoryItem> getLockedItems() throws RepositoryException {
         try {
             HttpGet request = newGetRequest( LOCKED_ITEMS_ENDPOINT );
-            HttpResponse response = remoteUtils.executeWithAuthentication( request );
-            Unmarshaller unmarshaller = RepositoryFileManager.getSharedJaxbContext().createUnmarshaller();
             JAXBElement<LibraryInfoListType> jaxbElement =
-                (JAXBElement<LibraryInfoListType>) unmarshaller.unmarshal( response.getEntity().getContent() );
+                (JAXBElement<LibraryInfoListType>) executeAndUnmarshal( request );
             List<RepositoryItem> itemList = new ArrayList<>();
 
             for (LibraryInfoType itemMetadata : jaxbElement.getValue().getLibraryInfo()) {
@@ -921,7 +929,7 @@ public class RemoteRepositoryClient implements RemoteRepository {
 
             // Send the web service request and check the response
             log.info( "Sending create-root-namespace request to HTTP endpoint: " + endpointUrl );
-            remoteUtils.executeWithAuthentication( request );
+            remoteUtils.sendWithAuthentication( request );
 
             refreshRepositoryMetadata();
             log.info( "Create-root-namespace response received - Status OK" );
@@ -943,7 +951,7 @@ public class RemoteRepositoryClient implements RemoteRepository {
 
             // Send the web service request and check the response
             log.info( "Sending delete-root-namespace request to HTTP endpoint: " + endpointUrl );
-            remoteUtils.executeWithAuthentication( request );
+            remoteUtils.sendWithAuthentication( request );
 
             refreshRepositoryMetadata();
             log.info( "Delete-root-namespace response received - Status OK" );
@@ -964,7 +972,7 @@ public class RemoteRepositoryClient implements RemoteRepository {
 
             // Send the web service request and check the response
             log.info( "Sending create-namespace request to HTTP endpoint: " + endpointUrl );
-            remoteUtils.executeWithAuthentication( request );
+            remoteUtils.sendWithAuthentication( request );
 
             log.info( "Create-namespace response received - Status OK" );
 
@@ -984,7 +992,7 @@ public class RemoteRepositoryClient implements RemoteRepository {
 
             // Send the web service request and check the response
             log.info( "Sending delete-namespace request to HTTP endpoint: " + endpointUrl );
-            remoteUtils.executeWithAuthentication( request );
+            remoteUtils.sendWithAuthentication( request );
 
             log.info( "Delete-namespace response received - Status OK" );
 
@@ -1035,7 +1043,7 @@ public class RemoteRepositoryClient implements RemoteRepository {
             postRequest.setEntity( mpEntity.build() );
 
             log.info( "Sending publish request to HTTP endpoint: " + endpointUrl );
-            remoteUtils.executeWithAuthentication( postRequest );
+            remoteUtils.sendWithAuthentication( postRequest );
 
             log.info( "Publish response received - Status OK" );
             return item;
@@ -1097,7 +1105,7 @@ public class RemoteRepositoryClient implements RemoteRepository {
 
             // Send the web service request and check the response
             log.info( "Sending commit request to HTTP endpoint: " + endpointUrl );
-            remoteUtils.executeWithAuthentication( request );
+            remoteUtils.sendWithAuthentication( request );
 
             log.info( "Commit response received - Status OK" );
 
@@ -1140,14 +1148,10 @@ public class RemoteRepositoryClient implements RemoteRepository {
 
             // Send the web service request and unmarshall the updated meta-data from the response
             log.info( "Sending lock request to HTTP endpoint: " + endpointUrl );
-            HttpResponse response = remoteUtils.executeWithAuthentication( request );
+            JAXBElement<LibraryInfoType> jaxbElement = (JAXBElement<LibraryInfoType>) executeAndUnmarshal( request );
 
             log.info( "Lock response received - Status OK" );
 
-            Unmarshaller unmarshaller = RepositoryFileManager.getSharedJaxbContext().createUnmarshaller();
-            JAXBElement<LibraryInfoType> jaxbElement =
-                (JAXBElement<LibraryInfoType>) unmarshaller.unmarshal( response.getEntity().getContent() );
-
             // Update the local cache with the content we just received from the remote web service
             manager.getFileManager().saveLibraryMetadata( jaxbElement.getValue() );
 
@@ -1217,14 +1221,10 @@ public class RemoteRepositoryClient implements RemoteRepository {
 
             // Send the web service request and unmarshall the updated meta-data from the response
             log.info( "Sending lock request to HTTP endpoint: " + endpointUrl );
-            HttpResponse response = remoteUtils.executeWithAuthentication( request );
+            JAXBElement<LibraryInfoType> jaxbElement = (JAXBElement<LibraryInfoType>) executeAndUnmarshal( request );
 
             log.info( "Lock response received - Status OK" );
 
-            Unmarshaller unmarshaller = RepositoryFileManager.getSharedJaxbContext().createUnmarshaller();
-            JAXBElement<LibraryInfoType> jaxbElement =
-                (JAXBElement<LibraryInfoType>) unmarshaller.unmarshal( response.getEntity().getContent() );
-
             // Update the local cache with the content we just received from the remote web service
             manager.getFileManager().saveLibraryMetadata( jaxbElement.getValue() );
 
@@ -1268,7 +1268,7 @@ public class RemoteRepositoryClient implements RemoteRepository {
 
             // Send the web service request and check the response
             log.info( "Sending promote request to HTTP endpoint: " + endpointUrl );
-            remoteUtils.executeWithAuthentication( request );
+            remoteUtils.sendWithAuthentication( request );
             log.info( "Promote response received - Status OK" );
 
             // Update the local cache with the content that was just modified in the remote
@@ -1302,7 +1302,7 @@ public class RemoteRepositoryClient implements RemoteRepository {
 
             // Send the web service request and check the response
             log.info( "Sending promote request to HTTP endpoint: " + endpointUrl );
-            remoteUtils.executeWithAuthentication( request );
+            remoteUtils.sendWithAuthentication( request );
             log.info( "Demote response received - Status OK" );
 
             // Update the local cache by deleting the local copy of the item
@@ -1337,7 +1337,7 @@ public class RemoteRepositoryClient implements RemoteRepository {
 
             // Send the web service request and check the response
             log.info( "Sending update-status request to HTTP endpoint: " + endpointUrl );
-            remoteUtils.executeWithAuthentication( request );
+            remoteUtils.sendWithAuthentication( request );
             log.info( "Update-Status response received - Status OK" );
 
             // Update the local cache by deleting the local copy of the item
@@ -1370,7 +1370,7 @@ public class RemoteRepositoryClient implements RemoteRepository {
 
             // Send the web service request and check the response
             log.info( "Sending recalculate-crc request to HTTP endpoint: " + endpointUrl );
-            remoteUtils.executeWithAuthentication( request );
+            remoteUtils.sendWithAuthentication( request );
             log.info( "Recalculate-crc response received - Status OK" );
 
             // Update the local cache by deleting the local copy of the item
@@ -1403,7 +1403,7 @@ public class RemoteRepositoryClient implements RemoteRepository {
 
             // Send the web service request and check the response
             log.info( "Sending delete request to HTTP endpoint: " + endpointUrl );
-            remoteUtils.executeWithAuthentication( request );
+            remoteUtils.sendWithAuthentication( request );
             log.info( "Delete response received - Status OK" );
 
             // Update the local cache with the content that was just modified in the remote
@@ -1412,9 +1412,12 @@ public class RemoteRepositoryClient implements RemoteRepository {
                 item.getFilename(), item.getVersion() );
             File itemContent = manager.getFileManager().getLibraryContentLocation( item.getBaseNamespace(),
                 item.getFilename(), item.getVersion() );
+            File itemContentTag = manager.getFileManager().getLibraryContentTagLocation( item.getBaseNamespace(),
+                item.getFilename(), item.getVersion() );
 
             FileUtils.delete( itemMetadata );
             FileUtils.delete( itemContent );
+            FileUtils.delete( itemContentTag );
 
         } catch (JAXBException e) {
             throw new RepositoryException( METADATA_UNREADABLE, e );
@@ -1452,7 +1455,6 @@ public class RemoteRepositoryClient implements RemoteRepository {
      * @return boolean
      * @throws RepositoryException thrown if the remote repository cannot be accessed
      */
-    @SuppressWarnings("unchecked")
     public boolean downloadContent(String baseNamespace, String filename, String versionIdentifier, boolean forceUpdate)
         throws RepositoryException {
         String baseNS = RepositoryNamespaceUtils.normalizeUri( baseNamespace );
@@ -1491,45 +1493,45 @@ public class RemoteRepositoryClient implements RemoteRepository {
                 manager.getFileManager().getLibraryContentLocation( baseNS, filename, versionIdentifier );
             boolean success = false;
 
-            try (StringWriter xmlWriter = new StringWriter()) {
+            try {
                 log.info( "Downloading content from repository '" + id + "' - " + baseNS + "; " + filename + "; "
                     + versionIdentifier );
                 manager.getFileManager().startChangeSet();
-
-                // Marshal the JAXB content to a string and construct the HTTP requests
-                HttpPost metadataRequest = newPostRequest( REPOSITORY_ITEM_METADATA_ENDPOINT );
-                HttpPost contentRequest = newPostRequest( REPOSITORY_ITEM_CONTENT_ENDPOINT );
-                RepositoryItemIdentityType itemIdentity = new RepositoryItemIdentityType();
-                Marshaller marshaller = RepositoryFileManager.getSharedJaxbContext().createMarshaller();
-
-                itemIdentity.setBaseNamespace( baseNS );
-                itemIdentity.setFilename( filename );
-                itemIdentity.setVersion( versionIdentifier );
-
-                marshaller.marshal( objectFactory.createRepositoryItemIdentity( itemIdentity ), xmlWriter );
-                metadataRequest.setEntity( new StringEntity( xmlWriter.toString(), ContentType.TEXT_XML ) );
-                contentRequest.setEntity( new StringEntity( xmlWriter.toString(), ContentType.TEXT_XML ) );
-
-                // Send the requests for meta-data and content to the remote web service
-                HttpResponse metadataResponse = remoteUtils.executeWithAuthentication( metadataRequest );
-                HttpResponse contentResponse = remoteUtils.executeWithAuthentication( contentRequest );
-
-                // Update the local cache with the content we just received from the remote web
-                // service
-                Unmarshaller unmarshaller = RepositoryFileManager.getSharedJaxbContext().createUnmarshaller();
-                JAXBElement<LibraryInfoType> jaxbElement =
-                    (JAXBElement<LibraryInfoType>) unmarshaller.unmarshal( metadataResponse.getEntity().getContent() );
-                LibraryInfoType libraryMetadata = jaxbElement.getValue();
-
-                manager.getFileManager().createNamespaceIdFiles( jaxbElement.getValue().getBaseNamespace() );
-                manager.getFileManager().saveLibraryMetadata( libraryMetadata );
-                manager.getFileManager().saveFile( repositoryContentFile, contentResponse.getEntity().getContent() );
+                LibraryInfoType libraryMetadata = null;
+                boolean notModified = false;
+
+                if (conditionalDownloadSupported) {
+                    try (CloseableHttpResponse response =
+                        requestContentWithMetadata( baseNS, filename, versionIdentifier, contentMetadata )) {
+                        int statusCode = response.getStatusLine().getStatusCode();
+
+                        if (statusCode == HttpStatus.SC_NOT_FOUND) {
+                            // The remote repository pre-dates the combined content endpoint
+                            EntityUtils.consume( response.getEntity() );
+                            conditionalDownloadSupported = false;
+
+                        } else if (statusCode == HttpStatus.SC_NOT_MODIFIED) {
+                            log.info( "Local copy of repository item is current - " + filename );
+                            notModified = true;
+
+                        } else {
+                            libraryMetadata = saveContentWithMetadata( response, repositoryContentFile );
+                        }
+                    }
+                }
+                if ((libraryMetadata == null) && !notModified) {
+                    libraryMetadata = downloadMetadataAndContent( baseNS, filename, versionIdentifier,
+                        repositoryContentFile );
+                }
                 success = true;
 
                 // Compare the last-updated with our previous local value and return true if the
                 // local content was modified.
-                Date remoteLastUpdated = XMLGregorianCalendarConverter.toJavaDate( libraryMetadata.getLastUpdated() );
-                isStaleContent = remoteLastUpdated.after( localLastUpdated );
+                if (libraryMetadata != null) {
+                    Date remoteLastUpdated =
+                        XMLGregorianCalendarConverter.toJavaDate( libraryMetadata.getLastUpdated() );
+                    isStaleContent = remoteLastUpdated.after( localLastUpdated );
+                }
 
             } catch (UnknownHostException e) {
                 handleUnknownHost( e, repositoryContentFile, baseNS, filename, versionIdentifier );
@@ -1549,6 +1551,289 @@ public class RemoteRepositoryClient implements RemoteRepository {
         return isStaleContent;
     }
 
+    /**
+     * @see org.opentravel.schemacompiler.repository.RemoteRepository#downloadContent(java.util.List)
+     */
+    @Override
+    public void downloadContent(List<RepositoryItemIdentityType> itemIdentities) throws RepositoryException {
+        List<RequestedItemType> requestedItems = new ArrayList<>();
+
+        for (RepositoryItemIdentityType itemIdentity : itemIdentities) {
+            RequestedItemType requestedItem = newRequestedItem( itemIdentity );
+
+            if (requestedItem != null) {
+                requestedItems.add( requestedItem );
+            }
+        }
+
+        while (!requestedItems.isEmpty() && batchDownloadSupported) {
+            List<RequestedItemType> batchItems = new ArrayList<>(
+                requestedItems.subList( 0, Math.min( MAX_BATCH_DOWNLOAD_SIZE, requestedItems.size() ) ) );
+            List<RequestedItemType> omittedItems = downloadContentBatch( batchItems );
+
+            requestedItems.subList( 0, batchItems.size() ).clear();
+
+            // The remote repository omits the remaining items of a batch once its response reaches the maximum
+            // content size; those items are requested again unless none of the batch could be returned
+            if (omittedItems.size() < batchItems.size()) {
+                requestedItems.addAll( 0, omittedItems );
+            }
+        }
+    }
+
+    /**
+     * Returns a batch download request for the given item, including the saved entity tag of the local copy if a
+     * current one exists.
+     * Null will be returned if the item was downloaded recently or if the local copy is managed by a different remote
+     * repository.
+     * 
+     * @param itemIdentity the identity of the item to be requested
+     * @return RequestedItemType
+     * @throws RepositoryException thrown if the local copy of the item cannot be read
+     */
+    private RequestedItemType newRequestedItem(RepositoryItemIdentityType itemIdentity) throws RepositoryException {
+        String baseNS = RepositoryNamespaceUtils.normalizeUri( itemIdentity.getBaseNamespace() );
+        String filename = itemIdentity.getFilename();
+        String versionIdentifier = itemIdentity.getVersion();
+        RequestedItemType requestedItem = null;
+
+        if (!downloadCache.contains( baseNS + "~" + filename + "~" + versionIdentifier )) {
+            RepositoryFileManager fileManager = manager.getFileManager();
+            File metadataFile = fileManager.getLibraryMetadataLocation( baseNS, filename, versionIdentifier );
+            LibraryInfoType localMetadata = null;
+
+            if (metadataFile.exists()) {
+                localMetadata = fileManager.loadLibraryMetadata( baseNS, filename, versionIdentifier );
+            }
+
+            if ((localMetadata == null) || localMetadata.getOwningRepository().equals( id )) {
+                requestedItem = new RequestedItemType();
+                requestedItem.setBaseNamespace( baseNS );
+                requestedItem.setFilename( filename );
+                requestedItem.setVersion( versionIdentifier );
+
+                if (localMetadata != null) {
+                    requestedItem.setContentTag(
+                        fileManager.loadLibraryContentTag( baseNS, filename, versionIdentifier ) );
+                }
+            }
+        }
+        return requestedItem;
+    }
+
+    /**
+     * Downloads the meta-data and content of the requested items from the remote web service with a single request,
+     * and saves them to the local repository. If the remote web service does not support batch downloads, no action
+     * is taken and the items will be downloaded individually when they are accessed.
+     * 
+     * <p>
+     * The response contains the content of each returned item, so it is held in memory while it is unmarshalled.
+     * The remote web service limits the size of that content by omitting the remaining items once the response
+     * reaches its maximum size. The items that were omitted from the response are returned by this method.
+     * 
+     * @param requestedItems the list of items to download
+     * @return List&lt;RequestedItemType&gt;
+     * @throws RepositoryException thrown if the remote repository cannot be accessed
+     */
+    @SuppressWarnings("unchecked")
+    private List<RequestedItemType> downloadContentBatch(List<RequestedItemType> requestedItems)
+        throws RepositoryException {
+        List<RequestedItemType> omittedItems = new ArrayList<>();
+        boolean success = false;
+
+        try (StringWriter xmlWriter = new StringWriter()) {
+            HttpPost request = newPostRequest( REPOSITORY_ITEM_CONTENT_BATCH_ENDPOINT );
+            LibraryContentRQType contentRQ = new LibraryContentRQType();
+            Marshaller marshaller = RepositoryFileManager.getSharedJaxbContext().createMarshaller();
+
+            contentRQ.getRequestedItem().addAll( requestedItems );
+            marshaller.marshal( objectFactory.createLibraryContentRQ( contentRQ ), xmlWriter );
+            request.setEntity( new StringEntity( xmlWriter.toString(), ContentType.TEXT_XML ) );
+
+            log.info( "Downloading " + requestedItems.size() + " items from repository '" + id + "'" );
+            manager.getFileManager().startChangeSet();
+            try (CloseableHttpResponse response =
+                remoteUtils.executeWithAuthentication( request, HttpStatus.SC_NOT_FOUND )) {
+                if (response.getStatusLine().getStatusCode() == HttpStatus.SC_NOT_FOUND) {
+                    // The remote repository pre-dates the batch content endpoint
+                    EntityUtils.consume( response.getEntity() );
+                    batchDownloadSupported = false;
+
+                } else {
+                    Unmarshaller unmarshaller = RepositoryFileManager.getSharedJaxbContext().createUnmarshaller();
+                    JAXBElement<LibraryContentListType> jaxbElement = (JAXBElement<LibraryContentListType>) unmarshaller
+                        .unmarshal( response.getEntity().getContent() );
+
+                    saveContentList( jaxbElement.getValue() );
+                }
+            }
+            for (RequestedItemType requestedItem : requestedItems) {
+                if (!downloadCache.contains( requestedItem.getBaseNamespace() + "~" + requestedItem.getFilename()
+                    + "~" + requestedItem.getVersion() )) {
+                    omittedItems.add( requestedItem );
+                }
+            }
+            success = true;
+
+        } catch (JAXBException e) {
+            throw new RepositoryException( SERVICE_RESPONSE_UNREADABLE, e );
+
+        } catch (IOException e) {
+            log.warn( "The remote repository '" + id + "' is unavailable." );
+            throw new RepositoryException( REPOSITORY_UNAVAILABLE, e );
+
+        } finally {
+            commitOrRollback( success );
+        }
+        return omittedItems;
+    }
+
+    /**
+     * Saves the items from a batch download response to the local repository and adds them (along with the items that
+     * were not modified) to the download cache.
+     * 
+     * @param contentList the list of items received from the remote web service
+     * @throws RepositoryException thrown if the meta-data or content of an item cannot be saved
+     */
+    private void saveContentList(LibraryContentListType contentList) throws RepositoryException {
+        for (LibraryContentType libraryContent : contentList.getLibraryContent()) {
+            LibraryInfoType libraryMetadata = libraryContent.getLibraryInfo();
+            String baseNS = RepositoryNamespaceUtils.normalizeUri( libraryMetadata.getBaseNamespace() );
+            File repositoryContentFile = manager.getFileManager().getLibraryContentLocation( baseNS,
+                libraryMetadata.getFilename(), libraryMetadata.getVersion() );
+
+            saveLibraryContent( libraryContent, repositoryContentFile );
+            downloadCache.add( baseNS + "~" + libraryMetadata.getFilename() + "~" + libraryMetadata.getVersion() );
+        }
+        for (RepositoryItemIdentityType itemIdentity : contentList.getNotModified()) {
+            downloadCache.add( RepositoryNamespaceUtils.normalizeUri( itemIdentity.getBaseNamespace() ) + "~"
+                + itemIdentity.getFilename() + "~" + itemIdentity.getVersion() );
+        }
+    }
+
+    /**
+     * Sends a request for the meta-data and content of a repository item to the remote web service. If the local
+     * repository already contains a current entity tag for its copy of the item, the tag and last-updated date are
+     * included in the request so that the remote web service can respond with a 304 (Not Modified) status if the local
+     * copy is current. A 404 (Not Found) status is returned if the remote web service does not support the request.
+     * 
+     * @param baseNS the namespace of the repository item to download
+     * @param filename the filename of the repository item to download
+     * @param versionIdentifier the version identifier of the repository item to download
+     * @param localMetadata the meta-data of the local copy of the item (may be null)
+     * @return CloseableHttpResponse
+     * @throws RepositoryException thrown if an error response is received from the remote server
+     * @throws IOException thrown if an error occurs during request execution
+     */
+    private CloseableHttpResponse requestContentWithMetadata(String baseNS, String filename, String versionIdentifier,
+        LibraryInfoType localMetadata) throws RepositoryException, IOException {
+        HttpGet request = newGetRequest( REPOSITORY_ITEM_CONTENT_WITH_METADATA_ENDPOINT,
+            new HttpGetParam( BASE_NAMESPACE, baseNS ), new HttpGetParam( FILENAME, filename ),
+            new HttpGetParam( VERSION, versionIdentifier ) );
+        String contentTag = (localMetadata == null) ? null
+            : manager.getFileManager().loadLibraryContentTag( baseNS, filename, versionIdentifier );
+
+        if (contentTag != null) {
+            request.addHeader( HttpHeaders.IF_NONE_MATCH, "\"" + contentTag + "\"" );
+
+            if (localMetadata.getLastUpdated() != null) {
+                request.addHeader( HttpHeaders.IF_MODIFIED_SINCE, org.apache.http.client.utils.DateUtils
+                    .formatDate( XMLGregorianCalendarConverter.toJavaDate( localMetadata.getLastUpdated() ) ) );
+            }
+        }
+        return remoteUtils.executeWithAuthentication( request, HttpStatus.SC_NOT_MODIFIED, HttpStatus.SC_NOT_FOUND );
+    }
+
+    /**
+     * Saves the meta-data and content of a repository item that were received from the remote web service to the
+     * local repository.
+     * 
+     * @param response the response received from the remote web service
+     * @param repositoryContentFile the location where the item's content should be saved
+     * @return LibraryInfoType
+     * @throws JAXBException thrown if the response cannot be unmarshalled
+     * @throws IOException thrown if the response content cannot be read
+     * @throws RepositoryException thrown if the meta-data or content cannot be saved
+     */
+    @SuppressWarnings("unchecked")
+    private LibraryInfoType saveContentWithMetadata(HttpResponse response, File repositoryContentFile)
+        throws JAXBException, IOException, RepositoryException {
+        Unmarshaller unmarshaller = RepositoryFileManager.getSharedJaxbContext().createUnmarshaller();
+        JAXBElement<LibraryContentType> jaxbElement =
+            (JAXBElement<LibraryContentType>) unmarshaller.unmarshal( response.getEntity().getContent() );
+
+        return saveLibraryContent( jaxbElement.getValue(), repositoryContentFile );
+    }
+
+    /**
+     * Saves the meta-data and content of a repository item to the local repository, along with the entity tag that
+     * will be used to request conditional downloads of the item.
+     * 
+     * @param libraryContent the meta-data and content of the repository item
+     * @param repositoryContentFile the location where the item's content should be saved
+     * @return LibraryInfoType
+     * @throws RepositoryException thrown if the meta-data or content cannot be saved
+     */
+    private LibraryInfoType saveLibraryContent(LibraryContentType libraryContent, File repositoryContentFile)
+        throws RepositoryException {
+        LibraryInfoType libraryMetadata = libraryContent.getLibraryInfo();
+        RepositoryFileManager fileManager = manager.getFileManager();
+
+        fileManager.createNamespaceIdFiles( libraryMetadata.getBaseNamespace() );
+        fileManager.saveLibraryMetadata( libraryMetadata );
+        fileManager.saveFile( repositoryContentFile, new ByteArrayInputStream( libraryContent.getContent() ) );
+        fileManager.saveLibraryContentTag( libraryMetadata.getBaseNamespace(), libraryMetadata.getFilename(),
+            libraryMetadata.getVersion(),
+            RepositoryUtils.calculateContentTag( libraryMetadata, libraryContent.getContent() ) );
+        return libraryMetadata;
+    }
+
+    /**
+     * Downloads the meta-data and content of a repository item using separate requests, and saves them to the local
+     * repository. This method is used for remote repositories that do not support the combined content request.
+     * 
+     * @param baseNS the namespace of the repository item to download
+     * @param filename the filename of the repository item to download
+     * @param versionIdentifier the version identifier of the repository item to download
+     * @param repositoryContentFile the location where the item's content should be saved
+     * @return LibraryInfoType
+     * @throws JAXBException thrown if the request or response cannot be marshalled/unmarshalled
+     * @throws IOException thrown if an error occurs during request execution
+     * @throws RepositoryException thrown if an error response is received from the remote server
+     */
+    @SuppressWarnings("unchecked")
+    private LibraryInfoType downloadMetadataAndContent(String baseNS, String filename, String versionIdentifier,
+        File repositoryContentFile) throws JAXBException, IOException, RepositoryException {
+        try (StringWriter xmlWriter = new StringWriter()) {
+            // Marshal the JAXB content to a string and construct the HTTP requests
+            HttpPost metadataRequest = newPostRequest( REPOSITORY_ITEM_METADATA_ENDPOINT );
+            HttpPost contentRequest = newPostRequest( REPOSITORY_ITEM_CONTENT_ENDPOINT );
+            RepositoryItemIdentityType itemIdentity = new RepositoryItemIdentityType();
+            Marshaller marshaller = RepositoryFileManager.getSharedJaxbContext().createMarshaller();
+
+            itemIdentity.setBaseNamespace( baseNS );
+            itemIdentity.setFilename( filename );
+            itemIdentity.setVersion( versionIdentifier );
+
+            marshaller.marshal( objectFactory.createRepositoryItemIdentity( itemIdentity ), xmlWriter );
+            metadataRequest.setEntity( new StringEntity( xmlWriter.toString(), ContentType.TEXT_XML ) );
+            contentRequest.setEntity( new StringEntity( xmlWriter.toString(), ContentType.TEXT_XML ) );
+
+            // Send the requests for meta-data and content to the remote web service and update the local
+            // cache with the content we receive; the content is streamed directly to the local file
+            JAXBElement<LibraryInfoType> jaxbElement =
+                (JAXBElement<LibraryInfoType>) executeAndUnmarshal( metadataRequest );
+            LibraryInfoType libraryMetadata = jaxbElement.getValue();
+
+            try (CloseableHttpResponse contentResponse = remoteUtils.executeWithAuthentication( contentRequest )) {
+                manager.getFileManager().createNamespaceIdFiles( libraryMetadata.getBaseNamespace() );
+                manager.getFileManager().saveLibraryMetadata( libraryMetadata );
+                manager.getFileManager().saveFile( repositoryContentFile, contentResponse.getEntity().getContent() );
+            }
+            return libraryMetadata;
+        }
+    }
+
     /**
      * If the remote repository is inaccessible, it is only an error if we are downloading the files for the first time.
      * 
@@ -1614,10 +1899,8 @@ public class RemoteRepositoryClient implements RemoteRepository {
             metadataRequest.setEntity( new StringEntity( xmlWriter.toString(), ContentType.TEXT_XML ) );
 
             // Send the request for meta-data to the remote web service
-            HttpResponse metadataResponse = remoteUtils.executeWithAuthentication( metadataRequest );
-            Unmarshaller unmarshaller = RepositoryFileManager.getSharedJaxbContext().createUnmarshaller();
             JAXBElement<LibraryInfoType> jaxbElement =
-                (JAXBElement<LibraryInfoType>) unmarshaller.unmarshal( metadataResponse.getEntity().getContent() );
+                (JAXBElement<LibraryInfoType>) executeAndUnmarshal( metadataRequest );
             LibraryInfoType remoteMetadata = jaxbElement.getValue();
 
             // Get the local meta-data for the item and compare the last-updated timestamps
@@ -1716,7 +1999,7 @@ public class RemoteRepositoryClient implements RemoteRepository {
         try {
             HttpGet request = newGetRequest( CHECK_ADMINISTRATOR_ENDPOINT );
 
-            remoteUtils.executeWithAuthentication( request );
+            remoteUtils.sendWithAuthentication( request );
             isAdministrator = true;
 
         } catch (RepositoryException e) {
@@ -1767,6 +2050,24 @@ public class RemoteRepositoryClient implements RemoteRepository {
         return new HttpPost( buildRequestUrl( path, urlParams ) );
     }
 
+    /**
+     * Sends the given request to the remote web service and unmarshals the JAXB content of the response. The content
+     * is read directly from the connection, and the connection is released to the pool once it has been unmarshalled.
+     * 
+     * @param request the request to send to the remote web service
+     * @return Object
+     * @throws RepositoryException thrown if an error response is received from the remote server
+     * @throws IOException thrown if an error occurs during request execution
+     * @throws JAXBException thrown if the response content cannot be unmarshalled
+     */
+    private Object executeAndUnmarshal(HttpUriRequest request) throws RepositoryException, IOException, JAXBException {
+        try (CloseableHttpResponse response = remoteUtils.executeWithAuthentication( request )) {
+            Unmarshaller unmarshaller = RepositoryFileManager.getSharedJaxbContext().createUnmarshaller();
+
+            return unmarshaller.unmarshal( response.getEntity().getContent() );
+        }
+    }
+
     /**
      * Constructs a REST service request URL using the information provided.
      * 
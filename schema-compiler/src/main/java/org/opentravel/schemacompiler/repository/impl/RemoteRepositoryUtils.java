@@ -20,7 +20,8 @@ import org.apache.http.HttpResponse;
 import org.apache.http.auth.AuthState;
 import org.apache.http.auth.Credentials;
 import org.apache.http.auth.UsernamePasswordCredentials;
-import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.protocol.HttpClientContext;
@@ -31,11 +32,16 @@ import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.impl.auth.BasicScheme;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.LaxRedirectStrategy;
-import org.apache.http.impl.conn.BasicHttpClientConnectionManager;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
 import org.apache.http.ssl.SSLContexts;
 import org.apache.http.ssl.TrustStrategy;
+import org.apache.http.util.EntityUtils;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.RepositoryInfoType;
 import org.opentravel.schemacompiler.repository.RepositoryException;
 import org.opentravel.schemacompiler.repository.RepositoryFileManager;
@@ -46,6 +52,8 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.SSLContext;
 import javax.xml.bind.JAXBElement;
@@ -54,16 +62,40 @@ import javax.xml.bind.Unmarshaller;
 
 /**
  * Utility methods used for accessing remote repositories via HTTP requests.
+ *
+ * <p>
+ * Each instance maintains its own pool of persistent (keep-alive) connections that is shared by all of the requests
+ * sent through it. The pool is created when the first request is sent, and it is re-created with the new settings if
+ * any of the connection settings are modified. Connections that have been idle for longer than the configured idle
+ * timeout are evicted before each request is sent. Response content is streamed from the connection rather than
+ * buffered, so callers must close each response they receive (normally after reading its content) to release its
+ * connection.
  */
 public class RemoteRepositoryUtils {
 
     public static final String SERVICE_CONTEXT = "/service";
     private static final String REPOSITORY_METADATA_ENDPOINT = SERVICE_CONTEXT + "/repository-metadata";
 
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 8;
+    public static final int DEFAULT_MAX_CONNECTIONS_TOTAL = 20;
+    public static final int DEFAULT_CONNECT_TIMEOUT = 30000;
+    public static final int DEFAULT_SOCKET_TIMEOUT = 120000;
+    public static final long DEFAULT_IDLE_CONNECTION_TIMEOUT = 30000L;
+
+    private static final int MAX_ERROR_MESSAGE_SIZE = 8192;
+
     private static Registry<ConnectionSocketFactory> socketFactoryRegistry;
 
     private String userId;
     private String encryptedPassword;
+    private int maxConnectionsPerRoute = DEFAULT_MAX_CONNECTIONS_PER_ROUTE;
+    private int maxConnectionsTotal = DEFAULT_MAX_CONNECTIONS_TOTAL;
+    private int connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+    private int socketTimeout = DEFAULT_SOCKET_TIMEOUT;
+    private long idleConnectionTimeout = DEFAULT_IDLE_CONNECTION_TIMEOUT;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private long lastEvictionTime;
 
     /**
      * Returns the user ID credential for the remote repository's web service.
@@ -101,6 +133,134 @@ public class RemoteRepositoryUtils {
         this.encryptedPassword = password;
     }
 
+    /**
+     * Returns the maximum number of pooled connections that may be open to a single host.
+     * 
+     * @return int
+     */
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    /**
+     * Assigns the maximum number of pooled connections that may be open to a single host.
+     * 
+     * @param maxConnectionsPerRoute the maximum number of connections to assign
+     */
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        shutdown();
+    }
+
+    /**
+     * Returns the maximum number of pooled connections that may be open to all hosts.
+     * 
+     * @return int
+     */
+    public int getMaxConnectionsTotal() {
+        return maxConnectionsTotal;
+    }
+
+    /**
+     * Assigns the maximum number of pooled connections that may be open to all hosts.
+     * 
+     * @param maxConnectionsTotal the maximum number of connections to assign
+     */
+    public void setMaxConnectionsTotal(int maxConnectionsTotal) {
+        this.maxConnectionsTotal = maxConnectionsTotal;
+        shutdown();
+    }
+
+    /**
+     * Returns the timeout (in milliseconds) for establishing a new connection and for obtaining a connection from the
+     * pool. A value of zero indicates an infinite timeout.
+     * 
+     * @return int
+     */
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * Assigns the timeout (in milliseconds) for establishing a new connection and for obtaining a connection from the
+     * pool. A value of zero indicates an infinite timeout.
+     * 
+     * @param connectTimeout the timeout value to assign
+     */
+    public void setConnectTimeout(int connectTimeout) {
+        this.connectTimeout = connectTimeout;
+        shutdown();
+    }
+
+    /**
+     * Returns the timeout (in milliseconds) to wait for data from the remote repository. A value of zero indicates an
+     * infinite timeout.
+     * 
+     * @return int
+     */
+    public int getSocketTimeout() {
+        return socketTimeout;
+    }
+
+    /**
+     * Assigns the timeout (in milliseconds) to wait for data from the remote repository. A value of zero indicates an
+     * infinite timeout.
+     * 
+     * @param socketTimeout the timeout value to assign
+     */
+    public void setSocketTimeout(int socketTimeout) {
+        this.socketTimeout = socketTimeout;
+        shutdown();
+    }
+
+    /**
+     * Returns the time (in milliseconds) that a pooled connection may remain idle before it is closed.
+     * 
+     * @return long
+     */
+    public long getIdleConnectionTimeout() {
+        return idleConnectionTimeout;
+    }
+
+    /**
+     * Assigns the time (in milliseconds) that a pooled connection may remain idle before it is closed.
+     * 
+     * @param idleConnectionTimeout the timeout value to assign
+     */
+    public void setIdleConnectionTimeout(long idleConnectionTimeout) {
+        this.idleConnectionTimeout = idleConnectionTimeout;
+        shutdown();
+    }
+
+    /**
+     * Returns the current statistics of this instance's connection pool. If no requests have been sent since the pool
+     * was created (or shut down), all counts except the maximum will be zero.
+     * 
+     * @return PoolStats
+     */
+    public synchronized PoolStats getConnectionPoolStats() {
+        return (connectionManager == null) ? new PoolStats( 0, 0, 0, maxConnectionsTotal )
+            : connectionManager.getTotalStats();
+    }
+
+    /**
+     * Closes the HTTP client and all of the pooled connections that are currently open. A new pool will be created
+     * automatically if another request is sent after this method is called.
+     */
+    public synchronized void shutdown() {
+        if (httpClient != null) {
+            try {
+                httpClient.close();
+
+            } catch (IOException e) {
+                // Ignore and continue
+            }
+            connectionManager.shutdown();
+            httpClient = null;
+            connectionManager = null;
+        }
+    }
+
     /**
      * Contacts the repository web service at the specified endpoint URL, and returns the repository meta-data
      * information.
@@ -113,12 +273,14 @@ public class RemoteRepositoryUtils {
     public RepositoryInfoType getRepositoryMetadata(String endpointUrl) throws RepositoryException {
         try {
             HttpGet getRequest = new HttpGet( endpointUrl + REPOSITORY_METADATA_ENDPOINT );
-            HttpResponse response = execute( getRequest );
-            Unmarshaller unmarshaller = RepositoryFileManager.getSharedJaxbContext().createUnmarshaller();
-            JAXBElement<RepositoryInfoType> jaxbElement =
-                (JAXBElement<RepositoryInfoType>) unmarshaller.unmarshal( response.getEntity().getContent() );
 
-            return jaxbElement.getValue();
+            try (CloseableHttpResponse response = execute( getRequest )) {
+                Unmarshaller unmarshaller = RepositoryFileManager.getSharedJaxbContext().createUnmarshaller();
+                JAXBElement<RepositoryInfoType> jaxbElement =
+                    (JAXBElement<RepositoryInfoType>) unmarshaller.unmarshal( response.getEntity().getContent() );
+
+                return jaxbElement.getValue();
+            }
 
         } catch (JAXBException e) {
             throw new RepositoryException( "The format of the repository meta-data is unreadable.", e );
@@ -129,16 +291,96 @@ public class RemoteRepositoryUtils {
     }
 
     /**
-     * Returns an HTTP client to use when accessing the remote repository.
+     * Returns the pooled HTTP client to use when accessing the remote repository, creating it if necessary. Before the
+     * client is returned, any connections that have expired or been idle for longer than the idle timeout are closed.
+     * 
+     * @return CloseableHttpClient
+     */
+    private synchronized CloseableHttpClient getHttpClient() {
+        long currentTime = System.currentTimeMillis();
+
+        if (httpClient == null) {
+            RequestConfig requestConfig = RequestConfig.custom().setConnectTimeout( connectTimeout )
+                .setConnectionRequestTimeout( connectTimeout ).setSocketTimeout( socketTimeout ).build();
+
+            connectionManager = new PoolingHttpClientConnectionManager( socketFactoryRegistry );
+            connectionManager.setDefaultMaxPerRoute( maxConnectionsPerRoute );
+            connectionManager.setMaxTotal( maxConnectionsTotal );
+            httpClient = HttpClientBuilder.create().useSystemProperties().setConnectionManager( connectionManager )
+                .setDefaultRequestConfig( requestConfig ).setKeepAliveStrategy( this::getKeepAliveDuration )
+                .setRedirectStrategy( new LaxRedirectStrategy() )
+                .setDefaultCredentialsProvider( new NTLMSystemCredentialsProvider() ).build();
+            lastEvictionTime = currentTime;
+
+        } else if ((currentTime - lastEvictionTime) >= idleConnectionTimeout) {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections( idleConnectionTimeout, TimeUnit.MILLISECONDS );
+            lastEvictionTime = currentTime;
+        }
+        return httpClient;
+    }
+
+    /**
+     * Returns the duration (in milliseconds) that the connection of the given response may be kept alive. This is the
+     * duration indicated by the server's 'Keep-Alive' header, but never more than the idle connection timeout.
+     * 
+     * @param response the HTTP response whose connection is to be kept alive
+     * @param context the HTTP context of the request
+     * @return long
+     */
+    private long getKeepAliveDuration(HttpResponse response, HttpContext context) {
+        long keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration( response, context );
+
+        return (keepAlive < 0) ? idleConnectionTimeout : Math.min( keepAlive, idleConnectionTimeout );
+    }
+
+    /**
+     * Consumes any remaining content of the given response and closes it. Responses whose content has been read to
+     * the end are returned to the connection pool; responses that are closed before their content has been fully
+     * consumed cause the underlying connection to be closed.
+     * 
+     * @param response the HTTP response to release
+     * @throws IOException thrown if the remaining response content cannot be read
+     */
+    public static void release(CloseableHttpResponse response) throws IOException {
+        try {
+            EntityUtils.consume( response.getEntity() );
+
+        } finally {
+            response.close();
+        }
+    }
+
+    /**
+     * Verifies the status of the given response. If the status indicates an error that the caller is not prepared to
+     * handle, the (small) error message content of the response is read, the response is released, and an exception
+     * is thrown.
      * 
-     * @return HttpClient
+     * @param response the HTTP response to check
+     * @param unauthorizedMessage the error message to report for a 401 (Unauthorized) status
+     * @param allowedStatusCodes non-success status codes that should be returned to the caller instead of being
+     *        reported as errors
+     * @return CloseableHttpResponse
+     * @throws RepositoryException thrown if the response indicates an error
+     * @throws IOException thrown if the response cannot be released
      */
-    private static HttpClient createHttpClient() {
-        BasicHttpClientConnectionManager connectionManager =
-            new BasicHttpClientConnectionManager( socketFactoryRegistry );
-        return HttpClientBuilder.create().useSystemProperties().setConnectionManager( connectionManager )
-            .setRedirectStrategy( new LaxRedirectStrategy() )
-            .setDefaultCredentialsProvider( new NTLMSystemCredentialsProvider() ).build();
+    private static CloseableHttpResponse checkResponseStatus(CloseableHttpResponse response,
+        String unauthorizedMessage, int... allowedStatusCodes) throws RepositoryException, IOException {
+        int statusCode = response.getStatusLine().getStatusCode();
+
+        if (((statusCode < 200) || (statusCode > 299))
+            && Arrays.stream( allowedStatusCodes ).noneMatch( c -> c == statusCode )) {
+            String errorMessage = (statusCode == 401) ? unauthorizedMessage : getResponseErrorMessage( response );
+
+            release( response );
+
+            if (statusCode == 401) {
+                throw new RepositorySecurityException( errorMessage );
+            } else {
+                throw new RepositoryException( errorMessage );
+            }
+        }
+        return response;
     }
 
     /**
@@ -161,46 +403,68 @@ public class RemoteRepositoryUtils {
      * response is returned from this method, the caller can assume that the remote operation did not result in an
      * error.
      * 
+     * <p>
+     * The content of the response is not buffered; the caller is responsible for closing the response (normally after
+     * reading its content) so that the connection is released.
+     * 
      * @param request the request to send to the remote repository
-     * @return HttpResponse
+     * @return CloseableHttpResponse
      * @throws RepositoryException thrown if an error response is received from the remote server
      * @throws IOException thrown if an error occurs during request execution
      */
-    public HttpResponse executeWithAuthentication(HttpUriRequest request) throws RepositoryException, IOException {
-        HttpResponse response = createHttpClient().execute( request, createHttpContext() );
-        int statusCode = response.getStatusLine().getStatusCode();
+    public CloseableHttpResponse executeWithAuthentication(HttpUriRequest request)
+        throws RepositoryException, IOException {
+        return executeWithAuthentication( request, new int[0] );
+    }
 
-        if ((statusCode < 200) || (statusCode > 299)) {
-            if (statusCode == 401) {
-                throw new RepositorySecurityException(
-                    "User is not authorized to perform the requested action (check for out of date credentials)." );
-            } else {
-                throw new RepositoryException( getResponseErrorMessage( response ) );
-            }
-        }
-        return response;
+    /**
+     * Applies the user's credentials to the given request and sends the request to the remote repository. If the
+     * response is returned from this method, the caller can assume that the remote operation did not result in an
+     * error or that the response status is one of the additional status codes that the caller is prepared to handle.
+     * 
+     * <p>
+     * The content of the response is not buffered; the caller is responsible for closing the response (normally after
+     * reading its content) so that the connection is released.
+     * 
+     * @param request the request to send to the remote repository
+     * @param allowedStatusCodes non-success status codes that should be returned to the caller instead of being
+     *        reported as errors
+     * @return CloseableHttpResponse
+     * @throws RepositoryException thrown if an error response is received from the remote server
+     * @throws IOException thrown if an error occurs during request execution
+     */
+    public CloseableHttpResponse executeWithAuthentication(HttpUriRequest request, int... allowedStatusCodes)
+        throws RepositoryException, IOException {
+        return checkResponseStatus( getHttpClient().execute( request, createHttpContext() ),
+            "User is not authorized to perform the requested action (check for out of date credentials).",
+            allowedStatusCodes );
     }
 
     /**
-     * Sends the given request to the remote repository.
+     * Applies the user's credentials to the given request, sends the request to the remote repository, and discards
+     * the content of the response. This method is used for requests whose response content is not needed by the
+     * caller.
      * 
      * @param request the request to send to the remote repository
-     * @return HttpResponse
      * @throws RepositoryException thrown if an error response is received from the remote server
      * @throws IOException thrown if an error occurs during request execution
      */
-    public HttpResponse execute(HttpUriRequest request) throws RepositoryException, IOException {
-        HttpResponse response = createHttpClient().execute( request );
-        int statusCode = response.getStatusLine().getStatusCode();
+    public void sendWithAuthentication(HttpUriRequest request) throws RepositoryException, IOException {
+        release( executeWithAuthentication( request ) );
+    }
 
-        if ((statusCode < 200) || (statusCode > 299)) {
-            if (statusCode == 401) {
-                throw new RepositorySecurityException( "User is not authorized to perform the requested action." );
-            } else {
-                throw new RepositoryException( getResponseErrorMessage( response ) );
-            }
-        }
-        return response;
+    /**
+     * Sends the given request to the remote repository. The caller is responsible for closing the response (normally
+     * after reading its content) so that the connection is released.
+     * 
+     * @param request the request to send to the remote repository
+     * @return CloseableHttpResponse
+     * @throws RepositoryException thrown if an error response is received from the remote server
+     * @throws IOException thrown if an error occurs during request execution
+     */
+    public CloseableHttpResponse execute(HttpUriRequest request) throws RepositoryException, IOException {
+        return checkResponseStatus( getHttpClient().execute( request ),
+            "User is not authorized to perform the requested action." );
     }
 
     /**
@@ -219,7 +483,7 @@ public class RemoteRepositoryUtils {
 
     /**
      * If the response status indicates an error condition and a message is provided, the text of that message is
-     * returned.
+     * returned. Only the first few kilobytes of the message are read into memory.
      * 
      * @param response the HTTP response to process
      * @return String
@@ -228,14 +492,15 @@ public class RemoteRepositoryUtils {
         int statusCode = response.getStatusLine().getStatusCode();
         String errorMessage = null;
 
-        if ((statusCode < 200) || (statusCode > 299)) {
+        if (((statusCode < 200) || (statusCode > 299)) && (response.getEntity() != null)) {
             try {
                 InputStream responseStream = response.getEntity().getContent();
                 ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
                 byte[] buffer = new byte[256];
                 int bytesRead;
 
-                while ((bytesRead = responseStream.read( buffer )) >= 0) {
+                while ((byteStream.size() < MAX_ERROR_MESSAGE_SIZE)
+                    && ((bytesRead = responseStream.read( buffer )) >= 0)) {
                     byteStream.write( buffer, 0, bytesRead );
                 }
                 responseStream.close();
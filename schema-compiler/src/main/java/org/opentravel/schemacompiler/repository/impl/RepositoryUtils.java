@@ -16,11 +16,13 @@
 
 package org.opentravel.schemacompiler.repository.impl;
 
+import org.apache.commons.codec.binary.Hex;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.EntityInfoType;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryHistoryItemType;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryHistoryType;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryInfoType;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryStatus;
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.ObjectFactory;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.RepositoryItemIdentityType;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.RepositoryState;
 import org.opentravel.schemacompiler.loader.LibraryModuleInfo;
@@ -33,6 +35,7 @@ import org.opentravel.schemacompiler.model.TLLibrary;
 import org.opentravel.schemacompiler.model.TLLibraryStatus;
 import org.opentravel.schemacompiler.repository.ProjectItem;
 import org.opentravel.schemacompiler.repository.RepositoryException;
+import org.opentravel.schemacompiler.repository.RepositoryFileManager;
 import org.opentravel.schemacompiler.repository.RepositoryItem;
 import org.opentravel.schemacompiler.repository.RepositoryItemCommit;
 import org.opentravel.schemacompiler.repository.RepositoryItemHistory;
@@ -45,6 +48,7 @@ import org.opentravel.schemacompiler.version.VersionScheme;
 import org.opentravel.schemacompiler.version.VersionSchemeException;
 import org.opentravel.schemacompiler.version.VersionSchemeFactory;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
@@ -52,9 +56,14 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+
 /**
  * Static utility methods used by the OTA2.0 repository implementation.
  * 
@@ -62,6 +71,10 @@ import java.util.List;
  */
 public class RepositoryUtils {
 
+    private static final String CONTENT_TAG_ALGORITHM = "SHA-256";
+
+    private static ObjectFactory objectFactory = new ObjectFactory();
+
     /**
      * Private constructor to prevent instantiation.
      */
@@ -126,6 +139,36 @@ public class RepositoryUtils {
         itemMetadata.setLockedBy( source.getLockedByUser() );
     }
 
+    /**
+     * Returns an entity tag that identifies the current state of a repository item's meta-data and content. The tag is
+     * a digest of the marshalled meta-data and the content bytes, so the same tag will be calculated by a remote
+     * repository and by a local repository that holds an unmodified copy of the item.
+     * 
+     * @param itemMetadata the meta-data of the repository item
+     * @param content the content of the repository item
+     * @return String
+     * @throws RepositoryException thrown if the meta-data cannot be marshalled
+     */
+    public static String calculateContentTag(LibraryInfoType itemMetadata, byte[] content)
+        throws RepositoryException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance( CONTENT_TAG_ALGORITHM );
+            Marshaller marshaller = RepositoryFileManager.getSharedJaxbContext().createMarshaller();
+            ByteArrayOutputStream metadataBytes = new ByteArrayOutputStream();
+
+            marshaller.marshal( objectFactory.createLibraryInfo( itemMetadata ), metadataBytes );
+            digest.update( metadataBytes.toByteArray() );
+            digest.update( content );
+            return Hex.encodeHexString( digest.digest() );
+
+        } catch (JAXBException e) {
+            throw new RepositoryException( "Unable to marshal the library meta-data.", e );
+
+        } catch (NoSuchAlgorithmException e) {
+            throw new SchemaCompilerRuntimeException( e );
+        }
+    }
+
     /**
      * Returns a new meta-data instance for the given entity.
      * 
@@ -78,7 +78,7 @@ public final class LibraryModelSaver {
     public ValidationFindings saveAllLibraries(TLModel model) throws LibrarySaveException {
         SymbolResolverTransformerContext context = new SymbolResolverTransformerContext();
         SymbolResolver symbolResolver =
-            new TL2JaxbLibrarySymbolResolver( SymbolTableFactory.newSymbolTableFromModel( model ) );
+            new TL2JaxbLibrarySymbolResolver( SymbolTableFactory.getSymbolTableForModel( model ) );
         ValidationFindings findings = new ValidationFindings();
 
         context.setSymbolResolver( symbolResolver );
@@ -123,7 +123,7 @@ public final class LibraryModelSaver {
     public ValidationFindings saveLibrary(TLLibrary library) throws LibrarySaveException {
         SymbolResolverTransformerContext context = new SymbolResolverTransformerContext();
         SymbolResolver symbolResolver =
-            new TL2JaxbLibrarySymbolResolver( SymbolTableFactory.newSymbolTableFromModel( library.getOwningModel() ) );
+            new TL2JaxbLibrarySymbolResolver( SymbolTableFactory.getSymbolTableForModel( library.getOwningModel() ) );
         ValidationFindings findings = new ValidationFindings();
 
         context.setSymbolResolver( symbolResolver );
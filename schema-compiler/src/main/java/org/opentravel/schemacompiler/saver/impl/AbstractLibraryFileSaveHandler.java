@@ -27,7 +27,6 @@ import org.opentravel.schemacompiler.validate.ValidationFindings;
 import org.opentravel.schemacompiler.xml.LibraryLineBreakProcessor;
 import org.opentravel.schemacompiler.xml.NamespacePrefixMapper;
 import org.opentravel.schemacompiler.xml.XMLPrettyPrinter;
-import org.w3c.dom.Document;
 import org.xml.sax.helpers.DefaultHandler;
 
 import java.io.File;
@@ -47,6 +46,8 @@ import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 import javax.xml.validation.Schema;
 
 /**
@@ -106,19 +107,17 @@ public abstract class AbstractLibraryFileSaveHandler<T> implements LibrarySaveHa
         try (OutputStream out = new FileOutputStream( libraryFile )) {
             JAXBElement<T> documentElement = createLibraryElement( library );
             Marshaller marshaller = getJaxbContext().createMarshaller();
-            Document domDocument = XMLPrettyPrinter.newDocument();
+            XMLStreamWriter writer = new XMLPrettyPrinter( new LibraryLineBreakProcessor() ).newStreamWriter( out );
 
             // Marshall the JAXB content
             marshaller.setProperty( Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE );
             marshaller.setProperty( "com.sun.xml.bind.namespacePrefixMapper", new LibrarySaveNamespacePrefixMapper() );
             marshaller.setProperty( "jaxb.schemaLocation", getLibrarySchemaLocation() );
-            marshaller.marshal( documentElement, domDocument ); // no schema validation during file-save marshalling
-
-            // Format the XML before saving it to a file
-            new XMLPrettyPrinter( new LibraryLineBreakProcessor() ).formatDocument( domDocument, out );
+            marshaller.marshal( documentElement, writer ); // no schema validation during file-save marshalling
+            writer.close();
             success = true;
 
-        } catch (IllegalArgumentException | JAXBException | IOException e) {
+        } catch (IllegalArgumentException | JAXBException | XMLStreamException | IOException e) {
             throw new LibrarySaveException( e );
 
         } finally {
@@ -22,9 +22,13 @@ import org.opentravel.schemacompiler.codegen.CodeGenerationFilenameBuilder;
 import org.opentravel.schemacompiler.codegen.CodeGenerationFilter;
 import org.opentravel.schemacompiler.codegen.CodeGenerator;
 import org.opentravel.schemacompiler.codegen.CodeGeneratorFactory;
+import org.opentravel.schemacompiler.codegen.example.AbstractExampleCodeGenerator;
+import org.opentravel.schemacompiler.codegen.example.ExampleFragmentCache;
 import org.opentravel.schemacompiler.codegen.impl.LibraryFilenameBuilder;
+import org.opentravel.schemacompiler.codegen.util.CodegenResultCache;
 import org.opentravel.schemacompiler.codegen.util.ResourceCodegenUtils;
 import org.opentravel.schemacompiler.codegen.util.XsdCodegenUtils;
+import org.opentravel.schemacompiler.ioc.CompilerSession;
 import org.opentravel.schemacompiler.loader.LibraryInputSource;
 import org.opentravel.schemacompiler.loader.LibraryModelLoader;
 import org.opentravel.schemacompiler.loader.impl.CatalogLibraryNamespaceResolver;
@@ -74,6 +78,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Base class for all code generation tasks that provides shared methods, as well as an implementation of the
@@ -94,6 +103,8 @@ public abstract class AbstractCompilerTask implements CommonCompilerTaskOptions
     private String validationRuleSetId;
     private String catalogLocation;
     private String outputFolder;
+    private boolean parallelCompile = false;
+    private ExampleFragmentCache exampleFragmentCache;
     protected String projectFilename;
 
     /**
@@ -282,10 +293,21 @@ public abstract class AbstractCompilerTask implements CommonCompilerTaskOptions
      */
     public ValidationFindings compileOutput(Collection<TLLibrary> userDefinedLibraries,
         Collection<XSDLibrary> legacySchemas) throws SchemaCompilerException {
-        ValidationFindings findings = validateLibraries( userDefinedLibraries );
+        TLModel model = getModel( userDefinedLibraries, legacySchemas );
+        ValidationFindings findings;
 
-        if (!findings.hasFinding( FindingType.ERROR )) {
-            generateOutput( userDefinedLibraries, legacySchemas );
+        if (model == null) {
+            findings = validateLibraries( userDefinedLibraries );
+
+        } else {
+            // Code generation results (including ghost facets) are only cached for the duration of this compilation
+            try (CodegenResultCache.Scope scope = CodegenResultCache.openScope( model )) {
+                findings = validateLibraries( userDefinedLibraries );
+
+                if (!findings.hasFinding( FindingType.ERROR )) {
+                    generateOutput( userDefinedLibraries, legacySchemas );
+                }
+            }
         }
         return findings;
     }
@@ -404,7 +426,8 @@ public abstract class AbstractCompilerTask implements CommonCompilerTaskOptions
     }
 
     /**
-     * Validates the given model using the rule set assigned for this task.
+     * Validates the given model using the rule set assigned for this task. If the parallel compile option is enabled,
+     * the libraries are validated concurrently.
      * 
      * @param userDefinedLibraries the list of user-defined libraries to validate
      * @return ValidationFindings
@@ -413,11 +436,17 @@ public abstract class AbstractCompilerTask implements CommonCompilerTaskOptions
     protected ValidationFindings validateLibraries(Collection<TLLibrary> userDefinedLibraries)
         throws SchemaCompilerException {
         try {
+            String ruleSetId =
+                (validationRuleSetId != null) ? validationRuleSetId : ValidatorFactory.COMPILE_RULE_SET_ID;
             ValidationFindings findings = new ValidationFindings();
 
-            for (TLLibrary library : userDefinedLibraries) {
-                findings.addAll( TLModelValidator.validateModelElement( library,
-                    (validationRuleSetId != null) ? validationRuleSetId : ValidatorFactory.COMPILE_RULE_SET_ID ) );
+            if (isParallelCompile()) {
+                findings.addAll( TLModelValidator.validateLibraries( userDefinedLibraries, ruleSetId, true ) );
+
+            } else {
+                for (TLLibrary library : userDefinedLibraries) {
+                    findings.addAll( TLModelValidator.validateModelElement( library, ruleSetId ) );
+                }
             }
             return findings;
 
@@ -524,6 +553,91 @@ public abstract class AbstractCompilerTask implements CommonCompilerTaskOptions
     public void applyTaskOptions(CommonCompilerTaskOptions taskOptions) {
         setCatalogLocation( taskOptions.getCatalogLocation() );
         setOutputFolder( taskOptions.getOutputFolder() );
+        setParallelCompile( taskOptions.isParallelCompile() );
+    }
+
+    /**
+     * Executes the given tasks and returns their results in the same order as the tasks themselves. If parallel
+     * compilation is enabled and more than one task is provided, the tasks are executed on a thread pool that is
+     * created for this call and shut down before it returns. The pool is bounded by the number of available processors
+     * and is never shared with other tasks (or with the common fork-join pool), so blocking file I/O performed by the
+     * tasks cannot starve unrelated work, even when this task is itself running as a concurrent sub-task.
+     * 
+     * @param tasks the tasks to execute
+     * @param <T> the result type of the tasks
+     * @return List&lt;T&gt;
+     * @throws SchemaCompilerException thrown if one or more of the tasks fails
+     */
+    protected <T> List<T> executeTasks(List<Callable<T>> tasks) throws SchemaCompilerException {
+        ExecutorService executor = null;
+
+        if (isParallelCompile() && (tasks.size() > 1)) {
+            executor = Executors
+                .newFixedThreadPool( Math.min( tasks.size(), Runtime.getRuntime().availableProcessors() ) );
+        }
+        try {
+            return executeTasks( tasks, executor );
+
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Executes the given tasks and returns their results in the same order as the tasks themselves. If an executor is
+     * provided, all of the tasks are submitted to it and this method waits for every one of them to complete;
+     * otherwise, the tasks are executed one at a time on the current thread. In either case, if one or more tasks
+     * fail, the exception from the first failed task (in task order) is re-thrown.
+     * 
+     * @param tasks the tasks to execute
+     * @param executor the executor to use for concurrent execution (null for sequential execution)
+     * @param <T> the result type of the tasks
+     * @return List&lt;T&gt;
+     * @throws SchemaCompilerException thrown if one or more of the tasks fails
+     */
+    protected <T> List<T> executeTasks(List<Callable<T>> tasks, ExecutorService executor)
+        throws SchemaCompilerException {
+        List<T> results = new ArrayList<>();
+
+        try {
+            if (executor == null) {
+                for (Callable<T> task : tasks) {
+                    results.add( task.call() );
+                }
+
+            } else {
+                List<Future<T>> futures = new ArrayList<>();
+                Throwable firstError = null;
+
+                for (Callable<T> task : tasks) {
+                    futures.add( executor.submit( CompilerSession.propagate( task ) ) );
+                }
+                for (Future<T> future : futures) {
+                    try {
+                        results.add( future.get() );
+
+                    } catch (ExecutionException e) {
+                        firstError = (firstError == null) ? e.getCause() : firstError;
+                    }
+                }
+                if (firstError != null) {
+                    throw firstError;
+                }
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SchemaCompilerException( "Interrupted while waiting for code generation to complete.", e );
+
+        } catch (SchemaCompilerException | RuntimeException | Error e) {
+            throw e;
+
+        } catch (Throwable t) {
+            throw new SchemaCompilerException( t );
+        }
+        return results;
     }
 
     /**
@@ -580,7 +694,10 @@ public abstract class AbstractCompilerTask implements CommonCompilerTaskOptions
     protected void generateExampleArtifacts(Collection<TLLibrary> userDefinedLibraries, CodeGenerationContext context,
         CodeGenerationFilenameBuilder<AbstractLibrary> filenameBuilder, CodeGenerationFilter filter,
         String targetFormat) throws SchemaCompilerException {
-        CodeGenerator<TLModelElement> exampleGenerator = getExampleGenerator( targetFormat, filenameBuilder );
+        ExampleFragmentCache fragmentCache =
+            (exampleFragmentCache != null) ? exampleFragmentCache : new ExampleFragmentCache();
+        CodeGenerator<TLModelElement> exampleGenerator =
+            getExampleGenerator( targetFormat, filenameBuilder, fragmentCache );
         CodeGenerationContext exampleContext = context.getCopy();
 
         // Generate examples for all model entities that are not excluded by the filter
@@ -700,17 +817,23 @@ public abstract class AbstractCompilerTask implements CommonCompilerTaskOptions
      * 
      * @param targetFormat the target output format of the example files to be generated
      * @param filenameBuilder the filename builder for the example code generator
+     * @param fragmentCache the cache of example fragments to be used by the example generator
      * @return the list of example generators.
      * @throws CodeGenerationException thrown if an error occurs during example generation
      */
     private CodeGenerator<TLModelElement> getExampleGenerator(String targetFormat,
-        CodeGenerationFilenameBuilder<AbstractLibrary> filenameBuilder) throws CodeGenerationException {
+        CodeGenerationFilenameBuilder<AbstractLibrary> filenameBuilder, ExampleFragmentCache fragmentCache)
+        throws CodeGenerationException {
         CodeGenerator<TLModelElement> exampleGenerator =
             CodeGeneratorFactory.getInstance().newCodeGenerator( targetFormat, TLModelElement.class );
         TrimmedExampleFilenameBuilder trimmedFilenameBuilder =
             new TrimmedExampleFilenameBuilder( exampleGenerator.getFilenameBuilder(), filenameBuilder );
 
         exampleGenerator.setFilenameBuilder( trimmedFilenameBuilder );
+
+        if (exampleGenerator instanceof AbstractExampleCodeGenerator) {
+            ((AbstractExampleCodeGenerator) exampleGenerator).setFragmentCache( fragmentCache );
+        }
         return exampleGenerator;
     }
 
@@ -806,6 +929,42 @@ public abstract class AbstractCompilerTask implements CommonCompilerTaskOptions
         this.outputFolder = outputFolder;
     }
 
+    /**
+     * @see org.opentravel.schemacompiler.task.CommonCompilerTaskOptions#isParallelCompile()
+     */
+    @Override
+    public boolean isParallelCompile() {
+        return parallelCompile;
+    }
+
+    /**
+     * Assigns the option flag indicating that code generation should be performed concurrently wherever possible.
+     * 
+     * @param parallelCompile the task option value to assign
+     */
+    public void setParallelCompile(boolean parallelCompile) {
+        this.parallelCompile = parallelCompile;
+    }
+
+    /**
+     * Returns the cache of example fragments that is shared with other tasks. If null, each example generation run
+     * will use its own cache.
+     * 
+     * @return ExampleFragmentCache
+     */
+    protected ExampleFragmentCache getExampleFragmentCache() {
+        return exampleFragmentCache;
+    }
+
+    /**
+     * Assigns the cache of example fragments that is shared with other tasks.
+     * 
+     * @param exampleFragmentCache the fragment cache to assign (null to use a separate cache for each run)
+     */
+    protected void setExampleFragmentCache(ExampleFragmentCache exampleFragmentCache) {
+        this.exampleFragmentCache = exampleFragmentCache;
+    }
+
     /**
      * Returns the manager being used by this task to access remote repositories.
      *
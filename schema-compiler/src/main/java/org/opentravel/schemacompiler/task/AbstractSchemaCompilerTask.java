@@ -44,9 +44,12 @@ import org.opentravel.schemacompiler.validate.ValidationException;
 import org.springframework.context.ApplicationContext;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
 
 import javax.xml.XMLConstants;
 
@@ -101,8 +104,18 @@ public abstract class AbstractSchemaCompilerTask extends AbstractCompilerTask im
         }
         ImportSchemaLocations importLocations = analyzeImportDependencies( model, context, filenameBuilder, filter );
 
+        List<Callable<XsdLibraryOutput>> libraryTasks = new ArrayList<>();
+
         for (TLLibrary library : userDefinedLibraries) {
-            generateXsdForLibrary( library, model, context, filter, filenameBuilder, importLocations );
+            libraryTasks
+                .add( () -> generateXsdForLibrary( library, context, filter, filenameBuilder, importLocations ) );
+        }
+
+        // The output of each library is independent of the others, so the libraries may be generated
+        // concurrently; results are merged in library order to produce the same output as a sequential run
+        for (XsdLibraryOutput libraryOutput : executeTasks( libraryTasks )) {
+            addGeneratedFiles( libraryOutput.generatedFiles );
+            addBuiltInDependencies( libraryOutput.xsdGenerator, model, filter );
         }
 
         // If a filter was not passed to this method create one that will identify the legacy
@@ -131,19 +144,20 @@ public abstract class AbstractSchemaCompilerTask extends AbstractCompilerTask im
     }
 
     /**
-     * Generate XML schema output for the given user-defined library.
+     * Generate XML schema output for the given user-defined library. This method does not modify the state of this
+     * task, so it may be called concurrently for different libraries.
      * 
-     * @param userDefinedLibraries the libraries for which to generate output
-     * @param model the model that contains all of the libraries and legacy schemas
+     * @param library the library for which to generate output
      * @param context the code generation context
      * @param filter the code generation filter (may be null)
      * @param filenameBuilder the filename builder to use when creating new output files
      * @param importLocations specifies the import locations for other libraries and schemas
+     * @return XsdLibraryOutput
      * @throws CodeGenerationException thrown if an error occurs during code generation
      * @throws ValidationException thrown if any validation errors are detected in the model
      */
     @SuppressWarnings("unchecked")
-    private void generateXsdForLibrary(TLLibrary library, TLModel model, CodeGenerationContext context,
+    private XsdLibraryOutput generateXsdForLibrary(TLLibrary library, CodeGenerationContext context,
         CodeGenerationFilter filter, CodeGenerationFilenameBuilder<?> filenameBuilder,
         ImportSchemaLocations importLocations) throws CodeGenerationException, ValidationException {
         CodeGenerator<TLLibrary> xsdGenerator = newCodeGenerator( CodeGeneratorFactory.XSD_TARGET_FORMAT,
@@ -152,9 +166,18 @@ public abstract class AbstractSchemaCompilerTask extends AbstractCompilerTask im
         if (xsdGenerator instanceof AbstractXsdCodeGenerator) {
             ((AbstractXsdCodeGenerator<?>) xsdGenerator).setImportSchemaLocations( importLocations );
         }
-        addGeneratedFiles( xsdGenerator.generateOutput( library, context ) );
+        return new XsdLibraryOutput( xsdGenerator, xsdGenerator.generateOutput( library, context ) );
+    }
 
-        // If any non-xsd built-in dependencies were identified, add them to the current filter
+    /**
+     * If any non-xsd built-in dependencies were identified by the given generator, add them to the filter provided.
+     * 
+     * @param xsdGenerator the XML schema generator that was used to produce the output for a library
+     * @param model the model that contains all of the libraries and legacy schemas
+     * @param filter the code generation filter (may be null)
+     */
+    private void addBuiltInDependencies(CodeGenerator<TLLibrary> xsdGenerator, TLModel model,
+        CodeGenerationFilter filter) {
         if ((filter != null) && (xsdGenerator instanceof AbstractJaxbCodeGenerator)) {
             AbstractJaxbCodeGenerator<?> generator = (AbstractJaxbCodeGenerator<?>) xsdGenerator;
 
@@ -593,4 +616,25 @@ public abstract class AbstractSchemaCompilerTask extends AbstractCompilerTask im
         this.suppressOptionalFields = suppressOptionalFields;
     }
 
+    /**
+     * Captures the XML schema generator for a single library along with the files that it produced.
+     */
+    private static class XsdLibraryOutput {
+
+        private final CodeGenerator<TLLibrary> xsdGenerator;
+        private final Collection<File> generatedFiles;
+
+        /**
+         * Full constructor.
+         * 
+         * @param xsdGenerator the generator that produced the library's output
+         * @param generatedFiles the files that were generated for the library
+         */
+        public XsdLibraryOutput(CodeGenerator<TLLibrary> xsdGenerator, Collection<File> generatedFiles) {
+            this.xsdGenerator = xsdGenerator;
+            this.generatedFiles = generatedFiles;
+        }
+
+    }
+
 }
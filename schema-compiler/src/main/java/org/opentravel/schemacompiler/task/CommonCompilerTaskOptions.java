@@ -44,4 +44,12 @@ public interface CommonCompilerTaskOptions {
      */
     public String getOutputFolder();
 
+    /**
+     * Returns the option flag indicating that code generation should be performed concurrently wherever possible (e.g.
+     * for independent sub-tasks and libraries). The generated output is the same regardless of this setting.
+     * 
+     * @return boolean
+     */
+    public boolean isParallelCompile();
+
 }
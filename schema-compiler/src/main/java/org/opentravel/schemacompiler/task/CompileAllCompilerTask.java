@@ -16,15 +16,33 @@
 
 package org.opentravel.schemacompiler.task;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.opentravel.schemacompiler.codegen.CodeGenerationContext;
+import org.opentravel.schemacompiler.codegen.example.ExampleFragmentCache;
+import org.opentravel.schemacompiler.ioc.CompilerExtensionRegistry;
+import org.opentravel.schemacompiler.model.AbstractLibrary;
 import org.opentravel.schemacompiler.model.TLLibrary;
+import org.opentravel.schemacompiler.model.TLModel;
 import org.opentravel.schemacompiler.model.XSDLibrary;
 import org.opentravel.schemacompiler.repository.RepositoryManager;
 import org.opentravel.schemacompiler.util.SchemaCompilerException;
+import org.opentravel.schemacompiler.validate.ValidationFindings;
 
 import java.io.File;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Task used to orchestrate the execution of up to three separate compilation tasks: full library schemas, service
@@ -34,6 +52,8 @@ import java.util.Collection;
  */
 public class CompileAllCompilerTask extends AbstractCompilerTask implements CompileAllTaskOptions {
 
+    private static final Logger log = LogManager.getLogger( CompileAllCompilerTask.class );
+
     private boolean compileSchemas = true;
     private boolean compileJson = true;
     private boolean compileServices = true;
@@ -50,6 +70,10 @@ public class CompileAllCompilerTask extends AbstractCompilerTask implements Comp
     private Integer exampleMaxRepeat;
     private Integer exampleMaxDepth;
     private boolean suppressOptionalFields = false;
+    private boolean incrementalCompile = false;
+    private Map<String,Long> subtaskTimings = new LinkedHashMap<>();
+    private CompilerBuildManifest buildManifest;
+    private Map<String,String> subtaskInputHashes = new HashMap<>();
 
     /**
      * Default constructor.
@@ -65,6 +89,37 @@ public class CompileAllCompilerTask extends AbstractCompilerTask implements Comp
         super( repositoryManager );
     }
 
+    /**
+     * If incremental compilation is enabled, the inputs of each sub-task are compared with those recorded in the build
+     * manifest of the output folder. The libraries are always validated so that the findings reported for unchanged
+     * output are the same as those of a full compilation, but only the sub-tasks whose inputs have changed are
+     * executed.
+     * 
+     * @see org.opentravel.schemacompiler.task.AbstractCompilerTask#compileOutput(java.util.Collection,
+     *      java.util.Collection)
+     */
+    @Override
+    public ValidationFindings compileOutput(Collection<TLLibrary> userDefinedLibraries,
+        Collection<XSDLibrary> legacySchemas) throws SchemaCompilerException {
+        ValidationFindings findings;
+
+        if (incrementalCompile) {
+            try {
+                buildManifest = new CompilerBuildManifest( getRootOutputFolder() );
+                subtaskInputHashes = getSubtaskInputHashes( userDefinedLibraries, legacySchemas );
+                findings = super.compileOutput( userDefinedLibraries, legacySchemas );
+
+            } finally {
+                buildManifest = null;
+                subtaskInputHashes = new HashMap<>();
+            }
+
+        } else {
+            findings = super.compileOutput( userDefinedLibraries, legacySchemas );
+        }
+        return findings;
+    }
+
     /**
      * @see org.opentravel.schemacompiler.task.AbstractCompilerTask#generateOutput(java.util.Collection,
      *      java.util.Collection)
@@ -72,75 +127,274 @@ public class CompileAllCompilerTask extends AbstractCompilerTask implements Comp
     @Override
     protected void generateOutput(Collection<TLLibrary> userDefinedLibraries, Collection<XSDLibrary> legacySchemas)
         throws SchemaCompilerException {
+        Map<String,AbstractCompilerTask> subtasks = createSubtasks();
+        List<Callable<Long>> subtaskCallables = new ArrayList<>();
+        ExampleFragmentCache fragmentCache = new ExampleFragmentCache();
+        ExecutorService executor = null;
+
+        if (buildManifest != null) {
+            removeUpToDateSubtasks( subtasks );
+        }
+        for (Entry<String,AbstractCompilerTask> entry : subtasks.entrySet()) {
+            entry.getValue().setExampleFragmentCache( fragmentCache );
+            subtaskCallables.add(
+                () -> generateSubtaskOutput( entry.getKey(), entry.getValue(), userDefinedLibraries, legacySchemas ) );
+        }
+        subtaskTimings.clear();
+
+        // Each sub-task writes to its own output folder, but concurrent sub-tasks still share state
+        // through the model. Ghost facets created during code generation publish model events, so the
+        // model's listeners are held in a copy-on-write list and the listeners themselves (symbol table,
+        // codegen result cache, library member index) synchronize their updates. The example fragment
+        // cache and the WSDL JAXB context cache are concurrent maps, and XMLPrettyPrinter assigns a
+        // DocumentBuilder to each thread.
+        if (isParallelCompile() && (subtasks.size() > 1)) {
+            executor = Executors.newFixedThreadPool( subtasks.size() );
+        }
+        try {
+            List<Long> timings = executeTasks( subtaskCallables, executor );
+            Iterator<Long> timingIterator = timings.iterator();
+
+            for (String subtaskName : subtasks.keySet()) {
+                subtaskTimings.put( subtaskName, timingIterator.next() );
+            }
+
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+            fragmentCache.clear();
+        }
+
+        // Merge the generated files in the order of the sub-tasks so the results are the same
+        // regardless of whether the sub-tasks were executed concurrently
+        for (AbstractCompilerTask subtask : subtasks.values()) {
+            addGeneratedFiles( subtask.getGeneratedFiles() );
+        }
+
+        if (buildManifest != null) {
+            for (Entry<String,AbstractCompilerTask> entry : subtasks.entrySet()) {
+                String inputHash = subtaskInputHashes.get( entry.getKey() );
+
+                if (inputHash != null) {
+                    buildManifest.setSubtaskOutput( entry.getKey(), inputHash, entry.getValue().getGeneratedFiles() );
+                }
+            }
+            buildManifest.save();
+        }
+    }
+
+    /**
+     * Removes the sub-tasks whose inputs have not changed since the last compilation from the map provided, adding the
+     * files that were previously generated by those sub-tasks to the output of this task. The manifest entries of the
+     * remaining sub-tasks are discarded before they are executed so that their output will not be considered up to
+     * date if they fail.
+     * 
+     * @param subtasks the map of sub-tasks to be executed
+     */
+    private void removeUpToDateSubtasks(Map<String,AbstractCompilerTask> subtasks) {
+        Iterator<String> iterator = subtasks.keySet().iterator();
+
+        while (iterator.hasNext()) {
+            String subtaskName = iterator.next();
+            String inputHash = subtaskInputHashes.get( subtaskName );
+
+            if ((inputHash != null) && buildManifest.isUpToDate( subtaskName, inputHash )) {
+                log.info( String.format( "Compiler sub-task '%s' is up to date.", subtaskName ) );
+                addGeneratedFiles( buildManifest.getGeneratedFiles( subtaskName ) );
+                iterator.remove();
+
+            } else {
+                buildManifest.removeSubtask( subtaskName );
+            }
+        }
+        buildManifest.save();
+    }
+
+    /**
+     * Returns a hash of the current inputs for each of the enabled sub-tasks. The XML schema, JSON schema, and
+     * documentation sub-tasks depend upon all of the libraries being compiled; the service and REST API sub-tasks only
+     * depend upon the libraries that are connected to those that declare services or resources. A null hash value
+     * indicates that the inputs of the sub-task could not be determined.
+     * 
+     * @param userDefinedLibraries the list of user-defined libraries for which to compile output
+     * @param legacySchemas the list of legacy schemas (xsd files) for which to compile output
+     * @return Map&lt;String,String&gt;
+     */
+    private Map<String,String> getSubtaskInputHashes(Collection<TLLibrary> userDefinedLibraries,
+        Collection<XSDLibrary> legacySchemas) {
+        Map<String,String> inputHashes = new LinkedHashMap<>();
+        TLModel model = getModel( userDefinedLibraries, legacySchemas );
+        List<AbstractLibrary> allLibraries = new ArrayList<>( userDefinedLibraries );
+        List<TLLibrary> serviceLibraries = new ArrayList<>();
+        List<TLLibrary> resourceLibraries = new ArrayList<>();
+        String taskOptions = getTaskOptionsFingerprint();
+
+        allLibraries.addAll( legacySchemas );
+
+        for (TLLibrary library : userDefinedLibraries) {
+            if (library.getService() != null) {
+                serviceLibraries.add( library );
+            }
+            if (!library.getResourceTypes().isEmpty()) {
+                resourceLibraries.add( library );
+            }
+        }
+
+        for (String subtaskName : createSubtasks().keySet()) {
+            Collection<AbstractLibrary> inputLibraries = allLibraries;
+
+            if (model != null) {
+                if (subtaskName.equals( "services" )) {
+                    inputLibraries = CompilerBuildManifest.getConnectedLibraries( serviceLibraries, model );
+
+                } else if (subtaskName.equals( "swagger" ) || subtaskName.equals( "openapi" )) {
+                    inputLibraries = CompilerBuildManifest.getConnectedLibraries( resourceLibraries, model );
+                }
+            }
+            inputHashes.put( subtaskName,
+                CompilerBuildManifest.hashInputs( subtaskName + "|" + taskOptions, inputLibraries ) );
+        }
+        return inputHashes;
+    }
+
+    /**
+     * Returns a string representation of the task options that affect the content of the generated output. Options
+     * that only enable or disable individual sub-tasks are not included since they do not affect the output of the
+     * other sub-tasks.
+     * 
+     * @return String
+     */
+    private String getTaskOptionsFingerprint() {
+        StringBuilder options = new StringBuilder();
+
+        for (AbstractLibrary library : getPrimaryLibraries()) {
+            options.append( "primaryLibrary=" ).append( library.getLibraryUrl() ).append( '|' );
+        }
+        options.append( "bindingStyle=" ).append( CompilerExtensionRegistry.getActiveExtension() ).append( '|' );
+        options.append( "outputFolder=" ).append( getRootOutputFolder().getAbsolutePath() ).append( '|' );
+        options.append( "projectFilename=" ).append( projectFilename ).append( '|' );
+        options.append( "serviceLibraryUrl=" ).append( serviceLibraryUrl ).append( '|' );
+        options.append( "serviceEndpointUrl=" ).append( serviceEndpointUrl ).append( '|' );
+        options.append( "resourceBaseUrl=" ).append( resourceBaseUrl ).append( '|' );
+        options.append( "suppressOtmExtensions=" ).append( suppressOtmExtensions ).append( '|' );
+        options.append( "generateExamples=" ).append( generateExamples ).append( '|' );
+        options.append( "generateMaxDetailsForExamples=" ).append( generateMaxDetailsForExamples ).append( '|' );
+        options.append( "exampleContext=" ).append( exampleContext ).append( '|' );
+        options.append( "exampleMaxRepeat=" ).append( exampleMaxRepeat ).append( '|' );
+        options.append( "exampleMaxDepth=" ).append( exampleMaxDepth ).append( '|' );
+        options.append( "suppressOptionalFields=" ).append( suppressOptionalFields );
+        return options.toString();
+    }
+
+    /**
+     * Returns the root output folder for this task.
+     * 
+     * @return File
+     */
+    private File getRootOutputFolder() {
+        String rootOutputFolder = createContext().getValue( CodeGenerationContext.CK_OUTPUT_FOLDER );
+
+        if (rootOutputFolder == null) {
+            rootOutputFolder = System.getProperty( "user.dir" );
+        }
+        return new File( rootOutputFolder );
+    }
+
+    /**
+     * Generates the output for a single sub-task and returns the elapsed time of its execution.
+     * 
+     * @param subtaskName the name of the sub-task
+     * @param subtask the sub-task to execute
+     * @param userDefinedLibraries the list of user-defined libraries for which to compile output
+     * @param legacySchemas the list of legacy schemas (xsd files) for which to compile output
+     * @return long
+     * @throws SchemaCompilerException thrown if the sub-task fails
+     */
+    private long generateSubtaskOutput(String subtaskName, AbstractCompilerTask subtask,
+        Collection<TLLibrary> userDefinedLibraries, Collection<XSDLibrary> legacySchemas)
+        throws SchemaCompilerException {
+        long startTime = System.currentTimeMillis();
+        long elapsedTime;
+
+        subtask.generateOutput( userDefinedLibraries, legacySchemas );
+        elapsedTime = System.currentTimeMillis() - startTime;
+
+        if (log.isInfoEnabled()) {
+            log.info( String.format( "Compiler sub-task '%s' completed in %d ms.", subtaskName, elapsedTime ) );
+        }
+        return elapsedTime;
+    }
+
+    /**
+     * Creates and configures the sub-tasks that are enabled for this task. The sub-tasks are returned in the order in
+     * which they are to be executed (and their output reported) when running sequentially.
+     * 
+     * @return Map&lt;String,AbstractCompilerTask&gt;
+     */
+    private Map<String,AbstractCompilerTask> createSubtasks() {
         CodeGenerationContext compileAllContext = createContext();
+        Map<String,AbstractCompilerTask> subtasks = new LinkedHashMap<>();
 
         if (compileSchemas) {
-            XmlSchemaCompilerTask schemaTask = new XmlSchemaCompilerTask( projectFilename, repositoryManager );
-
-            schemaTask.applyTaskOptions( this );
-            schemaTask.getPrimaryLibraries().addAll( getPrimaryLibraries() );
-            schemaTask.setOutputFolder( getSubtaskOutputFolder( compileAllContext, "schemas" ) );
-            schemaTask.generateOutput( userDefinedLibraries, legacySchemas );
-            addGeneratedFiles( schemaTask.getGeneratedFiles() );
+            addSubtask( subtasks, "schemas", new XmlSchemaCompilerTask( projectFilename, repositoryManager ),
+                getSubtaskOutputFolder( compileAllContext, "schemas" ) );
         }
         if (compileJson) {
-            JsonSchemaCompilerTask jsonSchemaTask = new JsonSchemaCompilerTask( projectFilename, repositoryManager );
-
-            jsonSchemaTask.applyTaskOptions( this );
-            jsonSchemaTask.getPrimaryLibraries().addAll( getPrimaryLibraries() );
-            jsonSchemaTask.setOutputFolder( getSubtaskOutputFolder( compileAllContext, "json" ) );
-            jsonSchemaTask.generateOutput( userDefinedLibraries, legacySchemas );
-            addGeneratedFiles( jsonSchemaTask.getGeneratedFiles() );
+            addSubtask( subtasks, "json", new JsonSchemaCompilerTask( projectFilename, repositoryManager ),
+                getSubtaskOutputFolder( compileAllContext, "json" ) );
         }
         if (compileServices) {
-            if (projectFilename != null) {
-                ServiceProjectCompilerTask serviceTask =
-                    new ServiceProjectCompilerTask( projectFilename, repositoryManager );
+            AbstractCompilerTask serviceTask;
 
-                serviceTask.applyTaskOptions( this );
-                serviceTask.getPrimaryLibraries().addAll( getPrimaryLibraries() );
-                serviceTask.setOutputFolder( getSubtaskOutputFolder( compileAllContext, "services" ) );
-                serviceTask.generateOutput( userDefinedLibraries, legacySchemas );
-                addGeneratedFiles( serviceTask.getGeneratedFiles() );
+            if (projectFilename != null) {
+                serviceTask = new ServiceProjectCompilerTask( projectFilename, repositoryManager );
 
             } else { // non-project service compilation
-                ServiceCompilerTask serviceTask = new ServiceCompilerTask( repositoryManager );
-
-                serviceTask.applyTaskOptions( this );
-                serviceTask.getPrimaryLibraries().addAll( getPrimaryLibraries() );
-                serviceTask.setOutputFolder( getSubtaskOutputFolder( compileAllContext, "services" ) );
-                serviceTask.generateOutput( userDefinedLibraries, legacySchemas );
-                addGeneratedFiles( serviceTask.getGeneratedFiles() );
+                serviceTask = new ServiceCompilerTask( repositoryManager );
             }
+            addSubtask( subtasks, "services", serviceTask, getSubtaskOutputFolder( compileAllContext, "services" ) );
         }
         if (compileSwagger) {
-            SwaggerCompilerTask swaggerTask = new SwaggerCompilerTask( repositoryManager );
-
-            swaggerTask.applyTaskOptions( this );
-            swaggerTask.getPrimaryLibraries().addAll( getPrimaryLibraries() );
-            swaggerTask.setOutputFolder( getSubtaskOutputFolder( compileAllContext, "swagger" ) );
-            swaggerTask.generateOutput( userDefinedLibraries, legacySchemas );
-            addGeneratedFiles( swaggerTask.getGeneratedFiles() );
+            addSubtask( subtasks, "swagger", new SwaggerCompilerTask( repositoryManager ),
+                getSubtaskOutputFolder( compileAllContext, "swagger" ) );
         }
         if (compileOpenApi) {
-            OpenApiCompilerTask openapiTask = new OpenApiCompilerTask( repositoryManager );
-
-            openapiTask.applyTaskOptions( this );
-            openapiTask.getPrimaryLibraries().addAll( getPrimaryLibraries() );
-            openapiTask.setOutputFolder( getSubtaskOutputFolder( compileAllContext, "openapi" ) );
-            openapiTask.generateOutput( userDefinedLibraries, legacySchemas );
-            addGeneratedFiles( openapiTask.getGeneratedFiles() );
+            addSubtask( subtasks, "openapi", new OpenApiCompilerTask( repositoryManager ),
+                getSubtaskOutputFolder( compileAllContext, "openapi" ) );
         }
-
         if (compileHtml) {
-            DocumentationCompileTask docTask = new DocumentationCompileTask( repositoryManager );
-
-            docTask.applyTaskOptions( this );
-            docTask.getPrimaryLibraries().addAll( getPrimaryLibraries() );
-            docTask.setOutputFolder( getOutputFolder() + "/documentation" );
-            docTask.generateOutput( userDefinedLibraries, legacySchemas );
-            addGeneratedFiles( docTask.getGeneratedFiles() );
+            addSubtask( subtasks, "documentation", new DocumentationCompileTask( repositoryManager ),
+                getOutputFolder() + "/documentation" );
         }
+        return subtasks;
+    }
+
+    /**
+     * Applies the options of this task to the given sub-task and adds it to the map provided.
+     * 
+     * @param subtasks the map of sub-tasks being constructed
+     * @param subtaskName the name of the sub-task to add
+     * @param subtask the sub-task to configure
+     * @param outputFolder the output folder for the sub-task
+     */
+    private void addSubtask(Map<String,AbstractCompilerTask> subtasks, String subtaskName,
+        AbstractCompilerTask subtask, String outputFolder) {
+        subtask.applyTaskOptions( this );
+        subtask.getPrimaryLibraries().addAll( getPrimaryLibraries() );
+        subtask.setOutputFolder( outputFolder );
+        subtasks.put( subtaskName, subtask );
+    }
+
+    /**
+     * Returns the elapsed time (in milliseconds) of each sub-task that was executed during the last compilation. The
+     * map is keyed by sub-task name ("schemas", "json", "services", "swagger", "openapi", and "documentation") and
+     * is empty if any of the sub-tasks failed.
+     * 
+     * @return Map&lt;String,Long&gt;
+     */
+    public Map<String,Long> getSubtaskTimings() {
+        return Collections.unmodifiableMap( subtaskTimings );
     }
 
     /**
@@ -199,6 +453,7 @@ public class CompileAllCompilerTask extends AbstractCompilerTask implements Comp
             setCompileJsonSchemas( compileAllOptions.isCompileJsonSchemas() );
             setCompileSwagger( compileAllOptions.isCompileSwagger() );
             setCompileHtml( compileAllOptions.isCompileHtml() );
+            setIncrementalCompile( compileAllOptions.isIncrementalCompile() );
         }
         if (taskOptions instanceof SchemaCompilerTaskOptions) {
             setSuppressOtmExtensions( ((SchemaCompilerTaskOptions) taskOptions).isSuppressOtmExtensions() );
@@ -485,6 +740,24 @@ public class CompileAllCompilerTask extends AbstractCompilerTask implements Comp
         this.suppressOptionalFields = suppressOptionalFields;
     }
 
+    /**
+     * @see org.opentravel.schemacompiler.task.CompileAllTaskOptions#isIncrementalCompile()
+     */
+    @Override
+    public boolean isIncrementalCompile() {
+        return incrementalCompile;
+    }
+
+    /**
+     * Assigns the option flag indicating that code generation should be skipped for sub-tasks whose inputs have not
+     * changed since the last compilation.
+     * 
+     * @param incrementalCompile the task option value to assign
+     */
+    public void setIncrementalCompile(boolean incrementalCompile) {
+        this.incrementalCompile = incrementalCompile;
+    }
+
     /**
      * @see org.opentravel.schemacompiler.task.CompileAllTaskOptions#isCompileHtml()
      */
@@ -67,4 +67,12 @@ public interface CompileAllTaskOptions
      */
     public boolean isCompileHtml();
 
+    /**
+     * Returns the option flag indicating that code generation should be skipped for any output whose inputs (libraries,
+     * task options, and compiler version) have not changed since the last compilation to the same output folder.
+     * 
+     * @return boolean
+     */
+    public boolean isIncrementalCompile();
+
 }
@@ -0,0 +1,309 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.task;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opentravel.schemacompiler.model.AbstractLibrary;
+import org.opentravel.schemacompiler.model.BuiltInLibrary;
+import org.opentravel.schemacompiler.model.TLLibrary;
+import org.opentravel.schemacompiler.model.TLModel;
+import org.opentravel.schemacompiler.model.TLNamespaceImport;
+import org.opentravel.schemacompiler.util.SchemaCompilerInfo;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Build cache manifest that records the inputs and outputs of each sub-task of a <code>CompileAllCompilerTask</code>.
+ * The manifest is stored in the root output folder of the task and contains a hash of the inputs for each sub-task
+ * (compiler version, task options, and the content and version of each input library), along with the list of files
+ * that were generated from those inputs. A sub-task whose input hash is unchanged and whose generated files still exist
+ * does not need to be executed again.
+ */
+final class CompilerBuildManifest {
+
+    static final String MANIFEST_FILENAME = ".ota2-build-manifest.properties";
+
+    private static final Logger log = LogManager.getLogger( CompilerBuildManifest.class );
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String INPUTS_KEY_SUFFIX = ".inputs";
+    private static final String FILE_KEY_INFIX = ".file.";
+
+    private final File outputFolder;
+    private final Properties entries = new Properties();
+
+    /**
+     * Constructor that loads the manifest from the given output folder. If the folder does not contain a manifest (or
+     * the manifest cannot be read), the new instance will be empty.
+     *
+     * @param outputFolder the root output folder of the compiler task
+     */
+    CompilerBuildManifest(File outputFolder) {
+        File manifestFile = new File( outputFolder, MANIFEST_FILENAME );
+
+        this.outputFolder = outputFolder;
+
+        if (manifestFile.exists()) {
+            try (InputStream in = new FileInputStream( manifestFile )) {
+                entries.load( in );
+
+            } catch (IOException e) {
+                log.warn( "Unable to read build manifest (all output will be regenerated): "
+                    + manifestFile.getAbsolutePath(), e );
+                entries.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns true if the given input hash matches the one recorded for the specified sub-task and all of the files
+     * that were generated by that sub-task still exist.
+     *
+     * @param subtaskName the name of the sub-task to check
+     * @param inputHash the hash of the current inputs for the sub-task
+     * @return boolean
+     */
+    boolean isUpToDate(String subtaskName, String inputHash) {
+        boolean upToDate = inputHash.equals( entries.getProperty( subtaskName + INPUTS_KEY_SUFFIX ) );
+
+        if (upToDate) {
+            for (File generatedFile : getGeneratedFiles( subtaskName )) {
+                if (!generatedFile.exists()) {
+                    upToDate = false;
+                    break;
+                }
+            }
+        }
+        return upToDate;
+    }
+
+    /**
+     * Returns the list of files that were generated by the specified sub-task.
+     *
+     * @param subtaskName the name of the sub-task
+     * @return List&lt;File&gt;
+     */
+    List<File> getGeneratedFiles(String subtaskName) {
+        List<File> generatedFiles = new ArrayList<>();
+        String filePath;
+        int index = 0;
+
+        while ((filePath = entries.getProperty( subtaskName + FILE_KEY_INFIX + index++ )) != null) {
+            generatedFiles.add( new File( outputFolder, filePath ) );
+        }
+        return generatedFiles;
+    }
+
+    /**
+     * Records the inputs and generated files of a sub-task that completed successfully.
+     *
+     * @param subtaskName the name of the sub-task
+     * @param inputHash the hash of the inputs that were used to generate the sub-task's output
+     * @param generatedFiles the list of files that were generated by the sub-task
+     */
+    void setSubtaskOutput(String subtaskName, String inputHash, List<File> generatedFiles) {
+        String outputPath = outputFolder.getAbsoluteFile().toPath().normalize().toString();
+        int index = 0;
+
+        removeSubtask( subtaskName );
+        entries.setProperty( subtaskName + INPUTS_KEY_SUFFIX, inputHash );
+
+        for (File generatedFile : generatedFiles) {
+            String filePath = generatedFile.getAbsoluteFile().toPath().normalize().toString();
+
+            if (filePath.startsWith( outputPath + File.separator )) {
+                filePath = filePath.substring( outputPath.length() + 1 );
+            }
+            entries.setProperty( subtaskName + FILE_KEY_INFIX + index++, filePath );
+        }
+    }
+
+    /**
+     * Removes all entries for the specified sub-task from this manifest.
+     *
+     * @param subtaskName the name of the sub-task to remove
+     */
+    void removeSubtask(String subtaskName) {
+        entries.keySet().removeIf( k -> ((String) k).startsWith( subtaskName + "." ) );
+    }
+
+    /**
+     * Saves the content of this manifest to the output folder. Errors are logged but otherwise ignored since the only
+     * consequence of a missing manifest is that all output will be regenerated on the next build.
+     */
+    void save() {
+        File manifestFile = new File( outputFolder, MANIFEST_FILENAME );
+
+        if (!outputFolder.exists()) {
+            outputFolder.mkdirs();
+        }
+        try (OutputStream out = new FileOutputStream( manifestFile )) {
+            entries.store( out, "OTM compiler build manifest" );
+
+        } catch (IOException e) {
+            log.warn( "Unable to save build manifest: " + manifestFile.getAbsolutePath(), e );
+        }
+    }
+
+    /**
+     * Returns a hash of the inputs for a sub-task. The hash includes the version of the compiler, the task options
+     * provided, and the URL, version, status, and content of each library. If the content of a library cannot be
+     * read, null will be returned to indicate that the sub-task should always be executed.
+     *
+     * @param taskOptions string representation of the task options that affect the sub-task's output
+     * @param libraries the libraries whose content affects the sub-task's output
+     * @return String
+     */
+    static String hashInputs(String taskOptions, Collection<AbstractLibrary> libraries) {
+        MessageDigest digest = newMessageDigest();
+        TreeMap<String,AbstractLibrary> sortedLibraries = new TreeMap<>();
+
+        for (AbstractLibrary library : libraries) {
+            URL libraryUrl = library.getLibraryUrl();
+
+            if (libraryUrl == null) {
+                return null;
+            }
+            sortedLibraries.put( libraryUrl.toExternalForm(), library );
+        }
+        update( digest, SchemaCompilerInfo.getInstance().getCompilerVersion() );
+        update( digest, taskOptions );
+
+        for (AbstractLibrary library : sortedLibraries.values()) {
+            update( digest, library.getLibraryUrl().toExternalForm() );
+            update( digest, library.getVersion() );
+
+            if (library instanceof TLLibrary) {
+                update( digest, String.valueOf( ((TLLibrary) library).getStatus() ) );
+            }
+            try (InputStream in = library.getLibraryUrl().openStream()) {
+                byte[] buffer = new byte[8192];
+                int bytesRead;
+
+                while ((bytesRead = in.read( buffer )) >= 0) {
+                    digest.update( buffer, 0, bytesRead );
+                }
+
+            } catch (IOException e) {
+                return null;
+            }
+        }
+        return HexFormat.of().formatHex( digest.digest() );
+    }
+
+    /**
+     * Returns the given libraries, along with all of the other libraries of the model that are connected to them. Two
+     * libraries are connected if either one imports the namespace of the other, or if both are assigned to the same
+     * namespace. Since the connection is symmetric, the result includes libraries whose content may contribute to the
+     * output of the given libraries (e.g. contextual facets or extensions of their entities) as well as the libraries
+     * they depend upon. Built-in libraries are not included since their content is defined by the compiler itself.
+     *
+     * @param seedLibraries the libraries whose connected libraries should be returned
+     * @param model the model that contains all of the libraries
+     * @return Set&lt;AbstractLibrary&gt;
+     */
+    static Set<AbstractLibrary> getConnectedLibraries(Collection<? extends AbstractLibrary> seedLibraries,
+        TLModel model) {
+        Set<AbstractLibrary> connectedLibraries = new LinkedHashSet<>();
+        Deque<AbstractLibrary> pendingLibraries = new ArrayDeque<>( seedLibraries );
+
+        while (!pendingLibraries.isEmpty()) {
+            AbstractLibrary library = pendingLibraries.pop();
+
+            if ((library instanceof BuiltInLibrary) || !connectedLibraries.add( library )) {
+                continue;
+            }
+            pendingLibraries.addAll( model.getLibrariesForNamespace( library.getNamespace() ) );
+
+            for (TLNamespaceImport nsImport : library.getNamespaceImports()) {
+                pendingLibraries.addAll( model.getLibrariesForNamespace( nsImport.getNamespace() ) );
+            }
+            for (AbstractLibrary otherLibrary : model.getAllLibraries()) {
+                if (importsNamespace( otherLibrary, library.getNamespace() )) {
+                    pendingLibraries.add( otherLibrary );
+                }
+            }
+        }
+        return connectedLibraries;
+    }
+
+    /**
+     * Returns true if the given library imports the specified namespace.
+     *
+     * @param library the library to check
+     * @param namespace the namespace to search for
+     * @return boolean
+     */
+    private static boolean importsNamespace(AbstractLibrary library, String namespace) {
+        boolean result = false;
+
+        for (TLNamespaceImport nsImport : library.getNamespaceImports()) {
+            if ((namespace != null) && namespace.equals( nsImport.getNamespace() )) {
+                result = true;
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds the given string value to the message digest. Each value is terminated so that adjacent values cannot be
+     * confused with one another.
+     *
+     * @param digest the message digest to update
+     * @param value the string value to add (may be null)
+     */
+    private static void update(MessageDigest digest, String value) {
+        digest.update( String.valueOf( value ).getBytes( StandardCharsets.UTF_8 ) );
+        digest.update( (byte) 0 );
+    }
+
+    /**
+     * Returns a new message digest for the hash algorithm used by the manifest.
+     *
+     * @return MessageDigest
+     */
+    private static MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance( HASH_ALGORITHM );
+
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException( "Hash algorithm not supported: " + HASH_ALGORITHM, e );
+        }
+    }
+
+}
@@ -39,6 +39,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 /**
  * Compiler task used to generate WSDL documents for the services defined in a project, as well as the trimmed schema
@@ -102,22 +103,31 @@ public class ServiceProjectCompilerTask extends AbstractSchemaCompilerTask imple
             }
         }
 
-        // Generate the WSDL documents for each service
+        // Generate the WSDL documents for each service; since each service is written to its own
+        // file, the documents may be generated concurrently
         CodeGenerationContext context = createContext();
+        List<Callable<Collection<File>>> wsdlTasks = new ArrayList<>();
 
         for (TLService service : serviceList) {
             boolean duplicateName = duplicateServiceNameIndicators.get( service.getName() );
 
-            CodeGenerator<TLService> serviceWsdlGenerator = CodeGeneratorFactory.getInstance()
-                .newCodeGenerator( CodeGeneratorFactory.WSDL_TARGET_FORMAT, TLService.class );
+            wsdlTasks.add( () -> {
+                CodeGenerator<TLService> serviceWsdlGenerator = CodeGeneratorFactory.getInstance()
+                    .newCodeGenerator( CodeGeneratorFactory.WSDL_TARGET_FORMAT, TLService.class );
 
-            serviceWsdlGenerator
-                .setFilenameBuilder( new LibraryMemberTrimmedFilenameBuilder<TLService>( service, duplicateName ) );
-            addGeneratedFiles( serviceWsdlGenerator.generateOutput( service, context ) );
+                serviceWsdlGenerator.setFilenameBuilder(
+                    new LibraryMemberTrimmedFilenameBuilder<TLService>( service, duplicateName ) );
+                return serviceWsdlGenerator.generateOutput( service, context );
+            } );
+        }
+        for (Collection<File> wsdlFiles : executeTasks( wsdlTasks )) {
+            addGeneratedFiles( wsdlFiles );
+        }
 
-            // Generate EXAMPLE files if required; examples are only created for the operation
-            // messages (not the contents of the trimmed schemas)
-            if (isGenerateExamples()) {
+        // Generate EXAMPLE files if required; examples are only created for the operation
+        // messages (not the contents of the trimmed schemas)
+        if (isGenerateExamples()) {
+            for (TLService service : serviceList) {
                 generateExampleArtifacts( userDefinedLibraries, context, new LibraryTrimmedFilenameBuilder( null ),
                     createExampleFilter( service ), CodeGeneratorFactory.XML_TARGET_FORMAT );
             }
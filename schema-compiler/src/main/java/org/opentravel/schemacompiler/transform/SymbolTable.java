@@ -21,6 +21,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -35,15 +37,50 @@ import java.util.Set;
  * for type assignments as model attributes or properties. For this reason, operation objects are maintained in a
  * separate "symbol space" from the other symbols maintained in the table.
  * 
+ * <p>
+ * The entries for each namespace are held in a separate structure that is shared with any read-only copies of the
+ * table and copied the first time the original table modifies it. Creating a read-only copy is therefore proportional
+ * to the number of namespaces rather than the number of symbols.
+ * 
  * @author S. Livezey
  */
 public final class SymbolTable {
 
     private static final String OPERATION_SYMBOL_PREFIX = "OP:";
 
-    private Map<String,Map<String,Object>> namespaceSymbols = new HashMap<>();
+    private Map<String,NamespaceSymbols> namespaceSymbols = new LinkedHashMap<>();
     private List<DerivedEntityFactory<Object>> derivedEntityFactories = new ArrayList<>();
-    private Map<String,List<Object>> anonymousEntities = new HashMap<>();
+    private AnonymousSymbols anonymousSymbols = new AnonymousSymbols();
+    private boolean readOnly;
+
+    /**
+     * Returns a read-only copy of this symbol table. The copy is not affected by subsequent changes to this table, and
+     * any attempt to modify it will result in an <code>UnsupportedOperationException</code>.
+     * 
+     * @return SymbolTable
+     */
+    public SymbolTable newReadOnlyCopy() {
+        SymbolTable copy = new SymbolTable();
+
+        for (NamespaceSymbols nsSymbols : namespaceSymbols.values()) {
+            nsSymbols.shared = true;
+        }
+        anonymousSymbols.shared = true;
+        copy.namespaceSymbols.putAll( namespaceSymbols );
+        copy.anonymousSymbols = anonymousSymbols;
+        copy.derivedEntityFactories.addAll( derivedEntityFactories );
+        copy.readOnly = true;
+        return copy;
+    }
+
+    /**
+     * Returns true if this symbol table cannot be modified.
+     * 
+     * @return boolean
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
 
     /**
      * Returns the entity with the specified name or null if such an entity has not been defined.
@@ -60,7 +97,7 @@ public final class SymbolTable {
         localName = (localName == null) ? null : localName.trim();
 
         if ((namespace == null) || AnonymousEntityFilter.ANONYMOUS_PSEUDO_NAMESPACE.equals( namespace )) {
-            List<Object> entityList = anonymousEntities.get( localName );
+            List<Object> entityList = anonymousSymbols.symbols.get( localName );
 
             if ((entityList != null) && !entityList.isEmpty()) {
                 // If there are duplicate entities assigned to the same name, we will just
@@ -68,10 +105,10 @@ public final class SymbolTable {
                 entity = entityList.get( 0 );
             }
         } else {
-            Map<String,Object> localSymbols = namespaceSymbols.get( namespace );
+            NamespaceSymbols nsSymbols = namespaceSymbols.get( namespace );
 
-            if (localSymbols != null) {
-                entity = localSymbols.get( localName );
+            if (nsSymbols != null) {
+                entity = nsSymbols.symbols.get( localName );
             }
         }
         return entity;
@@ -90,7 +127,9 @@ public final class SymbolTable {
     }
 
     /**
-     * Returns the namespace assigned to the given entity or null if a namespace has not been assigned.
+     * Returns the namespace assigned to the given entity or null if a namespace has not been assigned. If an entity is
+     * registered in more than one namespace, named namespaces take precedence over the anonymous one, and the namespace
+     * whose entries were populated first is returned.
      * 
      * @param entity the entity for which to retrieve the namespace assignment
      * @return String
@@ -98,25 +137,39 @@ public final class SymbolTable {
     public String getNamespaceForEntity(Object entity) {
         String namespace = null;
 
-        for (Entry<String,Map<String,Object>> entry : namespaceSymbols.entrySet()) {
-            Map<String,Object> localSymbols = entry.getValue();
-            String ns = entry.getKey();
+        if (entity != null) {
+            namespace = findNamespace( entity, true );
 
-            if (localSymbols.containsValue( entity )) {
-                namespace = ns;
+            if (namespace == null) {
+                namespace = findNamespace( entity, false );
+            }
+        }
+        return namespace;
+    }
+
+    /**
+     * Searches the symbol table for the namespace of the given entity. If the identity flag is false, the search looks
+     * for an entity that is equal (but not identical) to the one provided. This is necessary for entities such as
+     * derived aliases that may be re-created by their owners after the symbol table was populated.
+     * 
+     * @param entity the entity for which to retrieve the namespace assignment
+     * @param identity flag indicating whether the entity must be identical to the one in the symbol table
+     * @return String
+     */
+    private String findNamespace(Object entity, boolean identity) {
+        String namespace = null;
+
+        for (Entry<String,NamespaceSymbols> entry : namespaceSymbols.entrySet()) {
+            if (entry.getValue().contains( entity, identity )) {
+                namespace = entry.getKey();
                 break;
             }
         }
 
         // If we couldn't find the entity in the list of named entities, check
         // the anonymous entities for a match
-        if (namespace == null) {
-            for (List<Object> entityList : anonymousEntities.values()) {
-                if (entityList.contains( entity )) {
-                    namespace = AnonymousEntityFilter.ANONYMOUS_PSEUDO_NAMESPACE;
-                    break;
-                }
-            }
+        if ((namespace == null) && anonymousSymbols.contains( entity, identity )) {
+            namespace = AnonymousEntityFilter.ANONYMOUS_PSEUDO_NAMESPACE;
         }
         return namespace;
     }
@@ -141,13 +194,13 @@ public final class SymbolTable {
         Set<String> localNames = new HashSet<>();
 
         if ((namespace == null) || AnonymousEntityFilter.ANONYMOUS_PSEUDO_NAMESPACE.equals( namespace )) {
-            localNames.addAll( anonymousEntities.keySet() );
+            localNames.addAll( anonymousSymbols.symbols.keySet() );
 
         } else {
-            Map<String,Object> localSymbols = namespaceSymbols.get( namespace );
+            NamespaceSymbols nsSymbols = namespaceSymbols.get( namespace );
 
-            if (localSymbols != null) {
-                localNames.addAll( localSymbols.keySet() );
+            if (nsSymbols != null) {
+                localNames.addAll( nsSymbols.symbols.keySet() );
             }
         }
         return Collections.unmodifiableSet( localNames );
@@ -162,17 +215,32 @@ public final class SymbolTable {
      * @param entity the entity to add
      */
     public void addEntity(String namespace, String localName, Object entity) {
+        checkWritable();
+
         // Trim whitespace before adding to the symbol table
         namespace = (namespace == null) ? null : namespace.trim();
         localName = (localName == null) ? null : localName.trim();
 
         if ((namespace == null) || AnonymousEntityFilter.ANONYMOUS_PSEUDO_NAMESPACE.equals( namespace )) {
             // Add the entity to the collection of anonymous (no-namespace) names
-            anonymousEntities.computeIfAbsent( localName, n -> new ArrayList<>() ).add( entity );
+            if (anonymousSymbols.shared) {
+                anonymousSymbols = new AnonymousSymbols( anonymousSymbols );
+            }
+            anonymousSymbols.add( localName, entity );
 
         } else {
             // Add the entity to the symbol table maps
-            namespaceSymbols.computeIfAbsent( namespace, ns -> new HashMap<>() ).put( localName, entity );
+            NamespaceSymbols nsSymbols = namespaceSymbols.get( namespace );
+
+            if (nsSymbols == null) {
+                nsSymbols = new NamespaceSymbols();
+                namespaceSymbols.put( namespace, nsSymbols );
+
+            } else if (nsSymbols.shared) {
+                nsSymbols = new NamespaceSymbols( nsSymbols );
+                namespaceSymbols.put( namespace, nsSymbols );
+            }
+            nsSymbols.put( localName, entity );
         }
 
         // Search for any entities that are derived from the concrete entity we just registered
@@ -198,6 +266,43 @@ public final class SymbolTable {
         addEntity( namespace, opLocalName, entity );
     }
 
+    /**
+     * Removes all of the entities that are assigned to the specified namespace from this symbol table. If the namespace
+     * is null or the anonymous pseudo-namespace, all anonymous entities will be removed.
+     * 
+     * @param namespace the namespace whose entities are to be removed
+     */
+    public void removeNamespace(String namespace) {
+        checkWritable();
+        namespace = (namespace == null) ? null : namespace.trim();
+
+        if ((namespace == null) || AnonymousEntityFilter.ANONYMOUS_PSEUDO_NAMESPACE.equals( namespace )) {
+            anonymousSymbols = new AnonymousSymbols();
+
+        } else {
+            namespaceSymbols.remove( namespace );
+        }
+    }
+
+    /**
+     * Removes all entities and derived entity factories from this symbol table.
+     */
+    public void clear() {
+        checkWritable();
+        namespaceSymbols = new LinkedHashMap<>();
+        derivedEntityFactories.clear();
+        anonymousSymbols = new AnonymousSymbols();
+    }
+
+    /**
+     * Throws an exception if this symbol table is read-only.
+     */
+    private void checkWritable() {
+        if (readOnly) {
+            throw new UnsupportedOperationException( "The symbol table cannot be modified." );
+        }
+    }
+
     /**
      * Registers the given derived entity factory to the list maintained by this symbol table.
      * 
@@ -205,6 +310,8 @@ public final class SymbolTable {
      */
     @SuppressWarnings("unchecked")
     public void addDerivedEntityFactory(DerivedEntityFactory<?> factory) {
+        checkWritable();
+
         if (factory != null) {
             derivedEntityFactories.add( (DerivedEntityFactory<Object>) factory );
         }
@@ -217,8 +324,8 @@ public final class SymbolTable {
     public void displayTable() {
         System.out.println( "Symbol Table:" );
 
-        for (Entry<String,Map<String,Object>> entry : namespaceSymbols.entrySet()) {
-            Map<String,Object> localNameMap = entry.getValue();
+        for (Entry<String,NamespaceSymbols> entry : namespaceSymbols.entrySet()) {
+            Map<String,Object> localNameMap = entry.getValue().symbols;
             String ns = entry.getKey();
 
             System.out.println( "  " + ns );
@@ -228,4 +335,140 @@ public final class SymbolTable {
             }
         }
     }
+
+    /**
+     * Symbol entries for a single namespace along with the reference counts that support reverse (entity-to-namespace)
+     * lookups. Once shared with a read-only copy, an instance is never modified again.
+     */
+    private static class NamespaceSymbols {
+
+        private final Map<String,Object> symbols;
+        private final Map<Object,Integer> entityCounts;
+        private final Map<Object,Integer> equivalentCounts;
+        private boolean shared;
+
+        /**
+         * Constructs an empty set of namespace symbols.
+         */
+        public NamespaceSymbols() {
+            symbols = new HashMap<>();
+            entityCounts = new IdentityHashMap<>();
+            equivalentCounts = new HashMap<>();
+        }
+
+        /**
+         * Constructs a modifiable copy of the given namespace symbols.
+         * 
+         * @param original the namespace symbols to copy
+         */
+        public NamespaceSymbols(NamespaceSymbols original) {
+            symbols = new HashMap<>( original.symbols );
+            entityCounts = new IdentityHashMap<>( original.entityCounts );
+            equivalentCounts = new HashMap<>( original.equivalentCounts );
+        }
+
+        /**
+         * Assigns the given entity to the specified name, replacing any entity that was previously assigned.
+         * 
+         * @param localName the local name of the entity
+         * @param entity the entity to assign
+         */
+        public void put(String localName, Object entity) {
+            Object replacedEntity = symbols.put( localName, entity );
+
+            if (replacedEntity != null) {
+                decrement( entityCounts, replacedEntity );
+                decrement( equivalentCounts, replacedEntity );
+            }
+            if (entity != null) {
+                entityCounts.merge( entity, 1, Integer::sum );
+                equivalentCounts.merge( entity, 1, Integer::sum );
+            }
+        }
+
+        /**
+         * Returns true if the given entity (or an equal one if the identity flag is false) is assigned to any name in
+         * this namespace.
+         * 
+         * @param entity the entity to check
+         * @param identity flag indicating whether an identical entity is required
+         * @return boolean
+         */
+        public boolean contains(Object entity, boolean identity) {
+            return identity ? entityCounts.containsKey( entity ) : equivalentCounts.containsKey( entity );
+        }
+
+        /**
+         * Decrements the reference count of the given entity, removing it from the map when the count reaches zero.
+         * 
+         * @param counts the map of reference counts to update
+         * @param entity the entity whose count is to be decremented
+         */
+        private static void decrement(Map<Object,Integer> counts, Object entity) {
+            counts.computeIfPresent( entity, (e, count) -> (count > 1) ? (count - 1) : null );
+        }
+
+    }
+
+    /**
+     * Symbol entries for entities that are not assigned to a namespace. More than one anonymous entity may be
+     * assigned to the same name. Once shared with a read-only copy, an instance is never modified again.
+     */
+    private static class AnonymousSymbols {
+
+        private final Map<String,List<Object>> symbols;
+        private final Map<Object,Object> entities;
+        private final Map<Object,Object> equivalents;
+        private boolean shared;
+
+        /**
+         * Constructs an empty set of anonymous symbols.
+         */
+        public AnonymousSymbols() {
+            symbols = new HashMap<>();
+            entities = new IdentityHashMap<>();
+            equivalents = new HashMap<>();
+        }
+
+        /**
+         * Constructs a modifiable copy of the given anonymous symbols.
+         * 
+         * @param original the anonymous symbols to copy
+         */
+        public AnonymousSymbols(AnonymousSymbols original) {
+            symbols = new HashMap<>();
+            original.symbols.forEach( (name, entityList) -> symbols.put( name, new ArrayList<>( entityList ) ) );
+            entities = new IdentityHashMap<>( original.entities );
+            equivalents = new HashMap<>( original.equivalents );
+        }
+
+        /**
+         * Adds the given entity to the list of entities assigned to the specified name.
+         * 
+         * @param localName the local name of the entity
+         * @param entity the entity to add
+         */
+        public void add(String localName, Object entity) {
+            symbols.computeIfAbsent( localName, n -> new ArrayList<>() ).add( entity );
+
+            if (entity != null) {
+                entities.put( entity, entity );
+                equivalents.put( entity, entity );
+            }
+        }
+
+        /**
+         * Returns true if the given entity (or an equal one if the identity flag is false) is assigned to any
+         * anonymous name.
+         * 
+         * @param entity the entity to check
+         * @param identity flag indicating whether an identical entity is required
+         * @return boolean
+         */
+        public boolean contains(Object entity, boolean identity) {
+            return identity ? entities.containsKey( entity ) : equivalents.containsKey( entity );
+        }
+
+    }
+
 }
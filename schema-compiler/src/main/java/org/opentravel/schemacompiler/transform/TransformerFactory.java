@@ -16,33 +16,53 @@
 
 package org.opentravel.schemacompiler.transform;
 
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 import org.opentravel.schemacompiler.ioc.SchemaCompilerApplicationContext;
 import org.springframework.context.ApplicationContext;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
+import java.util.WeakHashMap;
 
 /**
  * Default implementation of the transformer factory that uses Java annotations to identify the transformer
  * implementations.
  * 
+ * <p>
+ * The type mappings of each factory bean are captured in an immutable <code>TransformerRegistry</code> that is shared
+ * by all factory instances obtained through the {@link #getInstance(String, ObjectTransformerContext)} method. Each
+ * call to that method returns a new factory instance that is bound to the caller's transformer context, so concurrent
+ * transformations do not interfere with one another.
+ * 
  * @param <C> the type of context required by the transformers provided by the factory
  * @author S. Livezey
  */
 public class TransformerFactory<C extends ObjectTransformerContext> {
 
-    private static final Logger log = LogManager.getLogger( TransformerFactory.class );
+    private static final Map<ApplicationContext,Map<String,TransformerRegistry>> registryCache = new WeakHashMap<>();
 
-    private Map<Class<?>,Map<Class<?>,Class<?>>> sourceTypeMappings = new HashMap<>();
+    private volatile TransformerRegistry registry = TransformerRegistry.EMPTY;
     private C transformerContext;
 
+    /**
+     * Default constructor.
+     */
+    public TransformerFactory() {}
+
+    /**
+     * Constructor that creates a factory instance that shares the given registry and is bound to the transformer
+     * context provided.
+     * 
+     * @param registry the registry of transformer mappings for the factory
+     * @param transformerContext the transformer context with which the new factory instance will be associated
+     */
+    private TransformerFactory(TransformerRegistry registry, C transformerContext) {
+        this.registry = registry;
+        setContext( transformerContext );
+    }
+
     /**
      * Returns the an instance of the <code>TransformerFactory</code> from the application context with the specified
      * factory name.
@@ -52,14 +72,25 @@ public class TransformerFactory<C extends ObjectTransformerContext> {
      * @param <C> the type of the context required by the transformer factory
      * @return TransformerFactory
      */
-    @SuppressWarnings("unchecked")
     public static <C extends ObjectTransformerContext> TransformerFactory<C> getInstance(String factoryName,
         C transformerContext) {
+        return new TransformerFactory<>( getRegistry( factoryName ), transformerContext );
+    }
+
+    /**
+     * Returns the transformer registry for the specified factory bean of the current application context. The factory
+     * bean is only retrieved (and its mappings instantiated) the first time a registry is requested.
+     * 
+     * @param factoryName the bean ID of the factory instance from the application context
+     * @return TransformerRegistry
+     */
+    private static TransformerRegistry getRegistry(String factoryName) {
         ApplicationContext appContext = SchemaCompilerApplicationContext.getContext();
-        TransformerFactory<C> factory = (TransformerFactory<C>) appContext.getBean( factoryName );
 
-        factory.setContext( transformerContext );
-        return factory;
+        synchronized (registryCache) {
+            return registryCache.computeIfAbsent( appContext, c -> new HashMap<>() ).computeIfAbsent( factoryName,
+                n -> ((TransformerFactory<?>) appContext.getBean( n )).registry );
+        }
     }
 
     /**
@@ -89,17 +120,7 @@ public class TransformerFactory<C extends ObjectTransformerContext> {
      * @param mappings the mapping specifications for this transformer
      */
     public void setTransformerMappings(Collection<TransformerMapping> mappings) {
-        sourceTypeMappings.clear();
-
-        for (TransformerMapping mapping : mappings) {
-            Map<Class<?>,Class<?>> targetTypeMappings = sourceTypeMappings.get( mapping.getSource() );
-
-            if (targetTypeMappings == null) {
-                targetTypeMappings = new HashMap<>();
-                sourceTypeMappings.put( mapping.getSource(), targetTypeMappings );
-            }
-            targetTypeMappings.put( mapping.getTarget(), mapping.getTransformer() );
-        }
+        this.registry = new TransformerRegistry( mappings );
     }
 
     /**
@@ -108,17 +129,7 @@ public class TransformerFactory<C extends ObjectTransformerContext> {
      * @return Map&lt;Class&lt;?&gt;,Set&lt;Class&lt;?&gt;&gt;&gt;
      */
     public Map<Class<?>,Set<Class<?>>> getTypeMappings() {
-        Map<Class<?>,Set<Class<?>>> mappings = new HashMap<>();
-
-        for (Entry<Class<?>,Map<Class<?>,Class<?>>> entry : sourceTypeMappings.entrySet()) {
-            Map<Class<?>,Class<?>> targetTypes = entry.getValue();
-            Class<?> sourceType = entry.getKey();
-
-            if (targetTypes != null) {
-                mappings.put( sourceType, new HashSet<>( targetTypes.keySet() ) );
-            }
-        }
-        return Collections.unmodifiableMap( mappings );
+        return registry.getTypeMappings();
     }
 
     /**
@@ -140,15 +151,7 @@ public class TransformerFactory<C extends ObjectTransformerContext> {
      * @return Set&lt;Class&lt;?&gt;&gt;
      */
     public Set<Class<?>> findTargetTypes(Class<?> sourceType) {
-        Map<Class<?>,Class<?>> targetTypeMappings = sourceTypeMappings.get( sourceType );
-        Set<Class<?>> targetTypes;
-
-        if ((targetTypeMappings != null) && !targetTypeMappings.isEmpty()) {
-            targetTypes = targetTypeMappings.keySet();
-        } else {
-            targetTypes = new HashSet<>();
-        }
-        return targetTypes;
+        return registry.findTargetTypes( sourceType );
     }
 
     /**
@@ -184,21 +187,11 @@ public class TransformerFactory<C extends ObjectTransformerContext> {
      */
     @SuppressWarnings("unchecked")
     public <S, T> ObjectTransformer<S,T,C> getTransformer(Class<S> sourceType, Class<T> targetType) {
-        Map<Class<?>,Class<?>> targetTypeMappings = sourceTypeMappings.get( sourceType );
-        ObjectTransformer<S,T,C> transformer = null;
+        ObjectTransformer<S,T,C> transformer =
+            (ObjectTransformer<S,T,C>) registry.newTransformer( sourceType, targetType );
 
-        if (targetTypeMappings != null) {
-            Class<ObjectTransformer<S,T,C>> transformerClass =
-                (Class<ObjectTransformer<S,T,C>>) targetTypeMappings.get( targetType );
-
-            try {
-                if (transformerClass != null) {
-                    transformer = transformerClass.getConstructor().newInstance();
-                    transformer.setContext( transformerContext );
-                }
-            } catch (Exception e) {
-                log.error( "Unable to instantiate transformer for type: " + sourceType.getName(), e );
-            }
+        if (transformer != null) {
+            transformer.setContext( transformerContext );
         }
         return transformer;
     }
@@ -0,0 +1,162 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.transform;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+/**
+ * Immutable registry of the source-to-target type mappings for a <code>TransformerFactory</code>. The constructor of
+ * each transformer class is resolved once when the registry is created, so that new transformer instances can be
+ * created without reflective lookups. Since a registry cannot be modified after it is created, a single instance may
+ * be shared by any number of factories and threads.
+ */
+final class TransformerRegistry {
+
+    private static final Logger log = LogManager.getLogger( TransformerRegistry.class );
+
+    static final TransformerRegistry EMPTY = new TransformerRegistry( Collections.emptyList() );
+
+    private final Map<Class<?>,Map<Class<?>,TransformerConstructor>> sourceTypeMappings;
+    private final Map<Class<?>,Set<Class<?>>> typeMappings;
+
+    /**
+     * Constructor that specifies the transformer mappings to be included in the registry.
+     *
+     * @param mappings the mapping specifications for the registry
+     */
+    TransformerRegistry(Collection<TransformerMapping> mappings) {
+        Map<Class<?>,Map<Class<?>,TransformerConstructor>> sourceMappings = new HashMap<>();
+        Map<Class<?>,Set<Class<?>>> targetTypes = new HashMap<>();
+
+        for (TransformerMapping mapping : mappings) {
+            sourceMappings.computeIfAbsent( mapping.getSource(), s -> new HashMap<>() ).put( mapping.getTarget(),
+                new TransformerConstructor( mapping.getSource(), mapping.getTransformer() ) );
+        }
+        for (Entry<Class<?>,Map<Class<?>,TransformerConstructor>> entry : sourceMappings.entrySet()) {
+            targetTypes.put( entry.getKey(), Collections.unmodifiableSet( new HashSet<>( entry.getValue().keySet() ) ) );
+            entry.setValue( Collections.unmodifiableMap( entry.getValue() ) );
+        }
+        this.sourceTypeMappings = Collections.unmodifiableMap( sourceMappings );
+        this.typeMappings = Collections.unmodifiableMap( targetTypes );
+    }
+
+    /**
+     * Returns the list of all source-to-target type mappings in this registry.
+     *
+     * @return Map&lt;Class&lt;?&gt;,Set&lt;Class&lt;?&gt;&gt;&gt;
+     */
+    Map<Class<?>,Set<Class<?>>> getTypeMappings() {
+        return typeMappings;
+    }
+
+    /**
+     * Returns the target types that are mapped to the specified source type.
+     *
+     * @param sourceType the source type for which to return the target types
+     * @return Set&lt;Class&lt;?&gt;&gt;
+     */
+    Set<Class<?>> findTargetTypes(Class<?> sourceType) {
+        Set<Class<?>> targetTypes = typeMappings.get( sourceType );
+
+        return (targetTypes == null) ? Collections.emptySet() : targetTypes;
+    }
+
+    /**
+     * Returns a new transformer instance for the specified source and target types, or null if no such mapping exists
+     * or the transformer cannot be created.
+     *
+     * @param sourceType the source object type for the transformation
+     * @param targetType the target object type for the transformation
+     * @return ObjectTransformer&lt;?,?,?&gt;
+     */
+    ObjectTransformer<?,?,?> newTransformer(Class<?> sourceType, Class<?> targetType) {
+        Map<Class<?>,TransformerConstructor> targetTypeMappings = sourceTypeMappings.get( sourceType );
+        TransformerConstructor constructor = (targetTypeMappings == null) ? null : targetTypeMappings.get( targetType );
+
+        return (constructor == null) ? null : constructor.newInstance();
+    }
+
+    /**
+     * Cached handle for the default constructor of a transformer class.
+     */
+    private static class TransformerConstructor {
+
+        private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType( Object.class );
+
+        private final Class<?> sourceType;
+        private final MethodHandle constructorHandle;
+
+        /**
+         * Constructor that resolves the default constructor of the given transformer class.
+         *
+         * @param sourceType the source type of the transformation (used for error reporting)
+         * @param transformerClass the transformer class to be instantiated
+         */
+        public TransformerConstructor(Class<?> sourceType, Class<?> transformerClass) {
+            MethodHandle handle = null;
+
+            try {
+                if (transformerClass != null) {
+                    handle = MethodHandles.publicLookup()
+                        .findConstructor( transformerClass, MethodType.methodType( void.class ) )
+                        .asType( CONSTRUCTOR_TYPE );
+                }
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                log.error( "Unable to instantiate transformer for type: " + sourceType.getName(), e );
+            }
+            this.sourceType = sourceType;
+            this.constructorHandle = handle;
+        }
+
+        /**
+         * Returns a new instance of the transformer, or null if the transformer could not be created.
+         *
+         * @return ObjectTransformer&lt;?,?,?&gt;
+         */
+        @SuppressWarnings("squid:S1181") // Throwable is declared by MethodHandle.invokeExact()
+        public ObjectTransformer<?,?,?> newInstance() {
+            ObjectTransformer<?,?,?> transformer = null;
+
+            if (constructorHandle != null) {
+                try {
+                    transformer = (ObjectTransformer<?,?,?>) (Object) constructorHandle.invokeExact();
+
+                } catch (Error e) {
+                    throw e;
+
+                } catch (Throwable t) {
+                    log.error( "Unable to instantiate transformer for type: " + sourceType.getName(), t );
+                }
+            }
+            return transformer;
+        }
+
+    }
+
+}
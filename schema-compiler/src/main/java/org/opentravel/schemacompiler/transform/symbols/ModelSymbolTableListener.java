@@ -0,0 +1,218 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.transform.symbols;
+
+import org.opentravel.schemacompiler.event.ModelEvent;
+import org.opentravel.schemacompiler.event.ModelEventListener;
+import org.opentravel.schemacompiler.event.ModelEventType;
+import org.opentravel.schemacompiler.event.OwnershipEvent;
+import org.opentravel.schemacompiler.event.ValueChangeEvent;
+import org.opentravel.schemacompiler.model.AbstractLibrary;
+import org.opentravel.schemacompiler.model.LibraryElement;
+import org.opentravel.schemacompiler.model.TLContextualFacet;
+import org.opentravel.schemacompiler.model.TLFacet;
+import org.opentravel.schemacompiler.model.TLFacetOwner;
+import org.opentravel.schemacompiler.model.TLModel;
+import org.opentravel.schemacompiler.transform.SymbolTable;
+
+import java.lang.ref.WeakReference;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Model event listener that maintains a live symbol table for a single <code>TLModel</code> instance. The symbol table
+ * is fully populated on first use; after that, model events are used to identify the namespaces whose symbols have
+ * changed, and only those namespaces are re-populated the next time the symbol table is requested.
+ *
+ * <p>
+ * If the model reports that events were published while listeners were disabled (see
+ * {@link TLModel#getSuppressedEventCount()}), the entire symbol table is rebuilt since the affected namespaces cannot
+ * be determined.
+ */
+public class ModelSymbolTableListener implements ModelEventListener<ModelEvent<Object>,Object> {
+
+    private static final Set<ModelEventType> SYMBOL_EVENT_TYPES = EnumSet.of( ModelEventType.LIBRARY_ADDED,
+        ModelEventType.LIBRARY_REMOVED, ModelEventType.MEMBER_ADDED, ModelEventType.MEMBER_REMOVED,
+        ModelEventType.MEMBER_MOVED, ModelEventType.NAME_MODIFIED, ModelEventType.NAMESPACE_MODIFIED,
+        ModelEventType.ALIAS_ADDED, ModelEventType.ALIAS_REMOVED, ModelEventType.OPERATION_ADDED,
+        ModelEventType.OPERATION_REMOVED, ModelEventType.SERVICE_MODIFIED, ModelEventType.FACET_OWNER_MODIFIED,
+        ModelEventType.FACET_CLEARED, ModelEventType.CUSTOM_FACET_ADDED, ModelEventType.CUSTOM_FACET_REMOVED,
+        ModelEventType.QUERY_FACET_ADDED, ModelEventType.QUERY_FACET_REMOVED, ModelEventType.UPDATE_FACET_ADDED,
+        ModelEventType.UPDATE_FACET_REMOVED, ModelEventType.CHILD_FACET_ADDED, ModelEventType.CHILD_FACET_REMOVED,
+        ModelEventType.ACTION_FACET_ADDED, ModelEventType.ACTION_FACET_REMOVED, ModelEventType.CHOICE_FACET_ADDED,
+        ModelEventType.CHOICE_FACET_REMOVED );
+
+    private final WeakReference<TLModel> modelRef;
+    private final TLModelSymbolTablePopulator populator;
+    private final SymbolTable symbols = new SymbolTable();
+    private SymbolTable snapshot;
+    private final Set<String> modifiedNamespaces = new HashSet<>();
+    private boolean refreshAll = true;
+    private long suppressedEventCount;
+
+    /**
+     * Constructor that specifies the model whose symbols are to be maintained. The listener is registered with (and
+     * owned by) the model itself, and the model is referenced weakly so that the listener never extends its lifetime.
+     *
+     * @param model the model whose symbol table is to be maintained
+     * @param populator the populator used to construct the symbol table entries
+     */
+    public ModelSymbolTableListener(TLModel model, TLModelSymbolTablePopulator populator) {
+        this.modelRef = new WeakReference<>( model );
+        this.populator = populator;
+    }
+
+    /**
+     * Returns a read-only snapshot of the symbol table for the model, re-populating the entries for any namespaces that
+     * have been modified since the last call. The same snapshot is returned to all callers until the model is modified
+     * again, so it may be shared safely between threads. Snapshots share the entries of unmodified namespaces with the
+     * live table, so a new snapshot only costs a copy of the namespace list.
+     *
+     * @return SymbolTable
+     */
+    public synchronized SymbolTable getSymbolTable() {
+        TLModel model = modelRef.get();
+
+        if (model != null) {
+            long modelSuppressedEventCount = model.getSuppressedEventCount();
+
+            if (refreshAll || (modelSuppressedEventCount != suppressedEventCount)) {
+                symbols.clear();
+                populator.populateSymbols( model, symbols );
+                snapshot = null;
+
+            } else if (!modifiedNamespaces.isEmpty()) {
+                for (String namespace : modifiedNamespaces) {
+                    symbols.removeNamespace( namespace );
+                }
+                populator.populateNamespaceSymbols( model, modifiedNamespaces, symbols );
+                snapshot = null;
+            }
+            modifiedNamespaces.clear();
+            refreshAll = false;
+            suppressedEventCount = modelSuppressedEventCount;
+        }
+        if (snapshot == null) {
+            snapshot = symbols.newReadOnlyCopy();
+        }
+        return snapshot;
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.event.ModelEventListener#processModelEvent(org.opentravel.schemacompiler.event.ModelEvent)
+     */
+    @Override
+    public synchronized void processModelEvent(ModelEvent<Object> event) {
+        if (!refreshAll && SYMBOL_EVENT_TYPES.contains( event.getType() )) {
+            addModifiedNamespaces( event );
+        }
+    }
+
+    /**
+     * Identifies the namespaces whose symbols may have been affected by the given event.
+     *
+     * @param event the model event to analyze
+     */
+    private void addModifiedNamespaces(ModelEvent<Object> event) {
+        Object source = event.getSource();
+
+        addNamespace( source );
+
+        if (event instanceof OwnershipEvent) {
+            Object affectedItem = ((OwnershipEvent<?,?>) event).getAffectedItem();
+
+            addNamespace( affectedItem );
+
+            if (affectedItem instanceof TLFacetOwner) {
+                addContextualFacetNamespaces( (TLFacetOwner) affectedItem, new HashSet<>() );
+            }
+
+        } else if (event instanceof ValueChangeEvent) {
+            ValueChangeEvent<?,?> valueEvent = (ValueChangeEvent<?,?>) event;
+
+            if ((event.getType() == ModelEventType.NAMESPACE_MODIFIED)
+                || (event.getType() == ModelEventType.MEMBER_MOVED)) {
+                addNamespace( valueEvent.getOldValue() );
+                addNamespace( valueEvent.getNewValue() );
+            }
+        }
+
+        // The local names of contextual facets are derived from the names of their owners, which
+        // may reside in other namespaces
+        if (source instanceof TLFacetOwner) {
+            addContextualFacetNamespaces( (TLFacetOwner) source, new HashSet<>() );
+        }
+    }
+
+    /**
+     * Adds the namespaces of all contextual facets that are (directly or indirectly) owned by the given entity.
+     *
+     * @param facetOwner the facet owner whose contextual facets are to be processed
+     * @param visitedOwners the set of facet owners that have already been processed
+     */
+    private void addContextualFacetNamespaces(TLFacetOwner facetOwner, Set<TLFacetOwner> visitedOwners) {
+        if (visitedOwners.add( facetOwner )) {
+            for (TLFacet facet : facetOwner.getAllFacets()) {
+                if (facet instanceof TLContextualFacet) {
+                    addNamespace( facet );
+                    addContextualFacetNamespaces( (TLContextualFacet) facet, visitedOwners );
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the namespace of the given object to the list of modified namespaces. The object may be a namespace URI
+     * string, a library, or a library element.
+     *
+     * @param obj the object whose namespace is to be added
+     */
+    private void addNamespace(Object obj) {
+        if (obj instanceof String) {
+            modifiedNamespaces.add( TLModelSymbolTablePopulator.getSymbolNamespace( (String) obj ) );
+
+        } else if (obj instanceof AbstractLibrary) {
+            modifiedNamespaces
+                .add( TLModelSymbolTablePopulator.getSymbolNamespace( ((AbstractLibrary) obj).getNamespace() ) );
+
+        } else if (obj instanceof LibraryElement) {
+            AbstractLibrary owningLibrary = ((LibraryElement) obj).getOwningLibrary();
+
+            if (owningLibrary != null) {
+                addNamespace( owningLibrary );
+            }
+        }
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.event.ModelEventListener#getEventClass()
+     */
+    @Override
+    public Class<?> getEventClass() {
+        return ModelEvent.class;
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.event.ModelEventListener#getSourceObjectClass()
+     */
+    @Override
+    public Class<Object> getSourceObjectClass() {
+        return Object.class;
+    }
+
+}
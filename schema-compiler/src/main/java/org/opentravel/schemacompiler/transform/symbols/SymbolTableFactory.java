@@ -92,6 +92,33 @@ public class SymbolTableFactory {
         }
     }
 
+    /**
+     * Returns the live symbol table for the given model. The symbol table is constructed on first use and is kept
+     * current by a listener that is registered with the model, so repeated calls only incur the cost of re-populating
+     * the namespaces that have been modified since the previous call.
+     * 
+     * <p>
+     * The symbol table returned is a read-only snapshot that reflects the state of the model at the time of the call.
+     * Callers that need to add their own entries should use {@link #newSymbolTable(Object)} instead.
+     * 
+     * @param model the model for which to return a symbol table
+     * @return SymbolTable
+     */
+    public SymbolTable getModelSymbolTable(TLModel model) {
+        SymbolTablePopulator<?> populator = (model == null) ? null : populatorMap.get( model.getClass() );
+        SymbolTable symbols;
+
+        if (populator instanceof TLModelSymbolTablePopulator) {
+            symbols = model.getOrAddListener( ModelSymbolTableListener.class,
+                () -> new ModelSymbolTableListener( model, (TLModelSymbolTablePopulator) populator ) )
+                .getSymbolTable();
+
+        } else {
+            symbols = newSymbolTable( model );
+        }
+        return symbols;
+    }
+
     /**
      * Attempts to resolve the local name of the source object. If the name cannot be resolved, null will be returned.
      * 
@@ -131,4 +158,14 @@ public class SymbolTableFactory {
         return newSymbolTableFromEntity( model );
     }
 
+    /**
+     * Returns a read-only snapshot of the live symbol table for the given model.
+     * 
+     * @param model the model for which to return a symbol table
+     * @return SymbolTable
+     */
+    public static SymbolTable getSymbolTableForModel(TLModel model) {
+        return getInstance().getModelSymbolTable( model );
+    }
+
 }
@@ -18,9 +18,11 @@ package org.opentravel.schemacompiler.transform.symbols;
 
 import org.opentravel.schemacompiler.model.AbstractLibrary;
 import org.opentravel.schemacompiler.model.TLModel;
+import org.opentravel.schemacompiler.transform.AnonymousEntityFilter;
 import org.opentravel.schemacompiler.transform.SymbolTable;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -43,6 +45,41 @@ public class TLModelSymbolTablePopulator extends AbstractTLSymbolTablePopulator<
         }
     }
 
+    /**
+     * Re-populates the symbol table entries for the given namespaces using the libraries of the model that are assigned
+     * to those namespaces. The caller is responsible for removing any existing entries for the namespaces before this
+     * method is called.
+     * 
+     * @param model the model from which to load symbols
+     * @param namespaces the symbol table namespaces to populate
+     * @param symbols the symbol table to be populated
+     */
+    public void populateNamespaceSymbols(TLModel model, Collection<String> namespaces, SymbolTable symbols) {
+        List<AbstractLibrary> modelLibraries = new ArrayList<>( model.getAllLibraries() );
+
+        for (AbstractLibrary library : modelLibraries) {
+            if (namespaces.contains( getSymbolNamespace( library.getNamespace() ) )) {
+                populateLibrarySymbols( library, symbols );
+            }
+        }
+    }
+
+    /**
+     * Returns the namespace under which the symbol table will register entities for the given library namespace. Null
+     * namespaces are registered as anonymous entities.
+     * 
+     * @param namespace the library namespace to convert
+     * @return String
+     */
+    public static String getSymbolNamespace(String namespace) {
+        String symbolNamespace = (namespace == null) ? null : namespace.trim();
+
+        if (symbolNamespace == null) {
+            symbolNamespace = AnonymousEntityFilter.ANONYMOUS_PSEUDO_NAMESPACE;
+        }
+        return symbolNamespace;
+    }
+
     /**
      * @see org.opentravel.schemacompiler.transform.symbols.SymbolTablePopulator#getSourceEntityType()
      */
@@ -16,38 +16,6 @@
 
 package org.opentravel.schemacompiler.util;
 
-import org.opentravel.ns.ota2.librarymodel_v01_06.Action;
-import org.opentravel.ns.ota2.librarymodel_v01_06.ActionRequest;
-import org.opentravel.ns.ota2.librarymodel_v01_06.ActionResponse;
-import org.opentravel.ns.ota2.librarymodel_v01_06.Attribute;
-import org.opentravel.ns.ota2.librarymodel_v01_06.BusinessObject;
-import org.opentravel.ns.ota2.librarymodel_v01_06.ChoiceObject;
-import org.opentravel.ns.ota2.librarymodel_v01_06.ContextDeclaration;
-import org.opentravel.ns.ota2.librarymodel_v01_06.CoreObject;
-import org.opentravel.ns.ota2.librarymodel_v01_06.Documentation;
-import org.opentravel.ns.ota2.librarymodel_v01_06.EnumValue;
-import org.opentravel.ns.ota2.librarymodel_v01_06.EnumerationClosed;
-import org.opentravel.ns.ota2.librarymodel_v01_06.EnumerationOpen;
-import org.opentravel.ns.ota2.librarymodel_v01_06.Equivalent;
-import org.opentravel.ns.ota2.librarymodel_v01_06.Example;
-import org.opentravel.ns.ota2.librarymodel_v01_06.Extension;
-import org.opentravel.ns.ota2.librarymodel_v01_06.ExtensionPointFacet;
-import org.opentravel.ns.ota2.librarymodel_v01_06.Facet;
-import org.opentravel.ns.ota2.librarymodel_v01_06.FacetAction;
-import org.opentravel.ns.ota2.librarymodel_v01_06.FacetContextual;
-import org.opentravel.ns.ota2.librarymodel_v01_06.Indicator;
-import org.opentravel.ns.ota2.librarymodel_v01_06.Operation;
-import org.opentravel.ns.ota2.librarymodel_v01_06.ParamGroup;
-import org.opentravel.ns.ota2.librarymodel_v01_06.Parameter;
-import org.opentravel.ns.ota2.librarymodel_v01_06.Property;
-import org.opentravel.ns.ota2.librarymodel_v01_06.Resource;
-import org.opentravel.ns.ota2.librarymodel_v01_06.ResourceParentRef;
-import org.opentravel.ns.ota2.librarymodel_v01_06.Role;
-import org.opentravel.ns.ota2.librarymodel_v01_06.Service;
-import org.opentravel.ns.ota2.librarymodel_v01_06.Simple;
-import org.opentravel.ns.ota2.librarymodel_v01_06.SimpleFacet;
-import org.opentravel.ns.ota2.librarymodel_v01_06.ValueWithAttributes;
-import org.opentravel.schemacompiler.ioc.SchemaCompilerApplicationContext;
 import org.opentravel.schemacompiler.model.AbstractLibrary;
 import org.opentravel.schemacompiler.model.LibraryElement;
 import org.opentravel.schemacompiler.model.LibraryMember;
@@ -57,8 +25,9 @@ import org.opentravel.schemacompiler.model.TLAction;
 import org.opentravel.schemacompiler.model.TLActionFacet;
 import org.opentravel.schemacompiler.model.TLActionRequest;
 import org.opentravel.schemacompiler.model.TLActionResponse;
+import org.opentravel.schemacompiler.model.TLAdditionalDocumentationItem;
+import org.opentravel.schemacompiler.model.TLAlias;
 import org.opentravel.schemacompiler.model.TLAttribute;
-import org.opentravel.schemacompiler.model.TLAttributeType;
 import org.opentravel.schemacompiler.model.TLBusinessObject;
 import org.opentravel.schemacompiler.model.TLChoiceObject;
 import org.opentravel.schemacompiler.model.TLClosedEnumeration;
@@ -66,6 +35,7 @@ import org.opentravel.schemacompiler.model.TLContext;
 import org.opentravel.schemacompiler.model.TLContextualFacet;
 import org.opentravel.schemacompiler.model.TLCoreObject;
 import org.opentravel.schemacompiler.model.TLDocumentation;
+import org.opentravel.schemacompiler.model.TLDocumentationItem;
 import org.opentravel.schemacompiler.model.TLEnumValue;
 import org.opentravel.schemacompiler.model.TLEquivalent;
 import org.opentravel.schemacompiler.model.TLExample;
@@ -76,13 +46,11 @@ import org.opentravel.schemacompiler.model.TLIndicator;
 import org.opentravel.schemacompiler.model.TLLibrary;
 import org.opentravel.schemacompiler.model.TLMemberField;
 import org.opentravel.schemacompiler.model.TLModel;
-import org.opentravel.schemacompiler.model.TLModelElement;
 import org.opentravel.schemacompiler.model.TLOpenEnumeration;
 import org.opentravel.schemacompiler.model.TLOperation;
 import org.opentravel.schemacompiler.model.TLParamGroup;
 import org.opentravel.schemacompiler.model.TLParameter;
 import org.opentravel.schemacompiler.model.TLProperty;
-import org.opentravel.schemacompiler.model.TLPropertyType;
 import org.opentravel.schemacompiler.model.TLResource;
 import org.opentravel.schemacompiler.model.TLResourceParentRef;
 import org.opentravel.schemacompiler.model.TLRole;
@@ -90,64 +58,48 @@ import org.opentravel.schemacompiler.model.TLService;
 import org.opentravel.schemacompiler.model.TLSimple;
 import org.opentravel.schemacompiler.model.TLSimpleFacet;
 import org.opentravel.schemacompiler.model.TLValueWithAttributes;
-import org.opentravel.schemacompiler.transform.ObjectTransformer;
-import org.opentravel.schemacompiler.transform.ObjectTransformerContext;
-import org.opentravel.schemacompiler.transform.SymbolTable;
-import org.opentravel.schemacompiler.transform.TransformerFactory;
-import org.opentravel.schemacompiler.transform.symbols.DefaultTransformerContext;
-import org.opentravel.schemacompiler.transform.symbols.SymbolResolverTransformerContext;
-import org.opentravel.schemacompiler.transform.symbols.SymbolTableFactory;
-import org.opentravel.schemacompiler.transform.tl2jaxb.TL2JaxbLibrarySymbolResolver;
+import org.opentravel.schemacompiler.transform.PrefixResolver;
 import org.opentravel.schemacompiler.transform.util.LibraryPrefixResolver;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.function.Consumer;
 
 /**
- * Generic cloning utility that uses the <code>ObjectTransformer</code> functions to construct copies of model element
- * instances.
- * 
+ * Generic cloning utility that constructs deep copies of model element instances.
+ *
  * <p>
- * NOTE: The implementation of this class is NOT thread-safe.
- * 
+ * Copies are constructed directly, field by field, and they contain the same information that would be retained if
+ * the element was saved to a library file and then re-loaded. References to other named entities are re-bound to the
+ * same entities that are referenced by the original element, and the names of those references are expressed using
+ * the namespace prefixes of the library that is provided as the naming context.
+ *
  * @author S. Livezey
  */
 public class ModelElementCloner {
 
-    private static final Map<Class<?>,Class<?>> intermediateObjectTypes;
-
-    private SymbolTable modelSymbols;
-    private SymbolResolverTransformerContext sourceTransformContext;
-    private DefaultTransformerContext targetTransformContext;
-    private TypeMappingTransformerFactory<SymbolResolverTransformerContext> sourceTransformerFactory;
-    private TypeMappingTransformerFactory<DefaultTransformerContext> targetTransformerFactory;
+    /**
+     * Default constructor.
+     */
+    public ModelElementCloner() {
+        // No model-level resources are required to construct clones
+    }
 
     /**
      * Constructor that provides access to the global model that owns all possible entities that can be cloned.
-     * 
-     * @param model the owning model instance for all clonable entities
+     *
+     * @param model the owning model instance for all clonable entities (ignored)
+     * @deprecated clones are constructed without reference to the owning model; use {@link #ModelElementCloner()}
+     *             instead
      */
+    @Deprecated
     public ModelElementCloner(TLModel model) {
-        this.modelSymbols = SymbolTableFactory.newSymbolTableFromModel( model );
-
-        this.sourceTransformContext = new SymbolResolverTransformerContext();
-        this.sourceTransformContext.setSymbolResolver( new TL2JaxbLibrarySymbolResolver( modelSymbols ) );
-        this.sourceTransformerFactory = new TypeMappingTransformerFactory<>( TransformerFactory
-            .getInstance( SchemaCompilerApplicationContext.SAVER_TRANSFORMER_FACTORY, sourceTransformContext ) );
-        this.sourceTransformerFactory.setContext( this.sourceTransformContext );
-
-        this.targetTransformContext = new DefaultTransformerContext();
-        this.targetTransformerFactory = new TypeMappingTransformerFactory<>( TransformerFactory
-            .getInstance( SchemaCompilerApplicationContext.LOADER_TRANSFORMER_FACTORY, targetTransformContext ) );
-        this.targetTransformerFactory.setContext( this.targetTransformContext );
+        this();
     }
 
     /**
-     * Constructs a deep clone of the given object using the transformation module of the compiler.
-     * 
+     * Constructs a deep clone of the given object.
+     *
      * @param source the source object to clone
      * @param <C> the type of the source object being cloned
      * @return C
@@ -163,57 +115,34 @@ public class ModelElementCloner {
     }
 
     /**
-     * Constructs a deep clone of the given object using the transformation module of the compiler.
-     * 
+     * Constructs a deep clone of the given object.
+     *
      * @param source the source object to clone
-     * @param resolverContext the library whose owning that should be used for reference lookups when resolving names in
-     *        the cloned entity; the library itself is used to resolve namespace prefix references during reference
-     *        lookups
+     * @param resolverContext the library whose namespace prefixes should be used when constructing the names of the
+     *        entities that are referenced by the cloned element (may be null)
      * @param <C> the type of the source object being cloned
-     * @param <I> the type of the intermediate object to be used during the cloning process
      * @return C
      * @throws IllegalArgumentException thrown if the given source object cannot be cloned
      */
     @SuppressWarnings("unchecked")
-    public <C extends ModelElement, I> C clone(C source, AbstractLibrary resolverContext) {
+    public <C extends ModelElement> C clone(C source, AbstractLibrary resolverContext) {
         C clonedObject = null;
 
         if (source instanceof LibraryElement) {
-            Class<I> intermediateType = (Class<I>) intermediateObjectTypes.get( source.getClass() );
-            I intermediateObject;
+            ElementCopier copier = new ElementCopier( resolverContext );
 
-            if (intermediateType == null) {
+            if (!copier.canCopy( source )) {
                 throw new IllegalArgumentException( "Unable to clone object of type: " + source.getClass().getName() );
             }
-
-            // Use the transformer subsystem to create the clone of the object
-            Map<Object,NamedEntity> typeAssignments = new HashMap<>();
-            Map<Object,TLMemberField<?>> fieldReferences = new HashMap<>();
-
-            sourceTransformerFactory.setTypeAssignments( typeAssignments );
-            sourceTransformerFactory.setFieldReferences( fieldReferences );
-            targetTransformerFactory.setTypeAssignments( typeAssignments );
-            targetTransformerFactory.setFieldReferences( fieldReferences );
-
-            ObjectTransformer<C,I,SymbolResolverTransformerContext> sourceTransformer =
-                sourceTransformerFactory.getTransformer( source, intermediateType );
-            ObjectTransformer<I,C,DefaultTransformerContext> targetTransformer =
-                targetTransformerFactory.getTransformer( intermediateType, (Class<C>) source.getClass() );
-
-            if (resolverContext != null) {
-                sourceTransformContext.getSymbolResolver()
-                    .setPrefixResolver( new LibraryPrefixResolver( resolverContext ) );
-            }
-            intermediateObject = sourceTransformer.transform( source );
-            clonedObject = targetTransformer.transform( intermediateObject );
+            clonedObject = (C) copier.copy( source );
 
             // Handle special cases for contextual facet owners since contextual facets are
             // managed externally to their business/choice object owner
             if (source instanceof TLChoiceObject) {
-                cloneContextualFacets( (TLChoiceObject) source, (TLChoiceObject) clonedObject );
+                copier.copyContextualFacets( (TLChoiceObject) source, (TLChoiceObject) clonedObject );
 
             } else if (source instanceof TLBusinessObject) {
-                cloneContextualFacets( (TLBusinessObject) source, (TLBusinessObject) clonedObject );
+                copier.copyContextualFacets( (TLBusinessObject) source, (TLBusinessObject) clonedObject );
             }
 
         } else if (source != null) {
@@ -222,77 +151,13 @@ public class ModelElementCloner {
         return clonedObject;
     }
 
-    /**
-     * Clones the local contextual facets of the given choice object.
-     * 
-     * @param choice the choice object whose contextual facets are to be cloned
-     * @param target the choice object that will received the cloned facets
-     */
-    private void cloneContextualFacets(TLChoiceObject source, TLChoiceObject target) {
-        List<TLContextualFacet> clonedChoiceFacets = cloneContextualFacets( source.getChoiceFacets() );
-
-        for (TLContextualFacet clonedFacet : clonedChoiceFacets) {
-            target.addChoiceFacet( clonedFacet );
-        }
-    }
-
-    /**
-     * Clones the local contextual facets of the given business object.
-     * 
-     * @param source the business object whose contextual facets are to be cloned
-     * @param target the business object that will received the cloned facets
-     */
-    private void cloneContextualFacets(TLBusinessObject source, TLBusinessObject target) {
-        List<TLContextualFacet> clonedCustomFacets = cloneContextualFacets( source.getCustomFacets() );
-        List<TLContextualFacet> clonedQueryFacets = cloneContextualFacets( source.getQueryFacets() );
-        List<TLContextualFacet> clonedUpdateFacets = cloneContextualFacets( source.getUpdateFacets() );
-
-        for (TLContextualFacet clonedFacet : clonedCustomFacets) {
-            target.addCustomFacet( clonedFacet );
-        }
-        for (TLContextualFacet clonedFacet : clonedQueryFacets) {
-            target.addQueryFacet( clonedFacet );
-        }
-        for (TLContextualFacet clonedFacet : clonedUpdateFacets) {
-            target.addUpdateFacet( clonedFacet );
-        }
-    }
-
-    /**
-     * Recursively clones the given list of contextual facets (only local facets will be cloned).
-     * 
-     * @param facetList the list of contextual facets to clone
-     * @return List&lt;TLContextualFacet&gt;
-     */
-    private List<TLContextualFacet> cloneContextualFacets(List<TLContextualFacet> facetList) {
-        ObjectTransformer<TLContextualFacet,FacetContextual,SymbolResolverTransformerContext> sourceTransformer =
-            sourceTransformerFactory.getTransformer( TLContextualFacet.class, FacetContextual.class );
-        ObjectTransformer<FacetContextual,TLContextualFacet,DefaultTransformerContext> targetTransformer =
-            targetTransformerFactory.getTransformer( FacetContextual.class, TLContextualFacet.class );
-        List<TLContextualFacet> clonedFacets = new ArrayList<>();
-
-        for (TLContextualFacet sourceFacet : facetList) {
-            if (sourceFacet.isLocalFacet()) {
-                FacetContextual intermediateFacet = sourceTransformer.transform( sourceFacet );
-                TLContextualFacet clonedFacet = targetTransformer.transform( intermediateFacet );
-                List<TLContextualFacet> clonedChildren = cloneContextualFacets( sourceFacet.getChildFacets() );
-
-                for (TLContextualFacet clonedChild : clonedChildren) {
-                    clonedFacet.addChildFacet( clonedChild );
-                }
-                clonedFacets.add( clonedFacet );
-            }
-        }
-        return clonedFacets;
-    }
-
     /**
      * Utility method that adds the given cloned entity to the specified target library. In most cases, this is a simple
      * call to <code>targetLibrary.addNamedMember()</code>. For entities that include contextual facets, however, the
      * facets must also be added to the library as separate entities. Since only local facets are cloned, this method
      * assumes that any facet not already assigned a library owner should be added to the same target library as the
      * cloned entity.
-     * 
+     *
      * @param clonedEntity the entity that was cloned
      * @param targetLibrary the target library to which the entity should be added
      */
@@ -314,7 +179,7 @@ public class ModelElementCloner {
     /**
      * Recursively adds any contextual facets to the specified target library that have not already been assigned a
      * library owner.
-     * 
+     *
      * @param facetList the list of facets to add
      * @param targetLibrary the library to which the contextual facets will be added
      */
@@ -328,237 +193,615 @@ public class ModelElementCloner {
     }
 
     /**
-     * Transformer factory that wraps each of the <code>ObjectTransformer</code> instances produced with either a
-     * <code>TypeMappingTransformer</code> or <code>TypeAssignmentTransformer</code>, depending upon the type of the
-     * source object.
+     * Performs the copy operations for a single call to the cloner. Each model element type is copied by its own
+     * class-specific function, which in turn copies the element's children.
      */
-    private class TypeMappingTransformerFactory<C extends ObjectTransformerContext> extends TransformerFactory<C> {
+    private static class ElementCopier {
+
+        private PrefixResolver prefixResolver;
+
+        private ClassSpecificFunction<ModelElement> copyFunction = new ClassSpecificFunction<ModelElement>()
+            .addFunction( TLActionFacet.class, this::copyActionFacet )
+            .addFunction( TLAction.class, this::copyAction )
+            .addFunction( TLActionRequest.class, this::copyActionRequest )
+            .addFunction( TLActionResponse.class, this::copyActionResponse )
+            .addFunction( TLAttribute.class, this::copyAttribute )
+            .addFunction( TLBusinessObject.class, this::copyBusinessObject )
+            .addFunction( TLClosedEnumeration.class, this::copyClosedEnumeration )
+            .addFunction( TLContext.class, this::copyContext )
+            .addFunction( TLCoreObject.class, this::copyCoreObject )
+            .addFunction( TLChoiceObject.class, this::copyChoiceObject )
+            .addFunction( TLDocumentation.class, this::copyDocumentation )
+            .addFunction( TLEnumValue.class, this::copyEnumValue )
+            .addFunction( TLEquivalent.class, this::copyEquivalent )
+            .addFunction( TLExample.class, this::copyExample )
+            .addFunction( TLExtension.class, this::copyExtension )
+            .addFunction( TLExtensionPointFacet.class, this::copyExtensionPointFacet )
+            .addFunction( TLFacet.class, this::copyFacet )
+            .addFunction( TLContextualFacet.class, this::copyContextualFacet )
+            .addFunction( TLIndicator.class, this::copyIndicator )
+            .addFunction( TLOpenEnumeration.class, this::copyOpenEnumeration )
+            .addFunction( TLOperation.class, this::copyOperation )
+            .addFunction( TLParamGroup.class, this::copyParamGroup )
+            .addFunction( TLParameter.class, this::copyParameter )
+            .addFunction( TLProperty.class, this::copyProperty )
+            .addFunction( TLResource.class, this::copyResource )
+            .addFunction( TLResourceParentRef.class, this::copyResourceParentRef )
+            .addFunction( TLRole.class, this::copyRole )
+            .addFunction( TLService.class, this::copyService )
+            .addFunction( TLSimpleFacet.class, this::copySimpleFacet )
+            .addFunction( TLSimple.class, this::copySimple )
+            .addFunction( TLValueWithAttributes.class, this::copyValueWithAttributes );
+
+        /**
+         * Constructor that specifies the library to use as the naming context for entity references.
+         *
+         * @param namingContext the library whose prefixes are used to construct reference names (may be null)
+         */
+        public ElementCopier(AbstractLibrary namingContext) {
+            this.prefixResolver = (namingContext == null) ? null : new LibraryPrefixResolver( namingContext );
+        }
 
-        private Map<Object,NamedEntity> typeAssignments;
-        private Map<Object,TLMemberField<?>> fieldReferences;
-        private TransformerFactory<C> delegateFactory;
+        /**
+         * Returns true if the given model element can be copied.
+         *
+         * @param source the model element to check
+         * @return boolean
+         */
+        public boolean canCopy(ModelElement source) {
+            return copyFunction.canApply( source );
+        }
 
         /**
-         * Constructor that assigns the delegate transformer factory.
-         * 
-         * @param delegateFactory the delegate transformer factory
+         * Returns a copy of the given model element.
+         *
+         * @param source the model element to copy
+         * @return ModelElement
          */
-        public TypeMappingTransformerFactory(TransformerFactory<C> delegateFactory) {
-            this.delegateFactory = delegateFactory;
+        public ModelElement copy(ModelElement source) {
+            return copyFunction.apply( source );
         }
 
         /**
-         * Assigns the map instance to use for type assignments collected and assigned by the transformers returned by
-         * this factory.
-         * 
-         * @param typeAssignments the map instance to use for handling type assignments
+         * Copies the local contextual facets of the given choice object.
+         *
+         * @param source the choice object whose contextual facets are to be copied
+         * @param target the choice object that will receive the copied facets
          */
-        public void setTypeAssignments(Map<Object,NamedEntity> typeAssignments) {
-            this.typeAssignments = typeAssignments;
+        public void copyContextualFacets(TLChoiceObject source, TLChoiceObject target) {
+            copyLocalFacets( source.getChoiceFacets(), target::addChoiceFacet );
         }
 
         /**
-         * Assigns the map instance to use for field references collected and assigned by the transformers returned by
-         * this factory.
+         * Copies the local contextual facets of the given business object.
          *
-         * @param fieldReferences the map instance to use for handling field references
+         * @param source the business object whose contextual facets are to be copied
+         * @param target the business object that will receive the copied facets
          */
-        public void setFieldReferences(Map<Object,TLMemberField<?>> fieldReferences) {
-            this.fieldReferences = fieldReferences;
+        public void copyContextualFacets(TLBusinessObject source, TLBusinessObject target) {
+            copyLocalFacets( source.getCustomFacets(), target::addCustomFacet );
+            copyLocalFacets( source.getQueryFacets(), target::addQueryFacet );
+            copyLocalFacets( source.getUpdateFacets(), target::addUpdateFacet );
         }
 
         /**
-         * @see org.opentravel.schemacompiler.transform.TransformerFactory#getTransformer(java.lang.Class,
-         *      java.lang.Class)
+         * Recursively copies the given list of contextual facets (only local facets will be copied).
+         *
+         * @param facetList the list of contextual facets to copy
+         * @param facetAdder the function that will add each copied facet to its new owner
          */
-        @Override
-        public <S, T> ObjectTransformer<S,T,C> getTransformer(Class<S> sourceType, Class<T> targetType) {
-            ObjectTransformer<S,T,C> delegateTransformer = delegateFactory.getTransformer( sourceType, targetType );
-            ObjectTransformer<S,T,C> transformer;
+        private void copyLocalFacets(List<TLContextualFacet> facetList, Consumer<TLContextualFacet> facetAdder) {
+            for (TLContextualFacet sourceFacet : facetList) {
+                if (sourceFacet.isLocalFacet()) {
+                    TLContextualFacet facetCopy = copyContextualFacet( sourceFacet );
 
-            if (TLModelElement.class.isAssignableFrom( sourceType )) {
-                transformer = new TypeMappingTransformer<>( delegateTransformer, typeAssignments, fieldReferences );
+                    copyLocalFacets( sourceFacet.getChildFacets(), facetCopy::addChildFacet );
+                    facetAdder.accept( facetCopy );
+                }
+            }
+        }
 
-            } else {
-                transformer = new TypeAssignmentTransformer<>( delegateTransformer, typeAssignments, fieldReferences );
+        private TLBusinessObject copyBusinessObject(TLBusinessObject source) {
+            TLBusinessObject target = new TLBusinessObject();
+
+            target.setName( source.getName() );
+            target.setNotExtendable( source.isNotExtendable() );
+            target.setDocumentation( copyNonEmptyDocumentation( source.getDocumentation() ) );
+            target.setExtension( copyExtension( source.getExtension() ) );
+            copyEquivalents( source.getEquivalents(), target::addEquivalent );
+            copyAliases( source.getAliases(), target::addAlias );
+
+            if (source.getIdFacet() != null) {
+                target.setIdFacet( copyFacet( source.getIdFacet() ) );
+            }
+            if (source.getSummaryFacet() != null) {
+                target.setSummaryFacet( copyFacet( source.getSummaryFacet() ) );
             }
-            transformer.setContext( getContext() );
-            return transformer;
+            if (source.getDetailFacet() != null) {
+                target.setDetailFacet( copyFacet( source.getDetailFacet() ) );
+            }
+            return target;
         }
 
-    }
+        private TLChoiceObject copyChoiceObject(TLChoiceObject source) {
+            TLChoiceObject target = new TLChoiceObject();
 
-    /**
-     * Wrapper class for a transformer that captures the type assignments for the source element being transformed.
-     */
-    private class TypeMappingTransformer<S, T, C extends ObjectTransformerContext> implements ObjectTransformer<S,T,C> {
+            target.setName( source.getName() );
+            target.setNotExtendable( source.isNotExtendable() );
+            target.setDocumentation( copyNonEmptyDocumentation( source.getDocumentation() ) );
+            target.setExtension( copyExtension( source.getExtension() ) );
+            copyEquivalents( source.getEquivalents(), target::addEquivalent );
+            copyAliases( source.getAliases(), target::addAlias );
+
+            if (source.getSharedFacet() != null) {
+                target.setSharedFacet( copyFacet( source.getSharedFacet() ) );
+            }
+            return target;
+        }
 
-        private Map<Object,NamedEntity> typeAssignments;
-        private Map<Object,TLMemberField<?>> fieldReferences;
-        private ObjectTransformer<S,T,C> delegate;
+        private TLCoreObject copyCoreObject(TLCoreObject source) {
+            TLCoreObject target = new TLCoreObject();
 
-        /**
-         * Constructor that assigns the delegate transformer and the mapping of type assignments.
-         * 
-         * @param delegate the delegate transformer that will perform the actual object transformation
-         * @param typeAssignments the mappings of type assignments for the entities being transformed
-         * @param typeNameAssignments the mappings of type names for the entities being transformed
-         * @param fieldReferences the mappings of field references for the entities being transformed
-         */
-        public TypeMappingTransformer(ObjectTransformer<S,T,C> delegate, Map<Object,NamedEntity> typeAssignments,
-            Map<Object,TLMemberField<?>> fieldReferences) {
-            this.typeAssignments = typeAssignments;
-            this.fieldReferences = fieldReferences;
-            this.delegate = delegate;
-        }
-
-        private ClassSpecificAssignment<Object> getTypeAssignment = new ClassSpecificAssignment<Object>()
-            .addAssignment( TLSimple.class, (s, v) -> typeAssignments.put( v, s.getParentType() ) )
-            .addAssignment( TLSimpleFacet.class, (s, v) -> typeAssignments.put( v, s.getSimpleType() ) )
-            .addAssignment( TLValueWithAttributes.class, (s, v) -> typeAssignments.put( v, s.getParentType() ) )
-            .addAssignment( TLAttribute.class, (s, v) -> typeAssignments.put( v, s.getType() ) )
-            .addAssignment( TLProperty.class, (s, v) -> typeAssignments.put( v, s.getType() ) )
-            .addAssignment( TLExtension.class, (s, v) -> typeAssignments.put( v, s.getExtendsEntity() ) )
-            .addAssignment( TLResource.class, (s, v) -> typeAssignments.put( v, s.getBusinessObjectRef() ) )
-            .addAssignment( TLParamGroup.class, (s, v) -> typeAssignments.put( v, s.getFacetRef() ) )
-            .addAssignment( TLParameter.class, (s, v) -> fieldReferences.put( v, s.getFieldRef() ) )
-            .addAssignment( TLActionFacet.class, (s, v) -> typeAssignments.put( v, s.getBasePayload() ) )
-            .addAssignment( TLActionRequest.class, (s, v) -> typeAssignments.put( v, s.getPayloadType() ) )
-            .addAssignment( TLActionResponse.class, (s, v) -> typeAssignments.put( v, s.getPayloadType() ) );
+            target.setName( source.getName() );
+            target.setNotExtendable( source.isNotExtendable() );
+            target.setDocumentation( copyNonEmptyDocumentation( source.getDocumentation() ) );
+            target.setExtension( copyExtension( source.getExtension() ) );
+            copyEquivalents( source.getEquivalents(), target::addEquivalent );
 
-        /**
-         * @see org.opentravel.schemacompiler.transform.ObjectTransformer#transform(java.lang.Object)
-         */
-        @Override
-        public T transform(S source) {
-            T intermediateObject = delegate.transform( source );
+            for (TLRole role : source.getRoleEnumeration().getRoles()) {
+                target.getRoleEnumeration().addRole( copyRole( role ) );
+            }
+            copyAliases( source.getAliases(), target::addAlias );
 
-            if (getTypeAssignment.canApply( source )) {
-                getTypeAssignment.apply( source, intermediateObject );
+            if (source.getSimpleFacet() != null) {
+                target.setSimpleFacet( copySimpleFacet( source.getSimpleFacet() ) );
+            }
+            if (source.getSummaryFacet() != null) {
+                target.setSummaryFacet( copyFacet( source.getSummaryFacet() ) );
+            }
+            if (source.getDetailFacet() != null) {
+                target.setDetailFacet( copyFacet( source.getDetailFacet() ) );
             }
-            return intermediateObject;
+            return target;
         }
 
-        /**
-         * @see org.opentravel.schemacompiler.transform.ObjectTransformer#setContext(org.opentravel.schemacompiler.transform.ObjectTransformerContext)
-         */
-        @Override
-        public void setContext(C context) {
-            delegate.setContext( context );
+        private TLRole copyRole(TLRole source) {
+            TLRole target = new TLRole();
+
+            target.setName( source.getName() );
+            target.setDocumentation( copyNonEmptyDocumentation( source.getDocumentation() ) );
+            return target;
         }
 
-    }
+        private TLFacet copyFacet(TLFacet source) {
+            TLFacet target = new TLFacet();
 
-    /**
-     * Wrapper class for a transformer that re-assigns the type assignments for the target element being transformed
-     * (originally captured from the element being cloned).
-     */
-    private class TypeAssignmentTransformer<S, T, C extends ObjectTransformerContext>
-        implements ObjectTransformer<S,T,C> {
+            target.setNotExtendable( false );
+            target.setDocumentation( copyNonEmptyDocumentation( source.getDocumentation() ) );
+            source.getAttributes().forEach( a -> target.addAttribute( copyAttribute( a ) ) );
+            source.getElements().forEach( e -> target.addElement( copyProperty( e ) ) );
+            source.getIndicators().forEach( i -> target.addIndicator( copyIndicator( i ) ) );
+            return target;
+        }
 
-        private Map<Object,NamedEntity> typeAssignments;
-        private Map<Object,TLMemberField<?>> fieldReferences;
-        private ObjectTransformer<S,T,C> delegate;
+        private TLContextualFacet copyContextualFacet(TLContextualFacet source) {
+            TLContextualFacet target = new TLContextualFacet();
+
+            target.setName( source.getName() );
+            target.setFacetType( source.getFacetType() );
+            target.setOwningEntityName( buildEntityName( source.getOwningEntity(), source.getOwningEntityName() ) );
+            target.setNotExtendable( source.isNotExtendable() );
+            target.setFacetNamespace( source.getFacetNamespace() );
+            target.setDocumentation( copyNonEmptyDocumentation( source.getDocumentation() ) );
+            source.getAttributes().forEach( a -> target.addAttribute( copyAttribute( a ) ) );
+            source.getElements().forEach( e -> target.addElement( copyProperty( e ) ) );
+            source.getIndicators().forEach( i -> target.addIndicator( copyIndicator( i ) ) );
+            return target;
+        }
 
-        /**
-         * Constructor that assigns the delegate transformer and the mapping of type assignments.
-         * 
-         * @param delegate the delegate transformer that will perform the actual object transformation
-         * @param typeAssignments the mappings of type assignments for the entities being transformed
-         * @param fieldReferences the mappings of field references for the entities being transformed
-         */
-        public TypeAssignmentTransformer(ObjectTransformer<S,T,C> delegate, Map<Object,NamedEntity> typeAssignments,
-            Map<Object,TLMemberField<?>> fieldReferences) {
-            this.typeAssignments = typeAssignments;
-            this.fieldReferences = fieldReferences;
-            this.delegate = delegate;
-        }
-
-        private ClassSpecificAssignment<Object> setTypeAssignment = new ClassSpecificAssignment<Object>()
-            .addAssignment( TLSimple.class, (s, v) -> s.setParentType( (TLAttributeType) typeAssignments.get( v ) ) )
-            .addAssignment( TLSimpleFacet.class,
-                (s, v) -> s.setSimpleType( (TLAttributeType) typeAssignments.get( v ) ) )
-            .addAssignment( TLValueWithAttributes.class,
-                (s, v) -> s.setParentType( (TLAttributeType) typeAssignments.get( v ) ) )
-            .addAssignment( TLAttribute.class, (s, v) -> s.setType( (TLPropertyType) typeAssignments.get( v ) ) )
-            .addAssignment( TLProperty.class, (s, v) -> s.setType( (TLPropertyType) typeAssignments.get( v ) ) )
-            .addAssignment( TLExtension.class, (s, v) -> s.setExtendsEntity( typeAssignments.get( v ) ) )
-            .addAssignment( TLResource.class,
-                (s, v) -> s.setBusinessObjectRef( (TLBusinessObject) typeAssignments.get( v ) ) )
-            .addAssignment( TLParamGroup.class, (s, v) -> s.setFacetRef( (TLFacet) typeAssignments.get( v ) ) )
-            .addAssignment( TLParameter.class, (s, v) -> s.setFieldRef( fieldReferences.get( v ) ) )
-            .addAssignment( TLActionFacet.class, (s, v) -> s.setBasePayload( typeAssignments.get( v ) ) )
-            .addAssignment( TLActionRequest.class,
-                (s, v) -> s.setPayloadType( (TLActionFacet) typeAssignments.get( v ) ) )
-            .addAssignment( TLActionResponse.class,
-                (s, v) -> s.setPayloadType( (TLActionFacet) typeAssignments.get( v ) ) );
+        private TLSimpleFacet copySimpleFacet(TLSimpleFacet source) {
+            TLSimpleFacet target = new TLSimpleFacet();
 
-        /**
-         * @see org.opentravel.schemacompiler.transform.ObjectTransformer#transform(java.lang.Object)
-         */
-        @Override
-        public T transform(S source) {
-            T targetObject = delegate.transform( source );
+            target.setSimpleTypeName( buildEntityName( source.getSimpleType(), source.getSimpleTypeName() ) );
+            target.setDocumentation( copyNonEmptyDocumentation( source.getDocumentation() ) );
+            copyEquivalents( source.getEquivalents(), target::addEquivalent );
+            copyExamples( source.getExamples(), target::addExample );
+            target.setSimpleType( source.getSimpleType() );
+            return target;
+        }
+
+        private TLExtensionPointFacet copyExtensionPointFacet(TLExtensionPointFacet source) {
+            TLExtensionPointFacet target = new TLExtensionPointFacet();
+
+            target.setExtension( copyExtension( source.getExtension() ) );
+            target.setDocumentation( copyNonEmptyDocumentation( source.getDocumentation() ) );
+            source.getAttributes().forEach( a -> target.addAttribute( copyAttribute( a ) ) );
+            source.getElements().forEach( e -> target.addElement( copyProperty( e ) ) );
+            source.getIndicators().forEach( i -> target.addIndicator( copyIndicator( i ) ) );
+            return target;
+        }
+
+        private TLAttribute copyAttribute(TLAttribute source) {
+            TLAttribute target = new TLAttribute();
+
+            target.setName( source.getName() );
+            target.setMandatory( source.isMandatory() );
+            target.setReference( source.isReference() );
+            target.setReferenceRepeat( source.getReferenceRepeat() );
+            target.setTypeName( buildEntityName( source.getType(), source.getTypeName() ) );
+            target.setDocumentation( copyNonEmptyDocumentation( source.getDocumentation() ) );
+            copyEquivalents( source.getEquivalents(), target::addEquivalent );
+            copyExamples( source.getExamples(), target::addExample );
+            target.setType( source.getType() );
+            return target;
+        }
+
+        private TLProperty copyProperty(TLProperty source) {
+            TLProperty target = new TLProperty();
+
+            target.setName( source.getName() );
+            target.setRepeat( source.getRepeat() );
+            target.setMandatory( source.isMandatory() );
+            target.setReference( source.isReference() );
+            target.setTypeName( buildEntityName( source.getType(), source.getTypeName() ) );
+            target.setDocumentation( copyNonEmptyDocumentation( source.getDocumentation() ) );
+            copyEquivalents( source.getEquivalents(), target::addEquivalent );
+            copyExamples( source.getExamples(), target::addExample );
+            target.setType( source.getType() );
+            return target;
+        }
+
+        private TLIndicator copyIndicator(TLIndicator source) {
+            TLIndicator target = new TLIndicator();
+
+            target.setName( source.getName() );
+            target.setPublishAsElement( source.isPublishAsElement() );
+            target.setDocumentation( copyNonEmptyDocumentation( source.getDocumentation() ) );
+            copyEquivalents( source.getEquivalents(), target::addEquivalent );
+            return target;
+        }
+
+        private TLSimple copySimple(TLSimple source) {
+            TLSimple target = new TLSimple();
+
+            // Facet values that do not apply to the type are normalized to -1 in the same way
+            // as they would be when loaded from a library file
+            target.setName( source.getName() );
+            target.setPattern( source.getPattern() );
+            target.setMinLength( (source.getMinLength() > 0) ? source.getMinLength() : -1 );
+            target.setMaxLength( (source.getMaxLength() > 0) ? source.getMaxLength() : -1 );
+            target.setFractionDigits( (source.getFractionDigits() >= 0) ? source.getFractionDigits() : -1 );
+            target.setTotalDigits( (source.getTotalDigits() > 0) ? source.getTotalDigits() : -1 );
+            target.setMinInclusive( source.getMinInclusive() );
+            target.setMaxInclusive( source.getMaxInclusive() );
+            target.setMinExclusive( source.getMinExclusive() );
+            target.setMaxExclusive( source.getMaxExclusive() );
+            target.setParentTypeName( buildEntityName( source.getParentType(), source.getParentTypeName() ) );
+            target.setListTypeInd( source.isListTypeInd() );
+            target.setDocumentation( copyNonEmptyDocumentation( source.getDocumentation() ) );
+            copyEquivalents( source.getEquivalents(), target::addEquivalent );
+            copyExamples( source.getExamples(), target::addExample );
+            target.setParentType( source.getParentType() );
+            return target;
+        }
+
+        private TLValueWithAttributes copyValueWithAttributes(TLValueWithAttributes source) {
+            TLValueWithAttributes target = new TLValueWithAttributes();
+
+            target.setName( source.getName() );
+            target.setParentTypeName( buildEntityName( source.getParentType(), source.getParentTypeName() ) );
+            target.setDocumentation( copyNonEmptyDocumentation( source.getDocumentation() ) );
+            target.setValueDocumentation( copyNonEmptyDocumentation( source.getValueDocumentation() ) );
+            copyEquivalents( source.getEquivalents(), target::addEquivalent );
+            copyExamples( source.getExamples(), target::addExample );
+            source.getAttributes().forEach( a -> target.addAttribute( copyAttribute( a ) ) );
+            source.getIndicators().forEach( i -> target.addIndicator( copyIndicator( i ) ) );
+            target.setParentType( source.getParentType() );
+            return target;
+        }
+
+        private TLClosedEnumeration copyClosedEnumeration(TLClosedEnumeration source) {
+            TLClosedEnumeration target = new TLClosedEnumeration();
+
+            target.setName( source.getName() );
+            target.setExtension( copyExtension( source.getExtension() ) );
+            target.setDocumentation( copyNonEmptyDocumentation( source.getDocumentation() ) );
+            source.getValues().forEach( v -> target.addValue( copyEnumValue( v ) ) );
+            return target;
+        }
+
+        private TLOpenEnumeration copyOpenEnumeration(TLOpenEnumeration source) {
+            TLOpenEnumeration target = new TLOpenEnumeration();
+
+            target.setName( source.getName() );
+            target.setExtension( copyExtension( source.getExtension() ) );
+            target.setDocumentation( copyNonEmptyDocumentation( source.getDocumentation() ) );
+            source.getValues().forEach( v -> target.addValue( copyEnumValue( v ) ) );
+            return target;
+        }
+
+        private TLEnumValue copyEnumValue(TLEnumValue source) {
+            TLEnumValue target = new TLEnumValue();
+
+            target.setDocumentation( copyNonEmptyDocumentation( source.getDocumentation() ) );
+            copyEquivalents( source.getEquivalents(), target::addEquivalent );
+            target.setLiteral( source.getLiteral() );
+            target.setLabel( source.getLabel() );
+            return target;
+        }
+
+        private TLService copyService(TLService source) {
+            TLService target = new TLService();
+
+            target.setName( source.getName() );
+            target.setDocumentation( copyNonEmptyDocumentation( source.getDocumentation() ) );
+            copyEquivalents( source.getEquivalents(), target::addEquivalent );
+            source.getOperations().forEach( o -> target.addOperation( copyOperation( o ) ) );
+            return target;
+        }
+
+        private TLOperation copyOperation(TLOperation source) {
+            TLOperation target = new TLOperation();
+
+            target.setName( source.getName() );
+            target.setNotExtendable( source.isNotExtendable() );
+            target.setDocumentation( copyNonEmptyDocumentation( source.getDocumentation() ) );
+            target.setExtension( copyExtension( source.getExtension() ) );
+            copyEquivalents( source.getEquivalents(), target::addEquivalent );
+
+            if (source.getRequest() != null) {
+                target.setRequest( copyFacet( source.getRequest() ) );
+            }
+            if (source.getResponse() != null) {
+                target.setResponse( copyFacet( source.getResponse() ) );
+            }
+            if (source.getNotification() != null) {
+                target.setNotification( copyFacet( source.getNotification() ) );
+            }
+            return target;
+        }
+
+        private TLResource copyResource(TLResource source) {
+            TLResource target = new TLResource();
+
+            target.setName( source.getName() );
+            target.setBasePath( source.getBasePath() );
+            target.setAbstract( source.isAbstract() );
+            target.setFirstClass( source.isFirstClass() );
+            target.setBusinessObjectRefName(
+                buildEntityName( source.getBusinessObjectRef(), source.getBusinessObjectRefName() ) );
+            target.setDocumentation( copyNonEmptyDocumentation( source.getDocumentation() ) );
+            target.setExtension( copyExtension( source.getExtension() ) );
+            source.getParentRefs().forEach( r -> target.addParentRef( copyResourceParentRef( r ) ) );
+            source.getParamGroups().forEach( g -> target.addParamGroup( copyParamGroup( g ) ) );
+            source.getActionFacets().forEach( f -> target.addActionFacet( copyActionFacet( f ) ) );
+            source.getActions().forEach( a -> target.addAction( copyAction( a ) ) );
+            target.setBusinessObjectRef( source.getBusinessObjectRef() );
+            return target;
+        }
+
+        private TLResourceParentRef copyResourceParentRef(TLResourceParentRef source) {
+            TLResourceParentRef target = new TLResourceParentRef();
+            TLParamGroup parentParamGroup = source.getParentParamGroup();
+
+            target.setParentResourceName(
+                buildEntityName( source.getParentResource(), source.getParentResourceName() ) );
+            target.setParentParamGroupName(
+                (parentParamGroup != null) ? parentParamGroup.getName() : source.getParentParamGroupName() );
+            target.setPathTemplate( source.getPathTemplate() );
+            target.setDocumentation( copyNonEmptyDocumentation( source.getDocumentation() ) );
+            target.setParentResource( source.getParentResource() );
+
+            if (parentParamGroup != null) {
+                target.setParentParamGroup( parentParamGroup );
+            }
+            return target;
+        }
+
+        private TLParamGroup copyParamGroup(TLParamGroup source) {
+            TLParamGroup target = new TLParamGroup();
+
+            target.setName( source.getName() );
+            target.setFacetRefName( buildEntityName( source.getFacetRef(), source.getFacetRefName() ) );
+            target.setIdGroup( source.isIdGroup() );
+            target.setDocumentation( copyNonEmptyDocumentation( source.getDocumentation() ) );
+            source.getParameters().forEach( p -> target.addParameter( copyParameter( p ) ) );
+            target.setFacetRef( source.getFacetRef() );
+            return target;
+        }
+
+        private TLParameter copyParameter(TLParameter source) {
+            TLParameter target = new TLParameter();
+            TLMemberField<?> fieldRef = source.getFieldRef();
+
+            target.setFieldRefName( (fieldRef != null) ? fieldRef.getName() : source.getFieldRefName() );
+            target.setLocation( source.getLocation() );
+            target.setDocumentation( copyNonEmptyDocumentation( source.getDocumentation() ) );
+            copyEquivalents( source.getEquivalents(), target::addEquivalent );
+            copyExamples( source.getExamples(), target::addExample );
+            target.setFieldRef( fieldRef );
+            return target;
+        }
+
+        private TLActionFacet copyActionFacet(TLActionFacet source) {
+            TLActionFacet target = new TLActionFacet();
+
+            target.setName( source.getName() );
+            target.setReferenceType( source.getReferenceType() );
+            target.setReferenceFacetName( source.getReferenceFacetName() );
+            target.setReferenceRepeat( source.getReferenceRepeat() );
+            target.setBasePayloadName( buildEntityName( source.getBasePayload(), source.getBasePayloadName() ) );
+            target.setDocumentation( copyNonEmptyDocumentation( source.getDocumentation() ) );
+            target.setBasePayload( source.getBasePayload() );
+            return target;
+        }
+
+        private TLAction copyAction(TLAction source) {
+            TLAction target = new TLAction();
+
+            target.setActionId( source.getActionId() );
+            target.setCommonAction( source.isCommonAction() );
+
+            if (source.getRequest() != null) {
+                target.setRequest( copyActionRequest( source.getRequest() ) );
+            }
+            target.setDocumentation( copyNonEmptyDocumentation( source.getDocumentation() ) );
+            source.getResponses().forEach( r -> target.addResponse( copyActionResponse( r ) ) );
+            return target;
+        }
+
+        private TLActionRequest copyActionRequest(TLActionRequest source) {
+            TLActionRequest target = new TLActionRequest();
+            TLParamGroup paramGroup = source.getParamGroup();
+
+            target.setHttpMethod( source.getHttpMethod() );
+            target.setParamGroupName( (paramGroup != null) ? paramGroup.getName() : source.getParamGroupName() );
+            target.setPathTemplate( source.getPathTemplate() );
+            target.setPayloadTypeName( buildEntityName( source.getPayloadType(), source.getPayloadTypeName() ) );
+            target.setMimeTypes( new ArrayList<>( source.getMimeTypes() ) );
+            target.setDocumentation( copyNonEmptyDocumentation( source.getDocumentation() ) );
+            target.setPayloadType( source.getPayloadType() );
+            return target;
+        }
+
+        private TLActionResponse copyActionResponse(TLActionResponse source) {
+            TLActionResponse target = new TLActionResponse();
 
-            if (setTypeAssignment.canApply( targetObject )) {
-                setTypeAssignment.apply( targetObject, source );
+            target.setStatusCodes( new ArrayList<>( source.getStatusCodes() ) );
+            target.setPayloadTypeName( buildEntityName( source.getPayloadType(), source.getPayloadTypeName() ) );
+            target.setMimeTypes( new ArrayList<>( source.getMimeTypes() ) );
+            target.setDocumentation( copyNonEmptyDocumentation( source.getDocumentation() ) );
+            target.setPayloadType( source.getPayloadType() );
+            return target;
+        }
+
+        private TLExtension copyExtension(TLExtension source) {
+            TLExtension target = null;
+
+            if (source != null) {
+                target = new TLExtension();
+                target.setExtendsEntityName( buildEntityName( source.getExtendsEntity(),
+                    source.getExtendsEntityName() ) );
+                target.setDocumentation( copyNonEmptyDocumentation( source.getDocumentation() ) );
+                target.setExtendsEntity( source.getExtendsEntity() );
+            }
+            return target;
+        }
+
+        private TLContext copyContext(TLContext source) {
+            TLContext target = new TLContext();
+
+            target.setContextId( source.getContextId() );
+            target.setApplicationContext( source.getApplicationContext() );
+            target.setDocumentation( copyNonEmptyDocumentation( source.getDocumentation() ) );
+            return target;
+        }
+
+        private TLDocumentation copyNonEmptyDocumentation(TLDocumentation source) {
+            return ((source == null) || source.isEmpty()) ? null : copyDocumentation( source );
+        }
+
+        private TLDocumentation copyDocumentation(TLDocumentation source) {
+            TLDocumentation target = new TLDocumentation();
+            String description = source.getDescription();
+
+            // Blank descriptions and documentation items are omitted in the same way as they
+            // would be when saved to a library file
+            if ((description != null) && (description.trim().length() > 0)) {
+                target.setDescription( description );
+            }
+            copyDocumentationItems( source.getDeprecations(), target::addDeprecation );
+            copyDocumentationItems( source.getImplementers(), target::addImplementer );
+            copyDocumentationItems( source.getReferences(), target::addReference );
+            copyDocumentationItems( source.getMoreInfos(), target::addMoreInfo );
+
+            for (TLAdditionalDocumentationItem sourceOtherDoc : source.getOtherDocs()) {
+                if (sourceOtherDoc != null) {
+                    TLAdditionalDocumentationItem otherDoc = new TLAdditionalDocumentationItem();
+
+                    otherDoc.setContext( sourceOtherDoc.getContext() );
+                    otherDoc.setText( sourceOtherDoc.getText() );
+                    target.addOtherDoc( otherDoc );
+                }
+            }
+            return target;
+        }
+
+        private void copyDocumentationItems(List<TLDocumentationItem> sourceItems,
+            Consumer<TLDocumentationItem> itemAdder) {
+            for (TLDocumentationItem sourceItem : sourceItems) {
+                String text = (sourceItem == null) ? null : sourceItem.getText();
+
+                if ((text != null) && (text.trim().length() > 0)) {
+                    TLDocumentationItem item = new TLDocumentationItem();
+
+                    item.setText( text );
+                    itemAdder.accept( item );
+                }
+            }
+        }
+
+        private TLEquivalent copyEquivalent(TLEquivalent source) {
+            TLEquivalent target = new TLEquivalent();
+
+            target.setContext( source.getContext() );
+            target.setDescription( source.getDescription() );
+            return target;
+        }
+
+        private void copyEquivalents(List<TLEquivalent> sourceEquivalents, Consumer<TLEquivalent> equivalentAdder) {
+            sourceEquivalents.forEach( e -> equivalentAdder.accept( copyEquivalent( e ) ) );
+        }
+
+        private TLExample copyExample(TLExample source) {
+            TLExample target = new TLExample();
+
+            target.setContext( source.getContext() );
+            target.setValue( source.getValue() );
+            return target;
+        }
+
+        private void copyExamples(List<TLExample> sourceExamples, Consumer<TLExample> exampleAdder) {
+            sourceExamples.forEach( e -> exampleAdder.accept( copyExample( e ) ) );
+        }
+
+        private void copyAliases(List<TLAlias> sourceAliases, Consumer<TLAlias> aliasAdder) {
+            for (TLAlias sourceAlias : sourceAliases) {
+                String aliasName = sourceAlias.getName();
+
+                if ((aliasName != null) && (aliasName.trim().length() > 0)) {
+                    TLAlias alias = new TLAlias();
+
+                    alias.setName( aliasName );
+                    aliasAdder.accept( alias );
+                }
             }
-            return targetObject;
         }
 
         /**
-         * @see org.opentravel.schemacompiler.transform.ObjectTransformer#setContext(org.opentravel.schemacompiler.transform.ObjectTransformerContext)
+         * Returns the name of the given entity reference as it would be expressed from within the naming context
+         * library. If the entity is null, the default name is returned.
+         *
+         * @param entity the referenced entity (may be null)
+         * @param defaultName the name to return if the entity reference is null
+         * @return String
          */
-        @Override
-        public void setContext(C context) {
-            delegate.setContext( context );
-        }
+        private String buildEntityName(NamedEntity entity, String defaultName) {
+            String entityName = defaultName;
 
-    }
+            if ((entity != null) && (entity.getLocalName() != null)) {
+                String prefix = (prefixResolver == null) ? null
+                    : prefixResolver.getPrefixForNamespace( entity.getNamespace() );
 
-    /**
-     * Initializes the mappings of intermediate object types used by the cloning routine.
-     */
-    static {
-        try {
-            Map<Class<?>,Class<?>> iotMap = new HashMap<>();
-
-            iotMap.put( TLActionFacet.class, FacetAction.class );
-            iotMap.put( TLAction.class, Action.class );
-            iotMap.put( TLActionRequest.class, ActionRequest.class );
-            iotMap.put( TLActionResponse.class, ActionResponse.class );
-            iotMap.put( TLAttribute.class, Attribute.class );
-            iotMap.put( TLBusinessObject.class, BusinessObject.class );
-            iotMap.put( TLClosedEnumeration.class, EnumerationClosed.class );
-            iotMap.put( TLContext.class, ContextDeclaration.class );
-            iotMap.put( TLCoreObject.class, CoreObject.class );
-            iotMap.put( TLChoiceObject.class, ChoiceObject.class );
-            iotMap.put( TLDocumentation.class, Documentation.class );
-            iotMap.put( TLEnumValue.class, EnumValue.class );
-            iotMap.put( TLEquivalent.class, Equivalent.class );
-            iotMap.put( TLExample.class, Example.class );
-            iotMap.put( TLExtension.class, Extension.class );
-            iotMap.put( TLExtensionPointFacet.class, ExtensionPointFacet.class );
-            iotMap.put( TLFacet.class, Facet.class );
-            iotMap.put( TLContextualFacet.class, FacetContextual.class );
-            iotMap.put( TLIndicator.class, Indicator.class );
-            iotMap.put( TLOpenEnumeration.class, EnumerationOpen.class );
-            iotMap.put( TLOperation.class, Operation.class );
-            iotMap.put( TLParamGroup.class, ParamGroup.class );
-            iotMap.put( TLParameter.class, Parameter.class );
-            iotMap.put( TLProperty.class, Property.class );
-            iotMap.put( TLResource.class, Resource.class );
-            iotMap.put( TLResourceParentRef.class, ResourceParentRef.class );
-            iotMap.put( TLRole.class, Role.class );
-            iotMap.put( TLService.class, Service.class );
-            iotMap.put( TLSimpleFacet.class, SimpleFacet.class );
-            iotMap.put( TLSimple.class, Simple.class );
-            iotMap.put( TLValueWithAttributes.class, ValueWithAttributes.class );
-            intermediateObjectTypes = Collections.unmodifiableMap( iotMap );
-
-        } catch (Exception e) {
-            throw new ExceptionInInitializerError( e );
+                if ((prefix == null) || (prefix.length() == 0)) {
+                    entityName = entity.getLocalName();
+                } else {
+                    entityName = prefix + ':' + entity.getLocalName();
+                }
+            }
+            return entityName;
         }
+
     }
 
 }
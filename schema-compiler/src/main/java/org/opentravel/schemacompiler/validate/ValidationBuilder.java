@@ -1059,7 +1059,10 @@ public abstract class ValidationBuilder<T extends ValidationBuilder<T>> {
             DateFormat df = dateFormats.get( calendarUnitsForDateComparisons );
 
             if (df != null) {
-                result = df.parse( df.format( aDate ) );
+                // Date formats are shared by all builders and are not thread-safe
+                synchronized (df) {
+                    result = df.parse( df.format( aDate ) );
+                }
             }
         } catch (Exception e) {
             // No error - return the original value
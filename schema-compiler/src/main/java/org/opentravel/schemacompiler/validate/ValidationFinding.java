@@ -34,6 +34,7 @@ public class ValidationFinding implements Comparable<ValidationFinding> {
     private String messageKey;
     private Object[] messageParams;
     private long findingTimestamp;
+    private String sourceIdentity;
 
     /**
      * Constructs a new finding message using the current timestamp (using <code>System.nanoTime()</code>).
@@ -178,7 +179,7 @@ public class ValidationFinding implements Comparable<ValidationFinding> {
         final int prime = 31;
         int result = 1;
         result = prime * result + (int) (findingTimestamp ^ (findingTimestamp >>> 32));
-        result = prime * result + ((source == null) ? 0 : source.getValidationIdentity().hashCode());
+        result = prime * result + ((source == null) ? 0 : getSourceIdentity().hashCode());
         return result;
     }
 
@@ -188,10 +189,26 @@ public class ValidationFinding implements Comparable<ValidationFinding> {
     @Override
     public int compareTo(ValidationFinding other) {
         if (this.findingTimestamp == other.findingTimestamp) {
-            return this.source.getValidationIdentity().compareTo( other.source.getValidationIdentity() );
+            return this.getSourceIdentity().compareTo( other.getSourceIdentity() );
         } else {
             return (this.findingTimestamp < other.findingTimestamp) ? -1 : 1;
         }
     }
 
+    /**
+     * Returns the validation identity of the source object. The identity is computed on first use and re-used for all
+     * subsequent comparisons, since building it can be expensive for deeply nested model elements.
+     * 
+     * @return String
+     */
+    private String getSourceIdentity() {
+        String identity = sourceIdentity;
+
+        if (identity == null) {
+            identity = source.getValidationIdentity();
+            sourceIdentity = identity;
+        }
+        return identity;
+    }
+
 }
@@ -17,17 +17,21 @@
 package org.opentravel.schemacompiler.validate;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeSet;
 
 /**
  * Encapsulates the findings (errors and warnings) discovered during validation. NOTE: This implementation is not
  * currently thread-safe.
  * 
  * <p>
+ * Findings are appended to the collection in the order they are added, and sorted by their natural order (see
+ * {@link ValidationFinding#compareTo(ValidationFinding)}) only when they are read. Since findings are usually created
+ * in timestamp order, this avoids the cost of maintaining a sorted collection while findings are merged at each level
+ * of the validator hierarchy.
+ * 
+ * <p>
  * NOTE: By default, the error/warning messages displayed by the compiler are obtained from the
  * 'compiler-messages.properties' resource bundle. If an alternative set of messages is needed (including support for
  * non-english messages), the defaults can be overridden by updating the compiler's application context file.
@@ -36,8 +40,9 @@ import java.util.TreeSet;
  */
 public class ValidationFindings {
 
-    private Collection<ValidationFinding> allFindings = new TreeSet<>();
+    private List<ValidationFinding> allFindings = new ArrayList<>();
     private Map<Validatable,List<String>> messageKeysBySourceObject = new HashMap<>();
+    private boolean sorted = true;
 
     /**
      * Returns true if no findings have been added to this collection.
@@ -189,7 +194,7 @@ public class ValidationFindings {
             ValidationFinding message = new ValidationFinding( source, type, messageKey, messageParams );
 
             messageKeys.add( messageKey );
-            allFindings.add( message );
+            appendFinding( message );
         }
     }
 
@@ -209,12 +214,53 @@ public class ValidationFindings {
                         messageKeysBySourceObject.put( otherMessage.getSource(), messageKeys );
                     }
                     messageKeys.add( otherMessage.getMessageKey() );
-                    allFindings.add( otherMessage );
+                    appendFinding( otherMessage );
                 }
             }
         }
     }
 
+    /**
+     * Adds a new copy of each finding from the given collection into this one. Findings are ordered by their creation
+     * time, so the copies sort after all findings that are already in this collection. This allows findings that were
+     * collected separately (e.g. per library, or on different threads) to be merged in a deterministic order.
+     * 
+     * @param findings the collection of findings to copy (may be null)
+     */
+    public void addAllAsCopies(ValidationFindings findings) {
+        if (findings != null) {
+            for (ValidationFinding finding : findings.getSortedFindings()) {
+                addFinding( finding );
+            }
+        }
+    }
+
+    /**
+     * Appends the given finding to this collection. If the finding is out of order with respect to the last finding
+     * in the collection, the collection will be sorted the next time it is read.
+     * 
+     * @param finding the validation finding to append
+     */
+    private void appendFinding(ValidationFinding finding) {
+        if (sorted && !allFindings.isEmpty() && (finding.compareTo( allFindings.get( allFindings.size() - 1 ) ) < 0)) {
+            sorted = false;
+        }
+        allFindings.add( finding );
+    }
+
+    /**
+     * Returns the list of all findings in this collection, sorting them first if necessary.
+     * 
+     * @return List&lt;ValidationFinding&gt;
+     */
+    private List<ValidationFinding> getSortedFindings() {
+        if (!sorted) {
+            allFindings.sort( null );
+            sorted = true;
+        }
+        return allFindings;
+    }
+
     /**
      * Returns all of the individual validation findings in a list.
      * 
@@ -223,7 +269,7 @@ public class ValidationFindings {
     public List<ValidationFinding> getAllFindingsAsList() {
         List<ValidationFinding> findings = new ArrayList<>();
 
-        findings.addAll( allFindings );
+        findings.addAll( getSortedFindings() );
         return findings;
     }
 
@@ -236,7 +282,7 @@ public class ValidationFindings {
     public List<ValidationFinding> getFindingsAsList(Validatable source) {
         List<ValidationFinding> findings = new ArrayList<>();
 
-        for (ValidationFinding finding : allFindings) {
+        for (ValidationFinding finding : getSortedFindings()) {
             if (finding.getSource() == source) {
                 findings.add( finding );
             }
@@ -253,7 +299,7 @@ public class ValidationFindings {
     public List<ValidationFinding> getFindingsAsList(FindingType type) {
         List<ValidationFinding> findings = new ArrayList<>();
 
-        for (ValidationFinding finding : allFindings) {
+        for (ValidationFinding finding : getSortedFindings()) {
             if (finding.getType() == type) {
                 findings.add( finding );
             }
@@ -272,7 +318,7 @@ public class ValidationFindings {
     public List<ValidationFinding> getFindingsAsList(Validatable source, FindingType type) {
         List<ValidationFinding> findings = new ArrayList<>();
 
-        for (ValidationFinding finding : allFindings) {
+        for (ValidationFinding finding : getSortedFindings()) {
             if ((finding.getSource() == source) && (finding.getType() == type)) {
                 findings.add( finding );
             }
@@ -298,7 +344,7 @@ public class ValidationFindings {
     public String[] getAllValidationMessages(FindingMessageFormat format) {
         List<String> messageList = new ArrayList<>();
 
-        for (ValidationFinding finding : allFindings) {
+        for (ValidationFinding finding : getSortedFindings()) {
             messageList.add( finding.getFormattedMessage( format ) );
         }
         return messageList.toArray( new String[messageList.size()] );
@@ -319,7 +365,7 @@ public class ValidationFindings {
     public String[] getValidationMessages(Validatable source, FindingMessageFormat format) {
         List<String> messageList = new ArrayList<>();
 
-        for (ValidationFinding finding : allFindings) {
+        for (ValidationFinding finding : getSortedFindings()) {
             if (finding.getSource() == source) {
                 messageList.add( finding.getFormattedMessage( format ) );
             }
@@ -342,7 +388,7 @@ public class ValidationFindings {
     public String[] getValidationMessages(FindingType type, FindingMessageFormat format) {
         List<String> messageList = new ArrayList<>();
 
-        for (ValidationFinding finding : allFindings) {
+        for (ValidationFinding finding : getSortedFindings()) {
             if (finding.getType() == type) {
                 messageList.add( finding.getFormattedMessage( format ) );
             }
@@ -367,7 +413,7 @@ public class ValidationFindings {
     public String[] getValidationMessages(Validatable source, FindingType type, FindingMessageFormat format) {
         List<String> messageList = new ArrayList<>();
 
-        for (ValidationFinding finding : allFindings) {
+        for (ValidationFinding finding : getSortedFindings()) {
             if ((finding.getSource() == source) && (finding.getType() == type)) {
                 messageList.add( finding.getFormattedMessage( format ) );
             }
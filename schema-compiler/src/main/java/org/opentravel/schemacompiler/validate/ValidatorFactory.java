@@ -22,12 +22,27 @@ import org.opentravel.schemacompiler.ioc.SchemaCompilerApplicationContext;
 import org.opentravel.schemacompiler.validate.impl.CompositeValidator;
 import org.springframework.context.ApplicationContext;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Factory used to access all validator implementation classes.
  * 
+ * <p>
+ * The validator classes that apply to each target class are resolved from the rule set only once, and the resulting
+ * plans are shared by all factories that apply the same rule set. Since validators do not maintain any state other
+ * than their context and factory, each factory instance creates a single validator for each target class and re-uses
+ * it for all objects of that class that are validated with the factory's context.
+ * 
  * @author S. Livezey
  */
 public class ValidatorFactory {
@@ -38,8 +53,11 @@ public class ValidatorFactory {
 
     private static final Logger log = LogManager.getLogger( ValidatorFactory.class );
 
-    private ValidationRuleSet ruleSet;
+    private static final Map<ApplicationContext,Map<String,ValidationPlan>> planCache = new WeakHashMap<>();
+
+    private ValidationPlan plan;
     private ValidationContext context;
+    private Map<Class<?>,Optional<Validator<?>>> validatorCache = new ConcurrentHashMap<>();
 
     /**
      * Private constructor (use static methods to create factory instances).
@@ -56,10 +74,12 @@ public class ValidatorFactory {
      */
     public static ValidatorFactory getInstance(String ruleSetId, ValidationContext context) {
         ApplicationContext appContext = SchemaCompilerApplicationContext.getContext();
-        ValidationRuleSet ruleSet = (ValidationRuleSet) appContext.getBean( ruleSetId );
         ValidatorFactory factory = new ValidatorFactory();
 
-        factory.setRuleSet( ruleSet );
+        synchronized (planCache) {
+            factory.plan = planCache.computeIfAbsent( appContext, c -> new HashMap<>() ).computeIfAbsent( ruleSetId,
+                id -> new ValidationPlan( (ValidationRuleSet) appContext.getBean( id ) ) );
+        }
         factory.setContext( context );
         return factory;
     }
@@ -70,7 +90,7 @@ public class ValidatorFactory {
      * @return ValidationRuleSet
      */
     public ValidationRuleSet getRuleSet() {
-        return ruleSet;
+        return (plan == null) ? null : plan.ruleSet;
     }
 
     /**
@@ -79,7 +99,8 @@ public class ValidatorFactory {
      * @param ruleSet the set of validation mappings to be applied by this factory instance
      */
     public void setRuleSet(ValidationRuleSet ruleSet) {
-        this.ruleSet = ruleSet;
+        this.plan = (ruleSet == null) ? null : new ValidationPlan( ruleSet );
+        this.validatorCache = new ConcurrentHashMap<>();
     }
 
     /**
@@ -89,57 +110,49 @@ public class ValidatorFactory {
      */
     public void setContext(ValidationContext context) {
         this.context = context;
+        this.validatorCache = new ConcurrentHashMap<>();
     }
 
     /**
-     * Returns a validator capable of checking instances of the specified target class.
+     * Returns a validator capable of checking instances of the specified target class. The validator instances
+     * returned by this method are re-used for all subsequent requests for the same target class.
      * 
      * @param <T> the validation target type
      * @param targetClass the type of object for which to return a validator
      * @return Validator&lt;T&gt;
      */
+    @SuppressWarnings("unchecked")
     public <T extends Validatable> Validator<T> getValidatorForClass(Class<T> targetClass) {
-        List<Class<Validator<T>>> validatorClasses =
-            (ruleSet == null) ? new ArrayList<>() : ruleSet.getValidatorClasses( targetClass );
-        Validator<T> validator = null;
-
-        if (validatorClasses != null) {
-            if (validatorClasses.size() == 1) {
-                validator = newValidator( (Class<Validator<T>>) validatorClasses.get( 0 ) );
-
-            } else if (validatorClasses.size() > 1) {
-                CompositeValidator<T> cValidator = new CompositeValidator<>();
-
-                for (Class<Validator<T>> validatorClass : validatorClasses) {
-                    cValidator.addValidator( newValidator( validatorClass ) );
-                }
-                validator = cValidator;
-            }
-        }
-        return validator;
+        return (Validator<T>) validatorCache
+            .computeIfAbsent( targetClass, c -> Optional.ofNullable( newValidator( targetClass ) ) ).orElse( null );
     }
 
     /**
-     * Creates a new instance of the specified validator class. If the class cannot be instantiated, an error will be
-     * logged and this method will return null.
+     * Creates the validator for the specified target class using the constructors from the validation plan.
      * 
-     * @param <T> the type of validator to be created
-     * @param validatorClass the class of the validator to create
+     * @param <T> the validation target type
+     * @param targetClass the type of object for which to create a validator
      * @return Validator&lt;T&gt;
      */
-    private <T extends Validatable> Validator<T> newValidator(Class<Validator<T>> validatorClass) {
+    @SuppressWarnings("unchecked")
+    private <T extends Validatable> Validator<T> newValidator(Class<T> targetClass) {
+        List<ValidatorConstructor> constructors =
+            (plan == null) ? Collections.emptyList() : plan.getValidatorConstructors( targetClass );
         Validator<T> validator = null;
 
-        try {
-            if (validatorClass != null) {
-                Validator<T> newValidator = validatorClass.getConstructor().newInstance();
+        if (constructors.size() == 1) {
+            validator = (Validator<T>) constructors.get( 0 ).newInstance( this, context );
 
-                newValidator.setValidatorFactory( this );
-                newValidator.setValidationContext( context );
-                validator = newValidator;
+        } else if (constructors.size() > 1) {
+            CompositeValidator<T> cValidator = new CompositeValidator<>();
+
+            cValidator.setValidatorFactory( this );
+            cValidator.setValidationContext( context );
+
+            for (ValidatorConstructor constructor : constructors) {
+                cValidator.addValidator( (Validator<T>) constructor.newInstance( this, context ) );
             }
-        } catch (Exception e) {
-            log.error( "Unable to instantiate validator of type: " + validatorClass.getName(), e );
+            validator = cValidator;
         }
         return validator;
     }
@@ -161,4 +174,116 @@ public class ValidatorFactory {
         return validator;
     }
 
+    /**
+     * Pre-compiled plan that identifies the validators to be applied to each target class by a rule set.
+     */
+    private static class ValidationPlan {
+
+        private final ValidationRuleSet ruleSet;
+        private final Map<Class<?>,List<ValidatorConstructor>> validatorConstructors = new ConcurrentHashMap<>();
+
+        /**
+         * Constructor that specifies the rule set from which the plan is to be compiled.
+         * 
+         * @param ruleSet the validation rule set for the plan
+         */
+        public ValidationPlan(ValidationRuleSet ruleSet) {
+            this.ruleSet = ruleSet;
+        }
+
+        /**
+         * Returns the constructors of all validators that apply to the specified target class.
+         * 
+         * @param targetClass the type of object for which to return validator constructors
+         * @return List&lt;ValidatorConstructor&gt;
+         */
+        public List<ValidatorConstructor> getValidatorConstructors(Class<? extends Validatable> targetClass) {
+            return validatorConstructors.computeIfAbsent( targetClass, c -> {
+                List<ValidatorConstructor> constructors = new ArrayList<>();
+
+                for (Class<?> validatorClass : ruleSet.getValidatorClasses( targetClass )) {
+                    ValidatorConstructor constructor = ValidatorConstructor.forClass( validatorClass );
+
+                    if (constructor != null) {
+                        constructors.add( constructor );
+                    }
+                }
+                return Collections.unmodifiableList( constructors );
+            } );
+        }
+
+    }
+
+    /**
+     * Cached handle for the default constructor of a validator class.
+     */
+    private static class ValidatorConstructor {
+
+        private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType( Object.class );
+
+        private final Class<?> validatorClass;
+        private final MethodHandle constructorHandle;
+
+        /**
+         * Constructor that specifies the validator class and the handle for its default constructor.
+         * 
+         * @param validatorClass the validator class to be instantiated
+         * @param constructorHandle the handle for the default constructor of the class
+         */
+        private ValidatorConstructor(Class<?> validatorClass, MethodHandle constructorHandle) {
+            this.validatorClass = validatorClass;
+            this.constructorHandle = constructorHandle;
+        }
+
+        /**
+         * Returns a constructor for the given validator class, or null if the class cannot be instantiated.
+         * 
+         * @param validatorClass the validator class to be instantiated
+         * @return ValidatorConstructor
+         */
+        public static ValidatorConstructor forClass(Class<?> validatorClass) {
+            ValidatorConstructor constructor = null;
+
+            try {
+                MethodHandle handle = MethodHandles.publicLookup()
+                    .findConstructor( validatorClass, MethodType.methodType( void.class ) ).asType( CONSTRUCTOR_TYPE );
+
+                constructor = new ValidatorConstructor( validatorClass, handle );
+
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                log.error( "Unable to instantiate validator of type: " + validatorClass.getName(), e );
+            }
+            return constructor;
+        }
+
+        /**
+         * Creates a new validator instance that is assigned to the given factory and context. If the validator cannot
+         * be created, an error will be logged and this method will return null.
+         * 
+         * @param factory the factory that is creating the validator
+         * @param context the validation context to assign
+         * @return Validator&lt;?&gt;
+         */
+        @SuppressWarnings("squid:S1181") // Throwable is declared by MethodHandle.invokeExact()
+        public Validator<?> newInstance(ValidatorFactory factory, ValidationContext context) {
+            Validator<?> validator = null;
+
+            try {
+                Validator<?> newValidator = (Validator<?>) (Object) constructorHandle.invokeExact();
+
+                newValidator.setValidatorFactory( factory );
+                newValidator.setValidationContext( context );
+                validator = newValidator;
+
+            } catch (Error e) {
+                throw e;
+
+            } catch (Throwable t) {
+                log.error( "Unable to instantiate validator of type: " + validatorClass.getName(), t );
+            }
+            return validator;
+        }
+
+    }
+
 }
@@ -222,13 +222,11 @@ public class TLActionRequestCompileValidator extends TLActionRequestBaseValidato
      * @param resource the resource for which to return the associated actions
      * @return List&lt;TLActionRequest&gt;
      */
-    @SuppressWarnings("unchecked")
     private List<TLActionRequest> getResourceRequests(TLResource resource) {
         String cacheKey = resource.getNamespace() + ":" + resource.getLocalName() + ":resourceRequests";
-        List<TLActionRequest> requestList = (List<TLActionRequest>) getContextCacheEntry( cacheKey );
 
-        if (requestList == null) {
-            requestList = new ArrayList<>();
+        return getContextCacheEntry( cacheKey, () -> {
+            List<TLActionRequest> requestList = new ArrayList<>();
 
             for (TLAction action : ResourceCodegenUtils.getInheritedActions( resource )) {
                 TLActionRequest request = ResourceCodegenUtils.getDeclaredOrInheritedRequest( action );
@@ -237,9 +235,8 @@ public class TLActionRequestCompileValidator extends TLActionRequestBaseValidato
                     requestList.add( request );
                 }
             }
-            setContextCacheEntry( cacheKey, requestList );
-        }
-        return requestList;
+            return requestList;
+        } );
     }
 
 }
@@ -262,13 +262,8 @@ public class TLAttributeCompileValidator extends TLAttributeBaseValidator {
     private DuplicateFieldChecker getDuplicateFieldChecker(TLAttribute target) {
         TLAttributeOwner attrOwner = target.getOwner();
         String cacheKey = attrOwner.getNamespace() + ":" + attrOwner.getLocalName() + ":dupChecker";
-        DuplicateFieldChecker checker = (DuplicateFieldChecker) getContextCacheEntry( cacheKey );
 
-        if (checker == null) {
-            checker = new DuplicateFieldChecker( attrOwner );
-            setContextCacheEntry( cacheKey, checker );
-        }
-        return checker;
+        return getContextCacheEntry( cacheKey, () -> new DuplicateFieldChecker( attrOwner ) );
     }
 
     /**
@@ -89,13 +89,8 @@ public class TLIndicatorCompileValidator extends TLIndicatorBaseValidator {
     private DuplicateFieldChecker getDuplicateFieldChecker(TLIndicator target) {
         TLIndicatorOwner indicatorOwner = target.getOwner();
         String cacheKey = indicatorOwner.getNamespace() + ":" + indicatorOwner.getLocalName() + ":dupChecker";
-        DuplicateFieldChecker checker = (DuplicateFieldChecker) getContextCacheEntry( cacheKey );
 
-        if (checker == null) {
-            checker = new DuplicateFieldChecker( indicatorOwner );
-            setContextCacheEntry( cacheKey, checker );
-        }
-        return checker;
+        return getContextCacheEntry( cacheKey, () -> new DuplicateFieldChecker( indicatorOwner ) );
     }
 
     /**
@@ -108,13 +103,8 @@ public class TLIndicatorCompileValidator extends TLIndicatorBaseValidator {
     private UPAViolationChecker getUPAViolationChecker(TLIndicator target) {
         TLIndicatorOwner indicatorOwner = target.getOwner();
         String cacheKey = indicatorOwner.getNamespace() + ":" + indicatorOwner.getLocalName() + ":upaChecker";
-        UPAViolationChecker checker = (UPAViolationChecker) getContextCacheEntry( cacheKey );
 
-        if (checker == null) {
-            checker = new UPAViolationChecker( indicatorOwner );
-            setContextCacheEntry( cacheKey, checker );
-        }
-        return checker;
+        return getContextCacheEntry( cacheKey, () -> new UPAViolationChecker( indicatorOwner ) );
     }
 
 }
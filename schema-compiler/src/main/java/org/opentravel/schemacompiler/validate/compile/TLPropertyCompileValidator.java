@@ -339,13 +339,8 @@ public class TLPropertyCompileValidator extends TLPropertyBaseValidator {
     private DuplicateFieldChecker getDuplicateFieldChecker(TLProperty target) {
         TLPropertyOwner propertyOwner = target.getOwner();
         String cacheKey = propertyOwner.getNamespace() + ":" + propertyOwner.getLocalName() + ":dupChecker";
-        DuplicateFieldChecker checker = (DuplicateFieldChecker) getContextCacheEntry( cacheKey );
 
-        if (checker == null) {
-            checker = new DuplicateFieldChecker( propertyOwner );
-            setContextCacheEntry( cacheKey, checker );
-        }
-        return checker;
+        return getContextCacheEntry( cacheKey, () -> new DuplicateFieldChecker( propertyOwner ) );
     }
 
     /**
@@ -358,13 +353,8 @@ public class TLPropertyCompileValidator extends TLPropertyBaseValidator {
     private UPAViolationChecker getUPAViolationChecker(TLProperty target) {
         TLPropertyOwner propertyOwner = target.getOwner();
         String cacheKey = propertyOwner.getNamespace() + ":" + propertyOwner.getLocalName() + ":upaChecker";
-        UPAViolationChecker checker = (UPAViolationChecker) getContextCacheEntry( cacheKey );
 
-        if (checker == null) {
-            checker = new UPAViolationChecker( propertyOwner );
-            setContextCacheEntry( cacheKey, checker );
-        }
-        return checker;
+        return getContextCacheEntry( cacheKey, () -> new UPAViolationChecker( propertyOwner ) );
     }
 
     /**
@@ -0,0 +1,420 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.validate.impl;
+
+import org.opentravel.schemacompiler.event.ModelChangeTracker;
+import org.opentravel.schemacompiler.event.ModelEvent;
+import org.opentravel.schemacompiler.event.OwnershipEvent;
+import org.opentravel.schemacompiler.event.ValueChangeEvent;
+import org.opentravel.schemacompiler.ic.ImportManagementIntegrityChecker;
+import org.opentravel.schemacompiler.model.AbstractLibrary;
+import org.opentravel.schemacompiler.model.LibraryElement;
+import org.opentravel.schemacompiler.model.LibraryMember;
+import org.opentravel.schemacompiler.model.NamedEntity;
+import org.opentravel.schemacompiler.model.TLContextualFacet;
+import org.opentravel.schemacompiler.model.TLExtension;
+import org.opentravel.schemacompiler.model.TLExtensionPointFacet;
+import org.opentravel.schemacompiler.model.TLLibrary;
+import org.opentravel.schemacompiler.model.TLModel;
+import org.opentravel.schemacompiler.model.TLNamespaceImport;
+import org.opentravel.schemacompiler.validate.ValidationFindings;
+import org.opentravel.schemacompiler.validate.Validator;
+import org.opentravel.schemacompiler.validate.ValidatorFactory;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Validation service that maintains the findings of each user-defined library in a <code>TLModel</code> and
+ * re-validates only the libraries whose findings may have been affected by changes to the model. Modified libraries are
+ * identified from the events published by the model; the set of libraries to re-validate is then expanded to include
+ * every library whose findings can depend on a modified library:
+ * <ul>
+ * <li>libraries that reference entities of a modified library or import its namespace (transitively)</li>
+ * <li>libraries that share a base namespace with a modified library, since names are checked for conflicts across all
+ * versions of a namespace</li>
+ * <li>libraries whose entities are the owners of contextual facets or extension points declared in a modified
+ * library</li>
+ * </ul>
+ *
+ * <p>
+ * The findings returned by this service are identical to those of
+ * {@link TLModelValidator#validateModel(TLModel, String)}. The validator is registered with the model as a
+ * <code>ModelChangeTracker</code>, so events that are published while the model's listeners are disabled (e.g. during
+ * a library load) are recorded in the same way as all other events.
+ */
+public class IncrementalModelValidator implements ModelChangeTracker<ModelEvent<Object>,Object> {
+
+    private final WeakReference<TLModel> modelRef;
+    private final String validationRuleSetId;
+    private final Map<TLLibrary,LibraryEntry> libraryEntries = new IdentityHashMap<>();
+    private final Set<AbstractLibrary> modifiedLibraries = Collections.newSetFromMap( new IdentityHashMap<>() );
+    private int lastValidationCount;
+
+    /**
+     * Constructor that specifies the model to be validated and the validation rule set to apply. The validator is
+     * registered with (and owned by) the model itself, and the model is referenced weakly so that the validator never
+     * extends its lifetime.
+     *
+     * @param model the model whose libraries are to be validated
+     * @param validationRuleSetId the application context ID of the validation rule set to apply
+     */
+    private IncrementalModelValidator(TLModel model, String validationRuleSetId) {
+        this.modelRef = new WeakReference<>( model );
+        this.validationRuleSetId = validationRuleSetId;
+    }
+
+    /**
+     * Returns the incremental validator for the given model and rule set. If a validator does not yet exist, one is
+     * created and registered as a listener of the model.
+     *
+     * @param model the model for which to return the incremental validator
+     * @param validationRuleSetId the application context ID of the validation rule set to apply
+     * @return IncrementalModelValidator
+     */
+    public static IncrementalModelValidator getInstance(TLModel model, String validationRuleSetId) {
+        return model.getOrAddListener( IncrementalModelValidator.class,
+            v -> Objects.equals( v.validationRuleSetId, validationRuleSetId ),
+            () -> new IncrementalModelValidator( model, validationRuleSetId ) );
+    }
+
+    /**
+     * Validates the model, re-using the cached findings of all libraries that have not been affected by changes since
+     * the last validation.
+     *
+     * @return ValidationFindings
+     */
+    public synchronized ValidationFindings validateModel() {
+        TLModel model = modelRef.get();
+        ValidationFindings findings = new ValidationFindings();
+
+        if (model != null) {
+            List<TLLibrary> libraries = model.getUserDefinedLibraries();
+            Set<AbstractLibrary> affectedLibraries = findAffectedLibraries( libraries );
+
+            revalidateLibraries( model, libraries, affectedLibraries );
+            modifiedLibraries.clear();
+
+            for (TLLibrary library : libraries) {
+                findings.addAllAsCopies( libraryEntries.get( library ).findings );
+            }
+        }
+        return findings;
+    }
+
+    /**
+     * Returns the number of libraries that were validated during the last call to {@link #validateModel()}.
+     *
+     * @return int
+     */
+    public synchronized int getLastValidationCount() {
+        return lastValidationCount;
+    }
+
+    /**
+     * Validates each of the affected libraries and replaces their cached entries. Entries for libraries that are no
+     * longer members of the model are discarded.
+     *
+     * @param model the model being validated
+     * @param libraries the user-defined libraries of the model
+     * @param affectedLibraries the libraries to be validated
+     */
+    private void revalidateLibraries(TLModel model, List<TLLibrary> libraries,
+        Set<AbstractLibrary> affectedLibraries) {
+        ValidatorFactory factory =
+            ValidatorFactory.getInstance( validationRuleSetId, new TLModelValidationContext( model ) );
+        Validator<TLLibrary> validator = factory.getValidatorForClass( TLLibrary.class );
+
+        libraryEntries.keySet().retainAll( newIdentitySet( libraries ) );
+        lastValidationCount = 0;
+
+        for (TLLibrary library : libraries) {
+            if (affectedLibraries.contains( library )) {
+                ValidationFindings libraryFindings =
+                    (validator == null) ? new ValidationFindings() : validator.validate( library );
+
+                libraryEntries.put( library, new LibraryEntry( library, libraryFindings ) );
+                lastValidationCount++;
+            }
+        }
+    }
+
+    /**
+     * Returns the set of libraries that must be re-validated. This includes all modified libraries, all libraries that
+     * do not yet have a cached entry, and every library whose findings can depend on one of them.
+     *
+     * @param libraries the current user-defined libraries of the model
+     * @return Set&lt;AbstractLibrary&gt;
+     */
+    private Set<AbstractLibrary> findAffectedLibraries(List<TLLibrary> libraries) {
+        Set<AbstractLibrary> affectedLibraries = newIdentitySet( null );
+        Set<TLLibrary> candidates = newIdentitySet( libraries );
+        Deque<AbstractLibrary> pendingLibraries = new ArrayDeque<>( modifiedLibraries );
+
+        for (TLLibrary library : libraries) {
+            if (!libraryEntries.containsKey( library )) {
+                pendingLibraries.add( library ); // new or never validated
+            }
+        }
+        for (TLLibrary library : libraryEntries.keySet()) {
+            if (!candidates.contains( library )) {
+                pendingLibraries.add( library ); // removed from the model
+            }
+        }
+
+        while (!pendingLibraries.isEmpty()) {
+            AbstractLibrary library = pendingLibraries.pop();
+
+            if (!affectedLibraries.add( library )) {
+                continue;
+            }
+            LibraryEntry entry = libraryEntries.get( library );
+            Set<String> namespaces = getNamespaces( library, entry );
+            Set<String> baseNamespaces = getBaseNamespaces( library, entry );
+            Set<TLLibrary> attachmentLibraries = getAttachmentLibraries( library );
+
+            if (entry != null) {
+                attachmentLibraries.addAll( entry.attachmentLibraries );
+            }
+            for (TLLibrary candidate : candidates) {
+                if (affectedLibraries.contains( candidate )) {
+                    continue;
+                }
+                LibraryEntry candidateEntry = libraryEntries.get( candidate );
+
+                if ((candidateEntry == null) || attachmentLibraries.contains( candidate )
+                    || candidateEntry.dependsOn( library, namespaces )
+                    || !Collections.disjoint( baseNamespaces, getBaseNamespaces( candidate, candidateEntry ) )) {
+                    pendingLibraries.add( candidate );
+                }
+            }
+        }
+        return affectedLibraries;
+    }
+
+    /**
+     * Returns the current and previously-validated namespaces of the given library.
+     *
+     * @param library the library for which to return the namespaces
+     * @param entry the cached entry for the library (may be null)
+     * @return Set&lt;String&gt;
+     */
+    private static Set<String> getNamespaces(AbstractLibrary library, LibraryEntry entry) {
+        Set<String> namespaces = new HashSet<>();
+
+        addIfNotNull( namespaces, library.getNamespace() );
+
+        if (entry != null) {
+            addIfNotNull( namespaces, entry.namespace );
+        }
+        return namespaces;
+    }
+
+    /**
+     * Returns the current and previously-validated base namespaces of the given library.
+     *
+     * @param library the library for which to return the base namespaces
+     * @param entry the cached entry for the library (may be null)
+     * @return Set&lt;String&gt;
+     */
+    private static Set<String> getBaseNamespaces(AbstractLibrary library, LibraryEntry entry) {
+        Set<String> baseNamespaces = new HashSet<>();
+
+        addIfNotNull( baseNamespaces, getBaseNamespace( library ) );
+
+        if (entry != null) {
+            addIfNotNull( baseNamespaces, entry.baseNamespace );
+        }
+        return baseNamespaces;
+    }
+
+    /**
+     * Returns the base namespace of the given library. For libraries that are not versioned, the namespace of the
+     * library is returned.
+     *
+     * @param library the library for which to return the base namespace
+     * @return String
+     */
+    private static String getBaseNamespace(AbstractLibrary library) {
+        return (library instanceof TLLibrary) ? ((TLLibrary) library).getBaseNamespace() : library.getNamespace();
+    }
+
+    /**
+     * Returns the libraries that own the entities to which the contextual facets and extension points of the given
+     * library are attached. The findings of those libraries depend on the content of the given library, even though
+     * they do not reference it.
+     *
+     * @param library the library whose contextual facets and extension points are to be analyzed
+     * @return Set&lt;TLLibrary&gt;
+     */
+    private static Set<TLLibrary> getAttachmentLibraries(AbstractLibrary library) {
+        Set<TLLibrary> attachmentLibraries = newIdentitySet( null );
+
+        if (library instanceof TLLibrary) {
+            for (LibraryMember member : library.getNamedMembers()) {
+                NamedEntity attachedEntity = null;
+
+                if (member instanceof TLContextualFacet) {
+                    attachedEntity = ((TLContextualFacet) member).getOwningEntity();
+
+                } else if (member instanceof TLExtensionPointFacet) {
+                    TLExtension extension = ((TLExtensionPointFacet) member).getExtension();
+
+                    attachedEntity = (extension == null) ? null : extension.getExtendsEntity();
+                }
+                if ((attachedEntity != null) && (attachedEntity.getOwningLibrary() instanceof TLLibrary)) {
+                    attachmentLibraries.add( (TLLibrary) attachedEntity.getOwningLibrary() );
+                }
+            }
+        }
+        return attachmentLibraries;
+    }
+
+    /**
+     * Adds the given value to the set if it is not null.
+     *
+     * @param values the set to which the value should be added
+     * @param value the value to add
+     */
+    private static void addIfNotNull(Set<String> values, String value) {
+        if (value != null) {
+            values.add( value );
+        }
+    }
+
+    /**
+     * Returns a new identity-based set that contains the given items.
+     *
+     * @param items the initial contents of the set (may be null)
+     * @param <E> the type of the set elements
+     * @return Set&lt;E&gt;
+     */
+    private static <E> Set<E> newIdentitySet(Collection<? extends E> items) {
+        Set<E> identitySet = Collections.newSetFromMap( new IdentityHashMap<>() );
+
+        if (items != null) {
+            identitySet.addAll( items );
+        }
+        return identitySet;
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.event.ModelEventListener#processModelEvent(org.opentravel.schemacompiler.event.ModelEvent)
+     */
+    @Override
+    public synchronized void processModelEvent(ModelEvent<Object> event) {
+        addModifiedLibrary( event.getSource() );
+
+        if (event instanceof OwnershipEvent) {
+            addModifiedLibrary( ((OwnershipEvent<?,?>) event).getAffectedItem() );
+
+        } else if (event instanceof ValueChangeEvent) {
+            addModifiedLibrary( ((ValueChangeEvent<?,?>) event).getOldValue() );
+            addModifiedLibrary( ((ValueChangeEvent<?,?>) event).getNewValue() );
+        }
+    }
+
+    /**
+     * Adds the library of the given object to the set of modified libraries. The object may be a library or a library
+     * element; all other objects are ignored.
+     *
+     * @param obj the object whose library is to be added
+     */
+    private void addModifiedLibrary(Object obj) {
+        if (obj instanceof AbstractLibrary) {
+            modifiedLibraries.add( (AbstractLibrary) obj );
+
+        } else if (obj instanceof LibraryElement) {
+            AbstractLibrary owningLibrary = ((LibraryElement) obj).getOwningLibrary();
+
+            if (owningLibrary != null) {
+                modifiedLibraries.add( owningLibrary );
+            }
+        }
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.event.ModelEventListener#getEventClass()
+     */
+    @Override
+    public Class<?> getEventClass() {
+        return ModelEvent.class;
+    }
+
+    /**
+     * @see org.opentravel.schemacompiler.event.ModelEventListener#getSourceObjectClass()
+     */
+    @Override
+    public Class<Object> getSourceObjectClass() {
+        return Object.class;
+    }
+
+    /**
+     * Cached findings and dependency information for a user-defined library, captured at the time the library was
+     * validated.
+     */
+    private static class LibraryEntry {
+
+        private final ValidationFindings findings;
+        private final String namespace;
+        private final String baseNamespace;
+        private final Set<AbstractLibrary> referencedLibraries = newIdentitySet( null );
+        private final Set<String> importedNamespaces = new HashSet<>();
+        private final Set<TLLibrary> attachmentLibraries;
+
+        /**
+         * Constructor that captures the dependency information of the given library.
+         *
+         * @param library the library that was validated
+         * @param findings the validation findings for the library
+         */
+        public LibraryEntry(TLLibrary library, ValidationFindings findings) {
+            this.findings = findings;
+            this.namespace = library.getNamespace();
+            this.baseNamespace = library.getBaseNamespace();
+            this.referencedLibraries.addAll( ImportManagementIntegrityChecker.getReferencedLibraries( library ) );
+            this.attachmentLibraries = getAttachmentLibraries( library );
+
+            for (TLNamespaceImport nsImport : library.getNamespaceImports()) {
+                addIfNotNull( importedNamespaces, nsImport.getNamespace() );
+            }
+        }
+
+        /**
+         * Returns true if the library of this entry references the given library or imports one of its namespaces.
+         *
+         * @param library the library to check
+         * @param namespaces the current and previously-validated namespaces of the library
+         * @return boolean
+         */
+        public boolean dependsOn(AbstractLibrary library, Set<String> namespaces) {
+            return referencedLibraries.contains( library ) || !Collections.disjoint( importedNamespaces, namespaces );
+        }
+
+    }
+
+}
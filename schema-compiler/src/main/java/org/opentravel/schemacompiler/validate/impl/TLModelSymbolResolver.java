@@ -36,7 +36,7 @@ public class TLModelSymbolResolver extends AbstractSymbolResolver {
      * @param model the model from which to construct the internal symbol table
      */
     public TLModelSymbolResolver(TLModel model) {
-        this( (model == null) ? new SymbolTable() : SymbolTableFactory.newSymbolTableFromModel( model ) );
+        this( (model == null) ? new SymbolTable() : SymbolTableFactory.getSymbolTableForModel( model ) );
     }
 
     /**
@@ -21,17 +21,24 @@ import org.opentravel.schemacompiler.transform.SymbolResolver;
 import org.opentravel.schemacompiler.validate.ValidationContext;
 
 import java.lang.reflect.InvocationTargetException;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * Validation context to be used during the validation of <code>TLModel</code> elements.
  * 
+ * <p>
+ * The validation cache of a context may be shared with other contexts for the same model (see
+ * {@link #TLModelValidationContext(TLModelValidationContext)}), allowing multiple libraries to be validated
+ * concurrently. The symbol resolver is not shared since it maintains the state of the library currently being
+ * validated.
+ * 
  * @author S. Livezey
  */
 public class TLModelValidationContext implements ValidationContext {
 
-    private Map<String,Object> validationCache = new HashMap<>();
+    private Map<String,Object> validationCache;
     private SymbolResolver symbolResolver;
     private TLModel model;
 
@@ -41,10 +48,23 @@ public class TLModelValidationContext implements ValidationContext {
      * @param model the model that owns all elements to be validated
      */
     public TLModelValidationContext(TLModel model) {
+        this.validationCache = new ConcurrentHashMap<>();
         this.symbolResolver = new TLModelSymbolResolver( model );
         this.model = model;
     }
 
+    /**
+     * Constructor that creates a validation context for the same model as the one provided. The new context shares the
+     * validation cache of the original, but it is assigned its own symbol resolver.
+     * 
+     * @param sharedContext the context whose model and validation cache are to be shared
+     */
+    public TLModelValidationContext(TLModelValidationContext sharedContext) {
+        this.validationCache = sharedContext.validationCache;
+        this.symbolResolver = new TLModelSymbolResolver( sharedContext.model );
+        this.model = sharedContext.model;
+    }
+
     /**
      * Returns the model associated with this validation context.
      * 
@@ -97,13 +117,47 @@ public class TLModelValidationContext implements ValidationContext {
     }
 
     /**
-     * Assigns a key/value entry to the validation context cache.
+     * Returns an entry from the validation context cache. If the entry does not yet exist, it is created using the
+     * factory provided. If multiple threads request the same entry concurrently, the factory may be invoked more than
+     * once, but all callers will receive the same cached instance.
+     * 
+     * @param cacheKey the key for the validation cache entry to return
+     * @param entryFactory the factory used to create the entry if it does not yet exist
+     * @param <T> the expected type of the cache entry value
+     * @return T
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getContextCacheEntry(String cacheKey, Supplier<T> entryFactory) {
+        Object cacheValue = validationCache.get( cacheKey );
+
+        if (cacheValue == null) {
+            // Factories may access the cache themselves, so the entry is not created within computeIfAbsent()
+            Object newValue = entryFactory.get();
+
+            if (newValue != null) {
+                cacheValue = validationCache.putIfAbsent( cacheKey, newValue );
+
+                if (cacheValue == null) {
+                    cacheValue = newValue;
+                }
+            }
+        }
+        return (T) cacheValue;
+    }
+
+    /**
+     * Assigns a key/value entry to the validation context cache. Assigning a null value removes the entry from the
+     * cache.
      * 
      * @param cacheKey the key for the validation cache entry to assign
      * @param cacheValue the value to be associated with the specified key
      */
     public void setContextCacheEntry(String cacheKey, Object cacheValue) {
-        validationCache.put( cacheKey, cacheValue );
+        if (cacheValue == null) {
+            validationCache.remove( cacheKey );
+        } else {
+            validationCache.put( cacheKey, cacheValue );
+        }
     }
 
 }
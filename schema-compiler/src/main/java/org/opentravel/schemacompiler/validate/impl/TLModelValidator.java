@@ -16,6 +16,7 @@
 
 package org.opentravel.schemacompiler.validate.impl;
 
+import org.opentravel.schemacompiler.ioc.CompilerSession;
 import org.opentravel.schemacompiler.model.TLLibrary;
 import org.opentravel.schemacompiler.model.TLModel;
 import org.opentravel.schemacompiler.model.TLModelElement;
@@ -23,6 +24,13 @@ import org.opentravel.schemacompiler.validate.ValidationFindings;
 import org.opentravel.schemacompiler.validate.Validator;
 import org.opentravel.schemacompiler.validate.ValidatorFactory;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
 /**
  * Static utility methods used for the validation of <code>TLModel</code> elements.
  * 
@@ -44,13 +52,86 @@ public class TLModelValidator {
      * @return ValidationFindings
      */
     public static ValidationFindings validateModel(TLModel model, String validationRuleSetId) {
-        ValidatorFactory factory =
-            ValidatorFactory.getInstance( validationRuleSetId, new TLModelValidationContext( model ) );
+        return validateModel( model, validationRuleSetId, false );
+    }
+
+    /**
+     * Utility method that validates all elements of the given model using the specified rule set from the application
+     * context file. If the 'parallel' flag is true, each of the model's user-defined libraries is validated as a
+     * separate task in the common fork-join pool. The findings are merged in the order of the model's libraries, so the
+     * results are identical to those of a sequential validation.
+     * 
+     * <p>
+     * The model must not be modified while a parallel validation is in progress.
+     * 
+     * @param model the model whose members should be validated
+     * @param validationRuleSetId the application context ID of the validation rule set to apply
+     * @param parallel flag indicating whether the model's libraries should be validated concurrently
+     * @return ValidationFindings
+     */
+    public static ValidationFindings validateModel(TLModel model, String validationRuleSetId, boolean parallel) {
+        return validateLibraries( model.getUserDefinedLibraries(), validationRuleSetId, parallel );
+    }
+
+    /**
+     * Utility method that validates the given user-defined libraries using the specified rule set from the application
+     * context file. All of the libraries must belong to the same model. If the 'parallel' flag is true, each library
+     * is validated as a separate task in the common fork-join pool, and the findings are merged in the order of the
+     * libraries provided.
+     * 
+     * <p>
+     * The model must not be modified while a parallel validation is in progress.
+     * 
+     * @param libraries the user-defined libraries to be validated
+     * @param validationRuleSetId the application context ID of the validation rule set to apply
+     * @param parallel flag indicating whether the libraries should be validated concurrently
+     * @return ValidationFindings
+     */
+    public static ValidationFindings validateLibraries(Collection<TLLibrary> libraries, String validationRuleSetId,
+        boolean parallel) {
+        ValidationFindings findings = new ValidationFindings();
+
+        if (libraries.isEmpty()) {
+            return findings;
+        }
+        TLModelValidationContext context =
+            new TLModelValidationContext( libraries.iterator().next().getOwningModel() );
+
+        if (parallel && (libraries.size() > 1)) {
+            List<ForkJoinTask<ValidationFindings>> libraryTasks = new ArrayList<>();
+
+            // Each task is assigned its own validators and symbol resolver; only the context cache is shared
+            for (TLLibrary library : libraries) {
+                libraryTasks.add( ForkJoinPool.commonPool().submit( CompilerSession.propagate( () -> validateLibraries(
+                    Collections.singletonList( library ), validationRuleSetId,
+                    new TLModelValidationContext( context ) ) ) ) );
+            }
+            for (ForkJoinTask<ValidationFindings> libraryTask : libraryTasks) {
+                findings.addAllAsCopies( libraryTask.join() );
+            }
+
+        } else {
+            findings.addAll( validateLibraries( libraries, validationRuleSetId, context ) );
+        }
+        return findings;
+    }
+
+    /**
+     * Validates each of the given libraries using a new validator factory for the context provided.
+     * 
+     * @param libraries the libraries to be validated
+     * @param validationRuleSetId the application context ID of the validation rule set to apply
+     * @param context the validation context to use for the libraries
+     * @return ValidationFindings
+     */
+    private static ValidationFindings validateLibraries(Collection<TLLibrary> libraries, String validationRuleSetId,
+        TLModelValidationContext context) {
+        ValidatorFactory factory = ValidatorFactory.getInstance( validationRuleSetId, context );
         Validator<TLLibrary> validator = factory.getValidatorForClass( TLLibrary.class );
         ValidationFindings findings = new ValidationFindings();
 
         if (validator != null) {
-            for (TLLibrary library : model.getUserDefinedLibraries()) {
+            for (TLLibrary library : libraries) {
                 findings.addAll( validator.validate( library ) );
             }
         }
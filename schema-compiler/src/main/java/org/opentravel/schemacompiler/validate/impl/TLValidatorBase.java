@@ -59,11 +59,12 @@ import org.opentravel.schemacompiler.version.Versioned;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
@@ -222,6 +223,19 @@ public abstract class TLValidatorBase<T extends Validatable> implements Validato
         return (context == null) ? null : context.getContextCacheEntry( cacheKey, entryType );
     }
 
+    /**
+     * Returns an entry from the validation context cache, creating it with the given factory if it does not yet exist.
+     * If no validation context has been assigned, a new (uncached) entry is returned.
+     * 
+     * @param cacheKey the key for the validation cache entry to return
+     * @param entryFactory the factory used to create the entry if it does not yet exist
+     * @param <E> the expected type of the context cache entry
+     * @return E
+     */
+    protected <E> E getContextCacheEntry(String cacheKey, Supplier<E> entryFactory) {
+        return (context == null) ? entryFactory.get() : context.getContextCacheEntry( cacheKey, entryFactory );
+    }
+
     /**
      * Assigns a key/value entry to the validation context cache.
      * 
@@ -422,14 +436,8 @@ public abstract class TLValidatorBase<T extends Validatable> implements Validato
      * @return SchemaNameValidationRegistry
      */
     protected SchemaNameValidationRegistry getSchemaNameRegistry(TLModel model) {
-        SchemaNameValidationRegistry schemaNameRegistry =
-            (SchemaNameValidationRegistry) getContextCacheEntry( SchemaNameValidationRegistry.class.getName() );
-
-        if (schemaNameRegistry == null) {
-            schemaNameRegistry = new SchemaNameValidationRegistry( model );
-            setContextCacheEntry( SchemaNameValidationRegistry.class.getName(), schemaNameRegistry );
-        }
-        return schemaNameRegistry;
+        return getContextCacheEntry( SchemaNameValidationRegistry.class.getName(),
+            () -> new SchemaNameValidationRegistry( model ) );
     }
 
     /**
@@ -635,15 +643,9 @@ public abstract class TLValidatorBase<T extends Validatable> implements Validato
      * @param versionedEntity the versioned entity for which to return the minor version family
      * @return Collection&lt;V&gt;
      */
-    @SuppressWarnings("unchecked")
     private <V extends Versioned> Collection<V> getMajorVersionFamily(V versionedEntity) {
         Map<Versioned,Collection<V>> minorVersionFamilyMappings =
-            (Map<Versioned,Collection<V>>) getContextCacheEntry( "majorVersionFamilyMappings" );
-
-        if (minorVersionFamilyMappings == null) {
-            minorVersionFamilyMappings = new HashMap<>();
-            setContextCacheEntry( "majorVersionFamilyMappings", minorVersionFamilyMappings );
-        }
+            getContextCacheEntry( "majorVersionFamilyMappings", ConcurrentHashMap::new );
         Collection<V> minorVersionFamily = minorVersionFamilyMappings.get( versionedEntity );
 
         if (minorVersionFamily == null) {
@@ -671,7 +673,7 @@ public abstract class TLValidatorBase<T extends Validatable> implements Validato
     @SuppressWarnings("unchecked")
     private String getMajorVersionNamespace(TLLibrary library) {
         Map<String,String> majorVersionNamespaceMappings =
-            (Map<String,String>) getContextCacheEntry( "majorVersionNamespaceMappings", HashMap.class );
+            (Map<String,String>) getContextCacheEntry( "majorVersionNamespaceMappings", ConcurrentHashMap.class );
         String libraryNamespace = library.getNamespace();
 
         return majorVersionNamespaceMappings.computeIfAbsent( libraryNamespace, ns -> getMajorVersionNS( library ) );
@@ -809,22 +811,19 @@ public abstract class TLValidatorBase<T extends Validatable> implements Validato
      * @param paramGroup the parameter group for which to return path parameter names
      * @return List&lt;String&gt;
      */
-    @SuppressWarnings("unchecked")
     private List<String> getPathParameterNames(TLParamGroup paramGroup) {
         if ((paramGroup == null) || (paramGroup.getOwner() == null)) {
             return new ArrayList<>(); // return empty list for null param group
         }
         String cacheKey = paramGroup.getOwner().getNamespace() + ":" + paramGroup.getOwner().getLocalName() + ":"
             + paramGroup.getName() + ":pathParams";
-        List<String> pathParams = (List<String>) getContextCacheEntry( cacheKey );
 
-        if (pathParams == null) {
-            pathParams = new ArrayList<>();
+        return getContextCacheEntry( cacheKey, () -> {
+            List<String> pathParams = new ArrayList<>();
 
             validatePathParams( pathParams, paramGroup );
-            setContextCacheEntry( cacheKey, pathParams );
-        }
-        return pathParams;
+            return pathParams;
+        } );
     }
 
     /**
@@ -17,10 +17,21 @@
 package org.opentravel.schemacompiler.xml;
 
 import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 /**
- * Line break processor that inserts line-break tokens into a DOM tree, indicating where additional blank spaces should
- * be inserted during the XML formatting process.
+ * Line break processor that identifies the top-level elements of a document that should be preceded by additional
+ * blank lines during the XML formatting process. Line breaks are always inserted before the end of the root element.
+ * 
+ * <p>
+ * Implementations may maintain state between calls to <code>isLineBreakRequired()</code>, so a new processor instance
+ * should be used for each document that is formatted.
  * 
  * @author S. Livezey
  */
@@ -29,12 +40,66 @@ public abstract class PrettyPrintLineBreakProcessor {
     public static final String LINE_BREAK_TOKEN = "__LINE_BREAK__";
     public static final String LINE_BREAK_COMMENT = "<!--" + LINE_BREAK_TOKEN + "-->";
 
+    /**
+     * Returns true if a line break should be inserted before the given top-level element. This method is called once
+     * for each child of the document's root element, in document order.
+     * 
+     * @param elementName the local name of the top-level element
+     * @param attributeNames the qualified names of the element's attributes
+     * @return boolean
+     */
+    public abstract boolean isLineBreakRequired(String elementName, Collection<String> attributeNames);
+
     /**
      * Processes the content of the given DOM document, inserting <code>LINE_BREAK_TOKEN</code> comments at any position
      * where additional line breaks will be required during XML formatting.
      * 
      * @param document the DOM document to process
      */
-    public abstract void insertLineBreakTokens(Document document);
+    public void insertLineBreakTokens(Document document) {
+        Element rootElement = document.getDocumentElement();
+        Node topLevelNode = rootElement.getFirstChild();
+
+        while (topLevelNode != null) {
+            if ((topLevelNode.getNodeType() == Node.ELEMENT_NODE)
+                && isLineBreakRequired( getLocalName( topLevelNode ), getAttributeNames( topLevelNode ) )) {
+                rootElement.insertBefore( document.createComment( LINE_BREAK_TOKEN ), topLevelNode );
+            }
+            topLevelNode = topLevelNode.getNextSibling();
+        }
+        rootElement.appendChild( document.createComment( LINE_BREAK_TOKEN ) );
+    }
+
+    /**
+     * Returns the XML element name for the given node without its namespace prefix.
+     * 
+     * @param node the node whose name is to be returned
+     * @return String
+     */
+    private String getLocalName(Node node) {
+        String elementName = node.getNodeName();
+        int colonIdx = elementName.indexOf( ':' );
+
+        if (colonIdx >= 0) {
+            elementName = elementName.substring( colonIdx + 1 );
+        }
+        return elementName;
+    }
+
+    /**
+     * Returns the qualified names of all attributes of the given node.
+     * 
+     * @param node the node whose attribute names are to be returned
+     * @return List&lt;String&gt;
+     */
+    private List<String> getAttributeNames(Node node) {
+        NamedNodeMap attributes = node.getAttributes();
+        List<String> attributeNames = new ArrayList<>();
+
+        for (int i = 0; i < attributes.getLength(); i++) {
+            attributeNames.add( attributes.item( i ).getNodeName() );
+        }
+        return attributeNames;
+    }
 
 }
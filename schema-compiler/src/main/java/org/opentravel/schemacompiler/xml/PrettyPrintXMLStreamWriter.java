@@ -0,0 +1,883 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.xml;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * Streaming <code>XMLStreamWriter</code> that writes formatted XML content directly to an output stream. The output
+ * produced by this writer is identical to that of the DOM load-and-save (LS) serializer that is used by the
+ * <code>XMLPrettyPrinter</code>, including the blank lines that are inserted by a
+ * <code>PrettyPrintLineBreakProcessor</code>, but no in-memory document is required.
+ *
+ * <p>
+ * Only the start tag of the current element and the text of the current text node are buffered by this writer. The
+ * attributes of each start tag are written in the order used by the DOM serializer (the declaration of the element's
+ * own namespace first, followed by all other attributes sorted by qualified name), and whitespace-only text is
+ * discarded.
+ */
+class PrettyPrintXMLStreamWriter implements XMLStreamWriter {
+
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>";
+    private static final String XMLNS = "xmlns";
+    private static final int INDENT_AMOUNT = 4;
+
+    private final Writer out;
+    private final PrettyPrintLineBreakProcessor lineBreakProcessor;
+    private final Deque<ElementContext> elementStack = new ArrayDeque<>();
+    private final StringBuilder pendingText = new StringBuilder();
+    private final NamespaceContext namespaceContext = new ScopedNamespaceContext();
+    private Map<String,String> rootBindings = new HashMap<>();
+    private NamespaceContext rootContext;
+    private PendingStartTag pendingStartTag;
+    private boolean startTagOpen = false;
+    private boolean startNewLine = false;
+    private boolean prevText = false;
+    private int childNodeCount = 0;
+
+    /**
+     * Constructor that specifies the output stream to which formatted (UTF-8) content should be written and the line
+     * break processor to apply.
+     *
+     * @param outputStream the output stream that will receive the formatted content
+     * @param lineBreakProcessor the line break processor to apply (may be null)
+     */
+    PrettyPrintXMLStreamWriter(OutputStream outputStream, PrettyPrintLineBreakProcessor lineBreakProcessor) {
+        this.out = new BufferedWriter( new OutputStreamWriter( outputStream, StandardCharsets.UTF_8 ) );
+        this.lineBreakProcessor = lineBreakProcessor;
+    }
+
+    /**
+     * @see javax.xml.stream.XMLStreamWriter#writeStartDocument()
+     */
+    @Override
+    public void writeStartDocument() throws XMLStreamException {
+        write( XML_DECLARATION );
+    }
+
+    /**
+     * Writes the standard XML declaration; the version and encoding of the output are always 1.0 and UTF-8.
+     *
+     * @see javax.xml.stream.XMLStreamWriter#writeStartDocument(java.lang.String)
+     */
+    @Override
+    public void writeStartDocument(String version) throws XMLStreamException {
+        writeStartDocument();
+    }
+
+    /**
+     * Writes the standard XML declaration; the version and encoding of the output are always 1.0 and UTF-8.
+     *
+     * @see javax.xml.stream.XMLStreamWriter#writeStartDocument(java.lang.String, java.lang.String)
+     */
+    @Override
+    public void writeStartDocument(String encoding, String version) throws XMLStreamException {
+        writeStartDocument();
+    }
+
+    /**
+     * @see javax.xml.stream.XMLStreamWriter#writeEndDocument()
+     */
+    @Override
+    public void writeEndDocument() throws XMLStreamException {
+        while (!elementStack.isEmpty() || (pendingStartTag != null)) {
+            writeEndElement();
+        }
+        flushText();
+
+        if (!prevText) {
+            write( "\n" );
+        }
+        flush();
+    }
+
+    /**
+     * @see javax.xml.stream.XMLStreamWriter#writeStartElement(java.lang.String)
+     */
+    @Override
+    public void writeStartElement(String localName) throws XMLStreamException {
+        writeStartElement( XMLConstants.DEFAULT_NS_PREFIX, localName, null );
+    }
+
+    /**
+     * @see javax.xml.stream.XMLStreamWriter#writeStartElement(java.lang.String, java.lang.String)
+     */
+    @Override
+    public void writeStartElement(String namespaceURI, String localName) throws XMLStreamException {
+        writeStartElement( getPrefix( namespaceURI ), localName, namespaceURI );
+    }
+
+    /**
+     * @see javax.xml.stream.XMLStreamWriter#writeStartElement(java.lang.String, java.lang.String, java.lang.String)
+     */
+    @Override
+    public void writeStartElement(String prefix, String localName, String namespaceURI) throws XMLStreamException {
+        writePendingStartTag();
+        pendingStartTag = new PendingStartTag( prefix, localName, namespaceURI );
+    }
+
+    /**
+     * @see javax.xml.stream.XMLStreamWriter#writeEmptyElement(java.lang.String)
+     */
+    @Override
+    public void writeEmptyElement(String localName) throws XMLStreamException {
+        writeEmptyElement( XMLConstants.DEFAULT_NS_PREFIX, localName, null );
+    }
+
+    /**
+     * @see javax.xml.stream.XMLStreamWriter#writeEmptyElement(java.lang.String, java.lang.String)
+     */
+    @Override
+    public void writeEmptyElement(String namespaceURI, String localName) throws XMLStreamException {
+        writeEmptyElement( getPrefix( namespaceURI ), localName, namespaceURI );
+    }
+
+    /**
+     * @see javax.xml.stream.XMLStreamWriter#writeEmptyElement(java.lang.String, java.lang.String, java.lang.String)
+     */
+    @Override
+    public void writeEmptyElement(String prefix, String localName, String namespaceURI) throws XMLStreamException {
+        writeStartElement( prefix, localName, namespaceURI );
+        pendingStartTag.emptyElement = true;
+    }
+
+    /**
+     * @see javax.xml.stream.XMLStreamWriter#writeEndElement()
+     */
+    @Override
+    public void writeEndElement() throws XMLStreamException {
+        writePendingStartTag();
+
+        if (elementStack.isEmpty()) {
+            throw new XMLStreamException( "No element is open." );
+        }
+        if ((lineBreakProcessor != null) && (elementStack.size() == 1)) {
+            writeLineBreak();
+        }
+        flushText();
+
+        if (startTagOpen) {
+            write( "/>" );
+            startTagOpen = false;
+
+        } else {
+            if ((childNodeCount > 1) || !prevText) {
+                indent( elementStack.size() - 1 );
+            }
+            write( "</" );
+            write( elementStack.peek().qname );
+            write( ">" );
+        }
+        childNodeCount = elementStack.pop().parentChildNodeCount;
+        prevText = false;
+    }
+
+    /**
+     * @see javax.xml.stream.XMLStreamWriter#writeAttribute(java.lang.String, java.lang.String)
+     */
+    @Override
+    public void writeAttribute(String localName, String value) throws XMLStreamException {
+        getPendingStartTag().attributes.add( new String[] {localName, value} );
+    }
+
+    /**
+     * @see javax.xml.stream.XMLStreamWriter#writeAttribute(java.lang.String, java.lang.String, java.lang.String)
+     */
+    @Override
+    public void writeAttribute(String namespaceURI, String localName, String value) throws XMLStreamException {
+        writeAttribute( getPrefix( namespaceURI ), namespaceURI, localName, value );
+    }
+
+    /**
+     * @see javax.xml.stream.XMLStreamWriter#writeAttribute(java.lang.String, java.lang.String, java.lang.String,
+     *      java.lang.String)
+     */
+    @Override
+    public void writeAttribute(String prefix, String namespaceURI, String localName, String value)
+        throws XMLStreamException {
+        getPendingStartTag().attributes.add( new String[] {qualifiedName( prefix, localName ), value} );
+    }
+
+    /**
+     * @see javax.xml.stream.XMLStreamWriter#writeNamespace(java.lang.String, java.lang.String)
+     */
+    @Override
+    public void writeNamespace(String prefix, String namespaceURI) throws XMLStreamException {
+        if ((prefix == null) || prefix.isEmpty() || XMLNS.equals( prefix )) {
+            writeDefaultNamespace( namespaceURI );
+
+        } else {
+            PendingStartTag startTag = getPendingStartTag();
+
+            startTag.bindings.put( prefix, namespaceURI );
+            startTag.attributes.add( new String[] {XMLNS + ":" + prefix, namespaceURI} );
+        }
+    }
+
+    /**
+     * @see javax.xml.stream.XMLStreamWriter#writeDefaultNamespace(java.lang.String)
+     */
+    @Override
+    public void writeDefaultNamespace(String namespaceURI) throws XMLStreamException {
+        PendingStartTag startTag = getPendingStartTag();
+
+        startTag.bindings.put( XMLConstants.DEFAULT_NS_PREFIX, namespaceURI );
+        startTag.attributes.add( new String[] {XMLNS, namespaceURI} );
+    }
+
+    /**
+     * @see javax.xml.stream.XMLStreamWriter#writeComment(java.lang.String)
+     */
+    @Override
+    public void writeComment(String data) throws XMLStreamException {
+        writePendingStartTag();
+        beginChildNode();
+        write( "<!--" );
+        write( data.replace( "--", "- -" ) );
+
+        if (data.endsWith( "-" )) {
+            write( " " );
+        }
+        write( "-->" );
+        startNewLine = true;
+    }
+
+    /**
+     * @see javax.xml.stream.XMLStreamWriter#writeProcessingInstruction(java.lang.String)
+     */
+    @Override
+    public void writeProcessingInstruction(String target) throws XMLStreamException {
+        writeProcessingInstruction( target, null );
+    }
+
+    /**
+     * @see javax.xml.stream.XMLStreamWriter#writeProcessingInstruction(java.lang.String, java.lang.String)
+     */
+    @Override
+    public void writeProcessingInstruction(String target, String data) throws XMLStreamException {
+        writePendingStartTag();
+        beginChildNode();
+        write( "<?" );
+        write( target );
+
+        if ((data != null) && !data.isEmpty()) {
+            write( " " );
+            write( data );
+        }
+        write( "?>" );
+        startNewLine = true;
+    }
+
+    /**
+     * @see javax.xml.stream.XMLStreamWriter#writeCData(java.lang.String)
+     */
+    @Override
+    public void writeCData(String data) throws XMLStreamException {
+        writePendingStartTag();
+        flushText();
+        closeStartTag();
+        write( "<![CDATA[" );
+        write( data );
+        write( "]]>" );
+        prevText = true;
+    }
+
+    /**
+     * @see javax.xml.stream.XMLStreamWriter#writeDTD(java.lang.String)
+     */
+    @Override
+    public void writeDTD(String dtd) throws XMLStreamException {
+        write( dtd );
+    }
+
+    /**
+     * @see javax.xml.stream.XMLStreamWriter#writeEntityRef(java.lang.String)
+     */
+    @Override
+    public void writeEntityRef(String name) throws XMLStreamException {
+        writePendingStartTag();
+        flushText();
+        closeStartTag();
+        write( "&" );
+        write( name );
+        write( ";" );
+        prevText = true;
+    }
+
+    /**
+     * @see javax.xml.stream.XMLStreamWriter#writeCharacters(java.lang.String)
+     */
+    @Override
+    public void writeCharacters(String text) throws XMLStreamException {
+        writePendingStartTag();
+        pendingText.append( text );
+    }
+
+    /**
+     * @see javax.xml.stream.XMLStreamWriter#writeCharacters(char[], int, int)
+     */
+    @Override
+    public void writeCharacters(char[] text, int start, int len) throws XMLStreamException {
+        writePendingStartTag();
+        pendingText.append( text, start, len );
+    }
+
+    /**
+     * @see javax.xml.stream.XMLStreamWriter#getPrefix(java.lang.String)
+     */
+    @Override
+    public String getPrefix(String uri) throws XMLStreamException {
+        return namespaceContext.getPrefix( uri );
+    }
+
+    /**
+     * @see javax.xml.stream.XMLStreamWriter#setPrefix(java.lang.String, java.lang.String)
+     */
+    @Override
+    public void setPrefix(String prefix, String uri) throws XMLStreamException {
+        currentBindings().put( prefix, uri );
+    }
+
+    /**
+     * @see javax.xml.stream.XMLStreamWriter#setDefaultNamespace(java.lang.String)
+     */
+    @Override
+    public void setDefaultNamespace(String uri) throws XMLStreamException {
+        setPrefix( XMLConstants.DEFAULT_NS_PREFIX, uri );
+    }
+
+    /**
+     * Assigns the root namespace context of the writer. Bindings assigned with <code>setPrefix()</code> and
+     * <code>setDefaultNamespace()</code> take precedence over those of the root context.
+     *
+     * @see javax.xml.stream.XMLStreamWriter#setNamespaceContext(javax.xml.namespace.NamespaceContext)
+     */
+    @Override
+    public void setNamespaceContext(NamespaceContext context) throws XMLStreamException {
+        if (!elementStack.isEmpty() || (pendingStartTag != null)) {
+            throw new XMLStreamException(
+                "The namespace context must be assigned before the root element is written." );
+        }
+        rootContext = context;
+    }
+
+    /**
+     * @see javax.xml.stream.XMLStreamWriter#getNamespaceContext()
+     */
+    @Override
+    public NamespaceContext getNamespaceContext() {
+        return namespaceContext;
+    }
+
+    /**
+     * @see javax.xml.stream.XMLStreamWriter#getProperty(java.lang.String)
+     */
+    @Override
+    public Object getProperty(String name) {
+        throw new IllegalArgumentException( "Unsupported property: " + name );
+    }
+
+    /**
+     * @see javax.xml.stream.XMLStreamWriter#flush()
+     */
+    @Override
+    public void flush() throws XMLStreamException {
+        try {
+            out.flush();
+
+        } catch (IOException e) {
+            throw new XMLStreamException( e );
+        }
+    }
+
+    /**
+     * Flushes any content that has been written; the underlying output stream is not closed.
+     *
+     * @see javax.xml.stream.XMLStreamWriter#close()
+     */
+    @Override
+    public void close() throws XMLStreamException {
+        flush();
+    }
+
+    /**
+     * Returns the start tag that is currently accepting attributes and namespace declarations.
+     *
+     * @return PendingStartTag
+     * @throws XMLStreamException thrown if no start tag is pending
+     */
+    private PendingStartTag getPendingStartTag() throws XMLStreamException {
+        if (pendingStartTag == null) {
+            throw new XMLStreamException( "Attributes and namespaces can only be written for a start tag." );
+        }
+        return pendingStartTag;
+    }
+
+    /**
+     * Writes the pending start tag (if any) now that all of its attributes and namespace declarations are known. The
+     * tag itself is left open so that it can be closed as an empty element if no content follows.
+     *
+     * @throws XMLStreamException thrown if an error occurs while writing the output
+     */
+    private void writePendingStartTag() throws XMLStreamException {
+        if (pendingStartTag == null) {
+            return;
+        }
+        PendingStartTag startTag = pendingStartTag;
+        List<String[]> attributes = sortAttributes( startTag );
+
+        pendingStartTag = null;
+
+        if ((lineBreakProcessor != null) && (elementStack.size() == 1)) {
+            List<String> attributeNames = new ArrayList<>();
+
+            for (String[] attribute : attributes) {
+                attributeNames.add( attribute[0] );
+            }
+            if (lineBreakProcessor.isLineBreakRequired( startTag.localName, attributeNames )) {
+                writeLineBreak();
+            }
+        }
+        childNodeCount++;
+        flushText();
+        closeStartTag();
+
+        if (!elementStack.isEmpty() && startNewLine) {
+            indent( elementStack.size() );
+        }
+        startNewLine = true;
+        write( "<" );
+        write( startTag.qname );
+
+        for (String[] attribute : attributes) {
+            write( " " );
+            write( attribute[0] );
+            write( "=\"" );
+            writeEscaped( attribute[1], false );
+            write( "\"" );
+        }
+        elementStack.push( new ElementContext( startTag, childNodeCount ) );
+        startTagOpen = true;
+        childNodeCount = 0;
+        prevText = false;
+
+        if (startTag.emptyElement) {
+            writeEndElement();
+        }
+    }
+
+    /**
+     * Returns the attributes of the given start tag in the order that they should be written. If the namespace of the
+     * element itself is not already in scope, its declaration is written first; all other attributes and namespace
+     * declarations follow in order of their qualified names.
+     *
+     * @param startTag the start tag whose attributes are to be sorted
+     * @return List&lt;String[]&gt;
+     */
+    private List<String[]> sortAttributes(PendingStartTag startTag) {
+        List<String[]> attributes = new ArrayList<>( startTag.attributes );
+        String elementNS = (startTag.namespaceURI == null) ? XMLConstants.NULL_NS_URI : startTag.namespaceURI;
+        String prefix = (startTag.prefix == null) ? XMLConstants.DEFAULT_NS_PREFIX : startTag.prefix;
+        String[] elementNSDeclaration = null;
+
+        attributes.sort( (a1, a2) -> a1[0].compareTo( a2[0] ) );
+
+        if (!elementNS.isEmpty() && !elementNS.equals( namespaceContext.getNamespaceURI( prefix ) )) {
+            String declarationName = prefix.isEmpty() ? XMLNS : (XMLNS + ":" + prefix);
+            Iterator<String[]> iterator = attributes.iterator();
+
+            while (iterator.hasNext()) {
+                if (iterator.next()[0].equals( declarationName )) {
+                    iterator.remove();
+                }
+            }
+            elementNSDeclaration = new String[] {declarationName, elementNS};
+            startTag.bindings.put( prefix, elementNS );
+        }
+        if (elementNSDeclaration != null) {
+            attributes.add( 0, elementNSDeclaration );
+        }
+        return attributes;
+    }
+
+    /**
+     * Writes the blank line that separates top-level elements of the document. The output is the same as that of a
+     * line-break comment whose content is removed by the <code>XMLPrettyPrinter</code>.
+     *
+     * @throws XMLStreamException thrown if an error occurs while writing the output
+     */
+    private void writeLineBreak() throws XMLStreamException {
+        beginChildNode();
+        startNewLine = true;
+    }
+
+    /**
+     * Performs the formatting steps that are common to comments and processing instructions.
+     *
+     * @throws XMLStreamException thrown if an error occurs while writing the output
+     */
+    private void beginChildNode() throws XMLStreamException {
+        childNodeCount++;
+        flushText();
+        closeStartTag();
+
+        if (!elementStack.isEmpty()) {
+            indent( elementStack.size() );
+        }
+    }
+
+    /**
+     * Completes the open start tag (if any) of the current element.
+     *
+     * @throws XMLStreamException thrown if an error occurs while writing the output
+     */
+    private void closeStartTag() throws XMLStreamException {
+        if (startTagOpen) {
+            write( ">" );
+            startTagOpen = false;
+        }
+    }
+
+    /**
+     * Writes the text that has been accumulated for the current text node. Text that consists only of whitespace is
+     * discarded, and text that follows other child nodes of the current element begins on a new line.
+     *
+     * @throws XMLStreamException thrown if an error occurs while writing the output
+     */
+    private void flushText() throws XMLStreamException {
+        if (pendingText.length() == 0) {
+            return;
+        }
+        String text = pendingText.toString();
+
+        pendingText.setLength( 0 );
+
+        if (text.replace( '\n', ' ' ).trim().isEmpty()) {
+            return;
+        }
+        closeStartTag();
+        childNodeCount++;
+
+        if (!elementStack.isEmpty() && (childNodeCount > 1)) {
+            indent( elementStack.size() );
+            startNewLine = true;
+            text = text.substring( countLeadingLineFeeds( text ) );
+        }
+        writeEscaped( text, true );
+        prevText = true;
+    }
+
+    /**
+     * Returns the number of line-feed characters at the beginning of the given text.
+     *
+     * @param text the text to analyze
+     * @return int
+     */
+    private static int countLeadingLineFeeds(String text) {
+        int count = 0;
+
+        while ((count < text.length()) && (text.charAt( count ) == '\n')) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Writes a line break (if required) followed by the indentation for the specified element depth.
+     *
+     * @param depth the element depth of the indentation
+     * @throws XMLStreamException thrown if an error occurs while writing the output
+     */
+    private void indent(int depth) throws XMLStreamException {
+        if (startNewLine) {
+            write( "\n" );
+        }
+        for (int i = 0; i < (depth * INDENT_AMOUNT); i++) {
+            write( " " );
+        }
+    }
+
+    /**
+     * Writes the given text or attribute value, escaping any characters that cannot appear in the output as-is.
+     *
+     * @param value the text or attribute value to write
+     * @param isText flag indicating whether the value is the content of a text node or an attribute value
+     * @throws XMLStreamException thrown if an error occurs while writing the output
+     */
+    private void writeEscaped(String value, boolean isText) throws XMLStreamException {
+        try {
+            int length = value.length();
+            int cleanStart = 0;
+
+            for (int i = 0; i < length; i++) {
+                char ch = value.charAt( i );
+                String replacement = getReplacement( ch, isText );
+
+                if ((replacement == null) && Character.isHighSurrogate( ch ) && ((i + 1) < length)
+                    && Character.isLowSurrogate( value.charAt( i + 1 ) )) {
+                    replacement = "&#" + Character.toCodePoint( ch, value.charAt( i + 1 ) ) + ";";
+                    out.write( value, cleanStart, i - cleanStart );
+                    out.write( replacement );
+                    cleanStart = ++i + 1;
+
+                } else if (replacement != null) {
+                    out.write( value, cleanStart, i - cleanStart );
+                    out.write( replacement );
+                    cleanStart = i + 1;
+                }
+            }
+            out.write( value, cleanStart, length - cleanStart );
+
+        } catch (IOException e) {
+            throw new XMLStreamException( e );
+        }
+    }
+
+    /**
+     * Returns the escaped replacement for the given character, or null if the character can be written as-is.
+     *
+     * @param ch the character to escape
+     * @param isText flag indicating whether the character is part of a text node or an attribute value
+     * @return String
+     */
+    private static String getReplacement(char ch, boolean isText) {
+        String replacement;
+
+        switch (ch) {
+            case '<':
+                replacement = "&lt;";
+                break;
+            case '>':
+                replacement = "&gt;";
+                break;
+            case '&':
+                replacement = "&amp;";
+                break;
+            case '"':
+                replacement = isText ? null : "&quot;";
+                break;
+            case '\n':
+            case '\t':
+                replacement = isText ? null : ("&#" + (int) ch + ";");
+                break;
+            case '\r':
+                replacement = "&#13;";
+                break;
+            default:
+                boolean isControlChar = (ch < 0x20) || (isText && (ch >= 0x7F) && (ch <= 0x9F));
+
+                replacement = isControlChar ? ("&#" + (int) ch + ";") : null;
+                break;
+        }
+        return replacement;
+    }
+
+    /**
+     * Writes the given string to the output.
+     *
+     * @param str the string to write
+     * @throws XMLStreamException thrown if an error occurs while writing the output
+     */
+    private void write(String str) throws XMLStreamException {
+        try {
+            out.write( str );
+
+        } catch (IOException e) {
+            throw new XMLStreamException( e );
+        }
+    }
+
+    /**
+     * Returns the map of namespace bindings to which new bindings should be added.
+     *
+     * @return Map&lt;String,String&gt;
+     */
+    private Map<String,String> currentBindings() {
+        Map<String,String> bindings;
+
+        if (pendingStartTag != null) {
+            bindings = pendingStartTag.bindings;
+
+        } else if (!elementStack.isEmpty()) {
+            bindings = elementStack.peek().bindings;
+
+        } else {
+            bindings = rootBindings;
+        }
+        return bindings;
+    }
+
+    /**
+     * Returns the qualified name for the given prefix and local name.
+     *
+     * @param prefix the namespace prefix (may be null or empty)
+     * @param localName the local name
+     * @return String
+     */
+    private static String qualifiedName(String prefix, String localName) {
+        return ((prefix == null) || prefix.isEmpty()) ? localName : (prefix + ":" + localName);
+    }
+
+    /**
+     * Start tag whose attributes and namespace declarations are still being written.
+     */
+    private static class PendingStartTag {
+
+        private final String prefix;
+        private final String localName;
+        private final String namespaceURI;
+        private final String qname;
+        private final List<String[]> attributes = new ArrayList<>();
+        private final Map<String,String> bindings = new HashMap<>();
+        private boolean emptyElement = false;
+
+        /**
+         * Full constructor.
+         *
+         * @param prefix the namespace prefix of the element
+         * @param localName the local name of the element
+         * @param namespaceURI the namespace URI of the element
+         */
+        public PendingStartTag(String prefix, String localName, String namespaceURI) {
+            this.prefix = prefix;
+            this.localName = localName;
+            this.namespaceURI = namespaceURI;
+            this.qname = qualifiedName( prefix, localName );
+        }
+
+    }
+
+    /**
+     * Formatting and namespace state of an element whose start tag has been written.
+     */
+    private static class ElementContext {
+
+        private final String qname;
+        private final Map<String,String> bindings;
+        private final int parentChildNodeCount;
+
+        /**
+         * Constructor that creates the context for the given start tag.
+         *
+         * @param startTag the start tag of the element
+         * @param parentChildNodeCount the child node count of the parent element
+         */
+        public ElementContext(PendingStartTag startTag, int parentChildNodeCount) {
+            this.qname = startTag.qname;
+            this.bindings = startTag.bindings;
+            this.parentChildNodeCount = parentChildNodeCount;
+        }
+
+    }
+
+    /**
+     * Namespace context that resolves prefixes using the bindings of the elements that are currently open.
+     */
+    private class ScopedNamespaceContext implements NamespaceContext {
+
+        /**
+         * @see javax.xml.namespace.NamespaceContext#getNamespaceURI(java.lang.String)
+         */
+        @Override
+        public String getNamespaceURI(String prefix) {
+            String uri = null;
+
+            for (ElementContext element : elementStack) {
+                if ((uri = element.bindings.get( prefix )) != null) {
+                    break;
+                }
+            }
+            if (uri == null) {
+                uri = rootBindings.get( prefix );
+            }
+            if ((uri == null) && (rootContext != null)) {
+                uri = rootContext.getNamespaceURI( prefix );
+                uri = XMLConstants.NULL_NS_URI.equals( uri ) ? null : uri;
+            }
+            if (uri == null) {
+                uri = XMLConstants.XML_NS_PREFIX.equals( prefix ) ? XMLConstants.XML_NS_URI
+                    : XMLConstants.NULL_NS_URI;
+            }
+            return uri;
+        }
+
+        /**
+         * @see javax.xml.namespace.NamespaceContext#getPrefix(java.lang.String)
+         */
+        @Override
+        public String getPrefix(String namespaceURI) {
+            Iterator<String> prefixes = getPrefixes( namespaceURI );
+
+            return prefixes.hasNext() ? prefixes.next() : null;
+        }
+
+        /**
+         * @see javax.xml.namespace.NamespaceContext#getPrefixes(java.lang.String)
+         */
+        @Override
+        public Iterator<String> getPrefixes(String namespaceURI) {
+            List<Map<String,String>> scopes = new ArrayList<>();
+            List<String> prefixes = new ArrayList<>();
+
+            for (ElementContext element : elementStack) {
+                scopes.add( element.bindings );
+            }
+            scopes.add( rootBindings );
+
+            for (Map<String,String> bindings : scopes) {
+                for (Map.Entry<String,String> entry : bindings.entrySet()) {
+                    if (entry.getValue().equals( namespaceURI ) && !prefixes.contains( entry.getKey() )
+                        && namespaceURI.equals( getNamespaceURI( entry.getKey() ) )) {
+                        prefixes.add( entry.getKey() );
+                    }
+                }
+            }
+            if (rootContext != null) {
+                Iterator<?> rootPrefixes = rootContext.getPrefixes( namespaceURI );
+
+                while (rootPrefixes.hasNext()) {
+                    String prefix = (String) rootPrefixes.next();
+
+                    if (!prefixes.contains( prefix ) && namespaceURI.equals( getNamespaceURI( prefix ) )) {
+                        prefixes.add( prefix );
+                    }
+                }
+            }
+            return Collections.unmodifiableList( prefixes ).iterator();
+        }
+
+    }
+
+}
@@ -16,11 +16,8 @@
 
 package org.opentravel.schemacompiler.xml;
 
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -35,29 +32,12 @@ public class WSDLLineBreakProcessor extends PrettyPrintLineBreakProcessor {
     private static final List<String> lineBreakElements = Arrays.asList( LINE_BREAK_ELEMENTS );
 
     /**
-     * @see org.opentravel.schemacompiler.xml.PrettyPrintLineBreakProcessor#insertLineBreakTokens(org.w3c.dom.Document)
+     * @see org.opentravel.schemacompiler.xml.PrettyPrintLineBreakProcessor#isLineBreakRequired(java.lang.String,
+     *      java.util.Collection)
      */
     @Override
-    public void insertLineBreakTokens(Document document) {
-        Element rootElement = (Element) document.getFirstChild();
-        Node topLevelNode = rootElement.getFirstChild();
-
-        while (topLevelNode != null) {
-            if (topLevelNode.getNodeType() != Node.ELEMENT_NODE) {
-                continue;
-            }
-            String elementName = topLevelNode.getNodeName();
-            int colonIdx = elementName.indexOf( ':' );
-
-            if (colonIdx >= 0) {
-                elementName = elementName.substring( colonIdx + 1 );
-            }
-            if (lineBreakElements.contains( elementName )) {
-                topLevelNode.getParentNode().insertBefore( document.createComment( LINE_BREAK_TOKEN ), topLevelNode );
-            }
-            topLevelNode = topLevelNode.getNextSibling();
-        }
-        rootElement.appendChild( document.createComment( LINE_BREAK_TOKEN ) );
+    public boolean isLineBreakRequired(String elementName, Collection<String> attributeNames) {
+        return lineBreakElements.contains( elementName );
     }
 
 }
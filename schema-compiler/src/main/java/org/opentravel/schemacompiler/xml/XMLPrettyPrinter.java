@@ -32,6 +32,8 @@ import java.nio.charset.StandardCharsets;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamWriter;
 
 /**
  * Encapsulates the logic required to format an XML output stream using the DOM load-and-save (LS) utilities. In
@@ -47,8 +49,11 @@ public class XMLPrettyPrinter {
 
     private static final Logger log = LogManager.getLogger( XMLPrettyPrinter.class );
 
-    private static final DocumentBuilder docBuilder;
-    private static final DOMImplementationLS domLS;
+    private static final DocumentBuilderFactory docBuilderFactory = DocumentBuilderFactory.newInstance();
+
+    // DocumentBuilder instances are not thread-safe, so each thread is assigned its own
+    private static final ThreadLocal<DocumentBuilder> docBuilder =
+        ThreadLocal.withInitial( XMLPrettyPrinter::newDocumentBuilder );
 
     private PrettyPrintLineBreakProcessor lineBreakProcessor;
 
@@ -72,7 +77,7 @@ public class XMLPrettyPrinter {
      * @return Document
      */
     public static Document newDocument() {
-        return docBuilder.newDocument();
+        return docBuilder.get().newDocument();
     }
 
     /**
@@ -83,6 +88,8 @@ public class XMLPrettyPrinter {
      */
     public void formatDocument(Document document, OutputStream out) {
         try {
+            DOMImplementationLS domLS =
+                (DOMImplementationLS) docBuilder.get().getDOMImplementation().getFeature( "LS", "3.0" );
             LSSerializer serializer = domLS.createLSSerializer();
             LSOutput lsOut = domLS.createLSOutput();
             Writer writer = new LineBreakTokenWriter( out );
@@ -101,6 +108,23 @@ public class XMLPrettyPrinter {
         }
     }
 
+    /**
+     * Returns a streaming writer that sends formatted XML output to the specified output stream. The content produced
+     * by the writer is identical to that of the <code>formatDocument()</code> method, but it is written as each event
+     * is received instead of being assembled in a DOM document first. Closing the writer flushes its content to the
+     * output stream but does not close the stream itself.
+     *
+     * <p>
+     * NOTE: Line break processors may be stateful, so a new instance of this class should be used for each document
+     * that is written.
+     *
+     * @param out the output stream that will receive the formatted content
+     * @return XMLStreamWriter
+     */
+    public XMLStreamWriter newStreamWriter(OutputStream out) {
+        return new PrettyPrintXMLStreamWriter( out, lineBreakProcessor );
+    }
+
     /**
      * Writer that intercepts the XML output produced by the pretty-printer class, replacing line-break tokens with
      * actual line breaks in the underlying output stream.
@@ -160,12 +184,29 @@ public class XMLPrettyPrinter {
     }
 
     /**
-     * Initializes the document builder instance used to construct documents and DOM serializer components.
+     * Creates a new document builder instance for the current thread.
+     * 
+     * @return DocumentBuilder
+     */
+    private static DocumentBuilder newDocumentBuilder() {
+        try {
+            synchronized (docBuilderFactory) {
+                return docBuilderFactory.newDocumentBuilder();
+            }
+
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException( "Unable to create XML document builder.", e );
+        }
+    }
+
+    /**
+     * Verifies that document builder and DOM serializer components can be created.
      */
     static {
         try {
-            docBuilder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
-            domLS = (DOMImplementationLS) docBuilder.getDOMImplementation().getFeature( "LS", "3.0" );
+            if (docBuilder.get().getDOMImplementation().getFeature( "LS", "3.0" ) == null) {
+                throw new IllegalStateException( "DOM load-and-save (LS) features are not supported." );
+            }
 
         } catch (Exception e) {
             throw new ExceptionInInitializerError( e );
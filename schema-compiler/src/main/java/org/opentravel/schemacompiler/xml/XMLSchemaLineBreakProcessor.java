@@ -16,11 +16,8 @@
 
 package org.opentravel.schemacompiler.xml;
 
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -35,64 +32,35 @@ public class XMLSchemaLineBreakProcessor extends PrettyPrintLineBreakProcessor {
 
     private static final List<String> lineBreakElements = Arrays.asList( LINE_BREAK_ELEMENTS );
 
+    private boolean importOrIncludeBreakAdded = false;
+    private boolean lastTokenWasElement = false;
+
     /**
-     * @see org.opentravel.schemacompiler.xml.PrettyPrintLineBreakProcessor#insertLineBreakTokens(org.w3c.dom.Document)
+     * @see org.opentravel.schemacompiler.xml.PrettyPrintLineBreakProcessor#isLineBreakRequired(java.lang.String,
+     *      java.util.Collection)
      */
     @Override
-    public void insertLineBreakTokens(Document document) {
-        Element rootElement = (Element) document.getFirstChild();
-        Node topLevelNode = rootElement.getFirstChild();
-        boolean importOrIncludeBreakAdded = false;
-        boolean lastTokenWasElement = false;
-
-        while (topLevelNode != null) {
-            if (topLevelNode.getNodeType() != Node.ELEMENT_NODE) {
-                continue;
-            }
-            boolean addLineBreakToken = false;
-            String elementName = getElementName( topLevelNode );
-
-            if (lineBreakElements.contains( elementName )) {
-                addLineBreakToken = true;
-
-            } else if (!importOrIncludeBreakAdded
-                && (elementName.equals( "import" ) || elementName.equals( "include" ))) {
-                addLineBreakToken = true;
-                importOrIncludeBreakAdded = true;
-            }
-
-            if (elementName.equals( "element" )) {
-                boolean elementIsAbstract = (topLevelNode.getAttributes().getNamedItem( "abstract" ) != null);
+    public boolean isLineBreakRequired(String elementName, Collection<String> attributeNames) {
+        boolean addLineBreakToken = false;
 
-                addLineBreakToken = elementIsAbstract || !lastTokenWasElement;
-                lastTokenWasElement = true;
+        if (lineBreakElements.contains( elementName )) {
+            addLineBreakToken = true;
 
-            } else {
-                lastTokenWasElement = false;
-            }
-
-            if (addLineBreakToken) {
-                topLevelNode.getParentNode().insertBefore( document.createComment( LINE_BREAK_TOKEN ), topLevelNode );
-            }
-            topLevelNode = topLevelNode.getNextSibling();
+        } else if (!importOrIncludeBreakAdded && (elementName.equals( "import" ) || elementName.equals( "include" ))) {
+            addLineBreakToken = true;
+            importOrIncludeBreakAdded = true;
         }
-        rootElement.appendChild( document.createComment( LINE_BREAK_TOKEN ) );
-    }
 
-    /**
-     * Returns the XML element name for the given node.
-     * 
-     * @param node the node whose name is to be returned
-     * @return String
-     */
-    private String getElementName(Node node) {
-        String elementName = node.getNodeName();
-        int colonIdx = elementName.indexOf( ':' );
+        if (elementName.equals( "element" )) {
+            boolean elementIsAbstract = attributeNames.contains( "abstract" );
+
+            addLineBreakToken = elementIsAbstract || !lastTokenWasElement;
+            lastTokenWasElement = true;
 
-        if (colonIdx >= 0) {
-            elementName = elementName.substring( colonIdx + 1 );
+        } else {
+            lastTokenWasElement = false;
         }
-        return elementName;
+        return addLineBreakToken;
     }
 
 }
@@ -16,6 +16,9 @@
 
 package org.opentravel.schemacompiler.codegen;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+
 import org.junit.BeforeClass;
 import org.opentravel.schemacompiler.loader.LibraryInputSource;
 import org.opentravel.schemacompiler.loader.LibraryModelLoader;
@@ -28,9 +31,17 @@ import org.opentravel.schemacompiler.util.SchemaCompilerTestUtils;
 import org.opentravel.schemacompiler.validate.FindingMessageFormat;
 import org.opentravel.schemacompiler.validate.FindingType;
 import org.opentravel.schemacompiler.validate.ValidationFindings;
+import org.opentravel.schemacompiler.xml.PrettyPrintLineBreakProcessor;
+import org.opentravel.schemacompiler.xml.XMLPrettyPrinter;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+import javax.xml.parsers.DocumentBuilderFactory;
 
 /**
  * Abstract base class for test classes that validate the code generation subsystem.
@@ -95,4 +106,29 @@ public abstract class AbstractTestCodeGenerators {
         return context;
     }
 
+    /**
+     * Verifies that the streamed output of each generated file is byte-for-byte identical to the content produced by
+     * formatting the equivalent DOM document.
+     * 
+     * @param generatedFiles the files produced by the code generator
+     * @param lineBreakProcessorFactory supplies a new instance of the line break processor used by the code generator
+     *        for each file (processors retain state while a document is formatted)
+     * @throws Exception thrown if a generated file cannot be parsed or formatted
+     */
+    protected void assertMatchesDOMFormat(Collection<File> generatedFiles,
+        Supplier<PrettyPrintLineBreakProcessor> lineBreakProcessorFactory) throws Exception {
+        DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+
+        dbf.setNamespaceAware( true );
+        assertFalse( generatedFiles.isEmpty() );
+
+        for (File generatedFile : generatedFiles) {
+            ByteArrayOutputStream domOutput = new ByteArrayOutputStream();
+
+            new XMLPrettyPrinter( lineBreakProcessorFactory.get() )
+                .formatDocument( dbf.newDocumentBuilder().parse( generatedFile ), domOutput );
+            assertArrayEquals( domOutput.toByteArray(), Files.readAllBytes( generatedFile.toPath() ) );
+        }
+    }
+
 }
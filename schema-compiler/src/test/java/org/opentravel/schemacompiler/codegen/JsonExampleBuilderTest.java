@@ -16,6 +16,7 @@
 
 package org.opentravel.schemacompiler.codegen;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -27,11 +28,13 @@ import org.opentravel.schemacompiler.codegen.example.ExampleGeneratorOptions;
 import org.opentravel.schemacompiler.codegen.example.ExampleGeneratorOptions.DetailLevel;
 import org.opentravel.schemacompiler.codegen.example.ExampleJsonBuilder;
 import org.opentravel.schemacompiler.codegen.util.XsdCodegenUtils;
+import org.opentravel.schemacompiler.model.NamedEntity;
 import org.opentravel.schemacompiler.model.TLAttribute;
 import org.opentravel.schemacompiler.model.TLBusinessObject;
 import org.opentravel.schemacompiler.model.TLFacet;
 import org.opentravel.schemacompiler.model.TLLibrary;
 import org.opentravel.schemacompiler.model.TLListFacet;
+import org.opentravel.schemacompiler.model.TLModel;
 import org.opentravel.schemacompiler.model.TLOpenEnumeration;
 import org.opentravel.schemacompiler.model.TLProperty;
 import org.opentravel.schemacompiler.model.TLPropertyType;
@@ -44,8 +47,11 @@ import org.opentravel.schemacompiler.validate.FindingType;
 import org.opentravel.schemacompiler.validate.ValidationException;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 
+import java.io.ByteArrayOutputStream;
 import java.util.Iterator;
 import java.util.List;
 
@@ -225,6 +231,38 @@ public class JsonExampleBuilderTest extends AbstractTestTransformers {
         assertTrue( node.hasNonNull( "Counter_4_List" ) );
     }
 
+    @Test
+    public void testStreamingOutputShouldMatchTree() throws Exception {
+        ObjectMapper mapper = new ObjectMapper().enable( SerializationFeature.INDENT_OUTPUT );
+        TLModel model = getTestModel();
+        int exampleCount = 0;
+
+        options.setMaxRepeat( 3 );
+        options.setMaxRecursionDepth( 3 );
+
+        for (TLLibrary library : model.getUserDefinedLibraries()) {
+            for (NamedEntity member : library.getNamedMembers()) {
+                ByteArrayOutputStream streamOut = new ByteArrayOutputStream();
+                String treeContent;
+
+                exampleBuilder = new ExampleJsonBuilder( options );
+                exampleBuilder.setModelElement( member );
+
+                try {
+                    treeContent = mapper.writeValueAsString( exampleBuilder.buildTree() );
+
+                } catch (ValidationException e) {
+                    continue; // skip entities that cannot produce examples
+                }
+                exampleBuilder.buildToStream( streamOut );
+                assertEquals( "Streaming output differs for " + member.getLocalName(), treeContent,
+                    streamOut.toString( "UTF-8" ) );
+                assertEquals( treeContent, exampleBuilder.buildString() );
+                exampleCount++;
+            }
+        }
+        assertTrue( exampleCount > 0 );
+    }
 
     private TLBusinessObject getBusinessObject(String namespace, String libraryName, String typeName) throws Exception {
         TLLibrary library = getLibrary( namespace, libraryName );
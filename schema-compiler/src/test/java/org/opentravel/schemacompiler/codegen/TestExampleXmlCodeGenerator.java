@@ -16,20 +16,30 @@
 
 package org.opentravel.schemacompiler.codegen;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 import org.opentravel.schemacompiler.codegen.example.ExampleDocumentBuilder;
+import org.opentravel.schemacompiler.codegen.example.ExampleFragmentCache;
 import org.opentravel.schemacompiler.codegen.example.ExampleGeneratorOptions;
 import org.opentravel.schemacompiler.codegen.example.ExampleGeneratorOptions.DetailLevel;
+import org.opentravel.schemacompiler.codegen.example.ExampleJsonBuilder;
+import org.opentravel.schemacompiler.model.AbstractLibrary;
+import org.opentravel.schemacompiler.model.NamedEntity;
 import org.opentravel.schemacompiler.model.TLBusinessObject;
 import org.opentravel.schemacompiler.model.TLFacet;
 import org.opentravel.schemacompiler.model.TLLibrary;
+import org.opentravel.schemacompiler.model.TLModel;
 import org.opentravel.schemacompiler.transform.AbstractTestTransformers;
 import org.opentravel.schemacompiler.util.SchemaCompilerTestUtils;
 import org.opentravel.schemacompiler.validate.FindingType;
 import org.opentravel.schemacompiler.validate.ValidationException;
+import org.opentravel.schemacompiler.xml.XMLPrettyPrinter;
+
+import java.io.ByteArrayOutputStream;
 
 /**
  * Verifies the operation of the <code>ExampleXmlCodeGenerator</code>.
@@ -65,6 +75,83 @@ public class TestExampleXmlCodeGenerator extends AbstractTestTransformers {
         }
     }
 
+    @Test
+    public void testStreamingExampleOutput() throws Exception {
+        TLModel model = getTestModel();
+        ExampleGeneratorOptions options = new ExampleGeneratorOptions();
+        int exampleCount = 0;
+
+        options.setDetailLevel( DetailLevel.MAXIMUM );
+        options.setMaxRepeat( 3 );
+        options.setMaxRecursionDepth( 3 );
+
+        for (TLLibrary library : model.getUserDefinedLibraries()) {
+            for (NamedEntity member : library.getNamedMembers()) {
+                ExampleDocumentBuilder builder = new ExampleDocumentBuilder( options );
+                ByteArrayOutputStream treeOut = new ByteArrayOutputStream();
+                ByteArrayOutputStream streamOut = new ByteArrayOutputStream();
+
+                builder.setModelElement( member );
+
+                for (AbstractLibrary lib : model.getAllLibraries()) {
+                    builder.addSchemaLocation( lib, lib.getName() + ".xsd" );
+                }
+                try {
+                    new XMLPrettyPrinter().formatDocument( builder.buildTree(), treeOut );
+
+                } catch (ValidationException e) {
+                    continue; // skip entities that cannot produce examples
+                }
+                builder.buildToStream( streamOut );
+                assertEquals( "Streaming output differs for " + member.getLocalName(),
+                    treeOut.toString( "UTF-8" ), streamOut.toString( "UTF-8" ) );
+                exampleCount++;
+            }
+        }
+        assertTrue( exampleCount > 0 );
+    }
+
+    @Test
+    public void testExampleFragmentCache() throws Exception {
+        TLModel model = getTestModel();
+        ExampleFragmentCache fragmentCache = new ExampleFragmentCache();
+        ExampleGeneratorOptions options = new ExampleGeneratorOptions();
+        ExampleGeneratorOptions cachedOptions = new ExampleGeneratorOptions();
+        int exampleCount = 0;
+
+        options.setMaxRecursionDepth( 3 );
+        cachedOptions.setMaxRecursionDepth( 3 );
+        cachedOptions.setFragmentCache( fragmentCache );
+
+        // Generate each example twice so that the second pass is produced from cached fragments
+        for (int i = 0; i < 2; i++) {
+            for (TLLibrary library : model.getUserDefinedLibraries()) {
+                for (NamedEntity member : library.getNamedMembers()) {
+                    String expectedXml;
+
+                    try {
+                        expectedXml = new ExampleDocumentBuilder( options ).setModelElement( member ).buildString();
+
+                    } catch (ValidationException e) {
+                        continue; // skip entities that cannot produce examples
+                    }
+                    String cachedXml =
+                        new ExampleDocumentBuilder( cachedOptions ).setModelElement( member ).buildString();
+                    String expectedJson = new ExampleJsonBuilder( options ).setModelElement( member ).buildString();
+                    String cachedJson =
+                        new ExampleJsonBuilder( cachedOptions ).setModelElement( member ).buildString();
+
+                    assertEquals( "Cached XML output differs for " + member.getLocalName(), expectedXml, cachedXml );
+                    assertEquals( "Cached JSON output differs for " + member.getLocalName(), expectedJson,
+                        cachedJson );
+                    exampleCount++;
+                }
+            }
+        }
+        assertTrue( exampleCount > 0 );
+        assertTrue( fragmentCache.getHitCount() > 0 );
+    }
+
     private TLBusinessObject getBusinessObject(String namespace, String libraryName, String typeName) throws Exception {
         TLLibrary library = getLibrary( namespace, libraryName );
 
@@ -20,6 +20,7 @@ import static org.junit.Assert.assertEquals;
 
 import org.junit.Test;
 import org.opentravel.schemacompiler.model.TLService;
+import org.opentravel.schemacompiler.xml.WSDLLineBreakProcessor;
 
 /**
  * Verifies the operation of the WSDL code generator.
@@ -38,4 +39,13 @@ public class TestWsdlCodeGenerator extends AbstractTestCodeGenerators {
         cg.generateOutput( service, getContext() );
     }
 
+    @Test
+    public void testGeneratedWsdlMatchesDOMFormat() throws Exception {
+        TLService service = getService( PACKAGE_2_NAMESPACE, "library_1_p2" );
+        CodeGenerator<TLService> cg = CodeGeneratorFactory.getInstance()
+            .newCodeGenerator( CodeGeneratorFactory.WSDL_TARGET_FORMAT, TLService.class );
+
+        assertMatchesDOMFormat( cg.generateOutput( service, getContext() ), WSDLLineBreakProcessor::new );
+    }
+
 }
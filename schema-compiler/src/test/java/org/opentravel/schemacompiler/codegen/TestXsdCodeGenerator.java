@@ -18,6 +18,7 @@ package org.opentravel.schemacompiler.codegen;
 
 import org.junit.Test;
 import org.opentravel.schemacompiler.model.TLLibrary;
+import org.opentravel.schemacompiler.xml.XMLSchemaLineBreakProcessor;
 
 /**
  * Verifies the operation of the XSD code generator.
@@ -62,4 +63,13 @@ public class TestXsdCodeGenerator extends AbstractTestCodeGenerators {
         cg.generateOutput( library, getContext() );
     }
 
+    @Test
+    public void testGeneratedXsdMatchesDOMFormat() throws Exception {
+        TLLibrary library = getLibrary( PACKAGE_2_NAMESPACE, "library_1_p2" );
+        CodeGenerator<TLLibrary> cg = CodeGeneratorFactory.getInstance()
+            .newCodeGenerator( CodeGeneratorFactory.XSD_TARGET_FORMAT, TLLibrary.class );
+
+        assertMatchesDOMFormat( cg.generateOutput( library, getContext() ), XMLSchemaLineBreakProcessor::new );
+    }
+
 }
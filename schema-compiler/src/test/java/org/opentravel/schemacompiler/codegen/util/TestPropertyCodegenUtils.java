@@ -17,18 +17,31 @@
 package org.opentravel.schemacompiler.codegen.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.opentravel.schemacompiler.model.TLAttribute;
 import org.opentravel.schemacompiler.model.TLBusinessObject;
 import org.opentravel.schemacompiler.model.TLChoiceObject;
+import org.opentravel.schemacompiler.model.TLContextualFacet;
 import org.opentravel.schemacompiler.model.TLCoreObject;
+import org.opentravel.schemacompiler.model.TLFacet;
+import org.opentravel.schemacompiler.model.TLFacetType;
 import org.opentravel.schemacompiler.model.TLLibrary;
 import org.opentravel.schemacompiler.model.TLModel;
+import org.opentravel.schemacompiler.model.TLProperty;
 import org.opentravel.schemacompiler.repository.ProjectManager;
 import org.opentravel.schemacompiler.util.SchemaCompilerTestUtils;
 
 import java.io.File;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Verifies the functions of the <code>PropertyCodegenUtils</code> class.
@@ -123,4 +136,84 @@ public class TestPropertyCodegenUtils {
         assertEquals( 1, PropertyCodegenUtils.getAlternateFacets( sampleCore.getDetailListFacet() ).length );
     }
 
+    @Test
+    public void testCachedInheritanceResults() throws Exception {
+        TLBusinessObject sampleBO = testLibrary.getBusinessObjectType( "SampleBusinessObject" );
+        TLFacet detailFacet = sampleBO.getDetailFacet();
+
+        try (CodegenResultCache.Scope scope = CodegenResultCache.openScope( testModel )) {
+            List<TLAttribute> attributes = PropertyCodegenUtils.getInheritedAttributes( detailFacet );
+            List<TLProperty> properties = PropertyCodegenUtils.getInheritedProperties( detailFacet );
+            List<TLFacet> availableFacets = FacetCodegenUtils.getAvailableFacets( sampleBO );
+
+            assertNotNull( testModel.getListener( CodegenResultCache.class ) );
+
+            // Cached results must match the original ones, and modifications by the caller must not affect the cache
+            attributes.clear();
+            availableFacets.clear();
+            assertEquals( properties, PropertyCodegenUtils.getInheritedProperties( detailFacet ) );
+            assertFalse( FacetCodegenUtils.getAvailableFacets( sampleBO ).isEmpty() );
+
+            attributes = PropertyCodegenUtils.getInheritedAttributes( detailFacet );
+            assertEquals( Arrays.asList( sampleBO.getIdFacet(), sampleBO.getSummaryFacet(), detailFacet ),
+                FacetCodegenUtils.getLocalFacetHierarchy( detailFacet ) );
+
+            // Modifications to the model must invalidate previously cached results
+            TLAttribute newAttribute = new TLAttribute();
+
+            newAttribute.setName( "cacheTestAttribute" );
+            sampleBO.getSummaryFacet().addAttribute( newAttribute );
+
+            List<TLAttribute> modifiedAttributes = PropertyCodegenUtils.getInheritedAttributes( detailFacet );
+
+            assertEquals( attributes.size() + 1, modifiedAttributes.size() );
+            assertTrue( modifiedAttributes.contains( newAttribute ) );
+        }
+
+        // The cache must be discarded once the scope is closed
+        assertNull( testModel.getListener( CodegenResultCache.class ) );
+        assertFalse( PropertyCodegenUtils.getInheritedAttributes( detailFacet ).isEmpty() );
+        assertNull( testModel.getListener( CodegenResultCache.class ) );
+    }
+
+    @Test
+    public void testGhostFacetEventsRetainCache() throws Exception {
+        TLBusinessObject sampleBO = testLibrary.getBusinessObjectType( "SampleBusinessObject" );
+
+        try (CodegenResultCache.Scope scope = CodegenResultCache.openScope( testModel )) {
+            Object cachedValue =
+                CodegenResultCache.getResult( "ghostTest", sampleBO, () -> Arrays.asList( new Object() ) ).get( 0 );
+            TLContextualFacet ghostFacet = new TLContextualFacet();
+
+            // Events published by registered ghost facets must not invalidate cached results
+            CodegenResultCache.registerGhostFacet( sampleBO, ghostFacet );
+            ghostFacet.setOwningLibrary( testLibrary );
+            ghostFacet.setFacetType( TLFacetType.CUSTOM );
+            ghostFacet.setName( "GhostTest" );
+            ghostFacet.setOwningEntity( sampleBO );
+            assertSame( cachedValue,
+                CodegenResultCache.getResult( "ghostTest", sampleBO, () -> Arrays.asList( new Object() ) ).get( 0 ) );
+
+            // Events published by model members must still invalidate them
+            sampleBO.getSummaryFacet().addAttribute( new TLAttribute() );
+            assertNotSame( cachedValue,
+                CodegenResultCache.getResult( "ghostTest", sampleBO, () -> Arrays.asList( new Object() ) ).get( 0 ) );
+        }
+    }
+
+    @Test
+    public void testNestedCodegenScopes() throws Exception {
+        CodegenResultCache.Scope outerScope = CodegenResultCache.openScope( testModel );
+        CodegenResultCache cache = testModel.getListener( CodegenResultCache.class );
+
+        try (CodegenResultCache.Scope innerScope = CodegenResultCache.openScope( testModel )) {
+            assertSame( cache, testModel.getListener( CodegenResultCache.class ) );
+        }
+        assertSame( cache, testModel.getListener( CodegenResultCache.class ) );
+
+        outerScope.close();
+        outerScope.close();
+        assertNull( testModel.getListener( CodegenResultCache.class ) );
+    }
+
 }
@@ -0,0 +1,83 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.ic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.opentravel.schemacompiler.model.AbstractModelTest;
+import org.opentravel.schemacompiler.model.TLAlias;
+import org.opentravel.schemacompiler.model.TLAttribute;
+import org.opentravel.schemacompiler.model.TLAttributeType;
+import org.opentravel.schemacompiler.model.TLBusinessObject;
+import org.opentravel.schemacompiler.model.TLCoreObject;
+import org.opentravel.schemacompiler.model.TLProperty;
+
+import javax.xml.XMLConstants;
+
+/**
+ * Verifies the functions of the <code>EntityReferenceIndex</code> class.
+ */
+public class TestEntityReferenceIndex extends AbstractModelTest {
+
+    @Test
+    public void testEntityReferenceIndex() throws Exception {
+        EntityReferenceIndex referenceIndex = EntityReferenceIndex.getInstance( model );
+        TLCoreObject core = addCore( "RefCore", library1 );
+        TLBusinessObject bo = addBusinessObject( "RefBO", library1 );
+        TLAttributeType stringType = (TLAttributeType) findEntity( XMLConstants.W3C_XML_SCHEMA_NS_URI, "string" );
+
+        assertSame( referenceIndex, EntityReferenceIndex.getInstance( model ) );
+        assertTrue( referenceIndex.getReferrers( core ).isEmpty() );
+
+        TLAttribute attribute = addAttribute( "coreAttr", bo.getSummaryFacet() );
+        TLProperty element = addElement( "coreElement", bo.getDetailFacet() );
+        TLAlias alias = addAlias( "CoreAlias", core );
+        TLProperty aliasElement = addElement( "aliasElement", bo.getDetailFacet() );
+
+        attribute.setType( core );
+        element.setType( core );
+        aliasElement.setType( alias );
+        assertEquals( 2, referenceIndex.getReferrers( core ).size() );
+        assertTrue( referenceIndex.getReferrers( core ).contains( attribute ) );
+        assertTrue( referenceIndex.getReferrers( core ).contains( element ) );
+        assertEquals( 1, referenceIndex.getReferrers( alias ).size() );
+
+        // Renaming the referenced entities should update the names of the referrers
+        core.setName( "RenamedCore" );
+        alias.setName( "RenamedAlias" );
+        assertEquals( "RenamedCore", attribute.getTypeName() );
+        assertEquals( "RenamedCore", element.getTypeName() );
+        assertEquals( "RenamedAlias", aliasElement.getTypeName() );
+
+        // Re-assigned and removed referrers should no longer be reported
+        attribute.setType( stringType );
+        bo.getDetailFacet().removeProperty( element );
+        assertTrue( referenceIndex.getReferrers( core ).isEmpty() );
+        assertEquals( 1, referenceIndex.getReferrers( stringType ).stream().filter( r -> r == attribute ).count() );
+
+        // Modifications made while listeners are disabled should still be reflected
+        model.setListenersEnabled( false );
+        attribute.setType( core );
+        model.setListenersEnabled( true );
+        assertEquals( 1, referenceIndex.getReferrers( core ).size() );
+        assertSame( attribute, referenceIndex.getReferrers( core ).get( 0 ) );
+    }
+
+}
@@ -17,11 +17,19 @@
 package org.opentravel.schemacompiler.ioc;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
+import org.springframework.context.ApplicationContext;
 
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Verifies the functions of the <code>CompilerExtensionRegistry</code> class.
@@ -44,4 +52,45 @@ public class TestCompilerExtensionRegistry {
         assertEquals( "XYZ", CompilerExtensionRegistry.getActiveExtension() );
     }
 
+    @Test
+    public void testCompilerSession() throws Exception {
+        String globalExtensionId = CompilerExtensionRegistry.getActiveExtension();
+        ApplicationContext globalContext = SchemaCompilerApplicationContext.getContext();
+        ExecutorService executor = Executors.newFixedThreadPool( 2 );
+
+        try {
+            Future<String> xyzResult = executor.submit( () -> runSession( "XYZ" ) );
+            Future<String> ota2Result = executor.submit( () -> runSession( "OTA2" ) );
+
+            assertEquals( "XYZ", xyzResult.get() );
+            assertEquals( "OTA2", ota2Result.get() );
+
+        } finally {
+            executor.shutdown();
+        }
+        assertNull( CompilerSession.getCurrent() );
+        assertEquals( globalExtensionId, CompilerExtensionRegistry.getActiveExtension() );
+        assertSame( globalContext, SchemaCompilerApplicationContext.getContext() );
+    }
+
+    private String runSession(String extensionId) throws Exception {
+        ApplicationContext globalContext = SchemaCompilerApplicationContext.getContext();
+
+        try (CompilerSession session = CompilerSession.open( extensionId )) {
+            ExecutorService worker = Executors.newSingleThreadExecutor();
+            Callable<String> task = CompilerSession.propagate( CompilerExtensionRegistry::getActiveExtension );
+
+            try {
+                assertSame( session, CompilerSession.getCurrent() );
+                assertSame( session.getApplicationContext(), SchemaCompilerApplicationContext.getContext() );
+                assertNotSame( globalContext, session.getApplicationContext() );
+                assertEquals( extensionId, worker.submit( task ).get() );
+
+            } finally {
+                worker.shutdown();
+            }
+            return CompilerExtensionRegistry.getActiveExtension();
+        }
+    }
+
 }
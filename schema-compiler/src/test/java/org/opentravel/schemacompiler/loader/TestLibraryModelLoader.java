@@ -36,6 +36,7 @@ import org.opentravel.schemacompiler.validate.ValidationFindings;
 import java.io.File;
 import java.io.InputStream;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -286,6 +287,66 @@ public class TestLibraryModelLoader {
                                                                    // namespaces
     }
 
+    @Test
+    public void testParallelLoadMatchesSequentialLoad() throws Exception {
+        File libraryFile =
+            new File( SchemaCompilerTestUtils.getBaseLibraryLocation() + "/test-package_v3/sample_library.xml" );
+        List<String> sequentialEvents = new ArrayList<>();
+        List<String> parallelEvents = new ArrayList<>();
+        LibraryModelLoader<InputStream> sequentialLoader = newIncludesModelLoader( sequentialEvents );
+        LibraryModelLoader<InputStream> parallelLoader = newIncludesModelLoader( parallelEvents );
+
+        sequentialLoader.setParallelLoadThreads( 1 );
+        parallelLoader.setParallelLoadThreads( 4 );
+        assertEquals( 4, parallelLoader.getParallelLoadThreads() );
+        assertTrue( parallelLoader.getModuleLoader().isThreadSafe() );
+
+        ValidationFindings sequentialFindings =
+            sequentialLoader.loadLibraryModel( new LibraryStreamInputSource( libraryFile ) );
+        ValidationFindings parallelFindings =
+            parallelLoader.loadLibraryModel( new LibraryStreamInputSource( libraryFile ) );
+        List<String> sequentialLibraries = new ArrayList<>();
+        List<String> parallelLibraries = new ArrayList<>();
+
+        for (AbstractLibrary library : sequentialLoader.getLibraryModel().getAllLibraries()) {
+            sequentialLibraries.add( library.getLibraryUrl().toExternalForm() );
+        }
+        for (AbstractLibrary library : parallelLoader.getLibraryModel().getAllLibraries()) {
+            parallelLibraries.add( library.getLibraryUrl().toExternalForm() );
+        }
+        assertEquals( 9, parallelLibraries.size() );
+        assertEquals( sequentialLibraries, parallelLibraries );
+        assertEquals( sequentialFindings.count(), parallelFindings.count() );
+        assertEquals( sequentialEvents, parallelEvents );
+    }
+
+    private LibraryModelLoader<InputStream> newIncludesModelLoader(final List<String> monitorEvents)
+        throws Exception {
+        LibraryModelLoader<InputStream> modelLoader = new LibraryModelLoader<InputStream>();
+
+        new ProjectManager( modelLoader.getLibraryModel(), false, testRepositoryManager );
+        modelLoader.setNamespaceResolver( new CatalogLibraryNamespaceResolver(
+            new File( SchemaCompilerTestUtils.getBaseLibraryLocation() + "/empty-catalog.xml" ) ) );
+        modelLoader.setProgressMonitor( new LoaderProgressMonitor() {
+            public void beginLoad(int libraryCount) {
+                monitorEvents.add( "beginLoad" );
+            }
+
+            public void loadingLibrary(String libraryFilename) {
+                monitorEvents.add( "loadingLibrary:" + libraryFilename );
+            }
+
+            public void libraryLoaded() {
+                monitorEvents.add( "libraryLoaded" );
+            }
+
+            public void done() {
+                monitorEvents.add( "done" );
+            }
+        } );
+        return modelLoader;
+    }
+
     // @Test
     public void testLoadLibrary_manualTest() throws Exception {
         File sourceFile = new File( System.getProperty( "user.dir" ), "../../../temp/schemas/test/Amtrak_Look.otm" );
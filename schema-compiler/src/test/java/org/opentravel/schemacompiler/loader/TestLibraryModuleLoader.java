@@ -20,11 +20,14 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 import org.opentravel.schemacompiler.loader.impl.LibrarySchema15ModuleLoader;
 import org.opentravel.schemacompiler.loader.impl.LibrarySchema16ModuleLoader;
 import org.opentravel.schemacompiler.loader.impl.LibraryStreamInputSource;
+import org.opentravel.schemacompiler.loader.impl.MultiVersionLibraryModuleLoader;
+import org.opentravel.schemacompiler.loader.impl.UnmarshallerPool;
 import org.opentravel.schemacompiler.util.SchemaCompilerTestUtils;
 import org.opentravel.schemacompiler.util.URLUtils;
 import org.opentravel.schemacompiler.validate.FindingMessageFormat;
@@ -33,7 +36,12 @@ import org.opentravel.schemacompiler.validate.ValidationFindings;
 
 import java.io.File;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Validates the functions of the <code>LibrarySchema1_3_ModuleLoader</code>.
@@ -94,4 +102,40 @@ public class TestLibraryModuleLoader {
         assertEquals( "schemacompiler.loader.WARNING_LIBRARY_NOT_FOUND", findingList.get( 0 ).getMessageKey() );
     }
 
+    @Test
+    public void testConcurrentLoadsWithPooledUnmarshallers() throws Exception {
+        final File libraryFile =
+            new File( SchemaCompilerTestUtils.getBaseLibraryLocation() + "/test-package_v1/library_1_p1.xml" );
+        final File schemaFile =
+            new File( SchemaCompilerTestUtils.getBaseLibraryLocation() + "/test-package_v3/legacy_schema_1.xsd" );
+        final LibraryModuleLoader<InputStream> moduleLoader = new MultiVersionLibraryModuleLoader();
+        ExecutorService executor = Executors.newFixedThreadPool( 4 );
+
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+
+            for (int i = 0; i < 20; i++) {
+                results.add( executor.submit( new Callable<Boolean>() {
+                    public Boolean call() throws Exception {
+                        ValidationFindings findings = new ValidationFindings();
+                        LibraryModuleInfo<Object> libraryInfo = moduleLoader
+                            .loadLibrary( new LibraryStreamInputSource( URLUtils.toURL( libraryFile ) ), findings );
+                        LibraryModuleInfo<?> schemaInfo = moduleLoader
+                            .loadSchema( new LibraryStreamInputSource( URLUtils.toURL( schemaFile ) ), findings );
+
+                        return (libraryInfo != null) && "library_1_p1".equals( libraryInfo.getLibraryName() )
+                            && (schemaInfo != null) && !findings.hasFinding();
+                    }
+                } ) );
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue( result.get() );
+            }
+            assertTrue( UnmarshallerPool.getInstance().getIdleCount() > 0 );
+
+        } finally {
+            executor.shutdown();
+        }
+    }
+
 }
@@ -17,6 +17,8 @@
 package org.opentravel.schemacompiler.model;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 import org.junit.Test;
 import org.opentravel.schemacompiler.model.BuiltInLibrary.BuiltInType;
@@ -74,6 +76,32 @@ public class TestBuiltInLibrary extends AbstractModelTest {
         testNegativeCase( library, l -> library.removeNamedMember( null ), UnsupportedOperationException.class );
     }
 
+    @Test
+    public void testBuiltInsIsolatedBetweenModels() throws Exception {
+        TLModel model1 = new TLModel();
+        TLModel model2 = new TLModel();
+        List<BuiltInLibrary> builtIns1 = model1.getBuiltInLibraries();
+        List<BuiltInLibrary> builtIns2 = model2.getBuiltInLibraries();
+
+        assertEquals( builtIns1.size(), builtIns2.size() );
+
+        for (int i = 0; i < builtIns1.size(); i++) {
+            BuiltInLibrary builtIn1 = builtIns1.get( i );
+            BuiltInLibrary builtIn2 = builtIns2.get( i );
+
+            assertNotSame( builtIn1, builtIn2 );
+            assertEquals( builtIn1.getNamespace(), builtIn2.getNamespace() );
+            assertEquals( builtIn1.getNamedMembers().size(), builtIn2.getNamedMembers().size() );
+
+            for (LibraryMember member : builtIn1.getNamedMembers()) {
+                assertSame( model1, member.getOwningModel() );
+            }
+            for (LibraryMember member : builtIn2.getNamedMembers()) {
+                assertSame( model2, member.getOwningModel() );
+            }
+        }
+    }
+
     private BuiltInLibrary newBuiltIn() throws Exception {
         File libraryFolder = new File( System.getProperty( "user.dir" ), "/src/test/resources/temp" );
         File libraryFile = new File( libraryFolder, "/TestBuiltIn.otm" );
@@ -19,13 +19,23 @@ package org.opentravel.schemacompiler.model;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 import org.opentravel.schemacompiler.event.ModelElementListener;
 import org.opentravel.schemacompiler.event.OwnershipEvent;
 import org.opentravel.schemacompiler.event.ValueChangeEvent;
+import org.opentravel.schemacompiler.ic.EntityReferenceIndex;
+import org.opentravel.schemacompiler.transform.SymbolTable;
+import org.opentravel.schemacompiler.transform.symbols.ModelSymbolTableListener;
+import org.opentravel.schemacompiler.transform.symbols.SymbolTableFactory;
+import org.opentravel.schemacompiler.validate.ValidatorFactory;
+import org.opentravel.schemacompiler.validate.impl.IncrementalModelValidator;
 
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -48,6 +58,176 @@ public class TestTLModel extends AbstractModelTest {
         assertFalse( model.hasNamespace( library1.getNamespace() ) );
     }
 
+    @Test
+    public void testLibraryLookupAfterModification() throws Exception {
+        String origNamespace = library1.getNamespace();
+        String newNamespace = "http://www.opentravel.org/schemas/pkg3/v1";
+        URL origUrl = library1.getLibraryUrl();
+        URL newUrl = new URL( origUrl.toExternalForm().replace( "TestLibrary1", "RenamedLibrary1" ) );
+
+        assertEquals( library1, model.getLibrary( origNamespace, "TestLibrary1" ) );
+        assertEquals( library1, model.getLibrary( origUrl ) );
+
+        library1.setName( "RenamedLibrary1" );
+        assertNull( model.getLibrary( origNamespace, "TestLibrary1" ) );
+        assertEquals( library1, model.getLibrary( origNamespace, "RenamedLibrary1" ) );
+
+        library1.setNamespace( newNamespace );
+        assertFalse( model.hasNamespace( origNamespace ) );
+        assertTrue( model.hasLibrary( newNamespace, "RenamedLibrary1" ) );
+        assertEquals( 1, model.getLibrariesForNamespace( newNamespace ).size() );
+
+        library1.setLibraryUrl( newUrl );
+        assertFalse( model.hasLibrary( origUrl ) );
+        assertEquals( library1, model.getLibrary( newUrl ) );
+
+        model.clearModel();
+        assertFalse( model.hasLibrary( newUrl ) );
+        assertFalse( model.hasNamespace( library2.getNamespace() ) );
+    }
+
+    @Test
+    public void testNamedMemberLookupAfterModification() throws Exception {
+        TLBusinessObject bo = addBusinessObject( "TestBO", library1 );
+        TLContextualFacet facet = newContextualFacet( "Test", TLFacetType.CUSTOM, library1 );
+
+        facet.setOwningEntity( bo );
+        assertEquals( "TestBO_Test", facet.getLocalName() );
+        assertEquals( facet, library1.getNamedMember( "TestBO_Test" ) );
+
+        bo.setName( "RenamedBO" );
+        assertNull( library1.getNamedMember( "TestBO" ) );
+        assertEquals( bo, library1.getNamedMember( "RenamedBO" ) );
+        assertNull( library1.getNamedMember( "TestBO_Test" ) );
+        assertEquals( facet, library1.getNamedMember( "RenamedBO_Test" ) );
+
+        TLCoreObject duplicate1 = new TLCoreObject();
+        TLCoreObject duplicate2 = new TLCoreObject();
+
+        duplicate1.setName( "Duplicate" );
+        duplicate2.setName( "Duplicate" );
+        library1.addNamedMember( duplicate1 );
+        library1.addNamedMember( duplicate2 );
+        assertEquals( duplicate1, library1.getNamedMember( "Duplicate" ) );
+        library1.removeNamedMember( duplicate1 );
+        assertEquals( duplicate2, library1.getNamedMember( "Duplicate" ) );
+        library1.removeNamedMember( duplicate2 );
+        assertNull( library1.getNamedMember( "Duplicate" ) );
+    }
+
+    @Test
+    public void testLargeLibraryMemberLookup() throws Exception {
+        int memberCount = 10000;
+
+        for (int i = 0; i < memberCount; i++) {
+            TLSimple simple = new TLSimple();
+
+            simple.setName( "Simple" + i );
+            library1.addNamedMember( simple );
+        }
+
+        // Interleave renames with lookups; each rename must update the index in place instead of forcing a rebuild
+        for (int i = 0; i < memberCount; i++) {
+            TLSimple member = (TLSimple) library1.getNamedMember( "Simple" + i );
+
+            member.setName( "RenamedSimple" + i );
+            assertNull( library1.getNamedMember( "Simple" + i ) );
+            assertSame( member, library1.getNamedMember( "RenamedSimple" + i ) );
+        }
+
+        // Removing members must update the index in place as well
+        for (int i = 0; i < memberCount; i += 2) {
+            library1.removeNamedMember( library1.getNamedMember( "RenamedSimple" + i ) );
+        }
+        assertNull( library1.getNamedMember( "RenamedSimple0" ) );
+        assertEquals( "RenamedSimple1", library1.getNamedMember( "RenamedSimple1" ).getLocalName() );
+        assertEquals( memberCount / 2, library1.getNamedMembers().size() );
+    }
+
+    @Test
+    public void testLiveSymbolTable() throws Exception {
+        String ns1 = library1.getNamespace();
+        String ns2 = library2.getNamespace();
+        TLBusinessObject bo = addBusinessObject( "TestBO", library1 );
+        TLContextualFacet facet = newContextualFacet( "Test", TLFacetType.CUSTOM, library2 );
+        SymbolTable symbols = SymbolTableFactory.getSymbolTableForModel( model );
+
+        assertTrue( symbols.isReadOnly() );
+        assertSame( symbols, SymbolTableFactory.getSymbolTableForModel( model ) );
+
+        bo.addCustomFacet( facet );
+        assertNull( symbols.getEntity( ns2, "TestBO_Test" ) );
+        symbols = SymbolTableFactory.getSymbolTableForModel( model );
+        assertEquals( bo, symbols.getEntity( ns1, "TestBO" ) );
+        assertEquals( facet, symbols.getEntity( ns2, "TestBO_Test" ) );
+        assertEquals( ns2, symbols.getNamespaceForEntity( facet ) );
+
+        TLCoreObject core = addCore( "TestCore", library1 );
+        SymbolTable previousSymbols = symbols;
+
+        bo.setName( "RenamedBO" );
+        symbols = SymbolTableFactory.getSymbolTableForModel( model );
+        assertEquals( bo, previousSymbols.getEntity( ns1, "TestBO" ) );
+        assertNull( previousSymbols.getEntity( ns1, "TestCore" ) );
+        assertEquals( ns1, previousSymbols.getNamespaceForEntity( bo ) );
+        assertEquals( core, symbols.getEntity( ns1, "TestCore" ) );
+        assertNull( symbols.getEntity( ns1, "TestBO" ) );
+        assertEquals( bo, symbols.getEntity( ns1, "RenamedBO" ) );
+        assertEquals( facet, symbols.getEntity( ns2, "RenamedBO_Test" ) );
+
+        library1.removeNamedMember( core );
+        symbols = SymbolTableFactory.getSymbolTableForModel( model );
+        assertNull( symbols.getEntity( ns1, "TestCore" ) );
+        assertNull( symbols.getNamespaceForEntity( core ) );
+
+        // Modifications made while listeners are disabled should still be reflected
+        model.setListenersEnabled( false );
+        addCore( "HiddenCore", library2 );
+        model.setListenersEnabled( true );
+        symbols = SymbolTableFactory.getSymbolTableForModel( model );
+        assertEquals( library2.getNamedMember( "HiddenCore" ), symbols.getEntity( ns2, "HiddenCore" ) );
+
+        SymbolTable fullSymbols = SymbolTableFactory.newSymbolTableFromModel( model );
+
+        for (String ns : fullSymbols.getNamespaces()) {
+            assertEquals( fullSymbols.getLocalNames( ns ), symbols.getLocalNames( ns ) );
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testLiveSymbolTableReadOnly() throws Exception {
+        SymbolTableFactory.getSymbolTableForModel( model ).addEntity( library1.getNamespace(), "Test", new TLSimple() );
+    }
+
+    @Test
+    public void testDerivedStateDetachedOnClear() throws Exception {
+        TLCoreObject core = addCore( "TestCore", library1 );
+        TLBusinessObject bo = addBusinessObject( "TestBO", library2 );
+        TLAttribute attribute = addAttribute( "coreAttr", bo.getSummaryFacet() );
+        EntityReferenceIndex referenceIndex = EntityReferenceIndex.getInstance( model );
+        IncrementalModelValidator validator =
+            IncrementalModelValidator.getInstance( model, ValidatorFactory.COMPILE_RULE_SET_ID );
+
+        attribute.setType( core );
+        assertEquals( core, SymbolTableFactory.getSymbolTableForModel( model ).getEntity( library1.getNamespace(),
+            "TestCore" ) );
+        assertEquals( 1, referenceIndex.getReferrers( core ).size() );
+        validator.validateModel();
+        assertEquals( 2, validator.getLastValidationCount() );
+
+        // The derived state is owned by the model's listeners and must not retain the cleared libraries
+        assertSame( referenceIndex, model.getListener( EntityReferenceIndex.class ) );
+        assertSame( validator, model.getListener( IncrementalModelValidator.class ) );
+        assertNotNull( model.getListener( ModelSymbolTableListener.class ) );
+        model.clearModel();
+
+        assertNull( SymbolTableFactory.getSymbolTableForModel( model ).getEntity( library1.getNamespace(),
+            "TestCore" ) );
+        assertTrue( referenceIndex.getReferrers( core ).isEmpty() );
+        assertEquals( 0, validator.validateModel().count() );
+        assertEquals( 0, validator.getLastValidationCount() );
+    }
+
     @Test
     public void testNegativeMoveScenarios() throws Exception {
         TLCoreObject entity1 = addCore( "TestObject1", library1 );
@@ -17,6 +17,8 @@
 package org.opentravel.schemacompiler.repository;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
@@ -38,15 +40,21 @@ import org.opentravel.ns.ota2.repositoryinfo_v01_00.RefreshPolicy;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.RepositoryInfoType;
 import org.opentravel.ns.ota2.repositoryinfo_v01_00.RepositoryState;
 import org.opentravel.schemacompiler.model.TLLibrary;
+import org.opentravel.schemacompiler.model.TLLibraryStatus;
 import org.opentravel.schemacompiler.repository.impl.DefaultRepositoryFileManager;
 import org.opentravel.schemacompiler.repository.impl.LibraryContentWrapper;
 import org.opentravel.schemacompiler.repository.impl.RemoteRepositoryUtils;
 import org.opentravel.schemacompiler.repository.impl.RepositoryItemImpl;
 import org.opentravel.schemacompiler.repository.impl.RepositoryUtils;
+import org.opentravel.schemacompiler.util.MockHttpServer;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * Verifies the functions of the <code>RepositoryManager</code> class.
@@ -63,6 +71,9 @@ public class TestRepositoryManager {
     @Rule
     public TemporaryFolder folder = new TemporaryFolder();
 
+    private static final String EMPTY_SEARCH_RESULTS =
+        "<SearchResultsList xmlns=\"http://www.OpenTravel.org/ns/OTA2/RepositoryInfo_v01_00\" />";
+
     private RepositoryManager repositoryManager;
     private RepositoryFileManager mockFileManager;
 
@@ -120,6 +131,42 @@ public class TestRepositoryManager {
         assertEquals( 0, repositoryManager.listRemoteRepositories().size() );
     }
 
+    @Test
+    public void testConcurrentRemoteSearch() throws Exception {
+        try (MockHttpServer slowServer = new MockHttpServer( searchRequestHandler( false ) );
+            MockHttpServer fastServer = new MockHttpServer( searchRequestHandler( true ) )) {
+            RemoteRepositoryUtils remoteUtilsMock = mock( RemoteRepositoryUtils.class );
+            RepositoryInfoType localRepoInfo = mockFileManager.loadRepositoryMetadata();
+            RepositoryInfoType slowRepoInfo = getRemoteRepositoryInfo();
+            RepositoryInfoType fastRepoInfo = getRemoteRepositoryInfo();
+            String slowEndpointUrl = slowServer.getBaseUrl() + "/ota2-repository-service";
+            String fastEndpointUrl = fastServer.getBaseUrl() + "/ota2-repository-service";
+            RemoteRepositoryResults<RepositorySearchResult> searchResults;
+            long startTime;
+
+            slowRepoInfo.setID( "slow-repository" );
+            fastRepoInfo.setID( "fast-repository" );
+            localRepoInfo.setRemoteRepositories( null );
+            when( mockFileManager.loadRepositoryMetadata() ).thenReturn( localRepoInfo );
+            when( remoteUtilsMock.getRepositoryMetadata( slowEndpointUrl ) ).thenReturn( slowRepoInfo );
+            when( remoteUtilsMock.getRepositoryMetadata( fastEndpointUrl ) ).thenReturn( fastRepoInfo );
+
+            repositoryManager.setRemoteUtils( remoteUtilsMock );
+            repositoryManager.addRemoteRepository( slowEndpointUrl );
+            repositoryManager.addRemoteRepository( fastEndpointUrl );
+            repositoryManager.setRemoteRequestTimeout( 1000L );
+            assertEquals( 2, repositoryManager.listRemoteRepositories().size() );
+
+            // The unresponsive repository should time out without blocking results from the other one
+            startTime = System.currentTimeMillis();
+            searchResults = repositoryManager.searchRemoteRepositories( "test", TLLibraryStatus.DRAFT, false,
+                RepositoryItemType.LIBRARY );
+            assertTrue( (System.currentTimeMillis() - startTime) < 10000L );
+            assertEquals( 0, searchResults.getResults().size() );
+            assertEquals( Collections.singletonList( "slow-repository" ), searchResults.getTimedOutRepositoryIds() );
+        }
+    }
+
     @Test(expected = RepositoryException.class)
     public void testAddRemoteRepository_duplicateAdd_repositoryId() throws Exception {
         RemoteRepositoryUtils remoteUtilsMock = mock( RemoteRepositoryUtils.class );
@@ -356,6 +403,48 @@ public class TestRepositoryManager {
         repositoryManager.refreshLocalRepositoryInfo( true ); // No exception - warning logged
     }
 
+    @Test
+    public void testLibraryContentTag() throws Exception {
+        LibraryInfoType metadata = getMockLibraryMetadata();
+        String baseNS = metadata.getBaseNamespace();
+        String filename = metadata.getFilename();
+        String version = metadata.getVersion();
+        File contentFile = mockFileManager.getLibraryContentLocation( baseNS, filename, version );
+
+        mockFileManager.saveLibraryMetadata( metadata );
+        mockFileManager.saveFile( contentFile,
+            new ByteArrayInputStream( "<Library/>".getBytes( StandardCharsets.UTF_8 ) ) );
+        assertNull( mockFileManager.loadLibraryContentTag( baseNS, filename, version ) );
+
+        mockFileManager.saveLibraryContentTag( baseNS, filename, version, "test-tag" );
+        assertEquals( "test-tag", mockFileManager.loadLibraryContentTag( baseNS, filename, version ) );
+
+        // Tags are no longer current once the content has been modified
+        contentFile.setLastModified( System.currentTimeMillis() + 60000L );
+        assertNull( mockFileManager.loadLibraryContentTag( baseNS, filename, version ) );
+    }
+
+    /**
+     * Returns a request handler that replies to search requests with an empty list of results, and to all other
+     * requests with a 404 response. If the handler is not responsive, search requests will never receive a reply.
+     * 
+     * @param responsive flag indicating whether the handler should respond to search requests
+     * @return Function&lt;String,MockHttpServer.Response&gt;
+     */
+    private Function<String,MockHttpServer.Response> searchRequestHandler(boolean responsive) {
+        return requestLine -> {
+            MockHttpServer.Response response = null;
+
+            if (!requestLine.contains( "/search" )) {
+                response = new MockHttpServer.Response( "404 Not Found", "application/xml", "" );
+
+            } else if (responsive) {
+                response = new MockHttpServer.Response( "200 OK", "application/xml", EMPTY_SEARCH_RESULTS );
+            }
+            return response;
+        };
+    }
+
     private RepositoryInfoType getRemoteRepositoryInfo() {
         RepositoryInfoType remoteRepoInfo = new RepositoryInfoType();
 
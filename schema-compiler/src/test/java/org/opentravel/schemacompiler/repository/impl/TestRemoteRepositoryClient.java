@@ -0,0 +1,217 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.repository.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryContentListType;
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryContentType;
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryInfoType;
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.LibraryStatus;
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.ObjectFactory;
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.RepositoryItemIdentityType;
+import org.opentravel.ns.ota2.repositoryinfo_v01_00.RepositoryState;
+import org.opentravel.schemacompiler.repository.RepositoryFileManager;
+import org.opentravel.schemacompiler.repository.RepositoryManager;
+import org.opentravel.schemacompiler.util.MockHttpServer;
+import org.opentravel.schemacompiler.xml.XMLGregorianCalendarConverter;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+import javax.xml.bind.Marshaller;
+
+/**
+ * Verifies the batch download functions of the <code>RemoteRepositoryClient</code> class.
+ */
+public class TestRemoteRepositoryClient {
+
+    private static final String REPOSITORY_ID = "test-repository";
+    private static final String BASE_NAMESPACE = "http://www.remote-repository.org/test";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Deque<MockHttpServer.Response> batchResponses = new ConcurrentLinkedDeque<>();
+    private MockHttpServer server;
+    private RepositoryManager repositoryManager;
+    private RemoteRepositoryClient repository;
+
+    @Before
+    public void setup() throws Exception {
+        server = new MockHttpServer( requestLine -> requestLine.contains( "/content-batch " ) ? batchResponses.poll()
+            : new MockHttpServer.Response( "404 Not Found", "text/plain", "" ) );
+        repositoryManager = new RepositoryManager( new DefaultRepositoryFileManager( folder.getRoot() ) );
+        repository = new RemoteRepositoryClient( repositoryManager );
+        repository.setId( REPOSITORY_ID );
+        repository.setEndpointUrl( server.getBaseUrl() + "/ota2-repository-service" );
+    }
+
+    @After
+    public void shutdown() throws Exception {
+        repository.closeConnections();
+        server.close();
+    }
+
+    @Test
+    public void testOmittedItemsRequeued() throws Exception {
+        LibraryContentType library1 = newLibraryContent( "Library1" );
+        LibraryContentType library2 = newLibraryContent( "Library2" );
+
+        // The first response omits the second item, as the server does when a batch reaches its maximum size
+        batchResponses.add( newBatchResponse( newContentList( library1 ) ) );
+        batchResponses.add( newBatchResponse( newContentList( library2 ) ) );
+        repository.downloadContent( Arrays.asList( newItemIdentity( "Library1" ), newItemIdentity( "Library2" ) ) );
+
+        List<String> requestContent = server.getRequestContent();
+
+        assertEquals( 2, requestContent.size() );
+        assertTrue( requestContent.get( 0 ).contains( "Library1_1_0_0.otm" ) );
+        assertTrue( requestContent.get( 0 ).contains( "Library2_1_0_0.otm" ) );
+        assertFalse( requestContent.get( 1 ).contains( "Library1_1_0_0.otm" ) );
+        assertTrue( requestContent.get( 1 ).contains( "Library2_1_0_0.otm" ) );
+        assertContentSaved( library1 );
+        assertContentSaved( library2 );
+    }
+
+    @Test
+    public void testEmptyBatchNotRequeued() throws Exception {
+        batchResponses.add( newBatchResponse( new LibraryContentListType() ) );
+        repository.downloadContent( Arrays.asList( newItemIdentity( "Library1" ), newItemIdentity( "Library2" ) ) );
+
+        // Items that cannot be returned by the server are left to be downloaded individually
+        assertEquals( 1, server.getRequestContent().size() );
+        assertFalse( getContentFile( "Library1" ).exists() );
+    }
+
+    @Test
+    public void testNotModifiedItems() throws Exception {
+        LibraryContentType library1 = newLibraryContent( "Library1" );
+        File contentFile = getContentFile( "Library1" );
+        LibraryContentListType notModifiedList = new LibraryContentListType();
+        long lastModified;
+
+        batchResponses.add( newBatchResponse( newContentList( library1 ) ) );
+        repository.downloadContent( Arrays.asList( newItemIdentity( "Library1" ) ) );
+        assertContentSaved( library1 );
+        lastModified = contentFile.lastModified();
+
+        // The stored content tag of the local copy is sent with the next request for the item
+        notModifiedList.getNotModified().add( newItemIdentity( "Library1" ) );
+        batchResponses.add( newBatchResponse( notModifiedList ) );
+        repository.resetDownloadCache();
+        repository.downloadContent( Arrays.asList( newItemIdentity( "Library1" ) ) );
+
+        String contentTag = repositoryManager.getFileManager().loadLibraryContentTag( BASE_NAMESPACE,
+            "Library1_1_0_0.otm", "1.0.0" );
+
+        assertEquals( 2, server.getRequestContent().size() );
+        assertTrue( server.getRequestContent().get( 1 ).contains( "contentTag=\"" + contentTag + "\"" ) );
+        assertEquals( lastModified, contentFile.lastModified() );
+
+        // Items that were not modified are current, so no further request is sent when they are accessed
+        assertFalse( repository.downloadContent( BASE_NAMESPACE, "Library1_1_0_0.otm", "1.0.0", false ) );
+        assertEquals( 2, server.getRequestContent().size() );
+    }
+
+    @Test
+    public void testBatchDownloadNotSupported() throws Exception {
+        batchResponses.add( new MockHttpServer.Response( "404 Not Found", "text/plain", "" ) );
+        repository.downloadContent( Arrays.asList( newItemIdentity( "Library1" ), newItemIdentity( "Library2" ) ) );
+        assertEquals( 1, server.getRequestContent().size() );
+        assertFalse( getContentFile( "Library1" ).exists() );
+
+        // Once the server is known to pre-date batch downloads, no further batch requests are sent
+        repository.downloadContent( Arrays.asList( newItemIdentity( "Library1" ) ) );
+        assertEquals( 1, server.getRequestContent().size() );
+    }
+
+    private void assertContentSaved(LibraryContentType libraryContent) throws Exception {
+        LibraryInfoType libraryMetadata = libraryContent.getLibraryInfo();
+        File contentFile = getContentFile( libraryMetadata.getLibraryName() );
+
+        assertTrue( contentFile.exists() );
+        assertTrue( Arrays.equals( libraryContent.getContent(), Files.readAllBytes( contentFile.toPath() ) ) );
+        assertEquals( RepositoryUtils.calculateContentTag( libraryMetadata, libraryContent.getContent() ),
+            repositoryManager.getFileManager().loadLibraryContentTag( BASE_NAMESPACE, libraryMetadata.getFilename(),
+                libraryMetadata.getVersion() ) );
+    }
+
+    private File getContentFile(String libraryName) {
+        return repositoryManager.getFileManager().getLibraryContentLocation( BASE_NAMESPACE,
+            libraryName + "_1_0_0.otm", "1.0.0" );
+    }
+
+    private MockHttpServer.Response newBatchResponse(LibraryContentListType contentList) throws Exception {
+        Marshaller marshaller = RepositoryFileManager.getSharedJaxbContext().createMarshaller();
+        StringWriter xmlWriter = new StringWriter();
+
+        marshaller.marshal( new ObjectFactory().createLibraryContentList( contentList ), xmlWriter );
+        return new MockHttpServer.Response( "200 OK", "text/xml", xmlWriter.toString() );
+    }
+
+    private LibraryContentListType newContentList(LibraryContentType libraryContent) {
+        LibraryContentListType contentList = new LibraryContentListType();
+
+        contentList.getLibraryContent().add( libraryContent );
+        return contentList;
+    }
+
+    private LibraryContentType newLibraryContent(String libraryName) {
+        LibraryContentType libraryContent = new LibraryContentType();
+        LibraryInfoType libraryMetadata = new LibraryInfoType();
+
+        libraryMetadata.setNamespace( BASE_NAMESPACE + "/v1" );
+        libraryMetadata.setBaseNamespace( BASE_NAMESPACE );
+        libraryMetadata.setFilename( libraryName + "_1_0_0.otm" );
+        libraryMetadata.setLibraryName( libraryName );
+        libraryMetadata.setVersion( "1.0.0" );
+        libraryMetadata.setVersionScheme( "OTA2" );
+        libraryMetadata.setStatus( LibraryStatus.DRAFT );
+        libraryMetadata.setState( RepositoryState.MANAGED_UNLOCKED );
+        libraryMetadata.setLastUpdated( XMLGregorianCalendarConverter.toXMLGregorianCalendar( new Date() ) );
+        libraryMetadata.setOwningRepository( REPOSITORY_ID );
+
+        libraryContent.setLibraryInfo( libraryMetadata );
+        libraryContent.setContent( ("<Library name=\"" + libraryName + "\" />").getBytes( StandardCharsets.UTF_8 ) );
+        return libraryContent;
+    }
+
+    private RepositoryItemIdentityType newItemIdentity(String libraryName) {
+        RepositoryItemIdentityType itemIdentity = new RepositoryItemIdentityType();
+
+        itemIdentity.setBaseNamespace( BASE_NAMESPACE );
+        itemIdentity.setFilename( libraryName + "_1_0_0.otm" );
+        itemIdentity.setVersion( "1.0.0" );
+        return itemIdentity;
+    }
+
+}
@@ -0,0 +1,101 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.repository.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.util.EntityUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opentravel.schemacompiler.util.MockHttpServer;
+
+/**
+ * Verifies the connection pooling behavior of the <code>RemoteRepositoryUtils</code> class.
+ */
+public class TestRemoteRepositoryUtils {
+
+    private static final String RESPONSE_CONTENT = "Test Content";
+
+    private MockHttpServer server;
+    private String endpointUrl;
+
+    @Before
+    public void startServer() throws Exception {
+        server = new MockHttpServer( requestLine -> new MockHttpServer.Response( "200 OK", "text/plain",
+            RESPONSE_CONTENT ) );
+        endpointUrl = server.getBaseUrl() + "/test";
+    }
+
+    @After
+    public void stopServer() throws Exception {
+        server.close();
+    }
+
+    @Test
+    public void testConnectionReuse() throws Exception {
+        RemoteRepositoryUtils remoteUtils = new RemoteRepositoryUtils();
+
+        try {
+            for (int i = 0; i < 5; i++) {
+                // Responses are released without being read by the caller
+                RemoteRepositoryUtils.release( remoteUtils.execute( new HttpGet( endpointUrl ) ) );
+            }
+
+            try (CloseableHttpResponse response = remoteUtils.execute( new HttpGet( endpointUrl ) )) {
+                assertEquals( 1, remoteUtils.getConnectionPoolStats().getLeased() );
+                assertEquals( RESPONSE_CONTENT, EntityUtils.toString( response.getEntity() ) );
+            }
+            PoolStats stats = remoteUtils.getConnectionPoolStats();
+
+            assertEquals( 1, server.getConnectionCount() );
+            assertEquals( 0, stats.getLeased() );
+            assertEquals( 1, stats.getAvailable() );
+            assertEquals( RemoteRepositoryUtils.DEFAULT_MAX_CONNECTIONS_TOTAL, stats.getMax() );
+
+        } finally {
+            remoteUtils.shutdown();
+        }
+    }
+
+    @Test
+    public void testConnectionSettings() throws Exception {
+        RemoteRepositoryUtils remoteUtils = new RemoteRepositoryUtils();
+
+        try {
+            RemoteRepositoryUtils.release( remoteUtils.execute( new HttpGet( endpointUrl ) ) );
+            assertEquals( 1, remoteUtils.getConnectionPoolStats().getAvailable() );
+
+            // Modifying the settings replaces the existing pool
+            remoteUtils.setMaxConnectionsTotal( 4 );
+            remoteUtils.setMaxConnectionsPerRoute( 2 );
+            assertEquals( 0, remoteUtils.getConnectionPoolStats().getAvailable() );
+            assertEquals( 4, remoteUtils.getConnectionPoolStats().getMax() );
+
+            RemoteRepositoryUtils.release( remoteUtils.execute( new HttpGet( endpointUrl ) ) );
+            assertEquals( 1, remoteUtils.getConnectionPoolStats().getAvailable() );
+            assertEquals( 2, server.getConnectionCount() );
+
+        } finally {
+            remoteUtils.shutdown();
+        }
+    }
+
+}
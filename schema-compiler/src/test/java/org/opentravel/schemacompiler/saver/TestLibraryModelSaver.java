@@ -16,6 +16,7 @@
 
 package org.opentravel.schemacompiler.saver;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -33,9 +34,15 @@ import org.opentravel.schemacompiler.util.URLUtils;
 import org.opentravel.schemacompiler.validate.FindingMessageFormat;
 import org.opentravel.schemacompiler.validate.FindingType;
 import org.opentravel.schemacompiler.validate.ValidationFindings;
+import org.opentravel.schemacompiler.xml.LibraryLineBreakProcessor;
+import org.opentravel.schemacompiler.xml.XMLPrettyPrinter;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.InputStream;
+import java.nio.file.Files;
+
+import javax.xml.parsers.DocumentBuilderFactory;
 
 /**
  * Verifies the operation of the <code>LibraryModelSaver</code> components.
@@ -135,6 +142,29 @@ public class TestLibraryModelSaver {
         }
     }
 
+    @Test
+    public void testSavedContentMatchesDOMFormat() throws Exception {
+        TLModel model = loadTestModel();
+        TLLibrary library = model.getUserDefinedLibraries().get( 0 );
+
+        try {
+            moveLibraryUrlToTempLocation( library );
+            new LibraryModelSaver().saveLibrary( library );
+
+            File libraryFile = URLUtils.toFile( library.getLibraryUrl() );
+            DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+            ByteArrayOutputStream domOutput = new ByteArrayOutputStream();
+
+            dbf.setNamespaceAware( true );
+            new XMLPrettyPrinter( new LibraryLineBreakProcessor() )
+                .formatDocument( dbf.newDocumentBuilder().parse( libraryFile ), domOutput );
+            assertArrayEquals( domOutput.toByteArray(), Files.readAllBytes( libraryFile.toPath() ) );
+
+        } finally {
+            deleteLibraryFile( library );
+        }
+    }
+
     // @Test
     public void testLoadAndSave_ManualTest() throws Exception {
         String filepath = "src/test/resources/libraries_1_5/test-package_v2/";
@@ -16,7 +16,11 @@
 
 package org.opentravel.schemacompiler.task;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 import org.opentravel.schemacompiler.codegen.CodeGeneratorTestAssertions;
@@ -27,6 +31,13 @@ import org.opentravel.schemacompiler.validate.FindingType;
 import org.opentravel.schemacompiler.validate.ValidationFindings;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Validates the operation of the schema compiler task default implementations.
@@ -45,7 +56,101 @@ public class TestSchemaCompilerTask {
         compileTestModel( "testSchemaCompilerTask_customBinding", "XYZ" );
     }
 
+    @Test
+    public void testSchemaCompilerTask_parallel() throws Exception {
+        CompileAllCompilerTask sequentialTask = compileTestModel( "testSchemaCompilerTask_sequential", "OTA2", false );
+        CompileAllCompilerTask parallelTask = compileTestModel( "testSchemaCompilerTask_parallel", "OTA2", true );
+
+        assertEquals( sequentialTask.getSubtaskTimings().keySet(), parallelTask.getSubtaskTimings().keySet() );
+        assertEquals( getRelativePaths( sequentialTask ), getRelativePaths( parallelTask ) );
+
+        // Apart from the compilation timestamps, the XML schema and WSDL content must be identical
+        Path sequentialFolder = new File( sequentialTask.getOutputFolder() ).toPath();
+        Path parallelFolder = new File( parallelTask.getOutputFolder() ).toPath();
+
+        for (String relativePath : getRelativePaths( sequentialTask )) {
+            if (relativePath.endsWith( ".xsd" ) || relativePath.endsWith( ".wsdl" )) {
+                assertEquals( relativePath, getContentWithoutTimestamps( sequentialFolder.resolve( relativePath ) ),
+                    getContentWithoutTimestamps( parallelFolder.resolve( relativePath ) ) );
+            }
+        }
+    }
+
+    @Test
+    public void testSchemaCompilerTask_incremental() throws Exception {
+        String testOutputFolder = "testSchemaCompilerTask_incremental";
+        File targetFolder = new File( System.getProperty( "user.dir" ) + "/target/codegen-output/" + testOutputFolder );
+        File manifestFile = new File( targetFolder, CompilerBuildManifest.MANIFEST_FILENAME );
+
+        manifestFile.delete();
+        ValidationFindings initialFindings = new ValidationFindings();
+        CompileAllCompilerTask initialTask = compileTestModel( testOutputFolder, "OTA2", false, true, initialFindings );
+
+        assertTrue( manifestFile.exists() );
+        assertEquals( 6, initialTask.getSubtaskTimings().size() );
+
+        // Nothing has changed, so none of the sub-tasks should be executed (but the libraries are still validated)
+        ValidationFindings upToDateFindings = new ValidationFindings();
+        CompileAllCompilerTask upToDateTask =
+            compileTestModel( testOutputFolder, "OTA2", false, true, upToDateFindings );
+
+        assertTrue( upToDateTask.getSubtaskTimings().isEmpty() );
+        assertArrayEquals( initialFindings.getAllValidationMessages( FindingMessageFormat.IDENTIFIED_FORMAT ),
+            upToDateFindings.getAllValidationMessages( FindingMessageFormat.IDENTIFIED_FORMAT ) );
+        assertEquals( getRelativePaths( initialTask ), getRelativePaths( upToDateTask ) );
+
+        // Removing one of the OpenAPI files should only cause that sub-task to be executed
+        File openApiFile = null;
+
+        for (File generatedFile : initialTask.getGeneratedFiles()) {
+            if (generatedFile.getPath().contains( File.separator + "openapi" + File.separator )) {
+                openApiFile = generatedFile;
+                break;
+            }
+        }
+        assertNotNull( openApiFile );
+        assertTrue( openApiFile.delete() );
+
+        CompileAllCompilerTask partialTask =
+            compileTestModel( testOutputFolder, "OTA2", false, true, new ValidationFindings() );
+
+        assertEquals( Collections.singleton( "openapi" ), partialTask.getSubtaskTimings().keySet() );
+        assertEquals( getRelativePaths( initialTask ), getRelativePaths( partialTask ) );
+        assertTrue( openApiFile.exists() );
+    }
+
+    private List<String> getContentWithoutTimestamps(Path file) throws IOException {
+        List<String> content = new ArrayList<>();
+
+        for (String line : Files.readAllLines( file, StandardCharsets.UTF_8 )) {
+            if (!line.contains( "CompileDate" )) {
+                content.add( line );
+            }
+        }
+        return content;
+    }
+
+    private List<String> getRelativePaths(CompileAllCompilerTask compilerTask) {
+        Path outputFolder = new File( compilerTask.getOutputFolder() ).toPath();
+        List<String> relativePaths = new ArrayList<>();
+
+        for (File generatedFile : compilerTask.getGeneratedFiles()) {
+            relativePaths.add( outputFolder.relativize( generatedFile.toPath() ).toString() );
+        }
+        return relativePaths;
+    }
+
     private void compileTestModel(String testOutputFolder, String bindingStyle) throws Exception {
+        compileTestModel( testOutputFolder, bindingStyle, false );
+    }
+
+    private CompileAllCompilerTask compileTestModel(String testOutputFolder, String bindingStyle,
+        boolean parallelCompile) throws Exception {
+        return compileTestModel( testOutputFolder, bindingStyle, parallelCompile, false, new ValidationFindings() );
+    }
+
+    private CompileAllCompilerTask compileTestModel(String testOutputFolder, String bindingStyle,
+        boolean parallelCompile, boolean incrementalCompile, ValidationFindings findings) throws Exception {
         File catalogFile = new File( SchemaCompilerTestUtils.getBaseLibraryLocation() + "/library-catalog.xml" );
         File sourceFile =
             new File( SchemaCompilerTestUtils.getBaseLibraryLocation() + "/test-package_v2/library_1_p2.xml" );
@@ -65,13 +170,17 @@ public class TestSchemaCompilerTask {
         compilerTask.setServiceEndpointUrl( "http://www.OpenTravel.org/services" );
         compilerTask.setResourceBaseUrl( "http://www.OpenTravel.org" );
         compilerTask.setSuppressOtmExtensions( false );
+        compilerTask.setParallelCompile( parallelCompile );
+        compilerTask.setIncrementalCompile( incrementalCompile );
         CompilerExtensionRegistry.setActiveExtension( bindingStyle );
 
-        ValidationFindings findings = compilerTask.compileOutput( sourceFile );
+        ValidationFindings compileFindings = compilerTask.compileOutput( sourceFile );
 
-        SchemaCompilerTestUtils.printFindings( findings );
-        assertFalse( findings.hasFinding( FindingType.ERROR ) );
+        SchemaCompilerTestUtils.printFindings( compileFindings );
+        assertFalse( compileFindings.hasFinding( FindingType.ERROR ) );
         CodeGeneratorTestAssertions.validateGeneratedFiles( compilerTask.getGeneratedFiles() );
+        findings.addAll( compileFindings );
+        return compilerTask;
     }
 
     @Test
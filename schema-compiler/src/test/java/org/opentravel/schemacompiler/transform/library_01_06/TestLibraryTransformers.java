@@ -19,6 +19,7 @@ package org.opentravel.schemacompiler.transform.library_01_06;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -34,8 +35,14 @@ import org.opentravel.schemacompiler.transform.symbols.DefaultTransformerContext
 import org.opentravel.schemacompiler.transform.symbols.SymbolResolverTransformerContext;
 import org.opentravel.schemacompiler.version.VersionSchemeFactory;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.xml.XMLConstants;
 
@@ -160,6 +167,51 @@ public class TestLibraryTransformers extends Abstract_1_6_TestTransformers {
         assertEquals( modelLibrary.getNamedMembers().size() - termAdjust, jaxbLibrary.getTerms().size() );
     }
 
+    @Test
+    public void testConcurrentTransformerFactories() throws Exception {
+        TLLibrary modelLibrary = getLibrary( PACKAGE_2_NAMESPACE, "library_1_p2" );
+        TransformerFactory<SymbolResolverTransformerContext> saverFactory = TransformerFactory.getInstance(
+            SchemaCompilerApplicationContext.SAVER_TRANSFORMER_FACTORY, getContextJAXBTransformation( modelLibrary ) );
+        Library jaxbLibrary = saverFactory.<TLLibrary,Library> getTransformer( modelLibrary, Library.class )
+            .transform( modelLibrary );
+        List<Callable<TLLibrary>> tasks = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool( 4 );
+
+        // Each factory instance must be bound to its own context, while sharing the same type mappings
+        DefaultTransformerContext context1 = new DefaultTransformerContext();
+        DefaultTransformerContext context2 = new DefaultTransformerContext();
+        TransformerFactory<DefaultTransformerContext> factory1 =
+            TransformerFactory.getInstance( SchemaCompilerApplicationContext.LOADER_TRANSFORMER_FACTORY, context1 );
+        TransformerFactory<DefaultTransformerContext> factory2 =
+            TransformerFactory.getInstance( SchemaCompilerApplicationContext.LOADER_TRANSFORMER_FACTORY, context2 );
+
+        assertSame( context1, factory1.getContext() );
+        assertSame( context2, factory2.getContext() );
+        assertSame( factory1, context1.getTransformerFactory() );
+        assertSame( factory2, context2.getTransformerFactory() );
+        assertSame( factory1.getTypeMappings(), factory2.getTypeMappings() );
+
+        for (int i = 0; i < 16; i++) {
+            tasks.add( () -> {
+                TransformerFactory<DefaultTransformerContext> factory = TransformerFactory.getInstance(
+                    SchemaCompilerApplicationContext.LOADER_TRANSFORMER_FACTORY, new DefaultTransformerContext() );
+
+                return factory.<Library,TLLibrary> getTransformer( jaxbLibrary, TLLibrary.class )
+                    .transform( jaxbLibrary );
+            } );
+        }
+        try {
+            for (Future<TLLibrary> result : executor.invokeAll( tasks )) {
+                TLLibrary library = result.get();
+
+                assertEquals( PACKAGE_2_NAMESPACE, library.getNamespace() );
+                assertEquals( modelLibrary.getNamedMembers().size(), library.getNamedMembers().size() );
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void testPatchLevelConversion() throws Exception {
         TransformerFactory<DefaultTransformerContext> transformerFactory = TransformerFactory.getInstance(
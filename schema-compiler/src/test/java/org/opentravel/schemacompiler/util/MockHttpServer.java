@@ -0,0 +1,215 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+/**
+ * Minimal HTTP/1.1 server that listens on the loopback interface and supports persistent (keep-alive) connections.
+ * Each request line that is received is passed to a handler that provides the response; if the handler returns null,
+ * the request never receives a reply. The content of each request (if any) is recorded so that it can be inspected
+ * by the caller.
+ */
+public class MockHttpServer implements AutoCloseable {
+
+    private static final String CONTENT_LENGTH_HEADER = "content-length:";
+
+    private ServerSocket serverSocket;
+    private Function<String,Response> requestHandler;
+    private List<Socket> connections = new CopyOnWriteArrayList<>();
+    private List<String> requestContent = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructor that starts the server using the request handler provided.
+     * 
+     * @param requestHandler function that returns the response for each request line (e.g. "GET /path HTTP/1.1")
+     * @throws IOException thrown if the server socket cannot be opened
+     */
+    public MockHttpServer(Function<String,Response> requestHandler) throws IOException {
+        this.serverSocket = new ServerSocket( 0, 10, InetAddress.getLoopbackAddress() );
+        this.requestHandler = requestHandler;
+
+        Thread serverThread = new Thread( () -> {
+            try {
+                while (!serverSocket.isClosed()) {
+                    Socket socket = serverSocket.accept();
+                    Thread connectionThread = new Thread( () -> handleConnection( socket ) );
+
+                    connections.add( socket );
+                    connectionThread.setDaemon( true );
+                    connectionThread.start();
+                }
+            } catch (IOException e) {
+                // Server socket closed - exit the thread
+            }
+        } );
+        serverThread.setDaemon( true );
+        serverThread.start();
+    }
+
+    /**
+     * Returns the base URL of the server (e.g. "http://localhost:1234").
+     * 
+     * @return String
+     */
+    public String getBaseUrl() {
+        return "http://localhost:" + serverSocket.getLocalPort();
+    }
+
+    /**
+     * Returns the number of client connections that have been accepted by the server.
+     * 
+     * @return int
+     */
+    public int getConnectionCount() {
+        return connections.size();
+    }
+
+    /**
+     * Returns the content of each request that has been received by the server (empty for requests with no content).
+     * 
+     * @return List&lt;String&gt;
+     */
+    public List<String> getRequestContent() {
+        return requestContent;
+    }
+
+    /**
+     * Stops the server and closes all of the client connections that it has accepted.
+     * 
+     * @see java.lang.AutoCloseable#close()
+     */
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+
+        for (Socket connection : connections) {
+            connection.close();
+        }
+    }
+
+    /**
+     * Responds to each request received on the given connection until the client closes it.
+     * 
+     * @param socket the client connection to handle
+     */
+    private void handleConnection(Socket socket) {
+        try (Socket s = socket;
+            BufferedReader reader =
+                new BufferedReader( new InputStreamReader( s.getInputStream(), StandardCharsets.US_ASCII ) )) {
+            OutputStream out = s.getOutputStream();
+            String requestLine = null;
+            int contentLength = 0;
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                if (requestLine == null) {
+                    requestLine = line;
+
+                } else if (line.toLowerCase().startsWith( CONTENT_LENGTH_HEADER )) {
+                    contentLength = Integer.parseInt( line.substring( CONTENT_LENGTH_HEADER.length() ).trim() );
+
+                } else if (line.isEmpty()) {
+                    requestContent.add( readContent( reader, contentLength ) );
+                    Response response = requestHandler.apply( requestLine );
+
+                    if (response != null) {
+                        response.write( out );
+                    }
+                    requestLine = null;
+                    contentLength = 0;
+                }
+            }
+        } catch (IOException e) {
+            // Connection closed - exit the thread
+        }
+    }
+
+    /**
+     * Reads the content of a request from the given reader. Since the request is decoded as US-ASCII, each character
+     * corresponds to a single byte of the content.
+     * 
+     * @param reader the reader from which the content should be read
+     * @param contentLength the length of the content (in bytes)
+     * @return String
+     * @throws IOException thrown if the content cannot be read
+     */
+    private String readContent(BufferedReader reader, int contentLength) throws IOException {
+        char[] content = new char[contentLength];
+        int charsRead = 0;
+
+        while (charsRead < contentLength) {
+            int count = reader.read( content, charsRead, contentLength - charsRead );
+
+            if (count < 0) {
+                throw new IOException( "Connection closed before the request content was received." );
+            }
+            charsRead += count;
+        }
+        return new String( content );
+    }
+
+    /**
+     * Response that is returned by the server for a single request.
+     */
+    public static class Response {
+
+        private String status;
+        private String contentType;
+        private byte[] content;
+
+        /**
+         * Full constructor.
+         * 
+         * @param status the status code and reason phrase of the response (e.g. "200 OK")
+         * @param contentType the content type of the response
+         * @param content the content of the response
+         */
+        public Response(String status, String contentType, String content) {
+            this.status = status;
+            this.contentType = contentType;
+            this.content = content.getBytes( StandardCharsets.UTF_8 );
+        }
+
+        /**
+         * Writes this response to the given output stream.
+         * 
+         * @param out the output stream to which the response should be written
+         * @throws IOException thrown if the response cannot be written
+         */
+        private void write(OutputStream out) throws IOException {
+            String headers = "HTTP/1.1 " + status + "\r\nContent-Type: " + contentType + "\r\nContent-Length: "
+                + content.length + "\r\n\r\n";
+
+            out.write( headers.getBytes( StandardCharsets.US_ASCII ) );
+            out.write( content );
+            out.flush();
+        }
+
+    }
+
+}
@@ -0,0 +1,206 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.opentravel.schemacompiler.diff.ModelCompareOptions;
+import org.opentravel.schemacompiler.model.LibraryMember;
+import org.opentravel.schemacompiler.model.NamedEntity;
+import org.opentravel.schemacompiler.model.TLAlias;
+import org.opentravel.schemacompiler.model.TLAttribute;
+import org.opentravel.schemacompiler.model.TLBusinessObject;
+import org.opentravel.schemacompiler.model.TLContextualFacet;
+import org.opentravel.schemacompiler.model.TLLibrary;
+import org.opentravel.schemacompiler.model.TLModel;
+import org.opentravel.schemacompiler.model.TLOperation;
+import org.opentravel.schemacompiler.model.TLParamGroup;
+import org.opentravel.schemacompiler.model.TLProperty;
+import org.opentravel.schemacompiler.model.TLResource;
+import org.opentravel.schemacompiler.model.TLResourceParentRef;
+import org.opentravel.schemacompiler.model.TLService;
+import org.opentravel.schemacompiler.repository.ProjectManager;
+
+import java.io.File;
+
+/**
+ * Verifies the operation of the <code>ModelElementCloner</code> class.
+ */
+public class TestModelElementCloner {
+
+    private static final File TEST_PROJECT =
+        new File( System.getProperty( "user.dir" ), "/src/test/resources/projects_1_6/project_1.xml" );
+
+    private static TLLibrary testLibrary;
+
+    @BeforeClass
+    public static void initTestLibrary() throws Exception {
+        ProjectManager projectManager = new ProjectManager( false );
+        TLModel model;
+
+        projectManager.loadProject( TEST_PROJECT );
+        model = projectManager.getModel();
+        testLibrary = (TLLibrary) model
+            .getLibrary( "http://www.OpenTravel.org/ns/OTA2/SchemaCompiler/test-package_v2", "library_1_p2" );
+    }
+
+    @Test
+    public void testCloneLibraryMembers() throws Exception {
+        ModelElementCloner cloner = new ModelElementCloner();
+        ModelComparator comparator = new ModelComparator( ModelCompareOptions.getDefaultOptions() );
+        TLLibrary cloneLibrary = new TLLibrary();
+
+        cloneLibrary.setName( testLibrary.getName() );
+        cloneLibrary.setNamespace( testLibrary.getNamespace() );
+        cloneLibrary.setPrefix( testLibrary.getPrefix() );
+        cloneLibrary.setVersionScheme( testLibrary.getVersionScheme() );
+        new TLModel().addLibrary( cloneLibrary );
+
+        for (LibraryMember member : testLibrary.getNamedMembers()) {
+            if (member instanceof TLContextualFacet) {
+                continue; // contextual facets are cloned along with their owners
+            }
+            LibraryMember clone = cloner.clone( member );
+
+            assertNotSame( member, clone );
+            assertNull( clone.getOwningLibrary() );
+            assertEquals( member.getClass(), clone.getClass() );
+            assertEquals( member.getLocalName(), clone.getLocalName() );
+            ModelElementCloner.addToLibrary( clone, cloneLibrary );
+
+            if (member instanceof TLResource) {
+                assertTrue( comparator.compareResources( (TLResource) member, (TLResource) clone ).getChangeItems()
+                    .isEmpty() );
+
+            } else if (member instanceof TLService) {
+                for (TLOperation operation : ((TLService) member).getOperations()) {
+                    TLOperation cloneOperation = ((TLService) clone).getOperation( operation.getName() );
+
+                    assertTrue(
+                        comparator.compareEntities( operation, cloneOperation ).getChangeItems().isEmpty() );
+                }
+
+            } else {
+                assertTrue( comparator.compareEntities( (NamedEntity) member, (NamedEntity) clone ).getChangeItems()
+                    .isEmpty() );
+            }
+        }
+
+        for (TLContextualFacet facet : testLibrary.getContextualFacetTypes()) {
+            LibraryMember ownerClone = cloneLibrary.getNamedMember( facet.getLocalName() );
+
+            assertTrue( ownerClone instanceof TLContextualFacet );
+            assertNotSame( facet, ownerClone );
+            assertTrue( comparator.compareEntities( facet, (NamedEntity) ownerClone ).getChangeItems().isEmpty() );
+        }
+    }
+
+    @Test
+    public void testCloneContextualFacet() throws Exception {
+        ModelElementCloner cloner = new ModelElementCloner();
+
+        for (TLContextualFacet facet : testLibrary.getContextualFacetTypes()) {
+            TLContextualFacet clone = cloner.clone( facet );
+
+            assertNotSame( facet, clone );
+            assertNull( clone.getOwningLibrary() );
+            assertEquals( facet.getName(), clone.getName() );
+            assertEquals( facet.getFacetType(), clone.getFacetType() );
+            assertTrue( clone.getOwningEntityName().endsWith( facet.getOwningEntity().getLocalName() ) );
+            assertEquals( facet.getMemberFields().size(), clone.getMemberFields().size() );
+        }
+    }
+
+    @Test
+    public void testCloneService() throws Exception {
+        TLService service = testLibrary.getService();
+        TLService clone = new ModelElementCloner().clone( service );
+
+        assertEquals( service.getName(), clone.getName() );
+        assertEquals( service.getOperations().size(), clone.getOperations().size() );
+    }
+
+    @Test
+    public void testCloneResource() throws Exception {
+        TLResource resource = testLibrary.getResourceType( "SampleResource" );
+        TLResource clone = new ModelElementCloner().clone( resource );
+        TLResourceParentRef origParentRef = resource.getParentRefs().get( 0 );
+        TLResourceParentRef cloneParentRef = clone.getParentRefs().get( 0 );
+
+        assertSame( resource.getBusinessObjectRef(), clone.getBusinessObjectRef() );
+        assertEquals( origParentRef.getParentResource().getName(), cloneParentRef.getParentResourceName() );
+        assertSame( origParentRef.getParentResource(), cloneParentRef.getParentResource() );
+        assertSame( origParentRef.getParentParamGroup(), cloneParentRef.getParentParamGroup() );
+        assertEquals( origParentRef.getPathTemplate(), cloneParentRef.getPathTemplate() );
+        assertEquals( resource.getParamGroups().size(), clone.getParamGroups().size() );
+        assertEquals( resource.getActionFacets().size(), clone.getActionFacets().size() );
+        assertEquals( resource.getActions().size(), clone.getActions().size() );
+
+        for (TLParamGroup paramGroup : resource.getParamGroups()) {
+            TLParamGroup cloneGroup = clone.getParamGroup( paramGroup.getName() );
+
+            assertSame( paramGroup.getFacetRef(), cloneGroup.getFacetRef() );
+            assertEquals( paramGroup.getParameters().size(), cloneGroup.getParameters().size() );
+        }
+    }
+
+    @Test
+    public void testReferenceRebinding() throws Exception {
+        TLBusinessObject bo = testLibrary.getBusinessObjectType( "SampleBusinessObject" );
+        TLBusinessObject clone = new ModelElementCloner().clone( bo );
+
+        for (int i = 0; i < bo.getSummaryFacet().getAttributes().size(); i++) {
+            TLAttribute origAttr = bo.getSummaryFacet().getAttributes().get( i );
+            TLAttribute cloneAttr = clone.getSummaryFacet().getAttributes().get( i );
+
+            assertNotSame( origAttr, cloneAttr );
+            assertSame( origAttr.getType(), cloneAttr.getType() );
+        }
+        for (int i = 0; i < bo.getSummaryFacet().getElements().size(); i++) {
+            TLProperty origElement = bo.getSummaryFacet().getElements().get( i );
+            TLProperty cloneElement = clone.getSummaryFacet().getElements().get( i );
+
+            assertNotSame( origElement, cloneElement );
+            assertSame( origElement.getType(), cloneElement.getType() );
+        }
+        assertEquals( bo.getCustomFacets().size(), clone.getCustomFacets().size() );
+    }
+
+    @Test
+    public void testNamingContext() throws Exception {
+        ModelElementCloner cloner = new ModelElementCloner();
+        TLBusinessObject bo = testLibrary.getBusinessObjectType( "SampleBusinessObject" );
+        TLAttribute origAttr = bo.getSummaryFacet().getAttributes().get( 0 );
+        TLAttribute localClone = cloner.clone( origAttr, null );
+        TLAttribute contextClone = cloner.clone( origAttr );
+
+        assertEquals( origAttr.getType().getLocalName(), localClone.getTypeName() );
+        assertTrue( contextClone.getTypeName().endsWith( origAttr.getType().getLocalName() ) );
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedType() throws Exception {
+        new ModelElementCloner().clone( new TLAlias() );
+    }
+
+}
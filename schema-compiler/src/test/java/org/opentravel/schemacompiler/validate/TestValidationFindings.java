@@ -83,4 +83,25 @@ public class TestValidationFindings {
         assertEquals( 1, sourceErrorMessages.length );
     }
 
+    @Test
+    public void testMergedFindingOrder() throws Exception {
+        TLBusinessObject otherSource = new TLBusinessObject();
+        ValidationFindings earlierFindings = new ValidationFindings();
+        ValidationFindings laterFindings = new ValidationFindings();
+
+        earlierFindings.addFinding( FindingType.ERROR, otherSource, TEST_ERROR_KEY );
+        laterFindings.addFinding( FindingType.WARNING, otherSource, TEST_WARNING_KEY );
+        laterFindings.addAll( earlierFindings );
+        laterFindings.addAll( earlierFindings );
+
+        assertEquals( 2, laterFindings.count() );
+        assertEquals( TEST_ERROR_KEY, laterFindings.getAllFindingsAsList().get( 0 ).getMessageKey() );
+        assertEquals( TEST_WARNING_KEY, laterFindings.getAllFindingsAsList().get( 1 ).getMessageKey() );
+
+        findings.addAll( laterFindings );
+        assertEquals( 4, findings.count() );
+        assertEquals( 2, findings.getFindingsAsList( otherSource ).size() );
+        assertEquals( TEST_ERROR_KEY, findings.getAllFindingsAsList().get( 2 ).getMessageKey() );
+    }
+
 }
@@ -0,0 +1,107 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.validate;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.opentravel.schemacompiler.model.TLAttribute;
+import org.opentravel.schemacompiler.model.TLBusinessObject;
+import org.opentravel.schemacompiler.model.TLLibrary;
+import org.opentravel.schemacompiler.validate.impl.TLModelValidationContext;
+import org.opentravel.schemacompiler.validate.impl.TLModelValidator;
+
+/**
+ * Verifies the functions of the <code>ValidatorFactory</code> class.
+ */
+public class TestValidatorFactory extends AbstractValidatorTest {
+
+    @Test
+    public void testValidatorReuse() throws Exception {
+        ValidatorFactory factory1 =
+            ValidatorFactory.getInstance( ValidatorFactory.COMPILE_RULE_SET_ID, new TLModelValidationContext( model ) );
+        ValidatorFactory factory2 =
+            ValidatorFactory.getInstance( ValidatorFactory.COMPILE_RULE_SET_ID, new TLModelValidationContext( model ) );
+        Validator<TLAttribute> validator = factory1.getValidatorForClass( TLAttribute.class );
+
+        assertNotNull( validator );
+        assertSame( factory1, validator.getValidatorFactory() );
+        assertSame( validator, factory1.getValidatorForClass( TLAttribute.class ) );
+        assertNotSame( validator, factory2.getValidatorForClass( TLAttribute.class ) );
+        assertSame( factory1.getRuleSet(), factory2.getRuleSet() );
+        assertNotNull( factory1.getValidatorForTarget( new TLBusinessObject() ) );
+        assertNull( factory1.getValidatorForClass( UnmappedTarget.class ) );
+        assertNull( factory1.getValidatorForClass( UnmappedTarget.class ) );
+
+        // Assigning a new context must not return validators bound to the previous one
+        factory1.setContext( new TLModelValidationContext( model ) );
+        assertNotSame( validator, factory1.getValidatorForClass( TLAttribute.class ) );
+    }
+
+    @Test
+    public void testRepeatedValidation() throws Exception {
+        ValidationFindings findings1 = TLModelValidator.validateModel( model, ValidatorFactory.COMPILE_RULE_SET_ID );
+        ValidationFindings findings2 = TLModelValidator.validateModel( model, ValidatorFactory.COMPILE_RULE_SET_ID );
+
+        assertEquals( findings1.count(), findings2.count() );
+        assertEquals( findings1.getAllFindingsAsList().size(), findings2.getAllFindingsAsList().size() );
+    }
+
+    @Test
+    public void testParallelValidation() throws Exception {
+        ValidationFindings sequentialFindings =
+            TLModelValidator.validateModel( model, ValidatorFactory.COMPILE_RULE_SET_ID, false );
+        ValidationFindings parallelFindings =
+            TLModelValidator.validateModel( model, ValidatorFactory.COMPILE_RULE_SET_ID, true );
+
+        assertTrue( model.getUserDefinedLibraries().size() > 1 );
+        assertTrue( sequentialFindings.hasFinding() );
+        assertArrayEquals( sequentialFindings.getAllValidationMessages( FindingMessageFormat.IDENTIFIED_FORMAT ),
+            parallelFindings.getAllValidationMessages( FindingMessageFormat.IDENTIFIED_FORMAT ) );
+    }
+
+    @Test
+    public void testParallelLibraryValidation() throws Exception {
+        ValidationFindings libraryFindings = new ValidationFindings();
+        ValidationFindings parallelFindings = TLModelValidator.validateLibraries( model.getUserDefinedLibraries(),
+            ValidatorFactory.COMPILE_RULE_SET_ID, true );
+
+        // Compiler tasks validate each library separately unless the parallel compile option is enabled
+        for (TLLibrary library : model.getUserDefinedLibraries()) {
+            libraryFindings
+                .addAll( TLModelValidator.validateModelElement( library, ValidatorFactory.COMPILE_RULE_SET_ID ) );
+        }
+        assertArrayEquals( libraryFindings.getAllValidationMessages( FindingMessageFormat.IDENTIFIED_FORMAT ),
+            parallelFindings.getAllValidationMessages( FindingMessageFormat.IDENTIFIED_FORMAT ) );
+    }
+
+    private static class UnmappedTarget implements Validatable {
+
+        @Override
+        public String getValidationIdentity() {
+            return "UnmappedTarget";
+        }
+
+    }
+
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright (C) 2014 OpenTravel Alliance (info@opentravel.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.opentravel.schemacompiler.validate.impl;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+import org.opentravel.schemacompiler.model.AbstractModelTest;
+import org.opentravel.schemacompiler.model.TLBusinessObject;
+import org.opentravel.schemacompiler.model.TLCoreObject;
+import org.opentravel.schemacompiler.model.TLLibrary;
+import org.opentravel.schemacompiler.model.TLSimple;
+import org.opentravel.schemacompiler.validate.FindingMessageFormat;
+import org.opentravel.schemacompiler.validate.ValidationFindings;
+import org.opentravel.schemacompiler.validate.ValidatorFactory;
+
+/**
+ * Verifies the functions of the <code>IncrementalModelValidator</code> class.
+ */
+public class TestIncrementalModelValidator extends AbstractModelTest {
+
+    @Test
+    public void testIncrementalValidation() throws Exception {
+        IncrementalModelValidator validator =
+            IncrementalModelValidator.getInstance( model, ValidatorFactory.COMPILE_RULE_SET_ID );
+        TLLibrary library3 = newLibrary( "http://www.opentravel.org/schemas/pkg3/v1", "TestLibrary3", "p3" );
+        TLCoreObject core = addCore( "RefCore", library1 );
+        TLBusinessObject bo = addBusinessObject( "RefBO", library2 );
+        TLSimple simple = addSimple( "Standalone", library3 );
+
+        model.addLibrary( library3 );
+        addAttribute( "coreAttr", bo.getSummaryFacet() ).setType( core );
+        assertSame( validator, IncrementalModelValidator.getInstance( model, ValidatorFactory.COMPILE_RULE_SET_ID ) );
+        assertIncrementalFindings( validator, 3 );
+        assertIncrementalFindings( validator, 0 );
+
+        // Changes to an unreferenced library should not affect any other library
+        simple.setName( "RenamedStandalone" );
+        assertIncrementalFindings( validator, 1 );
+
+        // Changes to a referenced library should also re-validate the libraries that reference it
+        addAttribute( "untypedAttr", core.getSummaryFacet() );
+        core.setName( "RenamedCore" );
+        assertIncrementalFindings( validator, 2 );
+
+        // Modifications made while listeners are disabled should still be tracked by library
+        model.setListenersEnabled( false );
+        simple.setName( "Standalone" );
+        model.setListenersEnabled( true );
+        assertIncrementalFindings( validator, 1 );
+
+        model.removeLibrary( library3 );
+        assertIncrementalFindings( validator, 0 );
+    }
+
+    private void assertIncrementalFindings(IncrementalModelValidator validator, int expectedValidationCount) {
+        ValidationFindings incrementalFindings = validator.validateModel();
+        ValidationFindings fullFindings = TLModelValidator.validateModel( model, ValidatorFactory.COMPILE_RULE_SET_ID );
+
+        assertEquals( expectedValidationCount, validator.getLastValidationCount() );
+        assertArrayEquals( fullFindings.getAllValidationMessages( FindingMessageFormat.IDENTIFIED_FORMAT ),
+            incrementalFindings.getAllValidationMessages( FindingMessageFormat.IDENTIFIED_FORMAT ) );
+    }
+
+}